@@ -124,6 +124,26 @@ public class VertxOptionsConverter {
             obj.setUseDaemonThread((Boolean)member.getValue());
           }
           break;
+        case "timerWheelTickDuration":
+          if (member.getValue() instanceof Number) {
+            obj.setTimerWheelTickDuration(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "timerWheelTickDurationUnit":
+          if (member.getValue() instanceof String) {
+            obj.setTimerWheelTickDurationUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "workerPoolWorkStealing":
+          if (member.getValue() instanceof Boolean) {
+            obj.setWorkerPoolWorkStealing((Boolean)member.getValue());
+          }
+          break;
+        case "eventLoopProfilingEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setEventLoopProfilingEnabled((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -177,5 +197,11 @@ public class VertxOptionsConverter {
     if (obj.getUseDaemonThread() != null) {
       json.put("useDaemonThread", obj.getUseDaemonThread());
     }
+    json.put("timerWheelTickDuration", obj.getTimerWheelTickDuration());
+    if (obj.getTimerWheelTickDurationUnit() != null) {
+      json.put("timerWheelTickDurationUnit", obj.getTimerWheelTickDurationUnit().name());
+    }
+    json.put("workerPoolWorkStealing", obj.isWorkerPoolWorkStealing());
+    json.put("eventLoopProfilingEnabled", obj.isEventLoopProfilingEnabled());
   }
 }
@@ -64,6 +64,11 @@ public class EventBusOptionsConverter {
             obj.setClusterPingReplyInterval(((Number)member.getValue()).longValue());
           }
           break;
+        case "clusterWriteBatchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "clusterPublicHost":
           if (member.getValue() instanceof String) {
             obj.setClusterPublicHost((String)member.getValue());
@@ -102,6 +107,7 @@ public class EventBusOptionsConverter {
     json.put("connectTimeout", obj.getConnectTimeout());
     json.put("clusterPingInterval", obj.getClusterPingInterval());
     json.put("clusterPingReplyInterval", obj.getClusterPingReplyInterval());
+    json.put("clusterWriteBatchSize", obj.getClusterWriteBatchSize());
     if (obj.getClusterPublicHost() != null) {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
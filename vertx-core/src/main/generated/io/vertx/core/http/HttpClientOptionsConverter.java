@@ -49,6 +49,11 @@ public class HttpClientOptionsConverter {
             obj.setPipeliningLimit(((Number)member.getValue()).intValue());
           }
           break;
+        case "adaptivePipelining":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptivePipelining((Boolean)member.getValue());
+          }
+          break;
         case "verifyHost":
           if (member.getValue() instanceof Boolean) {
             obj.setVerifyHost((Boolean)member.getValue());
@@ -160,6 +165,7 @@ public class HttpClientOptionsConverter {
     json.put("keepAliveTimeout", obj.getKeepAliveTimeout());
     json.put("pipelining", obj.isPipelining());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("adaptivePipelining", obj.isAdaptivePipelining());
     json.put("verifyHost", obj.isVerifyHost());
     json.put("decompressionSupported", obj.isDecompressionSupported());
     if (obj.getDefaultHost() != null) {
@@ -174,6 +174,51 @@ public class HttpServerOptionsConverter {
             obj.setHttp2RstFloodWindowDurationTimeUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
           }
           break;
+        case "fileCacheMaxFileSize":
+          if (member.getValue() instanceof Number) {
+            obj.setFileCacheMaxFileSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "fileCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setFileCacheMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "fileCacheCheckInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setFileCacheCheckInterval(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "precompressedFilesEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPrecompressedFilesEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "compressionCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionCacheMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "compressionOffloadThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionOffloadThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "compressionWorkerPoolSize":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionWorkerPoolSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "virtualThreadPerRequest":
+          if (member.getValue() instanceof Boolean) {
+            obj.setVirtualThreadPerRequest((Boolean)member.getValue());
+          }
+          break;
+        case "maxVirtualThreadConcurrency":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxVirtualThreadConcurrency(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -227,5 +272,14 @@ public class HttpServerOptionsConverter {
     if (obj.getHttp2RstFloodWindowDurationTimeUnit() != null) {
       json.put("http2RstFloodWindowDurationTimeUnit", obj.getHttp2RstFloodWindowDurationTimeUnit().name());
     }
+    json.put("fileCacheMaxFileSize", obj.getFileCacheMaxFileSize());
+    json.put("fileCacheMaxSize", obj.getFileCacheMaxSize());
+    json.put("fileCacheCheckInterval", obj.getFileCacheCheckInterval());
+    json.put("precompressedFilesEnabled", obj.isPrecompressedFilesEnabled());
+    json.put("compressionCacheMaxSize", obj.getCompressionCacheMaxSize());
+    json.put("compressionOffloadThreshold", obj.getCompressionOffloadThreshold());
+    json.put("compressionWorkerPoolSize", obj.getCompressionWorkerPoolSize());
+    json.put("virtualThreadPerRequest", obj.isVirtualThreadPerRequest());
+    json.put("maxVirtualThreadConcurrency", obj.getMaxVirtualThreadConcurrency());
   }
 }
@@ -39,6 +39,21 @@ public class PoolOptionsConverter {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "sharded":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSharded((Boolean)member.getValue());
+          }
+          break;
+        case "minIdle":
+          if (member.getValue() instanceof Number) {
+            obj.setMinIdle(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "eventLoopAffinity":
+          if (member.getValue() instanceof Boolean) {
+            obj.setEventLoopAffinity((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -53,5 +68,8 @@ public class PoolOptionsConverter {
     json.put("cleanerPeriod", obj.getCleanerPeriod());
     json.put("eventLoopSize", obj.getEventLoopSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    json.put("sharded", obj.isSharded());
+    json.put("minIdle", obj.getMinIdle());
+    json.put("eventLoopAffinity", obj.isEventLoopAffinity());
   }
 }
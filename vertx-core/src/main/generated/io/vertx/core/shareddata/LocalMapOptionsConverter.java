@@ -0,0 +1,59 @@
+package io.vertx.core.shareddata;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.shareddata.LocalMapOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.shareddata.LocalMapOptions} original class using Vert.x codegen.
+ */
+public class LocalMapOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, LocalMapOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxWeight":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxWeight(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "evictionPolicy":
+          if (member.getValue() instanceof String) {
+            obj.setEvictionPolicy(io.vertx.core.shareddata.EvictionPolicy.valueOf((String)member.getValue()));
+          }
+          break;
+        case "expireAfterWrite":
+          if (member.getValue() instanceof Number) {
+            obj.setExpireAfterWrite(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "expireAfterAccess":
+          if (member.getValue() instanceof Number) {
+            obj.setExpireAfterAccess(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(LocalMapOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(LocalMapOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxSize", obj.getMaxSize());
+    json.put("maxWeight", obj.getMaxWeight());
+    if (obj.getEvictionPolicy() != null) {
+      json.put("evictionPolicy", obj.getEvictionPolicy().name());
+    }
+    json.put("expireAfterWrite", obj.getExpireAfterWrite());
+    json.put("expireAfterAccess", obj.getExpireAfterAccess());
+  }
+}
@@ -1470,6 +1470,11 @@ public class HTTPExamples {
     LoadBalancer loadBalancer = LoadBalancer.consistentHashing(10, LoadBalancer.POWER_OF_TWO_CHOICES);
   }
 
+  public static void boundedLoadConsistentHashingConfiguration() {
+    // Use 10 virtual nodes per server, a server cannot have more than 125% of the average load
+    LoadBalancer loadBalancer = LoadBalancer.consistentHashing(10, 1.25, LoadBalancer.POWER_OF_TWO_CHOICES);
+  }
+
   public static void customLoadBalancingPolicy(Vertx vertx) {
     LoadBalancer loadBalancer = endpoints -> {
       // Returns an endpoint selector for the given endpoints
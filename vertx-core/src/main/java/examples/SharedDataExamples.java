@@ -43,6 +43,18 @@ public class SharedDataExamples {
     Buffer buff = map2.get("eek");
   }
 
+  public void boundedLocalMap(Vertx vertx) {
+    SharedData sharedData = vertx.sharedData();
+
+    // At most 10000 entries, least recently used entries are evicted first
+    LocalMap<String, Buffer> cache = sharedData.getLocalMap("mycache", new LocalMapOptions()
+      .setMaxSize(10_000)
+      .setEvictionPolicy(EvictionPolicy.LRU)
+      .setExpireAfterWrite(60_000));
+
+    cache.put("eek", Buffer.buffer().appendInt(123));
+  }
+
   public void asyncMap(Vertx vertx) {
     SharedData sharedData = vertx.sharedData();
 
@@ -122,6 +122,26 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_USE_DAEMON_THREAD = false;
 
+  /**
+   * The default value of the timer wheel tick duration = 0 (timers are scheduled on the event-loop)
+   */
+  public static final long DEFAULT_TIMER_WHEEL_TICK_DURATION = 0L;
+
+  /**
+   * The default value of the timer wheel tick duration unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_TIMER_WHEEL_TICK_DURATION_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * The default value of the worker pool work stealing = false
+   */
+  public static final boolean DEFAULT_WORKER_POOL_WORK_STEALING = false;
+
+  /**
+   * The default value of the event-loop profiling enabled = false
+   */
+  public static final boolean DEFAULT_EVENT_LOOP_PROFILING_ENABLED = false;
+
   private int eventLoopPoolSize = DEFAULT_EVENT_LOOP_POOL_SIZE;
   private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
   private int internalBlockingPoolSize = DEFAULT_INTERNAL_BLOCKING_POOL_SIZE;
@@ -144,6 +164,10 @@ public class VertxOptions {
   private TimeUnit blockedThreadCheckIntervalUnit = DEFAULT_BLOCKED_THREAD_CHECK_INTERVAL_UNIT;
   private boolean disableTCCL = DEFAULT_DISABLE_TCCL;
   private Boolean useDaemonThread = DEFAULT_USE_DAEMON_THREAD;
+  private long timerWheelTickDuration = DEFAULT_TIMER_WHEEL_TICK_DURATION;
+  private TimeUnit timerWheelTickDurationUnit = DEFAULT_TIMER_WHEEL_TICK_DURATION_UNIT;
+  private boolean workerPoolWorkStealing = DEFAULT_WORKER_POOL_WORK_STEALING;
+  private boolean eventLoopProfilingEnabled = DEFAULT_EVENT_LOOP_PROFILING_ENABLED;
 
   /**
    * Default constructor
@@ -179,6 +203,10 @@ public class VertxOptions {
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
     this.disableTCCL = other.disableTCCL;
     this.useDaemonThread = other.useDaemonThread;
+    this.timerWheelTickDuration = other.timerWheelTickDuration;
+    this.timerWheelTickDurationUnit = other.timerWheelTickDurationUnit;
+    this.workerPoolWorkStealing = other.workerPoolWorkStealing;
+    this.eventLoopProfilingEnabled = other.eventLoopProfilingEnabled;
   }
 
   /**
@@ -679,6 +707,105 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return the tick duration of the timer wheel, in {@link VertxOptions#setTimerWheelTickDurationUnit timerWheelTickDurationUnit}
+   */
+  public long getTimerWheelTickDuration() {
+    return timerWheelTickDuration;
+  }
+
+  /**
+   * Sets the tick duration of the per event-loop timer wheel, in {@link VertxOptions#setTimerWheelTickDurationUnit timerWheelTickDurationUnit}.
+   *
+   * <p> When the value is positive, the timers set with {@link Vertx#setTimer}, {@link Vertx#setPeriodic} and
+   * {@link Vertx#timer} are kept in a hashed timer wheel of their event-loop instead of the event-loop scheduled task
+   * queue: scheduling and cancelling a timer are constant time operations and timer ids are allocated per event-loop.
+   * A timer fires at the first tick following its delay, so timers should tolerate a delay extended by up to one tick.
+   *
+   * <p> The default value is {@code 0}, timers are scheduled on the event-loop.
+   *
+   * @param timerWheelTickDuration the tick duration
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDuration(long timerWheelTickDuration) {
+    if (timerWheelTickDuration < 0) {
+      throw new IllegalArgumentException("timerWheelTickDuration must be >= 0");
+    }
+    this.timerWheelTickDuration = timerWheelTickDuration;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code timerWheelTickDuration}
+   */
+  public TimeUnit getTimerWheelTickDurationUnit() {
+    return timerWheelTickDurationUnit;
+  }
+
+  /**
+   * Set the time unit of {@code timerWheelTickDuration}.
+   *
+   * @param timerWheelTickDurationUnit the time unit of {@code timerWheelTickDuration}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDurationUnit(TimeUnit timerWheelTickDurationUnit) {
+    this.timerWheelTickDurationUnit = timerWheelTickDurationUnit;
+    return this;
+  }
+
+  /**
+   * @return whether the worker pools use per-worker deques with work stealing
+   */
+  public boolean isWorkerPoolWorkStealing() {
+    return workerPoolWorkStealing;
+  }
+
+  /**
+   * Set whether the worker pools use per-worker deques with work stealing.
+   *
+   * <p> When enabled, the worker pool and the named worker pools queue blocking tasks in deques owned by their worker
+   * threads instead of a single shared queue, an idle worker steals the tasks queued on the other workers. Tasks are
+   * queued in priority lanes, a worker runs the tasks of the highest priority lane first, a small share of the tasks
+   * taken by a worker is taken from the lower lanes so they are not starved.
+   *
+   * <p> The default value is {@code false}, the worker pools are created with the {@link io.vertx.core.spi.ExecutorServiceFactory}.
+   *
+   * @param workerPoolWorkStealing whether to use work stealing worker pools
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolWorkStealing(boolean workerPoolWorkStealing) {
+    this.workerPoolWorkStealing = workerPoolWorkStealing;
+    return this;
+  }
+
+  /**
+   * @return whether the tasks executed by the event-loops are profiled
+   */
+  public boolean isEventLoopProfilingEnabled() {
+    return eventLoopProfilingEnabled;
+  }
+
+  /**
+   * Set whether the tasks executed by the event-loops are profiled.
+   *
+   * <p> When enabled, each event-loop records the histograms of the execution time of its tasks and of the delay
+   * between their submission and their execution, as well as the cumulated execution time per handler class. The
+   * tasks are also reported to the {@link io.vertx.core.spi.metrics.EventLoopMetrics} when the metrics are enabled.
+   *
+   * <p> Only the tasks submitted to a context from another thread are profiled, the I/O events handled by the
+   * event-loop are not. Each profiled task allocates a wrapper and reads the clock twice. Each profile is named after
+   * the thread of its event-loop once the event-loop has executed a profiled task.
+   *
+   * <p> The default value is {@code false}.
+   *
+   * @param eventLoopProfilingEnabled whether to profile the event-loops
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setEventLoopProfilingEnabled(boolean eventLoopProfilingEnabled) {
+    this.eventLoopProfilingEnabled = eventLoopProfilingEnabled;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     VertxOptionsConverter.toJson(this, json);
@@ -710,6 +837,10 @@ public class VertxOptions {
         ", warningExceptionTime=" + warningExceptionTime +
         ", disableTCCL=" + disableTCCL +
         ", useDaemonThread=" + useDaemonThread +
+        ", timerWheelTickDurationUnit=" + timerWheelTickDurationUnit +
+        ", timerWheelTickDuration=" + timerWheelTickDuration +
+        ", workerPoolWorkStealing=" + workerPoolWorkStealing +
+        ", eventLoopProfilingEnabled=" + eventLoopProfilingEnabled +
         '}';
   }
 }
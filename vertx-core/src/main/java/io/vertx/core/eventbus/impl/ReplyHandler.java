@@ -18,13 +18,16 @@ import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.ReplyException;
 import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.concurrent.Deadline;
 import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
 
-class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
+import java.util.concurrent.TimeUnit;
+
+class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Void> {
 
   private final Promise<Message<T>> result;
-  private final long timeoutID;
+  private final Deadline deadline;
   private final long timeout;
   private final String repliedAddress;
   Object trace;
@@ -33,8 +36,9 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
     super(context, eventBus, address, src);
     this.result = context.promise();
     this.repliedAddress = repliedAddress;
-    this.timeoutID = context.setTimer(timeout, this);
+    this.deadline = context.deadline(this);
     this.timeout = timeout;
+    this.deadline.schedule(timeout, TimeUnit.MILLISECONDS);
   }
 
   private void trace(Object reply, Throwable failure) {
@@ -50,7 +54,7 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
   }
 
   void fail(ReplyException failure) {
-    if (context.owner().cancelTimer(timeoutID)) {
+    if (deadline.cancel()) {
       unregister();
       doFail(failure);
     }
@@ -65,7 +69,7 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
   }
 
   @Override
-  public void handle(Long id) {
+  public void handle(Void v) {
     unregister();
     doFail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
   }
@@ -82,7 +86,7 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
 
   @Override
   protected void dispatch(Message<T> reply, ContextInternal context, Handler<Message<T>> handler /* null */) {
-    if (context.owner().cancelTimer(timeoutID)) {
+    if (deadline.cancel()) {
       unregister();
       if (reply.body() instanceof ReplyException) {
         doFail((ReplyException) reply.body());
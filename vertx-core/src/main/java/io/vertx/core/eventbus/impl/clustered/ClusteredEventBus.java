@@ -58,6 +58,7 @@ public class ClusteredEventBus extends EventBusImpl {
   private static final Logger log = LoggerFactory.getLogger(ClusteredEventBus.class);
 
   private static final Buffer PONG = Buffer.buffer(new byte[]{(byte) 1});
+  private static final Buffer PONG_DICTIONARY = Buffer.buffer(new byte[]{ClusteredMessage.WIRE_PROTOCOL_VERSION});
 
   private final EventBusOptions options;
   private final ClusterManager clusterManager;
@@ -288,6 +289,7 @@ public class ClusteredEventBus extends EventBusImpl {
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
       RecordParser parser = RecordParser.newFixed(4);
+      StringDictionary dictionary = StringDictionary.decoder();
       Handler<Buffer> handler = new Handler<Buffer>() {
         int size = -1;
 
@@ -297,7 +299,7 @@ public class ClusteredEventBus extends EventBusImpl {
             parser.fixedSizeMode(size);
           } else {
             ClusteredMessage received = new ClusteredMessage(ClusteredEventBus.this);
-            received.readFromWire(buff, codecManager);
+            received.readFromWire(buff, codecManager, dictionary);
             if (metrics != null) {
               metrics.messageRead(received.address(), buff.length());
             }
@@ -306,8 +308,8 @@ public class ClusteredEventBus extends EventBusImpl {
             if (received.hasFailure()) {
               received.internalError();
             } else if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
-              // Just send back pong directly on connection
-              socket.write(PONG);
+              // Just send back pong directly on connection, acknowledging the wire protocol version when requested
+              socket.write(received.headers().contains(ClusteredMessage.WIRE_PROTOCOL_VERSION_HEADER) ? PONG_DICTIONARY : PONG);
             } else {
               deliverMessageLocally(received);
             }
@@ -11,6 +11,10 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -21,8 +25,11 @@ import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.CodecManager;
 import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.MessageImpl;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 
 import java.util.List;
 import java.util.Map;
@@ -34,7 +41,23 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   private static final Logger log = LoggerFactory.getLogger(ClusteredMessage.class);
 
-  private static final byte WIRE_PROTOCOL_VERSION = 2;
+  /**
+   * The wire protocol version using a {@link StringDictionary} to encode the codec name, the addresses and the sender.
+   */
+  static final byte WIRE_PROTOCOL_VERSION = 3;
+  static final byte BASE_WIRE_PROTOCOL_VERSION = 2;
+
+  /**
+   * The header of a ping message requesting the remote node to acknowledge {@link #WIRE_PROTOCOL_VERSION}.
+   */
+  static final String WIRE_PROTOCOL_VERSION_HEADER = "__vertx.wire_protocol_version";
+
+  // Dictionary string encoding
+  private static final byte STRING_NULL = 0;
+  private static final byte STRING_LITERAL = 1;
+  private static final byte STRING_DEFINITION = 2;
+  private static final byte STRING_REFERENCE = 3;
+  private static final int INITIAL_FRAME_CAPACITY = 256;
 
   private String sender;
   private String repliedTo;
@@ -51,10 +74,22 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   public ClusteredMessage(String sender, String address, MultiMap headers, U sentBody,
                           MessageCodec<U, V> messageCodec, boolean send, EventBusImpl bus) {
-    super(address, headers, sentBody, messageCodec, send, bus);
+    super(address, headers, ownBody(sentBody, messageCodec), messageCodec, send, bus);
     this.sender = sender;
   }
 
+  /**
+   * The message is encoded after the send returns, the buffer body is copied so the sender can modify it and the
+   * encoded frame can append the copy without copying it again.
+   */
+  @SuppressWarnings("unchecked")
+  private static <U> U ownBody(U sentBody, MessageCodec<U, ?> messageCodec) {
+    if (messageCodec == CodecManager.BUFFER_MESSAGE_CODEC && sentBody != null) {
+      return (U) ((Buffer) sentBody).copy();
+    }
+    return sentBody;
+  }
+
   protected ClusteredMessage(ClusteredMessage<U, V> other) {
     super(other);
     this.sender = other.sender;
@@ -107,84 +142,157 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     return replyAddress;
   }
 
-  public Buffer encodeToWire() {
+  /**
+   * Encode this message in a buffer obtained from the {@code allocator}.
+   * <p>
+   * The message frame is written directly in the allocated buffer, {@link Buffer}, {@link JsonObject} and
+   * {@link JsonArray} bodies are not copied but appended as a component of a composite buffer.
+   * <p>
+   * When a {@code dictionary} is provided, the message is encoded with {@link #WIRE_PROTOCOL_VERSION} and the strings
+   * already sent on the connection are written as references.
+   *
+   * @param allocator the allocator
+   * @param dictionary the connection dictionary or {@code null}
+   * @return the encoded message, the caller owns the returned buffer
+   */
+  public ByteBuf encodeToWire(ByteBufAllocator allocator, StringDictionary dictionary) {
     toWire = true;
-    int length = 1024; // TODO make this configurable
-    Buffer buffer = Buffer.buffer(length);
-    buffer.appendInt(0);
-    buffer.appendByte(WIRE_PROTOCOL_VERSION);
-    byte systemCodecID = messageCodec.systemCodecID();
-    buffer.appendByte(systemCodecID);
-    if (systemCodecID == -1) {
-      // User codec
-      writeString(buffer, messageCodec.name());
+    ByteBuf buffer = allocator.directBuffer(INITIAL_FRAME_CAPACITY);
+    try {
+      buffer.writeInt(0);
+      buffer.writeByte(dictionary != null ? WIRE_PROTOCOL_VERSION : BASE_WIRE_PROTOCOL_VERSION);
+      byte systemCodecID = messageCodec.systemCodecID();
+      buffer.writeByte(systemCodecID);
+      if (systemCodecID == -1) {
+        // User codec
+        writeString(buffer, messageCodec.name(), dictionary, true);
+      }
+      buffer.writeByte(send ? (byte) 0 : (byte) 1);
+      // Reply addresses are used once, keep them out of the dictionary
+      writeString(buffer, address, dictionary, repliedTo == null);
+      if (dictionary != null) {
+        writeString(buffer, replyAddress, dictionary, false);
+      } else if (replyAddress != null) {
+        writeString(buffer, replyAddress);
+      } else {
+        buffer.writeInt(0);
+      }
+      writeString(buffer, sender, dictionary, true);
+      encodeHeaders(buffer);
+      ByteBuf body = bodyComponent();
+      if (body == null) {
+        messageCodec.encodeToWire(BufferInternal.buffer(buffer), sentBody);
+        buffer.setInt(0, buffer.readableBytes() - 4);
+        return buffer;
+      }
+      buffer.writeInt(body.readableBytes());
+      buffer.setInt(0, buffer.readableBytes() + body.readableBytes() - 4);
+      CompositeByteBuf composite = allocator.compositeDirectBuffer(2);
+      composite.addComponents(true, buffer, body);
+      return composite;
+    } catch (Throwable t) {
+      buffer.release();
+      throw t;
     }
-    buffer.appendByte(send ? (byte) 0 : (byte) 1);
-    writeString(buffer, address);
-    if (replyAddress != null) {
-      writeString(buffer, replyAddress);
+  }
+
+  /**
+   * @return the body to append without copy or {@code null} when the body must be encoded by the codec
+   */
+  private ByteBuf bodyComponent() {
+    Buffer body;
+    if (messageCodec == CodecManager.BUFFER_MESSAGE_CODEC) {
+      // Copied when the message was created
+      body = (Buffer) sentBody;
+    } else if (messageCodec == CodecManager.JSON_OBJECT_MESSAGE_CODEC) {
+      body = ((JsonObject) sentBody).toBuffer();
+    } else if (messageCodec == CodecManager.JSON_ARRAY_MESSAGE_CODEC) {
+      body = ((JsonArray) sentBody).toBuffer();
     } else {
-      buffer.appendInt(0);
+      return null;
     }
-    writeString(buffer, sender);
-    encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+    return ((BufferInternal) body).getByteBuf();
   }
 
-  public void readFromWire(Buffer buffer, CodecManager codecManager) {
-    int pos = 0;
+  /**
+   * Decode this message from the wire.
+   *
+   * @param buffer the message frame, without the overall length
+   * @param codecManager the codec manager
+   * @param dictionary the dictionary of the connection
+   */
+  public void readFromWire(Buffer buffer, CodecManager codecManager, StringDictionary dictionary) {
+    ByteBuf buf = ((BufferInternal) buffer).getByteBuf();
     // Overall Length already read when passed in here
-    byte protocolVersion = buffer.getByte(pos);
+    byte protocolVersion = buf.readByte();
     if (protocolVersion > WIRE_PROTOCOL_VERSION) {
       setFailure("Invalid wire protocol version " + protocolVersion + " should be <= " + WIRE_PROTOCOL_VERSION);
     }
-    pos++;
-    byte systemCodecCode = buffer.getByte(pos);
-    pos++;
+    if (protocolVersion != WIRE_PROTOCOL_VERSION) {
+      dictionary = null;
+    }
+    byte systemCodecCode = buf.readByte();
     if (systemCodecCode == -1) {
       // User codec
-      int length = buffer.getInt(pos);
-      pos += 4;
-      byte[] bytes = buffer.getBytes(pos, pos + length);
-      String codecName = new String(bytes, CharsetUtil.UTF_8);
+      String codecName = readString(buf, dictionary);
       messageCodec = codecManager.getCodec(codecName);
       if (messageCodec == null) {
         setFailure("No message codec registered with name " + codecName);
       }
-      pos += length;
     } else {
       messageCodec = codecManager.systemCodecs()[systemCodecCode];
     }
-    byte bsend = buffer.getByte(pos);
+    byte bsend = buf.readByte();
     send = bsend == 0;
-    pos++;
-    int length = buffer.getInt(pos);
-    pos += 4;
-    byte[] bytes = buffer.getBytes(pos, pos + length);
-    address = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
-    length = buffer.getInt(pos);
-    pos += 4;
-    if (length != 0) {
-      bytes = buffer.getBytes(pos, pos + length);
-      replyAddress = new String(bytes, CharsetUtil.UTF_8);
-      pos += length;
+    address = readString(buf, dictionary);
+    if (dictionary != null) {
+      replyAddress = readString(buf, dictionary);
+    } else {
+      int length = buf.readInt();
+      if (length != 0) {
+        replyAddress = buf.toString(buf.readerIndex(), length, CharsetUtil.UTF_8);
+        buf.skipBytes(length);
+      }
     }
-    length = buffer.getInt(pos);
-    pos += 4;
-    bytes = buffer.getBytes(pos, pos + length);
-    sender = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
+    sender = readString(buf, dictionary);
+    int pos = buf.readerIndex();
     headersPos = pos;
-    int headersLength = buffer.getInt(pos);
+    int headersLength = buf.getInt(pos);
     pos += headersLength;
     bodyPos = pos;
     wireBuffer = buffer;
     fromWire = true;
   }
 
+  private String readString(ByteBuf buf, StringDictionary dictionary) {
+    if (dictionary == null) {
+      int length = buf.readInt();
+      String s = buf.toString(buf.readerIndex(), length, CharsetUtil.UTF_8);
+      buf.skipBytes(length);
+      return s;
+    }
+    byte type = buf.readByte();
+    switch (type) {
+      case STRING_NULL:
+        return null;
+      case STRING_REFERENCE:
+        int index = buf.readUnsignedShort();
+        String s = dictionary.get(index);
+        if (s == null) {
+          setFailure("Invalid string reference " + index);
+        }
+        return s;
+      default:
+        int length = buf.readInt();
+        s = buf.toString(buf.readerIndex(), length, CharsetUtil.UTF_8);
+        buf.skipBytes(length);
+        if (type == STRING_DEFINITION) {
+          dictionary.add(s);
+        }
+        return s;
+    }
+  }
+
   private void setFailure(String s) {
     if (failure == null) {
       failure = s;
@@ -196,40 +304,39 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     bodyPos = 0;
   }
 
-  private void encodeHeaders(Buffer buffer) {
+  private void encodeHeaders(ByteBuf buffer) {
     if (headers != null && !headers.isEmpty()) {
-      int headersLengthPos = buffer.length();
-      buffer.appendInt(0);
-      buffer.appendInt(headers.entries().size());
+      int headersLengthPos = buffer.writerIndex();
+      buffer.writeInt(0);
+      buffer.writeInt(headers.entries().size());
       List<Map.Entry<String, String>> entries = headers.entries();
       for (Map.Entry<String, String> entry: entries) {
         writeString(buffer, entry.getKey());
         writeString(buffer, entry.getValue());
       }
-      int headersEndPos = buffer.length();
+      int headersEndPos = buffer.writerIndex();
       buffer.setInt(headersLengthPos, headersEndPos - headersLengthPos);
     } else {
-      buffer.appendInt(4);
+      buffer.writeInt(4);
     }
   }
 
   private void decodeHeaders() {
-    int length = wireBuffer.getInt(headersPos);
+    ByteBuf buf = ((BufferInternal) wireBuffer).getByteBuf();
+    int length = buf.getInt(headersPos);
     if (length != 4) {
       headersPos += 4;
-      int numHeaders = wireBuffer.getInt(headersPos);
+      int numHeaders = buf.getInt(headersPos);
       headersPos += 4;
       headers = MultiMap.caseInsensitiveMultiMap();
       for (int i = 0; i < numHeaders; i++) {
-        int keyLength = wireBuffer.getInt(headersPos);
+        int keyLength = buf.getInt(headersPos);
         headersPos += 4;
-        byte[] bytes = wireBuffer.getBytes(headersPos, headersPos + keyLength);
-        String key = new String(bytes, CharsetUtil.UTF_8);
+        String key = buf.toString(headersPos, keyLength, CharsetUtil.UTF_8);
         headersPos += keyLength;
-        int valLength = wireBuffer.getInt(headersPos);
+        int valLength = buf.getInt(headersPos);
         headersPos += 4;
-        bytes = wireBuffer.getBytes(headersPos, headersPos + valLength);
-        String val = new String(bytes, CharsetUtil.UTF_8);
+        String val = buf.toString(headersPos, valLength, CharsetUtil.UTF_8);
         headersPos += valLength;
         headers.add(key, val);
       }
@@ -237,14 +344,31 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     headersPos = 0;
   }
 
-  private void writeBody(Buffer buff) {
-    messageCodec.encodeToWire(buff, sentBody);
+  private static void writeString(ByteBuf buff, String str, StringDictionary dictionary, boolean define) {
+    if (dictionary == null) {
+      writeString(buff, str);
+    } else if (str == null) {
+      buff.writeByte(STRING_NULL);
+    } else {
+      int index = dictionary.indexOf(str);
+      if (index >= 0) {
+        buff.writeByte(STRING_REFERENCE);
+        buff.writeShort(index);
+      } else {
+        buff.writeByte(define ? STRING_DEFINITION : STRING_LITERAL);
+        writeString(buff, str);
+        if (define) {
+          dictionary.add(str);
+        }
+      }
+    }
   }
 
-  private void writeString(Buffer buff, String str) {
-    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
-    buff.appendInt(strBytes.length);
-    buff.appendBytes(strBytes);
+  private static void writeString(ByteBuf buff, String str) {
+    int lengthPos = buff.writerIndex();
+    buff.writeInt(0);
+    int length = ByteBufUtil.writeUtf8(buff, str);
+    buff.setInt(lengthPos, length);
   }
 
   String getSender() {
@@ -11,6 +11,9 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
@@ -19,12 +22,15 @@ import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.internal.net.NetSocketInternal;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -40,9 +46,13 @@ class ConnectionHolder {
   private final String remoteNodeId;
   private final VertxInternal vertx;
   private final EventBusMetrics metrics;
+  private final int batchSize;
 
   private Queue<MessageWrite> pendingWrites;
-  private NetSocket socket;
+  private StringDictionary dictionary;
+  private CompositeByteBuf batch;
+  private List<Promise<Void>> batchPromises;
+  private NetSocketInternal socket;
   private boolean connected;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
@@ -52,6 +62,7 @@ class ConnectionHolder {
     this.remoteNodeId = remoteNodeId;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.batchSize = eventBus.options().getClusterWriteBatchSize();
   }
 
   void connect() {
@@ -72,11 +83,7 @@ class ConnectionHolder {
   // TODO optimise this (contention on monitor)
   synchronized void writeMessage(MessageImpl<?, ?> message, Promise<Void> writePromise) {
     if (connected) {
-      Buffer data = ((ClusteredMessage) message).encodeToWire();
-      if (metrics != null) {
-        metrics.messageWritten(message.address(), data.length());
-      }
-      socket.write(data).onComplete(writePromise);
+      write(message, writePromise);
     } else {
       if (pendingWrites == null) {
         if (log.isDebugEnabled()) {
@@ -88,6 +95,61 @@ class ConnectionHolder {
     }
   }
 
+  private void write(MessageImpl<?, ?> message, Promise<Void> writePromise) {
+    ByteBuf data;
+    try {
+      data = ((ClusteredMessage<?, ?>) message).encodeToWire(socket.channelHandlerContext().alloc(), dictionary);
+    } catch (RuntimeException e) {
+      // The strings of the discarded frame might have been added to the dictionary, stop using it
+      dictionary = null;
+      throw e;
+    }
+    if (metrics != null) {
+      metrics.messageWritten(message.address(), data.readableBytes());
+    }
+    if (batchSize > 0) {
+      batch(data, writePromise);
+    } else {
+      socket.writeMessage(data).onComplete(writePromise);
+    }
+  }
+
+  /**
+   * Add the encoded message to the current batch, the batch is flushed by a task executed on the connection event loop,
+   * so messages sent during an event loop iteration are written with a single flush, or as soon as the batch
+   * exceeds the batch size.
+   */
+  private void batch(ByteBuf data, Promise<Void> writePromise) {
+    if (batch == null) {
+      batch = socket.channelHandlerContext().alloc().compositeBuffer(Integer.MAX_VALUE);
+      batchPromises = new ArrayList<>();
+      socket.channelHandlerContext().executor().execute(this::flushBatch);
+    }
+    batch.addComponent(true, data);
+    batchPromises.add(writePromise);
+    if (batch.readableBytes() >= batchSize) {
+      flushBatch();
+    }
+  }
+
+  private synchronized void flushBatch() {
+    CompositeByteBuf buf = batch;
+    if (buf == null) {
+      return;
+    }
+    List<Promise<Void>> promises = batchPromises;
+    batch = null;
+    batchPromises = null;
+    if (metrics != null) {
+      metrics.batchWritten(promises.size(), buf.readableBytes());
+    }
+    socket.writeMessage(buf).onComplete(ar -> {
+      for (Promise<Void> promise : promises) {
+        promise.handle(ar);
+      }
+    });
+  }
+
   void close() {
     close(ConnectionBase.CLOSED_EXCEPTION);
   }
@@ -106,6 +168,14 @@ class ConnectionHolder {
           msg.writePromise.tryFail(cause);
         }
       }
+      if (batch != null) {
+        batch.release();
+        for (Promise<Void> promise : batchPromises) {
+          promise.tryFail(cause);
+        }
+        batch = null;
+        batchPromises = null;
+      }
     }
     // The holder can be null or different if the target server is restarted with same nodeInfo
     // before the cleanup for the previous one has been processed
@@ -118,22 +188,35 @@ class ConnectionHolder {
 
   private void schedulePing() {
     EventBusOptions options = eventBus.options();
-    pingTimeoutID = vertx.setTimer(options.getClusterPingInterval(), id1 -> {
-      // If we don't get a pong back in time we close the connection
-      timeoutID = vertx.setTimer(options.getClusterPingReplyInterval(), id2 -> {
-        // Didn't get pong in time - consider connection dead
-        log.warn("No pong from server " + remoteNodeId + " - will consider it dead");
-        close();
-      });
-      ClusteredMessage pingMessage =
-        new ClusteredMessage<>(remoteNodeId, PING_ADDRESS, null, null, new PingMessageCodec(), true, eventBus);
-      Buffer data = pingMessage.encodeToWire();
-      socket.write(data);
+    pingTimeoutID = vertx.setTimer(options.getClusterPingInterval(), id1 -> ping(null));
+  }
+
+  private void ping(MultiMap headers) {
+    // If we don't get a pong back in time we close the connection
+    timeoutID = vertx.setTimer(eventBus.options().getClusterPingReplyInterval(), id2 -> {
+      // Didn't get pong in time - consider connection dead
+      log.warn("No pong from server " + remoteNodeId + " - will consider it dead");
+      close();
     });
+    ClusteredMessage pingMessage =
+      new ClusteredMessage<>(remoteNodeId, PING_ADDRESS, headers, null, new PingMessageCodec(), true, eventBus);
+    socket.writeMessage(pingMessage.encodeToWire(socket.channelHandlerContext().alloc(), null));
+  }
+
+  private synchronized void pong(Buffer data) {
+    if (dictionary == null) {
+      for (int i = 0;i < data.length();i++) {
+        if (data.getByte(i) == ClusteredMessage.WIRE_PROTOCOL_VERSION) {
+          // The server supports the dictionary wire protocol
+          dictionary = StringDictionary.encoder();
+          break;
+        }
+      }
+    }
   }
 
   private synchronized void connected(NetSocket socket) {
-    this.socket = socket;
+    this.socket = (NetSocketInternal) socket;
     connected = true;
     socket.exceptionHandler(err -> {
       close(err);
@@ -141,21 +224,18 @@ class ConnectionHolder {
     socket.closeHandler(v -> close());
     socket.handler(data -> {
       // Got a pong back
+      pong(data);
       vertx.cancelTimer(timeoutID);
       schedulePing();
     });
-    // Start a pinger
-    schedulePing();
+    // Start a pinger, the first ping negotiates the wire protocol version
+    ping(MultiMap.caseInsensitiveMultiMap().set(ClusteredMessage.WIRE_PROTOCOL_VERSION_HEADER, String.valueOf(ClusteredMessage.WIRE_PROTOCOL_VERSION)));
     if (pendingWrites != null) {
       if (log.isDebugEnabled()) {
         log.debug("Draining the queue for server " + remoteNodeId);
       }
       for (MessageWrite ctx : pendingWrites) {
-        Buffer data = ((ClusteredMessage<?, ?>)ctx.message).encodeToWire();
-        if (metrics != null) {
-          metrics.messageWritten(ctx.message.address(), data.length());
-        }
-        socket.write(data).onComplete(ctx.writePromise);
+        write(ctx.message, ctx.writePromise);
       }
     }
     pendingWrites = null;
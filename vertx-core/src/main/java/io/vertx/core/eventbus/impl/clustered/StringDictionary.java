@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The strings recently exchanged over a cluster connection.
+ * <p>
+ * Each end of a connection maintains its own dictionary, the sender adds a string when it writes it in full and the
+ * receiver adds it when it reads it. Since both ends add the same strings in the same order and evict them in a
+ * first-in first-out fashion, a string is identified by the same index on both ends and can be sent as a reference.
+ * <p>
+ * This class is not thread safe.
+ */
+class StringDictionary {
+
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private final String[] strings;
+  private final Map<String, Integer> indexes;
+  private int next;
+
+  private StringDictionary(int capacity, boolean encoder) {
+    if (capacity < 1 || capacity > 0xFFFF) {
+      throw new IllegalArgumentException("Invalid capacity " + capacity);
+    }
+    this.strings = new String[capacity];
+    this.indexes = encoder ? new HashMap<>() : null;
+  }
+
+  /**
+   * @return a dictionary for the sending end of a connection
+   */
+  static StringDictionary encoder() {
+    return new StringDictionary(DEFAULT_CAPACITY, true);
+  }
+
+  /**
+   * @return a dictionary for the receiving end of a connection
+   */
+  static StringDictionary decoder() {
+    return new StringDictionary(DEFAULT_CAPACITY, false);
+  }
+
+  /**
+   * @return the index of {@code s} or {@code -1} when the dictionary does not contain it
+   */
+  int indexOf(String s) {
+    Integer index = indexes.get(s);
+    return index != null ? index : -1;
+  }
+
+  /**
+   * @return the string at {@code index} or {@code null}
+   */
+  String get(int index) {
+    return index < strings.length ? strings[index] : null;
+  }
+
+  /**
+   * Add {@code s} to the dictionary, evicting the oldest string when the dictionary is full.
+   */
+  void add(String s) {
+    int index = next;
+    next = index + 1 == strings.length ? 0 : index + 1;
+    if (indexes != null) {
+      String evicted = strings[index];
+      if (evicted != null) {
+        indexes.remove(evicted);
+      }
+      indexes.put(s, index);
+    }
+    strings[index] = s;
+  }
+}
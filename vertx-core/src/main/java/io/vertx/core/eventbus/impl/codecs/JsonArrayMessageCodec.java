@@ -36,7 +36,8 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public JsonArray transform(JsonArray jsonArray) {
-    return jsonArray.copy();
+    // A frozen value is shared
+    return jsonArray.isFrozen() ? jsonArray : jsonArray.copy();
   }
 
   @Override
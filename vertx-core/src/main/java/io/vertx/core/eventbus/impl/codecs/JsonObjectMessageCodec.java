@@ -36,7 +36,8 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
 
   @Override
   public JsonObject transform(JsonObject jsonObject) {
-    return jsonObject.copy();
+    // A frozen value is shared
+    return jsonObject.isFrozen() ? jsonObject : jsonObject.copy();
   }
 
   @Override
@@ -82,4 +82,15 @@ public interface HttpClientAgent extends HttpClient, Measured {
    */
   Future<HttpClientConnection> connect(HttpConnectOptions options);
 
+  /**
+   * Warm up the connection pool of the server designated by the connect {@code options}, the pool is created when it
+   * does not exist yet and establishes {@link PoolOptions#getMinIdle()} connections (at least one) ahead of the requests.
+   *
+   * <p> The returned future is completed when the connections are established, it can be used by a readiness probe.
+   *
+   * @param options the server connect options
+   * @return a future notified when the pool is warm
+   */
+  Future<Void> warmup(HttpConnectOptions options);
+
 }
@@ -62,6 +62,11 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_PIPELINING_LIMIT = 10;
 
+  /**
+   * Default value of whether pipe-lining adapts the depth of a connection to its response times = {@code false}
+   */
+  public static final boolean DEFAULT_ADAPTIVE_PIPELINING = false;
+
   /**
    * The default keep alive timeout for HTTP/1.1 connection can send = 60 seconds
    */
@@ -157,6 +162,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int keepAliveTimeout;
   private int pipeliningLimit;
   private boolean pipelining;
+  private boolean adaptivePipelining;
   private int http2MultiplexingLimit;
   private int http2ConnectionWindowSize;
   private int http2KeepAliveTimeout;
@@ -211,6 +217,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.keepAliveTimeout = other.getKeepAliveTimeout();
     this.pipelining = other.isPipelining();
     this.pipeliningLimit = other.getPipeliningLimit();
+    this.adaptivePipelining = other.isAdaptivePipelining();
     this.http2MultiplexingLimit = other.http2MultiplexingLimit;
     this.http2ConnectionWindowSize = other.http2ConnectionWindowSize;
     this.http2KeepAliveTimeout = other.getHttp2KeepAliveTimeout();
@@ -261,6 +268,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     keepAliveTimeout = DEFAULT_KEEP_ALIVE_TIMEOUT;
     pipelining = DEFAULT_PIPELINING;
     pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+    adaptivePipelining = DEFAULT_ADAPTIVE_PIPELINING;
     http2MultiplexingLimit = DEFAULT_HTTP2_MULTIPLEXING_LIMIT;
     http2ConnectionWindowSize = DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
     http2KeepAliveTimeout = DEFAULT_HTTP2_KEEP_ALIVE_TIMEOUT;
@@ -616,6 +624,31 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return whether a pipe-lined HTTP/1 connection adapts its depth to its response times
+   */
+  public boolean isAdaptivePipelining() {
+    return adaptivePipelining;
+  }
+
+  /**
+   * Set whether a pipe-lined HTTP/1 connection adapts its depth to its response times.
+   *
+   * <p> A connection starts with a depth of one request and tracks the smoothed time of its responses, measured from
+   * the time a response reaches the head of the pipeline: the depth grows by one request after each timely response
+   * up to the {@link #setPipeliningLimit(int) pipe-lining limit} and is halved when a response lags, so a slow
+   * response blocks fewer requests queued behind it. The pool sends new requests to the least loaded connection.
+   *
+   * <p> This has no effect when pipe-lining is disabled.
+   *
+   * @param adaptivePipelining {@code true} if enabled
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setAdaptivePipelining(boolean adaptivePipelining) {
+    this.adaptivePipelining = adaptivePipelining;
+    return this;
+  }
+
   /**
    * Is hostname verification (for SSL/TLS) enabled?
    *
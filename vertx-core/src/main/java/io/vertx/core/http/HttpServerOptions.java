@@ -19,6 +19,7 @@ import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.Arguments;
+import io.vertx.core.impl.cpu.CpuCoreSensor;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.KeyCertOptions;
 import io.vertx.core.net.NetServerOptions;
@@ -195,6 +196,52 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final TimeUnit DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION_TIME_UNIT = TimeUnit.SECONDS;
 
+  /**
+   * Default max size of a file cached by the send file cache = 0 (the cache is disabled)
+   */
+  public static final int DEFAULT_FILE_CACHE_MAX_FILE_SIZE = 0;
+
+  /**
+   * Default max size of the send file cache = 64MB
+   */
+  public static final long DEFAULT_FILE_CACHE_MAX_SIZE = 64 * 1024 * 1024;
+
+  /**
+   * Default interval after which a cached file is checked for modification = 1000 ms
+   */
+  public static final long DEFAULT_FILE_CACHE_CHECK_INTERVAL = 1000;
+
+  /**
+   * Default value of whether pre-compressed files are served = {@code false}
+   */
+  public static final boolean DEFAULT_PRECOMPRESSED_FILES_ENABLED = false;
+
+  /**
+   * Default max size of the compressed response body cache = 16MB
+   */
+  public static final long DEFAULT_COMPRESSION_CACHE_MAX_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * Default size above which a response body is compressed on the compression worker pool = 0 (the body is always
+   * compressed on the event loop)
+   */
+  public static final int DEFAULT_COMPRESSION_OFFLOAD_THRESHOLD = 0;
+
+  /**
+   * Default size of the compression worker pool = the number of available processors
+   */
+  public static final int DEFAULT_COMPRESSION_WORKER_POOL_SIZE = CpuCoreSensor.availableProcessors();
+
+  /**
+   * Default whether each request handler runs on its own virtual thread = false
+   */
+  public static final boolean DEFAULT_VIRTUAL_THREAD_PER_REQUEST = false;
+
+  /**
+   * Default max number of request handlers running concurrently on virtual threads = 0 (unbounded)
+   */
+  public static final int DEFAULT_MAX_VIRTUAL_THREAD_CONCURRENCY = 0;
+
   private boolean compressionSupported;
   private int compressionLevel;
   private List<CompressionOptions> compressors;
@@ -226,6 +273,15 @@ public class HttpServerOptions extends NetServerOptions {
   private int http2RstFloodMaxRstFramePerWindow;
   private int http2RstFloodWindowDuration;
   private TimeUnit http2RstFloodWindowDurationTimeUnit;
+  private int fileCacheMaxFileSize;
+  private long fileCacheMaxSize;
+  private long fileCacheCheckInterval;
+  private boolean precompressedFilesEnabled;
+  private long compressionCacheMaxSize;
+  private int compressionOffloadThreshold;
+  private int compressionWorkerPoolSize;
+  private boolean virtualThreadPerRequest;
+  private int maxVirtualThreadConcurrency;
 
   /**
    * Default constructor
@@ -274,6 +330,15 @@ public class HttpServerOptions extends NetServerOptions {
     this.http2RstFloodMaxRstFramePerWindow = other.http2RstFloodMaxRstFramePerWindow;
     this.http2RstFloodWindowDuration = other.http2RstFloodWindowDuration;
     this.http2RstFloodWindowDurationTimeUnit = other.http2RstFloodWindowDurationTimeUnit;
+    this.fileCacheMaxFileSize = other.fileCacheMaxFileSize;
+    this.fileCacheMaxSize = other.fileCacheMaxSize;
+    this.fileCacheCheckInterval = other.fileCacheCheckInterval;
+    this.precompressedFilesEnabled = other.precompressedFilesEnabled;
+    this.compressionCacheMaxSize = other.compressionCacheMaxSize;
+    this.compressionOffloadThreshold = other.compressionOffloadThreshold;
+    this.compressionWorkerPoolSize = other.compressionWorkerPoolSize;
+    this.virtualThreadPerRequest = other.virtualThreadPerRequest;
+    this.maxVirtualThreadConcurrency = other.maxVirtualThreadConcurrency;
   }
 
   /**
@@ -329,6 +394,15 @@ public class HttpServerOptions extends NetServerOptions {
     http2RstFloodMaxRstFramePerWindow = DEFAULT_HTTP2_RST_FLOOD_MAX_RST_FRAME_PER_WINDOW;
     http2RstFloodWindowDuration = DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION;
     http2RstFloodWindowDurationTimeUnit = DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION_TIME_UNIT;
+    fileCacheMaxFileSize = DEFAULT_FILE_CACHE_MAX_FILE_SIZE;
+    fileCacheMaxSize = DEFAULT_FILE_CACHE_MAX_SIZE;
+    fileCacheCheckInterval = DEFAULT_FILE_CACHE_CHECK_INTERVAL;
+    precompressedFilesEnabled = DEFAULT_PRECOMPRESSED_FILES_ENABLED;
+    compressionCacheMaxSize = DEFAULT_COMPRESSION_CACHE_MAX_SIZE;
+    compressionOffloadThreshold = DEFAULT_COMPRESSION_OFFLOAD_THRESHOLD;
+    compressionWorkerPoolSize = DEFAULT_COMPRESSION_WORKER_POOL_SIZE;
+    virtualThreadPerRequest = DEFAULT_VIRTUAL_THREAD_PER_REQUEST;
+    maxVirtualThreadConcurrency = DEFAULT_MAX_VIRTUAL_THREAD_CONCURRENCY;
   }
 
   /**
@@ -1220,6 +1294,217 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the max size in bytes of a file cached by the send file cache
+   */
+  public int getFileCacheMaxFileSize() {
+    return fileCacheMaxFileSize;
+  }
+
+  /**
+   * Set the max size in bytes of a file cached by the send file cache, the default value is
+   * {@link #DEFAULT_FILE_CACHE_MAX_FILE_SIZE} which disables the cache.
+   * <p>
+   * When the cache is enabled, {@link HttpServerResponse#sendFile} keeps the content of files smaller than this size
+   * in direct memory along with their {@code content-length}, {@code content-type}, {@code etag} and
+   * {@code last-modified} headers, subsequent responses are served without opening the file. Files are checked and
+   * loaded on a worker thread, the {@code etag} and {@code last-modified} headers are also sent for files too large to
+   * be cached.
+   *
+   * @param fileCacheMaxFileSize the max size of a cached file
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheMaxFileSize(int fileCacheMaxFileSize) {
+    Arguments.require(fileCacheMaxFileSize >= 0, "fileCacheMaxFileSize must be >= 0");
+    this.fileCacheMaxFileSize = fileCacheMaxFileSize;
+    return this;
+  }
+
+  /**
+   * @return the max size in bytes of the send file cache
+   */
+  public long getFileCacheMaxSize() {
+    return fileCacheMaxSize;
+  }
+
+  /**
+   * Set the max size in bytes of the files held by the send file cache, the default value is
+   * {@link #DEFAULT_FILE_CACHE_MAX_SIZE}, the least recently used files are evicted when the cache is full.
+   *
+   * @param fileCacheMaxSize the max size of the cache
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheMaxSize(long fileCacheMaxSize) {
+    Arguments.require(fileCacheMaxSize >= 0, "fileCacheMaxSize must be >= 0");
+    this.fileCacheMaxSize = fileCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the interval in milliseconds after which a cached file is checked for modification
+   */
+  public long getFileCacheCheckInterval() {
+    return fileCacheCheckInterval;
+  }
+
+  /**
+   * Set the interval in milliseconds after which a cached file is checked for modification, the default value is
+   * {@link #DEFAULT_FILE_CACHE_CHECK_INTERVAL}.
+   * <p>
+   * A cached file is served without checking the file system during this interval, the next response checks the
+   * last modification time and the size of the file and reloads it when it has changed.
+   *
+   * @param fileCacheCheckInterval the check interval
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheCheckInterval(long fileCacheCheckInterval) {
+    Arguments.require(fileCacheCheckInterval >= 0, "fileCacheCheckInterval must be >= 0");
+    this.fileCacheCheckInterval = fileCacheCheckInterval;
+    return this;
+  }
+
+  /**
+   * @return whether pre-compressed files are served by {@link HttpServerResponse#sendFile}
+   */
+  public boolean isPrecompressedFilesEnabled() {
+    return precompressedFilesEnabled;
+  }
+
+  /**
+   * Set whether pre-compressed files are served by {@link HttpServerResponse#sendFile}, the default value is
+   * {@link #DEFAULT_PRECOMPRESSED_FILES_ENABLED}.
+   * <p>
+   * When enabled and the whole file is sent, the server looks for a {@code .br}, {@code .zst} or {@code .gz} file
+   * next to the requested file that matches the request {@code accept-encoding} header and sends it instead with the
+   * corresponding {@code content-encoding} header, the content is not compressed again by the server. The variants
+   * are looked up on a worker thread, they are cached along with the file by the send file cache when enabled.
+   *
+   * @param precompressedFilesEnabled whether pre-compressed files are served
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPrecompressedFilesEnabled(boolean precompressedFilesEnabled) {
+    this.precompressedFilesEnabled = precompressedFilesEnabled;
+    return this;
+  }
+
+  /**
+   * @return the max size in bytes of the compressed response body cache
+   */
+  public long getCompressionCacheMaxSize() {
+    return compressionCacheMaxSize;
+  }
+
+  /**
+   * Set the max size in bytes of the compressed response body cache, the default value is
+   * {@link #DEFAULT_COMPRESSION_CACHE_MAX_SIZE}, {@code 0} disables the cache.
+   * <p>
+   * When {@link #setCompressionSupported(boolean) compression} is supported, the compressed variants of the bodies of
+   * the responses marked with {@link HttpServerResponse#setCompressionCacheable(boolean)} and of the files served by the
+   * send file cache are kept in this cache, the variants not recently used are evicted when the cache is full.
+   *
+   * @param compressionCacheMaxSize the max size of the cache
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionCacheMaxSize(long compressionCacheMaxSize) {
+    Arguments.require(compressionCacheMaxSize >= 0, "compressionCacheMaxSize must be >= 0");
+    this.compressionCacheMaxSize = compressionCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes above which a response body is compressed on the compression worker pool
+   */
+  public int getCompressionOffloadThreshold() {
+    return compressionOffloadThreshold;
+  }
+
+  /**
+   * Set the size in bytes above which a response body is compressed on the compression worker pool instead of the
+   * event loop, the default value is {@link #DEFAULT_COMPRESSION_OFFLOAD_THRESHOLD} which disables offloading.
+   * <p>
+   * This applies to the body sent with {@link HttpServerResponse#end(Buffer)} when the response
+   * has not been written yet, the compressed body is written on the connection once compressed. Bodies streamed with
+   * {@link HttpServerResponse#write} are still compressed on the event loop.
+   *
+   * @param compressionOffloadThreshold the threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionOffloadThreshold(int compressionOffloadThreshold) {
+    Arguments.require(compressionOffloadThreshold >= 0, "compressionOffloadThreshold must be >= 0");
+    this.compressionOffloadThreshold = compressionOffloadThreshold;
+    return this;
+  }
+
+  /**
+   * @return the size of the compression worker pool
+   */
+  public int getCompressionWorkerPoolSize() {
+    return compressionWorkerPoolSize;
+  }
+
+  /**
+   * Set the size of the worker pool compressing the response bodies larger than the
+   * {@link #setCompressionOffloadThreshold(int) offload threshold}, the default value is
+   * {@link #DEFAULT_COMPRESSION_WORKER_POOL_SIZE}.
+   *
+   * @param compressionWorkerPoolSize the pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionWorkerPoolSize(int compressionWorkerPoolSize) {
+    Arguments.require(compressionWorkerPoolSize >= 1, "compressionWorkerPoolSize must be > 0");
+    this.compressionWorkerPoolSize = compressionWorkerPoolSize;
+    return this;
+  }
+
+  /**
+   * @return whether each request handler runs on its own virtual thread
+   */
+  public boolean isVirtualThreadPerRequest() {
+    return virtualThreadPerRequest;
+  }
+
+  /**
+   * Set whether each request handler runs on its own virtual thread, the default value is
+   * {@link #DEFAULT_VIRTUAL_THREAD_PER_REQUEST}.
+   * <p>
+   * The events of a request are dispatched on a duplicate of a virtual thread context created for the request, so
+   * the request handler can use {@link io.vertx.core.Future#await()}. The events of a request are still delivered
+   * in order and the flow control of the request is unchanged.
+   * <p>
+   * This requires a Java runtime supporting virtual threads.
+   *
+   * @param virtualThreadPerRequest whether to run request handlers on virtual threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setVirtualThreadPerRequest(boolean virtualThreadPerRequest) {
+    this.virtualThreadPerRequest = virtualThreadPerRequest;
+    return this;
+  }
+
+  /**
+   * @return the max number of requests handled concurrently on virtual threads
+   */
+  public int getMaxVirtualThreadConcurrency() {
+    return maxVirtualThreadConcurrency;
+  }
+
+  /**
+   * Set the max number of requests handled concurrently on virtual threads when
+   * {@link #setVirtualThreadPerRequest(boolean) virtual thread per request} is enabled, the default value is
+   * {@link #DEFAULT_MAX_VIRTUAL_THREAD_CONCURRENCY} which does not limit the concurrency.
+   * <p>
+   * A request holds a permit from the start of its handler until its response has ended or its connection is
+   * closed, a request arriving when the limit is reached is paused until a permit is released.
+   *
+   * @param maxVirtualThreadConcurrency the max concurrency
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxVirtualThreadConcurrency(int maxVirtualThreadConcurrency) {
+    Arguments.require(maxVirtualThreadConcurrency >= 0, "maxVirtualThreadConcurrency must be >= 0");
+    this.maxVirtualThreadConcurrency = maxVirtualThreadConcurrency;
+    return this;
+  }
+
   /**
    * @return
    */
@@ -520,6 +520,23 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
       return this;
   }
 
+  /**
+   * Mark the body of this response as cacheable by the server compression.
+   * <p>
+   * When the server supports compression and the client accepts a compressed response, the compressed variant of
+   * the body sent with {@link #end(Buffer)} is kept in a bounded cache and reused by the subsequent responses
+   * sending the same buffer instance instead of being compressed again. The buffer is matched by identity and must
+   * not be modified once sent, this is intended for static bodies held by the application.
+   *
+   * @param cacheable whether the compressed body can be cached
+   * @return a reference to this, so the API can be used fluently
+   * @see HttpServerOptions#setCompressionCacheMaxSize(long)
+   */
+  @Fluent
+  default HttpServerResponse setCompressionCacheable(boolean cacheable) {
+    return this;
+  }
+
   /**
    * Add a cookie. This will be sent back to the client in the response.
    *
@@ -49,11 +49,29 @@ public class PoolOptions {
    */
   public static final int DEFAULT_POOL_EVENT_LOOP_SIZE = 0;
 
+  /**
+   * Default sharded pool = false
+   */
+  public static final boolean DEFAULT_SHARDED = false;
+
+  /**
+   * Default minimum number of idle connections = 0 (no floor)
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
+  /**
+   * Default strict event-loop affinity = false
+   */
+  public static final boolean DEFAULT_EVENT_LOOP_AFFINITY = false;
+
   private int http1MaxSize;
   private int http2MaxSize;
   private int cleanerPeriod;
   private int eventLoopSize;
   private int maxWaitQueueSize;
+  private boolean sharded;
+  private int minIdle;
+  private boolean eventLoopAffinity;
 
   /**
    * Default constructor
@@ -64,6 +82,9 @@ public class PoolOptions {
     cleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
     eventLoopSize = DEFAULT_POOL_EVENT_LOOP_SIZE;
     maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+    sharded = DEFAULT_SHARDED;
+    minIdle = DEFAULT_MIN_IDLE;
+    eventLoopAffinity = DEFAULT_EVENT_LOOP_AFFINITY;
   }
 
   /**
@@ -77,6 +98,9 @@ public class PoolOptions {
     this.cleanerPeriod = other.cleanerPeriod;
     this.eventLoopSize = other.eventLoopSize;
     this.maxWaitQueueSize = other.maxWaitQueueSize;
+    this.sharded = other.sharded;
+    this.minIdle = other.minIdle;
+    this.eventLoopAffinity = other.eventLoopAffinity;
   }
 
   /**
@@ -199,6 +223,92 @@ public class PoolOptions {
     return maxWaitQueueSize;
   }
 
+  /**
+   * @return whether the pool shards its connections by event-loop
+   */
+  public boolean isSharded() {
+    return sharded;
+  }
+
+  /**
+   * Set whether the pool shards its connections by event-loop.
+   *
+   * <p> A sharded pool keeps the connections of each event-loop in a lock-free free list, a request acquires a connection
+   * of its own event-loop without contending with the other event-loops. The connections of the other event-loops are
+   * used only when the pool cannot create a new connection. This mode benefits clients used concurrently by many
+   * event-loops with the default {@link #setEventLoopSize(int) event-loop size}.
+   *
+   * <p> The default value is {@code false}.
+   *
+   * @param sharded whether the pool is sharded
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setSharded(boolean sharded) {
+    this.sharded = sharded;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of connections the pool keeps established per endpoint
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of connections the pool keeps established per endpoint.
+   *
+   * <p> When an endpoint pool is created, it establishes {@code minIdle} connections spread across event-loops before
+   * they are needed by requests. When a connection is closed or evicted, the pool re-establishes connections in the background
+   * to restore the floor. The floor is bounded by the maximum pool size and a multiplexed HTTP/2 connection can count for
+   * several idle connections. After consecutive failures to establish connections, the pool waits increasingly longer
+   * before trying again.
+   *
+   * <p> The floor is released when the endpoint has not been used during the keep alive timeout of the client, the
+   * connections then expire like other connections and the endpoint pool is disposed. It is restored by the next
+   * request to the endpoint.
+   *
+   * <p> {@link HttpClientAgent#warmup(HttpConnectOptions)} creates the pool of an endpoint ahead of the first request and
+   * signals when the connections are established.
+   *
+   * <p> The default value is {@code 0}.
+   *
+   * @param minIdle the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    Arguments.require(minIdle >= 0, "minIdle must be >= 0");
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  /**
+   * @return whether the pool binds the connections of each event-loop to a slice of the pool
+   */
+  public boolean isEventLoopAffinity() {
+    return eventLoopAffinity;
+  }
+
+  /**
+   * Set whether the pool binds the connections of each event-loop to a slice of the pool.
+   *
+   * <p> With a strict event-loop affinity the pool is {@link #setSharded(boolean) sharded} and each event-loop owns a
+   * slice of the maximum pool size, a request uses a connection of another event-loop only when the slice of its
+   * event-loop is exhausted. A connection leased across event-loops forces a thread hop for every read and write, the
+   * pool metrics report the cross event-loop leases so the pool can be sized to keep their ratio close to zero.
+   *
+   * <p> The affinity is ignored when the pool uses its own event-loops, see {@link #setEventLoopSize(int)}.
+   *
+   * <p> The default value is {@code false}.
+   *
+   * @param eventLoopAffinity whether the pool has a strict event-loop affinity
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setEventLoopAffinity(boolean eventLoopAffinity) {
+    this.eventLoopAffinity = eventLoopAffinity;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded cache of the compressed variants of response bodies.
+ * <p>
+ * A variant is keyed by the content encoding and the identity of the uncompressed body: responses sending the same
+ * {@link Buffer} instance with the same encoding share the variant compressed by the first response, so the body is
+ * neither hashed nor compared. The body of a cached file is keyed by its {@link FileCache.Entry} instead, an entry is
+ * created per file and last modification time.
+ * <p>
+ * This class is thread safe, the cache is shared by the connections of a server. Lookups do not lock, they mark the
+ * variant as used. Insertions are serialized and evict the variants in insertion order, giving a second chance to the
+ * variants used since the last eviction pass (CLOCK).
+ */
+class CompressionCache {
+
+  private static final class Key {
+
+    private final String encoding;
+    private final Object body;
+    private final int hashCode;
+
+    private Key(String encoding, Object body) {
+      this.encoding = encoding;
+      this.body = body;
+      this.hashCode = 31 * encoding.hashCode() + System.identityHashCode(body);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Key) {
+        Key that = (Key) obj;
+        return body == that.body && encoding.equals(that.encoding);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private static final class Variant {
+
+    private final Key key;
+    private final Buffer buffer;
+    private final long weight;
+    private boolean used;
+
+    private Variant(Key key, Buffer buffer, long weight) {
+      this.key = key;
+      this.buffer = buffer;
+      this.weight = weight;
+    }
+  }
+
+  private final long maxSize;
+  private final ConcurrentMap<Key, Variant> variants = new ConcurrentHashMap<>();
+
+  // Guarded by this
+  private final ArrayDeque<Variant> clock = new ArrayDeque<>();
+  private long size;
+
+  CompressionCache(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return the number of bytes held by the cache
+   */
+  synchronized long size() {
+    return size;
+  }
+
+  /**
+   * @param body the body or the {@link FileCache.Entry} of the body
+   * @return the variant of {@code body} compressed with {@code encoding} or {@code null}
+   */
+  Buffer get(String encoding, Object body) {
+    Variant variant = variants.get(new Key(encoding, body));
+    if (variant == null) {
+      return null;
+    }
+    // Racy, a lost update only affects the eviction order
+    variant.used = true;
+    return variant.buffer;
+  }
+
+  /**
+   * Cache the {@code variant} of {@code body} compressed with {@code encoding}.
+   *
+   * @param body the body or the {@link FileCache.Entry} of the body
+   */
+  void put(String encoding, Object body, Buffer variant) {
+    // The content of a cached file is accounted by the file cache
+    long weight = (body instanceof Buffer ? ((Buffer) body).length() : 0L) + variant.length();
+    if (weight > maxSize) {
+      return;
+    }
+    Key key = new Key(encoding, body);
+    Variant entry = new Variant(key, variant, weight);
+    synchronized (this) {
+      if (variants.putIfAbsent(key, entry) != null) {
+        // Compressed concurrently
+        return;
+      }
+      clock.addLast(entry);
+      size += weight;
+      while (size > maxSize) {
+        Variant eldest = clock.pollFirst();
+        if (eldest.used && eldest != entry) {
+          eldest.used = false;
+          clock.addLast(eldest);
+        } else {
+          variants.remove(eldest.key);
+          size -= eldest.weight;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DateFormatter;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.MimeMapping;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of small files sent by {@link io.vertx.core.http.HttpServerResponse#sendFile}.
+ * <p>
+ * Files are keyed by the name given to {@code sendFile}, the content is held in direct memory along with the
+ * pre-computed response headers. A cached file is served without any file system access, after the check interval
+ * the last modification time and the size of the file are checked and the file is reloaded when it has changed.
+ * Files are resolved, checked and loaded on a worker thread, the least recently used files are evicted when the
+ * cache is full. The pre-compressed variants of a file are resolved along with the file.
+ * <p>
+ * A file that cannot be cached is described by an entry without content, so the response headers are the same
+ * whether the file is served from the cache or not.
+ * <p>
+ * This class is thread safe, the cache is shared by the connections of a server.
+ */
+public class FileCache {
+
+  private static final Logger log = LoggerFactory.getLogger(FileCache.class);
+
+  /**
+   * A file, cached or not.
+   */
+  public static final class Entry {
+
+    private final File file;
+    private final ByteBuf content;
+    private final long length;
+    private final long lastModified;
+    private final String contentType;
+    private final String etag;
+    private final String lastModifiedHeader;
+    private volatile int precompressedVariants;
+    private volatile long checkTime;
+    private volatile long accessTime;
+
+    private Entry(File file, ByteBuf content, long length, long lastModified, int precompressedVariants, long now) {
+      this.file = file;
+      this.precompressedVariants = precompressedVariants;
+      this.content = content;
+      this.length = length;
+      this.lastModified = lastModified;
+      this.contentType = MimeMapping.mimeTypeForFilename(file.getName());
+      this.etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+      this.lastModifiedHeader = DateFormatter.format(new Date(lastModified));
+      this.checkTime = now;
+      this.accessTime = now;
+    }
+
+    /**
+     * @return the file
+     */
+    public File file() {
+      return file;
+    }
+
+    /**
+     * @return the length of the file
+     */
+    public long length() {
+      return length;
+    }
+
+    /**
+     * @return the content type of the file or {@code null}
+     */
+    public String contentType() {
+      return contentType;
+    }
+
+    /**
+     * @return the entity tag of the file
+     */
+    public String etag() {
+      return etag;
+    }
+
+    /**
+     * @return the last modification date of the file formatted for the {@code last-modified} header
+     */
+    public String lastModified() {
+      return lastModifiedHeader;
+    }
+
+    /**
+     * @return the bit mask of the pre-compressed variants of the file, see {@link HttpUtils#precompressedVariants}
+     */
+    public int precompressedVariants() {
+      return precompressedVariants;
+    }
+
+    /**
+     * @return whether the content of the file is cached
+     */
+    public boolean isCached() {
+      return content != null;
+    }
+
+    /**
+     * @return a buffer of the {@code length} bytes of the cached file content starting at {@code offset}
+     */
+    public Buffer content(long offset, long length) {
+      return BufferInternal.buffer(content.slice((int) offset, (int) length));
+    }
+  }
+
+  private final VertxInternal vertx;
+  private final boolean precompressedFiles;
+  private final int maxFileSize;
+  private final long maxSize;
+  private final long checkIntervalNanos;
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private long size; // Guarded by this
+
+  public FileCache(VertxInternal vertx, HttpServerOptions options) {
+    this.vertx = vertx;
+    this.precompressedFiles = options.isPrecompressedFilesEnabled();
+    this.maxFileSize = options.getFileCacheMaxFileSize();
+    this.maxSize = options.getFileCacheMaxSize();
+    this.checkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(options.getFileCacheCheckInterval());
+  }
+
+  /**
+   * @return the number of bytes held by the cache
+   */
+  public synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Get the file for {@code filename}, the file is served from the cache when it has been checked within the check
+   * interval, otherwise it is checked and loaded on a worker thread.
+   *
+   * @param context the context of the response
+   * @param filename the file name given to {@code sendFile}
+   * @return a future of the file or of {@code null} when the file cannot be resolved
+   */
+  public Future<Entry> get(ContextInternal context, String filename) {
+    long now = System.nanoTime();
+    Entry entry = entries.get(filename);
+    if (entry != null && now - entry.checkTime < checkIntervalNanos) {
+      entry.accessTime = now;
+      return context.succeededFuture(entry);
+    }
+    return context.executeBlockingInternal(() -> load(filename));
+  }
+
+  /**
+   * Check or load the file, this is blocking.
+   */
+  private Entry load(String filename) {
+    long now = System.nanoTime();
+    Entry entry = entries.get(filename);
+    if (entry != null) {
+      if (now - entry.checkTime < checkIntervalNanos) {
+        // Checked concurrently
+        entry.accessTime = now;
+        return entry;
+      }
+      File file = entry.file;
+      if (file.lastModified() == entry.lastModified && file.length() == entry.length) {
+        // A variant can be added or removed without modifying the file
+        entry.precompressedVariants = precompressedVariants(filename);
+        entry.checkTime = now;
+        entry.accessTime = now;
+        return entry;
+      }
+      remove(filename, entry);
+    }
+    File file = vertx.resolveFile(filename);
+    long lastModified = file.lastModified();
+    long length = file.length();
+    if (!file.isFile()) {
+      return null;
+    }
+    int variants = precompressedVariants(filename);
+    if (length > maxFileSize || !reserve(length)) {
+      return new Entry(file, null, length, lastModified, variants, now);
+    }
+    try {
+      entry = new Entry(file, read(file, (int) length), length, lastModified, variants, now);
+    } catch (IOException e) {
+      release(length);
+      log.debug("Could not cache file " + file, e);
+      return new Entry(file, null, length, lastModified, variants, now);
+    }
+    Entry prev = entries.putIfAbsent(filename, entry);
+    if (prev != null) {
+      // Loaded concurrently
+      release(length);
+      return prev;
+    }
+    return entry;
+  }
+
+  private int precompressedVariants(String filename) {
+    return precompressedFiles ? HttpUtils.precompressedVariants(vertx, filename) : 0;
+  }
+
+  /**
+   * Reserve {@code length} bytes, evicting the least recently used files when needed.
+   *
+   * @return whether the bytes could be reserved
+   */
+  private synchronized boolean reserve(long length) {
+    if (length > maxSize) {
+      return false;
+    }
+    while (size + length > maxSize) {
+      Map.Entry<String, Entry> eldest = null;
+      for (Map.Entry<String, Entry> e : entries.entrySet()) {
+        if (eldest == null || e.getValue().accessTime - eldest.getValue().accessTime < 0) {
+          eldest = e;
+        }
+      }
+      if (eldest == null) {
+        // Only loading files are accounted
+        return false;
+      }
+      remove(eldest.getKey(), eldest.getValue());
+    }
+    size += length;
+    return true;
+  }
+
+  private synchronized void release(long length) {
+    size -= length;
+  }
+
+  private synchronized void remove(String filename, Entry entry) {
+    if (entries.remove(filename, entry)) {
+      size -= entry.length;
+    }
+  }
+
+  private static ByteBuf read(File file, int length) throws IOException {
+    // The direct buffer memory is reclaimed by the garbage collector once the entry is not used anymore
+    ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) == -1) {
+          throw new IOException("File " + file + " has been truncated");
+        }
+      }
+    }
+    buffer.flip();
+    return Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(buffer));
+  }
+}
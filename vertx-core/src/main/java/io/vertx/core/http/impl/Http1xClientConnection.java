@@ -96,6 +96,13 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
 
   private long lastResponseReceivedTimestamp;
 
+  // Adaptive pipe-lining
+  private final boolean adaptivePipelining;
+  private Handler<Long> concurrencyChangeHandler;
+  private volatile long pipeliningDepth;
+  private long responseTimeAvg;
+  private long responseTimeVar;
+
   Http1xClientConnection(HttpVersion version,
                          HttpClientBase client,
                          ChannelHandlerContext chctx,
@@ -116,6 +123,9 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     this.keepAliveTimeout = options.getKeepAliveTimeout();
     this.expirationTimestamp = expirationTimestampOf(keepAliveTimeout);
     this.pooled = pooled;
+    this.adaptivePipelining = options.isPipelining() && options.isAdaptivePipelining();
+    // An adaptive connection starts with a single request and grows its depth with timely responses
+    this.pipeliningDepth = options.isPipelining() && !adaptivePipelining ? options.getPipeliningLimit() : 1;
   }
 
   @Override
@@ -131,13 +141,14 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
 
   @Override
   public HttpClientConnectionInternal concurrencyChangeHandler(Handler<Long> handler) {
-    // Never changes
+    // Only changes with adaptive pipe-lining
+    concurrencyChangeHandler = handler;
     return this;
   }
 
   @Override
   public long concurrency() {
-    return options.isPipelining() ? options.getPipeliningLimit() : 1;
+    return pipeliningDepth;
   }
 
   @Override
@@ -238,10 +249,17 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     stream.bytesWritten += buf != null ? buf.readableBytes() : 0L;
     HttpRequest nettyRequest = createRequest(request.method, request.uri, request.headers, request.authority, chunked, buf, end);
     synchronized (this) {
+      if (adaptivePipelining && responses.isEmpty()) {
+        // The response is awaited from the head of the pipeline
+        stream.beginTime = System.nanoTime();
+      }
       responses.add(stream);
       this.isConnect = connect;
       if (this.metrics != null) {
         stream.metric = this.metrics.requestBegin(request.uri, request);
+        if (options.isPipelining()) {
+          metrics.pipelineDepth(this, responses.size(), pipeliningDepth);
+        }
       }
       VertxTracer tracer = stream.context.tracer();
       if (tracer != null) {
@@ -380,6 +398,7 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     private boolean responseEnded;
     private long bytesRead;
     private long bytesWritten;
+    private long beginTime;
     private boolean reset;
 
     Stream(ContextInternal context, Promise<HttpClientStream> promise, int id) {
@@ -871,6 +890,7 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
   private void handleResponseEnd(Stream stream, LastHttpContent trailer) {
     boolean check;
     HttpResponseHead response ;
+    long depth = -1L;
     synchronized (this) {
       response = stream.response;
       if (response == null) {
@@ -878,6 +898,15 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
         return;
       }
       responses.pop();
+      if (adaptivePipelining) {
+        long now = System.nanoTime();
+        depth = adaptPipeliningDepth(now - stream.beginTime);
+        // The next response is awaited from now on, the time it spent queued behind this response is not accounted
+        Stream next = responses.peek();
+        if (next != null) {
+          next.beginTime = now;
+        }
+      }
       HttpRequestHead request = stream.request;
       if ((request.method != HttpMethod.CONNECT && response.statusCode != 101)) {
         // See https://tools.ietf.org/html/rfc7230#section-6.3
@@ -911,8 +940,15 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     }
     if (metrics != null) {
       metrics.responseEnd(stream.metric, stream.bytesRead);
+      if (options.isPipelining()) {
+        metrics.pipelineDepth(this, responses.size(), pipeliningDepth);
+      }
     }
     flushBytesRead();
+    Handler<Long> handler = concurrencyChangeHandler;
+    if (depth > 0L && handler != null) {
+      handler.handle(depth);
+    }
     if (check) {
       checkLifecycle();
     }
@@ -925,6 +961,39 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     }
   }
 
+  /**
+   * Update the smoothed response time and its variation with the time of a response and adapt the pipe-lining depth:
+   * the depth is halved when the response lags (beyond twice the smoothed time and four times its variation) and
+   * otherwise grows by one request up to the pipe-lining limit.
+   *
+   * @param responseTime the time elapsed between the response reaching the head of the pipeline and its end in
+   *                     nanoseconds
+   * @return the new depth or {@code -1} when the depth is unchanged
+   */
+  private long adaptPipeliningDepth(long responseTime) {
+    long avg = responseTimeAvg;
+    long var = responseTimeVar;
+    long depth = pipeliningDepth;
+    long next;
+    if (avg == 0L) {
+      responseTimeAvg = responseTime;
+      responseTimeVar = responseTime / 2;
+      return -1L;
+    } else if (responseTime > avg + Math.max(avg, 4 * var)) {
+      next = Math.max(1L, depth / 2);
+    } else {
+      next = Math.min(options.getPipeliningLimit(), depth + 1);
+    }
+    // Same gains as the TCP round-trip time estimator
+    responseTimeVar = var + (Math.abs(responseTime - avg) - var) / 4;
+    responseTimeAvg = avg + (responseTime - avg) / 8;
+    if (next == depth) {
+      return -1L;
+    }
+    pipeliningDepth = next;
+    return next;
+  }
+
   public HttpClientMetrics metrics() {
     return client.metrics();
   }
@@ -1228,7 +1297,8 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
       Object result;
       synchronized (this) {
         if (!closed) {
-          if (requests.size() < concurrency()) {
+          // The pool enforces the adaptive depth, a lease acquired before the depth shrinks remains valid
+          if (requests.size() < (options.isPipelining() ? options.getPipeliningLimit() : 1)) {
             StreamImpl stream = new StreamImpl(context, this, promise, seq++);
             requests.add(stream);
             if (requests.size() > 1) {
@@ -75,6 +75,8 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
   private final String serverOrigin;
   private final Supplier<ContextInternal> streamContextSupplier;
   private final TracingPolicy tracingPolicy;
+  private final FileCache fileCache;
+  private final ResponseCompressor responseCompressor;
 
   private Http1xServerRequest requestInProgress;
   private Http1xServerRequest responseInProgress;
@@ -82,6 +84,7 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
   private Handler<HttpServerRequest> requestHandler;
   private Handler<HttpServerRequest> invalidRequestHandler;
 
+  @SuppressWarnings("rawtypes")
   final HttpServerMetrics metrics;
   final boolean handle100ContinueAutomatically;
   final HttpServerOptions options;
@@ -93,13 +96,27 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
                                 ChannelHandlerContext chctx,
                                 ContextInternal context,
                                 String serverOrigin,
-                                HttpServerMetrics metrics) {
+                                HttpServerMetrics<?, ?, ?> metrics) {
+    this(streamContextSupplier, sslContextManager, options, chctx, context, serverOrigin, metrics, null, null);
+  }
+
+  Http1xServerConnection(Supplier<ContextInternal> streamContextSupplier,
+                         SslContextManager sslContextManager,
+                         HttpServerOptions options,
+                         ChannelHandlerContext chctx,
+                         ContextInternal context,
+                         String serverOrigin,
+                         HttpServerMetrics<?, ?, ?> metrics,
+                         FileCache fileCache,
+                         ResponseCompressor responseCompressor) {
     super(context, chctx);
     this.serverOrigin = serverOrigin;
     this.streamContextSupplier = streamContextSupplier;
     this.options = options;
     this.sslContextManager = sslContextManager;
     this.metrics = metrics;
+    this.fileCache = fileCache;
+    this.responseCompressor = responseCompressor;
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
     this.tracingPolicy = options.getTracingPolicy();
     this.wantClose = false;
@@ -118,6 +135,14 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
     return tracingPolicy;
   }
 
+  FileCache fileCache() {
+    return fileCache;
+  }
+
+  ResponseCompressor responseCompressor() {
+    return responseCompressor;
+  }
+
   @Override
   public HttpServerConnection handler(Handler<HttpServerRequest> handler) {
     requestHandler = handler;
@@ -131,7 +156,7 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
   }
 
   @Override
-  public HttpServerMetrics metrics() {
+  public HttpServerMetrics<?, ?, ?> metrics() {
     return metrics;
   }
 
@@ -69,12 +69,14 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
 
   private boolean headWritten;
   private boolean written;
+  private boolean compressionCacheable;
   private Handler<Void> drainHandler;
   private Handler<Throwable> exceptionHandler;
   private Handler<Void> closeHandler;
   private Handler<Void> endHandler;
   private Handler<Void> headersEndHandler;
   private Handler<Void> bodyEndHandler;
+  private Handler<Void> completionHandler;
   private boolean closed;
   private final HeadersMultiMap headers;
   private CookieJar cookies;
@@ -163,6 +165,15 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     }
   }
 
+  @Override
+  public Http1xServerResponse setCompressionCacheable(boolean cacheable) {
+    synchronized (conn) {
+      checkHeadWritten();
+      compressionCacheable = cacheable;
+      return this;
+    }
+  }
+
   @Override
   public boolean isChunked() {
     synchronized (conn) {
@@ -361,40 +372,81 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
   @Override
   public Future<Void> end(Buffer chunk) {
     PromiseInternal<Void> promise = context.promise();
-    end(chunk, promise);
+    end(chunk, null, promise);
     return promise.future();
   }
 
-  private void end(Buffer chunk, PromiseInternal<Void> listener) {
+  /**
+   * @param compressionKey the key of the compressed body in the compression cache, when {@code null} the body is the
+   *                       key if the response is compression cacheable
+   */
+  private void end(Buffer chunk, Object compressionKey, PromiseInternal<Void> listener) {
     synchronized (conn) {
       if (written) {
         throw new IllegalStateException(RESPONSE_WRITTEN);
       }
       written = true;
-      ByteBuf data = ((BufferInternal)chunk).getByteBuf();
-      bytesWritten += data.readableBytes();
-      HttpObject msg;
-      if (!headWritten) {
-        // if the head was not written yet we can write out everything in one go
-        // which is cheaper.
-        prepareHeaders(bytesWritten);
-        msg = new AssembledFullHttpResponse(head, version, status, headers, data, trailingHeaders);
-      } else {
-        msg = new AssembledLastHttpContent(data, trailingHeaders);
-      }
-      conn.write(msg, listener);
-      if (bodyEndHandler != null) {
-        bodyEndHandler.handle(null);
-      }
-      if (!closed && endHandler != null) {
-        endHandler.handle(null);
-      }
-      if (!keepAlive) {
-        closed = true; // ?????
+      String encoding = headWritten ? null : compressionEncoding();
+      if (encoding != null) {
+        if (compressionKey == null && compressionCacheable) {
+          compressionKey = chunk;
+        }
+        Future<Buffer> fut = conn.responseCompressor().compress(context, encoding, chunk, compressionKey, conn.metrics, requestMetric);
+        if (fut != null) {
+          fut.onComplete(ar -> {
+            synchronized (conn) {
+              if (ar.succeeded() && ar.result() != null) {
+                // The compressor of the pipeline does not compress a response with a content encoding
+                headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+                end0(ar.result(), listener);
+              } else {
+                end0(chunk, listener);
+              }
+            }
+          });
+          return;
+        }
       }
+      end0(chunk, listener);
+    }
+  }
+
+  private void end0(Buffer chunk, PromiseInternal<Void> listener) {
+    ByteBuf data = ((BufferInternal)chunk).getByteBuf();
+    bytesWritten += data.readableBytes();
+    HttpObject msg;
+    if (!headWritten) {
+      // if the head was not written yet we can write out everything in one go
+      // which is cheaper.
+      prepareHeaders(bytesWritten);
+      msg = new AssembledFullHttpResponse(head, version, status, headers, data, trailingHeaders);
+    } else {
+      msg = new AssembledLastHttpContent(data, trailingHeaders);
+    }
+    conn.write(msg, listener);
+    if (bodyEndHandler != null) {
+      bodyEndHandler.handle(null);
+    }
+    if (!closed && endHandler != null) {
+      endHandler.handle(null);
+    }
+    handleCompletion();
+    if (!keepAlive) {
+      closed = true; // ?????
     }
   }
 
+  /**
+   * @return the encoding the server shall compress the body with or {@code null} when it is left to the pipeline
+   */
+  private String compressionEncoding() {
+    ResponseCompressor compressor = conn.responseCompressor();
+    if (compressor == null || head || status == HttpResponseStatus.NOT_MODIFIED || headers.contains(HttpHeaders.CONTENT_ENCODING) || headers.contains(HttpHeaders.CONTENT_LENGTH)) {
+      return null;
+    }
+    return compressor.determineEncoding(request.headers().get(HttpHeaders.ACCEPT_ENCODING));
+  }
+
   void completeHandshake() {
     if (conn.metrics != null) {
       conn.metrics.responseBegin(requestMetric, this);
@@ -421,76 +473,171 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     if (length < 0) {
       return context.failedFuture("length : " + length + " (expected: >= 0)");
     }
+    FileCache fileCache = conn.fileCache();
+    String acceptEncoding;
+    synchronized (conn) {
+      checkValid();
+      if (headWritten) {
+        throw new IllegalStateException("Head already written");
+      }
+      acceptEncoding = precompressible(offset, length) ? request.headers().get(HttpHeaders.ACCEPT_ENCODING) : null;
+      if (fileCache == null && acceptEncoding == null) {
+        return sendFile(ctx, filename, null, offset, length);
+      }
+    }
+    // The file system is accessed on a worker thread
+    Future<String> path = acceptEncoding != null ? precompressedFile(ctx, filename, acceptEncoding) : ctx.succeededFuture(filename);
+    if (fileCache == null) {
+      return path.compose(p -> sendFile(ctx, p, null, offset, length));
+    }
+    return path.compose(p -> fileCache.get(ctx, p).compose(entry -> {
+      if (entry != null && entry.isCached()) {
+        return sendFile(ctx, entry, offset, length);
+      }
+      return sendFile(ctx, p, entry, offset, length);
+    }));
+  }
+
+  /**
+   * Send the file from the file system, the {@code entry} provides the validators of the file when the file cache is
+   * enabled.
+   */
+  private Future<Void> sendFile(ContextInternal ctx, String filename, FileCache.Entry entry, long offset, long length) {
     synchronized (conn) {
       checkValid();
       if (headWritten) {
         throw new IllegalStateException("Head already written");
       }
-      File file = vertx.resolveFile(filename);
-      RandomAccessFile raf;
+      return sendFile0(ctx, filename, entry, offset, length);
+    }
+  }
+
+  private Future<Void> sendFile0(ContextInternal ctx, String filename, FileCache.Entry entry, long offset, long length) {
+    File file = entry != null ? entry.file() : vertx.resolveFile(filename);
+    RandomAccessFile raf;
+    try {
+      raf = new RandomAccessFile(file, "r");
+    } catch (Exception e) {
+      return ctx.failedFuture(e);
+    }
+    long actualLength = Math.min(length, file.length() - offset);
+    long actualOffset = Math.min(offset, file.length());
+
+    // fail early before status code/headers are written to the response
+    if (actualLength < 0) {
       try {
-        raf = new RandomAccessFile(file, "r");
-      } catch (Exception e) {
-        return ctx.failedFuture(e);
-      }
-      long actualLength = Math.min(length, file.length() - offset);
-      long actualOffset = Math.min(offset, file.length());
-
-      // fail early before status code/headers are written to the response
-      if (actualLength < 0) {
-        try {
-          raf.close();
-        } catch (IOException ignore) {
-        }
-        return ctx.failedFuture("offset : " + offset + " is larger than the requested file length : " + file.length());
+        raf.close();
+      } catch (IOException ignore) {
       }
+      return ctx.failedFuture("offset : " + offset + " is larger than the requested file length : " + file.length());
+    }
 
-      if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
-        String contentType = MimeMapping.mimeTypeForFilename(filename);
-        if (contentType != null) {
-          headers.set(HttpHeaders.CONTENT_TYPE, contentType);
-        }
+    if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+      String contentType = MimeMapping.mimeTypeForFilename(filename);
+      if (contentType != null) {
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
       }
-      prepareHeaders(actualLength);
-      bytesWritten = actualLength;
-      written = true;
+    }
+    if (entry != null) {
+      if (!headers.contains(HttpHeaders.ETAG)) {
+        headers.set(HttpHeaders.ETAG, entry.etag());
+      }
+      if (!headers.contains(HttpHeaders.LAST_MODIFIED)) {
+        headers.set(HttpHeaders.LAST_MODIFIED, entry.lastModified());
+      }
+    }
+    prepareHeaders(actualLength);
+    bytesWritten = actualLength;
+    written = true;
 
-      conn.write(new AssembledHttpResponse(head, version, status, headers), null);
+    conn.write(new AssembledHttpResponse(head, version, status, headers), null);
 
-      ChannelFuture channelFut = conn.sendFile(raf, actualOffset, actualLength);
-      channelFut.addListener(future -> {
+    ChannelFuture channelFut = conn.sendFile(raf, actualOffset, actualLength);
+    channelFut.addListener(future -> {
 
-        // write an empty last content to let the http encoder know the response is complete
-        if (future.isSuccess()) {
-          conn.write(LastHttpContent.EMPTY_LAST_CONTENT, null);
-        }
+      // write an empty last content to let the http encoder know the response is complete
+      if (future.isSuccess()) {
+        conn.write(LastHttpContent.EMPTY_LAST_CONTENT, null);
+      }
 
-        // signal body end handler
-        Handler<Void> handler;
-        synchronized (conn) {
-          handler = bodyEndHandler;
-        }
-        if (handler != null) {
-          context.emit(handler);
-        }
+      // signal body end handler
+      Handler<Void> handler;
+      synchronized (conn) {
+        handler = bodyEndHandler;
+      }
+      if (handler != null) {
+        context.emit(handler);
+      }
 
-        // allow to write next response
-        // conn.responseComplete();
+      // allow to write next response
+      // conn.responseComplete();
 
-        // signal end handler
-        Handler<Void> end;
-        synchronized (conn) {
-          end = !closed ? endHandler : null;
-        }
-        if (null != end) {
-          context.emit(end);
+      // signal end handler
+      Handler<Void> end;
+      synchronized (conn) {
+        end = !closed ? endHandler : null;
+      }
+      if (null != end) {
+        context.emit(end);
+      }
+      handleCompletion();
+    });
+
+    PromiseInternal<Void> promise = ctx.promise();
+    channelFut.addListener(promise);
+    return promise.future();
+  }
+
+  /**
+   * @return whether a pre-compressed variant of the file can be sent
+   */
+  private boolean precompressible(long offset, long length) {
+    return conn.options.isPrecompressedFilesEnabled() && offset == 0 && length == Long.MAX_VALUE && !headers.contains(HttpHeaders.CONTENT_ENCODING);
+  }
+
+  /**
+   * @return the pre-compressed variant of {@code filename} to send when it exists, otherwise {@code filename}
+   */
+  private Future<String> precompressedFile(ContextInternal ctx, String filename, String acceptEncoding) {
+    return HttpUtils.precompressedVariants(ctx, conn.fileCache(), filename).map(variants -> {
+      String encoding = HttpUtils.precompressedEncoding(variants, acceptEncoding);
+      if (encoding == null) {
+        return filename;
+      }
+      synchronized (conn) {
+        if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+          String contentType = MimeMapping.mimeTypeForFilename(filename);
+          if (contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+          }
         }
-      });
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      }
+      return HttpUtils.precompressedFileName(filename, encoding);
+    });
+  }
 
-      PromiseInternal<Void> promise = ctx.promise();
-      channelFut.addListener(promise);
-      return promise.future();
+  private Future<Void> sendFile(ContextInternal ctx, FileCache.Entry cached, long offset, long length) {
+    long actualLength = Math.min(length, cached.length() - offset);
+    if (actualLength < 0) {
+      return ctx.failedFuture("offset : " + offset + " is larger than the requested file length : " + cached.length());
+    }
+    if (!headers.contains(HttpHeaders.CONTENT_TYPE) && cached.contentType() != null) {
+      headers.set(HttpHeaders.CONTENT_TYPE, cached.contentType());
     }
+    if (!headers.contains(HttpHeaders.ETAG)) {
+      headers.set(HttpHeaders.ETAG, cached.etag());
+    }
+    if (!headers.contains(HttpHeaders.LAST_MODIFIED)) {
+      headers.set(HttpHeaders.LAST_MODIFIED, cached.lastModified());
+    }
+    Buffer body = cached.content(offset, actualLength);
+    // The compressed variant of the whole file is cached per file entry
+    Object compressionKey = actualLength == cached.length() ? cached : null;
+    PromiseInternal<Void> promise = ctx.promise();
+    end(body, compressionKey, promise);
+    return promise.future();
   }
 
   @Override
@@ -584,6 +731,32 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     if (closedHandler != null) {
       context.dispatch(null, closedHandler);
     }
+    handleCompletion();
+  }
+
+  /**
+   * Set a handler called once when the response has been written or closed, unlike the end handler it is reserved to
+   * the server and is called from the thread completing the response.
+   */
+  void completionHandler(Handler<Void> handler) {
+    synchronized (conn) {
+      completionHandler = handler;
+      if (!written && !closed) {
+        return;
+      }
+    }
+    handleCompletion();
+  }
+
+  private void handleCompletion() {
+    Handler<Void> handler;
+    synchronized (conn) {
+      handler = completionHandler;
+      completionHandler = null;
+    }
+    if (handler != null) {
+      handler.handle(null);
+    }
   }
 
   private void checkValid() {
@@ -682,6 +855,7 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
         Promise<NetSocket> promise = context.promise();
         netSocket = promise.future();
         conn.netSocket(promise);
+        handleCompletion();
       }
     }
     return netSocket;
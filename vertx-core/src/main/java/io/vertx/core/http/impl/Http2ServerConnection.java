@@ -41,6 +41,8 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
   private final HttpServerMetrics metrics;
   private final Function<String, String> encodingDetector;
   private final Supplier<ContextInternal> streamContextSupplier;
+  private final FileCache fileCache;
+  private final ResponseCompressor responseCompressor;
 
   Handler<HttpServerRequest> requestHandler;
   private int concurrentStreams;
@@ -54,10 +56,14 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
     VertxHttp2ConnectionHandler connHandler,
     Function<String, String> encodingDetector,
     HttpServerOptions options,
-    HttpServerMetrics metrics) {
+    HttpServerMetrics metrics,
+    FileCache fileCache,
+    ResponseCompressor responseCompressor) {
     super(context, connHandler);
 
     this.options = options;
+    this.fileCache = fileCache;
+    this.responseCompressor = responseCompressor;
     this.serverOrigin = serverOrigin;
     this.encodingDetector = encodingDetector;
     this.streamContextSupplier = streamContextSupplier;
@@ -79,6 +85,14 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
     return metrics;
   }
 
+  FileCache fileCache() {
+    return fileCache;
+  }
+
+  ResponseCompressor responseCompressor() {
+    return responseCompressor;
+  }
+
   private static boolean isMalformedRequest(Http2ServerStream request) {
     if (request.method == null) {
       return true;
@@ -53,6 +53,8 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
   private Http2Headers trailers;
   private Http2HeadersAdaptor trailedMap;
   private boolean chunked;
+  private boolean compressionCacheable;
+  private boolean compressing;
   private boolean headWritten;
   private boolean ended;
   private boolean closed;
@@ -63,6 +65,7 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
   private Handler<Throwable> exceptionHandler;
   private Handler<Void> headersEndHandler;
   private Handler<Void> bodyEndHandler;
+  private Handler<Void> completionHandler;
   private Handler<Void> closeHandler;
   private Handler<Void> endHandler;
   private Future<NetSocket> netSocket;
@@ -113,6 +116,32 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     if (closeHandler != null) {
       stream.context.emit(null, closeHandler);
     }
+    handleCompletion();
+  }
+
+  /**
+   * Set a handler called once when the response has ended or the stream has been closed, unlike the end handler it is
+   * reserved to the server and is called from the thread completing the response.
+   */
+  void completionHandler(Handler<Void> handler) {
+    synchronized (conn) {
+      completionHandler = handler;
+      if (!ended && !closed) {
+        return;
+      }
+    }
+    handleCompletion();
+  }
+
+  private void handleCompletion() {
+    Handler<Void> handler;
+    synchronized (conn) {
+      handler = completionHandler;
+      completionHandler = null;
+    }
+    if (handler != null) {
+      handler.handle(null);
+    }
   }
 
   private void checkHeadWritten() {
@@ -184,6 +213,15 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     }
   }
 
+  @Override
+  public HttpServerResponse setCompressionCacheable(boolean cacheable) {
+    synchronized (conn) {
+      checkHeadWritten();
+      this.compressionCacheable = cacheable;
+      return this;
+    }
+  }
+
   @Override
   public boolean isChunked() {
     synchronized (conn) {
@@ -358,7 +396,40 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
 
   @Override
   public Future<Void> end(Buffer chunk) {
-    return write(((BufferInternal)chunk).getByteBuf(), true);
+    return end(chunk, null);
+  }
+
+  /**
+   * @param compressionKey the key of the compressed body in the compression cache, when {@code null} the body is the
+   *                       key if the response is compression cacheable
+   */
+  private Future<Void> end(Buffer chunk, Object compressionKey) {
+    String encoding;
+    Future<Buffer> fut;
+    synchronized (conn) {
+      checkValid();
+      encoding = headWritten ? null : compressionEncoding();
+      if (compressionKey == null && compressionCacheable) {
+        compressionKey = chunk;
+      }
+      fut = encoding != null ? conn.responseCompressor().compress(stream.context, encoding, chunk, compressionKey, conn.metrics(), stream.metric()) : null;
+      compressing = fut != null;
+    }
+    if (fut == null) {
+      return write(((BufferInternal)chunk).getByteBuf(), true);
+    }
+    return fut.transform(ar -> {
+      Buffer body = chunk;
+      synchronized (conn) {
+        compressing = false;
+        if (ar.succeeded() && ar.result() != null) {
+          // The compressor encoder does not compress a stream with a content encoding
+          headers.set(HttpHeaderNames.CONTENT_ENCODING, encoding);
+          body = ar.result();
+        }
+      }
+      return write(((BufferInternal)body).getByteBuf(), true);
+    });
   }
 
   @Override
@@ -386,7 +457,7 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     Handler<Void> bodyEndHandler;
     Handler<Void> endHandler;
     synchronized (conn) {
-      if (ended) {
+      if (ended || compressing) {
         throw new IllegalStateException("Response has already been written");
       }
       ended = end;
@@ -420,10 +491,22 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
       if (endHandler != null) {
         endHandler.handle(null);
       }
+      handleCompletion();
     }
     return fut;
   }
 
+  /**
+   * @return the encoding the server shall compress the body with or {@code null} when it is left to the encoder
+   */
+  private String compressionEncoding() {
+    ResponseCompressor compressor = conn.responseCompressor();
+    if (compressor == null || stream.method == HttpMethod.HEAD || status == HttpResponseStatus.NOT_MODIFIED || headers.contains(HttpHeaderNames.CONTENT_ENCODING) || headers.contains(HttpHeaderNames.CONTENT_LENGTH)) {
+      return null;
+    }
+    return compressor.determineEncoding(stream.headers.get(HttpHeaderNames.ACCEPT_ENCODING));
+  }
+
   private boolean needsContentLengthHeader() {
     return stream.method != HttpMethod.HEAD && status != HttpResponseStatus.NOT_MODIFIED && !headers.contains(HttpHeaderNames.CONTENT_LENGTH);
   }
@@ -483,7 +566,7 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
   }
 
   private void checkValid() {
-    if (ended) {
+    if (ended || compressing) {
       throw new IllegalStateException("Response has already been written");
     }
   }
@@ -535,11 +618,43 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     if (length < 0) {
       return stream.context.failedFuture("length : " + length + " (expected: >= 0)");
     }
+    CharSequence acceptEncoding;
     synchronized (conn) {
       checkValid();
+      acceptEncoding = precompressible(offset, length) ? stream.headers.get(HttpHeaderNames.ACCEPT_ENCODING) : null;
+    }
+    FileCache fileCache = conn.fileCache();
+    if (fileCache == null && acceptEncoding == null) {
+      return sendFile(filename, filename, null, offset, length);
+    }
+    // The file system is accessed on a worker thread
+    Future<String> path = acceptEncoding != null ? precompressedFile(filename, acceptEncoding.toString()) : stream.context.succeededFuture(filename);
+    if (fileCache == null) {
+      return path.compose(p -> sendFile(filename, p, null, offset, length));
+    }
+    return path.compose(p -> fileCache.get(stream.context, p).compose(entry -> {
+      if (entry != null && entry.isCached()) {
+        return sendFile(entry, offset, length);
+      }
+      return sendFile(filename, p, entry, offset, length);
+    }));
+  }
+
+  /**
+   * Send the file from the file system, the {@code entry} provides the validators of the file when the file cache is
+   * enabled.
+   */
+  private Future<Void> sendFile(String filename, String path, FileCache.Entry entry, long offset, long length) {
+    if (entry != null) {
+      if (headers.get(HttpHeaderNames.ETAG) == null) {
+        putHeader(HttpHeaderNames.ETAG, entry.etag());
+      }
+      if (headers.get(HttpHeaderNames.LAST_MODIFIED) == null) {
+        putHeader(HttpHeaderNames.LAST_MODIFIED, entry.lastModified());
+      }
     }
     return HttpUtils
-      .resolveFile(stream.context, filename, offset, length)
+      .resolveFile(stream.context, path, offset, length)
       .compose(file -> {
         long fileLength = file.getReadLength();
         long contentLength = Math.min(length, fileLength);
@@ -560,6 +675,55 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     });
   }
 
+  /**
+   * @return whether a pre-compressed variant of the file can be sent
+   */
+  private boolean precompressible(long offset, long length) {
+    return conn.options.isPrecompressedFilesEnabled() && offset == 0 && length == Long.MAX_VALUE && headers.get(HttpHeaderNames.CONTENT_ENCODING) == null;
+  }
+
+  /**
+   * @return the pre-compressed variant of {@code filename} to send when it exists, otherwise {@code filename}
+   */
+  private Future<String> precompressedFile(String filename, String acceptEncoding) {
+    return HttpUtils.precompressedVariants(stream.context, conn.fileCache(), filename).map(variants -> {
+      String encoding = HttpUtils.precompressedEncoding(variants, acceptEncoding);
+      if (encoding == null) {
+        return filename;
+      }
+      synchronized (conn) {
+        if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
+          String contentType = MimeMapping.mimeTypeForFilename(filename);
+          if (contentType != null) {
+            putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+          }
+        }
+        putHeader(HttpHeaderNames.CONTENT_ENCODING, encoding);
+        headers.add(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+      }
+      return HttpUtils.precompressedFileName(filename, encoding);
+    });
+  }
+
+  private Future<Void> sendFile(FileCache.Entry cached, long offset, long length) {
+    long contentLength = Math.min(length, cached.length() - offset);
+    if (contentLength < 0) {
+      return stream.context.failedFuture("offset : " + offset + " is larger than the requested file length : " + cached.length());
+    }
+    if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null && cached.contentType() != null) {
+      putHeader(HttpHeaderNames.CONTENT_TYPE, cached.contentType());
+    }
+    if (headers.get(HttpHeaderNames.ETAG) == null) {
+      putHeader(HttpHeaderNames.ETAG, cached.etag());
+    }
+    if (headers.get(HttpHeaderNames.LAST_MODIFIED) == null) {
+      putHeader(HttpHeaderNames.LAST_MODIFIED, cached.lastModified());
+    }
+    Buffer body = cached.content(offset, contentLength);
+    // The compressed variant of the whole file is cached per file entry
+    return end(body, contentLength == cached.length() ? cached : null);
+  }
+
   @Override
   public boolean ended() {
     synchronized (conn) {
@@ -11,6 +11,7 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
@@ -64,7 +65,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     this.endpointResolver = (EndpointResolverImpl) endpointResolver;
     this.poolOptions = poolOptions;
     httpCM = new ResourceManager<>();
-    if (poolOptions.getCleanerPeriod() > 0 && (options.getKeepAliveTimeout() > 0L || options.getHttp2KeepAliveTimeout() > 0L)) {
+    if (poolOptions.getCleanerPeriod() > 0 && (options.getKeepAliveTimeout() > 0L || options.getHttp2KeepAliveTimeout() > 0L || poolOptions.getMinIdle() > 0)) {
       PoolChecker checker = new PoolChecker(this);
       ContextInternal timerContext = vertx.createEventLoopContext();
       timerID = timerContext.setTimer(poolOptions.getCleanerPeriod(), checker);
@@ -85,6 +86,17 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     }
   }
 
+  /**
+   * @return the number of event-loops a pool with a strict event-loop affinity is sliced into
+   */
+  private int eventLoopSlices() {
+    int slices = 0;
+    for (EventExecutor ignore : vertx.nettyEventLoopGroup()) {
+      slices++;
+    }
+    return slices;
+  }
+
   Function<ContextInternal, ContextInternal> contextProvider() {
     return contextProvider;
   }
@@ -124,6 +136,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
   private Function<EndpointKey, SharedHttpClientConnectionGroup> httpEndpointProvider() {
     return (key) -> {
       int maxPoolSize = Math.max(poolOptions.getHttp1MaxSize(), poolOptions.getHttp2MaxSize());
+      // The connections are bound to the event-loop of the requester only when the pool does not use its own event-loops
+      boolean eventLoopAffinity = poolOptions.isEventLoopAffinity() && poolOptions.getEventLoopSize() == 0;
       ClientMetrics clientMetrics = HttpClientImpl.this.metrics != null ? HttpClientImpl.this.metrics.createEndpointMetrics(key.server, maxPoolSize) : null;
       PoolMetrics poolMetrics = HttpClientImpl.this.metrics != null ? vertx.metricsSPI().createPoolMetrics("http", key.server.toString(), maxPoolSize) : null;
       ProxyOptions proxyOptions = key.proxyOptions;
@@ -141,6 +155,9 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         poolOptions.getMaxWaitQueueSize(),
         poolOptions.getHttp1MaxSize(),
         poolOptions.getHttp2MaxSize(),
+        poolOptions.isSharded() || eventLoopAffinity,
+        eventLoopAffinity ? eventLoopSlices() : 0,
+        poolOptions.getMinIdle(),
         connector);
     };
   }
@@ -239,6 +256,45 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     return (Future) connector.httpConnect(vertx.getOrCreateContext()).map(conn -> new UnpooledHttpClientConnection(conn).init());
   }
 
+  @Override
+  public Future<Void> warmup(HttpConnectOptions connect) {
+    if (endpointResolver != null) {
+      return vertx.getOrCreateContext().failedFuture("Cannot warm up a client using an endpoint resolver");
+    }
+    Address addr = connect.getServer();
+    Integer port = connect.getPort();
+    String host = connect.getHost();
+    SocketAddress server;
+    if (addr == null) {
+      if (port == null) {
+        port = options.getDefaultPort();
+      }
+      if (host == null) {
+        host = options.getDefaultHost();
+      }
+      server = SocketAddress.inetSocketAddress(port, host);
+    } else if (addr instanceof SocketAddress) {
+      server = (SocketAddress) addr;
+      if (port == null) {
+        port = server.port();
+      }
+      if (host == null) {
+        host = server.host();
+      }
+    } else {
+      return vertx.getOrCreateContext().failedFuture("Cannot resolve address " + addr);
+    }
+    Boolean ssl = connect.isSsl();
+    boolean useSSL = ssl != null ? ssl : this.options.isSsl();
+    if (!options.isUseAlpn() && useSSL && this.options.getProtocolVersion() == HttpVersion.HTTP_2) {
+      return vertx.getOrCreateContext().failedFuture("Must enable ALPN when using H2");
+    }
+    checkClosed();
+    ProxyOptions proxyOptions = computeProxyOptions(connect.getProxyOptions(), server);
+    EndpointKey key = new EndpointKey(useSSL, sslOptions(connect), proxyOptions, server, HostAndPort.create(host, port));
+    return httpCM.withResourceAsync(key, httpEndpointProvider(), (endpoint, created) -> endpoint.warmup());
+  }
+
   @Override
   public Future<HttpClientRequest> request(RequestOptions request) {
     Address addr = request.getServer();
@@ -340,6 +396,9 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         ProxyOptions proxyOptions = computeProxyOptions(proxyConfig, address);
         EndpointKey key = new EndpointKey(useSSL, sslOptions, proxyOptions, address, authority != null ? authority : HostAndPort.create(address.host(), address.port()));
         return httpCM.withResourceAsync(key, httpEndpointProvider(), (endpoint, created) -> {
+          if (created) {
+            endpoint.ensureMinIdle();
+          }
           Future<Lease<HttpClientConnectionInternal>> fut2 = endpoint.requestConnection(streamCtx, connectTimeout);
           if (fut2 == null) {
             return null;
@@ -364,6 +423,9 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
       ProxyOptions proxyOptions = computeProxyOptions(proxyConfig, (SocketAddress) server);
       EndpointKey key = new EndpointKey(useSSL, sslOptions, proxyOptions, (SocketAddress) server, authority);
       future = httpCM.withResourceAsync(key, httpEndpointProvider(), (endpoint, created) -> {
+        if (created) {
+          endpoint.ensureMinIdle();
+        }
         Future<Lease<HttpClientConnectionInternal>> fut = endpoint.requestConnection(streamCtx, connectTimeout);
         if (fut == null) {
           return null;
@@ -19,9 +19,11 @@ import io.vertx.core.http.*;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.NoStackTraceTimeoutException;
 import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.concurrent.Deadline;
 import io.vertx.core.net.HostAndPort;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -38,7 +40,7 @@ public abstract class HttpClientRequestBase implements HttpClientRequest {
   private String query;
   private final PromiseInternal<HttpClientResponse> responsePromise;
   private Handler<HttpClientRequest> pushHandler;
-  private long currentTimeoutTimerId = -1;
+  private Deadline currentTimeout;
   private long currentTimeoutMs;
   private long lastDataReceived;
   private Throwable reset;
@@ -141,8 +143,11 @@ public abstract class HttpClientRequestBase implements HttpClientRequest {
   @Override
   public synchronized HttpClientRequest idleTimeout(long timeout) {
     cancelTimeout();
+    if (currentTimeout == null) {
+      currentTimeout = context.deadline(v -> handleTimeout());
+    }
+    currentTimeout.schedule(timeout, TimeUnit.MILLISECONDS);
     currentTimeoutMs = timeout;
-    currentTimeoutTimerId = context.setTimer(timeout, id -> handleTimeout(timeout));
     return this;
   }
 
@@ -184,20 +189,23 @@ public abstract class HttpClientRequestBase implements HttpClientRequest {
   abstract void handleResponse(Promise<HttpClientResponse> promise, HttpClientResponse resp, long timeoutMs);
 
   private synchronized long cancelTimeout() {
-    long ret;
-    if ((ret = currentTimeoutTimerId) != -1) {
-      context.owner().cancelTimer(currentTimeoutTimerId);
-      currentTimeoutTimerId = -1;
+    long ret = -1;
+    if (currentTimeoutMs > 0) {
+      currentTimeout.cancel();
       ret = currentTimeoutMs;
       currentTimeoutMs = 0;
     }
     return ret;
   }
 
-  private void handleTimeout(long timeoutMs) {
+  private void handleTimeout() {
     NoStackTraceTimeoutException cause;
     synchronized (this) {
-      currentTimeoutTimerId = -1;
+      long timeoutMs = currentTimeoutMs;
+      if (timeoutMs == 0 || currentTimeout.isScheduled()) {
+        // Cancelled, or rescheduled after it expired and before this handler was called
+        return;
+      }
       currentTimeoutMs = 0;
       if (lastDataReceived > 0) {
         long now = System.currentTimeMillis();
@@ -219,7 +227,7 @@ public abstract class HttpClientRequestBase implements HttpClientRequest {
   }
 
   synchronized void dataReceived() {
-    if (currentTimeoutTimerId != -1) {
+    if (currentTimeoutMs > 0) {
       lastDataReceived = System.currentTimeMillis();
     }
   }
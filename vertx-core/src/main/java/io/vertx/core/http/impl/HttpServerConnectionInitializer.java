@@ -64,16 +64,7 @@ class HttpServerConnectionInitializer {
                                   Handler<Throwable> exceptionHandler,
                                   Object metric) {
 
-    CompressionOptions[] compressionOptions = null;
-    if (options.isCompressionSupported()) {
-      List<CompressionOptions> compressors = options.getCompressors();
-      if (compressors == null) {
-        int compressionLevel = options.getCompressionLevel();
-        compressionOptions = new CompressionOptions[] { StandardCompressionOptions.gzip(compressionLevel, 15, 8), StandardCompressionOptions.deflate(compressionLevel, 15, 8) };
-      } else {
-        compressionOptions = compressors.toArray(new CompressionOptions[0]);
-      }
-    }
+    CompressionOptions[] compressionOptions = compressionOptions(options);
 
     this.context = context;
     this.streamContextSupplier = streamContextSupplier;
@@ -90,6 +81,22 @@ class HttpServerConnectionInitializer {
     this.encodingDetector = compressionOptions != null ? new EncodingDetector(compressionOptions)::determineEncoding : null;
   }
 
+  /**
+   * @return the compressors of the server or {@code null} when compression is not supported
+   */
+  static CompressionOptions[] compressionOptions(HttpServerOptions options) {
+    if (!options.isCompressionSupported()) {
+      return null;
+    }
+    List<CompressionOptions> compressors = options.getCompressors();
+    if (compressors == null) {
+      int compressionLevel = options.getCompressionLevel();
+      return new CompressionOptions[] { StandardCompressionOptions.gzip(compressionLevel, 15, 8), StandardCompressionOptions.deflate(compressionLevel, 15, 8) };
+    } else {
+      return compressors.toArray(new CompressionOptions[0]);
+    }
+  }
+
   void configurePipeline(Channel ch, SslChannelProvider sslChannelProvider, SslContextManager sslContextManager) {
     ChannelPipeline pipeline = ch.pipeline();
     if (options.isSsl()) {
@@ -192,7 +199,7 @@ class HttpServerConnectionInitializer {
       .useDecompression(options.isDecompressionSupported())
       .initialSettings(options.getInitialSettings())
       .connectionFactory(connHandler -> {
-        Http2ServerConnection conn = new Http2ServerConnection(ctx, streamContextSupplier, serverOrigin, connHandler, encodingDetector, options, metrics);
+        Http2ServerConnection conn = new Http2ServerConnection(ctx, streamContextSupplier, serverOrigin, connHandler, encodingDetector, options, metrics, server.fileCache(), server.responseCompressor());
         conn.metric(metric);
         return conn;
       })
@@ -254,7 +261,9 @@ class HttpServerConnectionInitializer {
         chctx,
         context,
         serverOrigin,
-        metrics);
+        metrics,
+        server.fileCache(),
+        server.responseCompressor());
       conn.metric(metric);
       return conn;
     });
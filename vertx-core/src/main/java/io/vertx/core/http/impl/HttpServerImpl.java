@@ -16,6 +16,7 @@ import io.vertx.core.http.*;
 import io.vertx.core.internal.CloseSequence;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.SysProps;
+import io.vertx.core.impl.WorkerPool;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
@@ -40,6 +41,8 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
 
   static final boolean DISABLE_WEBSOCKETS = SysProps.DISABLE_WEBSOCKETS.getBoolean();
 
+  private static final String COMPRESSION_WORKER_POOL_NAME = "vert.x-http-compression";
+
   private final VertxInternal vertx;
   final HttpServerOptions options;
   private Handler<HttpServerRequest> requestHandler;
@@ -52,10 +55,28 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
   private long closeTimeout = 0L;
   private TimeUnit closeTimeoutUnit = TimeUnit.SECONDS;
   private CloseSequence closeSequence;
+  private final FileCache fileCache;
+  private ResponseCompressor responseCompressor;
+  private WorkerPool compressionWorkerPool;
 
   public HttpServerImpl(VertxInternal vertx, HttpServerOptions options) {
     this.vertx = vertx;
     this.options = options;
+    this.fileCache = options.getFileCacheMaxFileSize() > 0 ? new FileCache(vertx, options) : null;
+  }
+
+  /**
+   * @return the send file cache or {@code null} when disabled
+   */
+  FileCache fileCache() {
+    return fileCache;
+  }
+
+  /**
+   * @return the response compressor or {@code null} when compression is not supported
+   */
+  ResponseCompressor responseCompressor() {
+    return responseCompressor;
   }
 
   @Override
@@ -177,6 +198,9 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
       throw new IllegalStateException();
     }
     HttpServerOptions options = this.options;
+    if (options.isVirtualThreadPerRequest() && !vertx.isVirtualThreadAvailable()) {
+      return vertx.getOrCreateContext().failedFuture(new IllegalStateException("This Java runtime does not support virtual threads"));
+    }
     HttpServerOptions tcpOptions = new HttpServerOptions(options);
     if (tcpOptions.getSslOptions() != null) {
       configureApplicationLayerProtocols(tcpOptions.getSslOptions());
@@ -189,13 +213,26 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
     } else {
       listenContext = vertx.createEventLoopContext(context.nettyEventLoop(), context.workerPool(), context.classLoader());
     }
+    if (options.isCompressionSupported()) {
+      CompressionCache compressionCache = options.getCompressionCacheMaxSize() > 0 ? new CompressionCache(options.getCompressionCacheMaxSize()) : null;
+      if (options.getCompressionOffloadThreshold() > 0) {
+        compressionWorkerPool = vertx.createSharedWorkerPool(COMPRESSION_WORKER_POOL_NAME, options.getCompressionWorkerPoolSize(),
+          VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME, VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT);
+      }
+      responseCompressor = new ResponseCompressor(HttpServerConnectionInitializer.compressionOptions(options), compressionCache,
+        compressionWorkerPool, options.getCompressionOffloadThreshold());
+    }
+    VirtualThreadRequestHandler virtualThreadRequestHandler = options.isVirtualThreadPerRequest() ?
+      new VirtualThreadRequestHandler(this, context, this.requestHandler, options.getMaxVirtualThreadConcurrency()) : null;
+    Handler<HttpServerRequest> requestHandler = virtualThreadRequestHandler != null && this.requestHandler != null ?
+      virtualThreadRequestHandler : this.requestHandler;
     NetServerInternal server = vertx.createNetServer(tcpOptions);
     Handler<Throwable> h = exceptionHandler;
     Handler<Throwable> exceptionHandler = h != null ? h : DEFAULT_EXCEPTION_HANDLER;
     server.exceptionHandler(exceptionHandler);
     server.connectHandler(so -> {
       NetSocketImpl soi = (NetSocketImpl) so;
-      Supplier<ContextInternal> streamContextSupplier = context::duplicate;
+      Supplier<ContextInternal> streamContextSupplier = virtualThreadRequestHandler != null ? virtualThreadRequestHandler::createStreamContext : context::duplicate;
       String host = address.isInetSocket() ? address.host() : "localhost";
       int port = address.port();
       String serverOrigin = (tcpOptions.isSsl() ? "https" : "http") + "://" + host + ":" + port;
@@ -237,7 +274,12 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
   }
 
   private void doClose(NetServer netServer, Promise<Void> p) {
-    netServer.close().onComplete(p);
+    WorkerPool pool = compressionWorkerPool;
+    netServer.close().andThen(ar -> {
+      if (pool != null) {
+        pool.close();
+      }
+    }).onComplete(p);
   }
 
   public Future<Void> shutdown(long timeout, TimeUnit unit) {
@@ -775,6 +775,102 @@ public final class HttpUtils {
     }
   }
 
+  private static final String[] PRECOMPRESSED_ENCODINGS = { "br", "zstd", "gzip" };
+  private static final String[] PRECOMPRESSED_EXTENSIONS = { ".br", ".zst", ".gz" };
+
+  /**
+   * Resolve the pre-compressed variants of {@code filename}, a variant is a file named after {@code filename} with the
+   * extension of the encoding. This is blocking.
+   *
+   * @return the bit mask of the variants, the bit {@code i} is set when the variant of the encoding {@code i} exists
+   */
+  static int precompressedVariants(VertxInternal vertx, String filename) {
+    int variants = 0;
+    for (int i = 0;i < PRECOMPRESSED_ENCODINGS.length;i++) {
+      if (vertx.resolveFile(filename + PRECOMPRESSED_EXTENSIONS[i]).isFile()) {
+        variants |= 1 << i;
+      }
+    }
+    return variants;
+  }
+
+  /**
+   * Resolve the pre-compressed variants of {@code filename} with the file cache when enabled, otherwise on a worker
+   * thread.
+   *
+   * @return the future of the bit mask of the variants
+   */
+  static Future<Integer> precompressedVariants(ContextInternal context, FileCache fileCache, String filename) {
+    if (fileCache != null) {
+      return fileCache.get(context, filename).map(entry -> entry != null ? entry.precompressedVariants() : 0);
+    }
+    VertxInternal vertx = context.owner();
+    return context.executeBlockingInternal(() -> precompressedVariants(vertx, filename));
+  }
+
+  /**
+   * Determine the encoding of the pre-compressed variant to send for the {@code acceptEncoding} request header value,
+   * the variant with the highest quality value wins, ties are broken in favor of brotli, zstd and gzip in this order.
+   *
+   * @param variants the bit mask of the existing variants returned by {@link #precompressedVariants}
+   * @return the encoding or {@code null} when no variant matches
+   */
+  static String precompressedEncoding(int variants, String acceptEncoding) {
+    if (variants == 0) {
+      return null;
+    }
+    float[] qValues = new float[PRECOMPRESSED_ENCODINGS.length];
+    Arrays.fill(qValues, -1f);
+    float starQValue = -1f;
+    for (String encoding : acceptEncoding.split(",")) {
+      float qValue = 1.0f;
+      int idx = encoding.indexOf(';');
+      if (idx != -1) {
+        int equalsPos = encoding.indexOf('=', idx);
+        if (equalsPos != -1) {
+          try {
+            qValue = Float.parseFloat(encoding.substring(equalsPos + 1).trim());
+          } catch (NumberFormatException e) {
+            qValue = 0f;
+          }
+        }
+        encoding = encoding.substring(0, idx);
+      }
+      encoding = encoding.trim();
+      if (encoding.equals("*")) {
+        starQValue = qValue;
+      } else {
+        for (int i = 0;i < PRECOMPRESSED_ENCODINGS.length;i++) {
+          if (encoding.equalsIgnoreCase(PRECOMPRESSED_ENCODINGS[i])) {
+            qValues[i] = qValue;
+          }
+        }
+      }
+    }
+    String selected = null;
+    float selectedQValue = 0f;
+    for (int i = 0;i < PRECOMPRESSED_ENCODINGS.length;i++) {
+      float qValue = qValues[i] != -1f ? qValues[i] : starQValue;
+      if (qValue > selectedQValue && (variants & (1 << i)) != 0) {
+        selected = PRECOMPRESSED_ENCODINGS[i];
+        selectedQValue = qValue;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * @return the name of the pre-compressed variant of {@code filename} for an encoding returned by {@link #precompressedEncoding(int, String)}
+   */
+  static String precompressedFileName(String filename, String encoding) {
+    for (int i = 0;i < PRECOMPRESSED_ENCODINGS.length;i++) {
+      if (PRECOMPRESSED_ENCODINGS[i].equals(encoding)) {
+        return filename + PRECOMPRESSED_EXTENSIONS[i];
+      }
+    }
+    throw new IllegalArgumentException("Unsupported encoding " + encoding);
+  }
+
   static boolean isConnectOrUpgrade(io.vertx.core.http.HttpMethod method, MultiMap headers) {
     if (method == io.vertx.core.http.HttpMethod.CONNECT) {
       return true;
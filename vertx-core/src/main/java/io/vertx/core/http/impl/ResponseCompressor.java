@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.WorkerPool;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Compresses response bodies outside of the connection pipeline.
+ * <p>
+ * A body sent in full is compressed by the server when its compressed variant can be cached or when it is larger than
+ * the offload threshold, in which case it is compressed on the compression worker pool to not stall the event loop.
+ * Other bodies are compressed on the fly by the compressor of the connection pipeline.
+ * <p>
+ * This class is thread safe, the compressor is shared by the connections of a server.
+ */
+class ResponseCompressor {
+
+  private final CompressionOptions[] compressionOptions;
+  private final EncodingDetector encodingDetector;
+  private final CompressionCache cache;
+  private final WorkerPool workerPool;
+  private final int offloadThreshold;
+
+  ResponseCompressor(CompressionOptions[] compressionOptions, CompressionCache cache, WorkerPool workerPool, int offloadThreshold) {
+    this.compressionOptions = compressionOptions;
+    this.encodingDetector = new EncodingDetector(compressionOptions);
+    this.cache = cache;
+    this.workerPool = workerPool;
+    this.offloadThreshold = offloadThreshold;
+  }
+
+  /**
+   * @return the content encoding to apply for the {@code acceptEncoding} request header value or {@code null}
+   */
+  String determineEncoding(CharSequence acceptEncoding) {
+    if (acceptEncoding == null) {
+      return null;
+    }
+    String encoding = encodingDetector.determineEncoding(acceptEncoding.toString());
+    return encoding == null || encoding.equalsIgnoreCase("identity") ? null : encoding;
+  }
+
+  /**
+   * Compress the {@code body} of a response with {@code encoding} when the server shall compress it.
+   *
+   * @param context the context of the response, the returned future is completed on this context
+   * @param cacheKey the key of the compressed body in the cache, either the body or the {@link FileCache.Entry} of
+   *                 the body, or {@code null} when the compressed body cannot be cached
+   * @return {@code null} when the body is left to the pipeline compressor, otherwise the future of the compressed
+   *         body which is completed with {@code null} when the body cannot be compressed with this encoding
+   */
+  Future<Buffer> compress(ContextInternal context, String encoding, Buffer body, Object cacheKey, HttpServerMetrics<?, ?, ?> metrics, Object requestMetric) {
+    boolean offload = workerPool != null && body.length() > offloadThreshold;
+    boolean cache = cacheKey != null && this.cache != null;
+    if (!offload && !cache) {
+      return null;
+    }
+    if (cache) {
+      Buffer variant = this.cache.get(encoding, cacheKey);
+      if (variant != null) {
+        return context.succeededFuture(variant);
+      }
+    }
+    Callable<Compression> task = () -> {
+      long start = System.nanoTime();
+      Buffer variant = compress(encoding, body);
+      if (variant != null && cache) {
+        this.cache.put(encoding, cacheKey, variant);
+      }
+      return new Compression(variant, System.nanoTime() - start);
+    };
+    Future<Compression> fut;
+    if (offload) {
+      fut = workerPool.executeBlocking(context, task, null);
+    } else {
+      try {
+        fut = context.succeededFuture(task.call());
+      } catch (Exception e) {
+        return context.failedFuture(e);
+      }
+    }
+    // Completed on the context, so the metrics are reported from the context thread
+    return fut.map(compression -> {
+      Buffer variant = compression.variant;
+      if (variant != null && metrics != null) {
+        reportCompressed(metrics, requestMetric, encoding, body.length(), variant.length(), compression.durationNanos);
+      }
+      return variant;
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void reportCompressed(HttpServerMetrics<?, ?, ?> metrics, Object requestMetric, String encoding, long bytes, long compressedBytes, long durationNanos) {
+    ((HttpServerMetrics<Object, ?, ?>) metrics).responseCompressed(requestMetric, encoding, bytes, compressedBytes, durationNanos);
+  }
+
+  private Buffer compress(String encoding, Buffer body) {
+    // Run the body through the compressor used by the server pipeline so the result is identical to the body
+    // compressed on the fly
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpContentCompressor(0, compressionOptions));
+    try {
+      DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+      request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, encoding);
+      channel.writeInbound(request);
+      ReferenceCountUtil.release(channel.readInbound());
+      ByteBuf content = ((BufferInternal) body).getByteBuf();
+      channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content));
+      Buffer variant = Buffer.buffer();
+      boolean encoded = false;
+      Object msg;
+      while ((msg = channel.readOutbound()) != null) {
+        try {
+          if (msg instanceof HttpResponse) {
+            encoded = encoding.equals(((HttpResponse) msg).headers().get(HttpHeaderNames.CONTENT_ENCODING));
+          }
+          if (msg instanceof HttpContent) {
+            ByteBuf buf = ((HttpContent) msg).content();
+            variant.appendBytes(ByteBufUtil.getBytes(buf));
+          }
+        } finally {
+          ReferenceCountUtil.release(msg);
+        }
+      }
+      return encoded ? variant : null;
+    } finally {
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  private static class Compression {
+
+    private final Buffer variant;
+    private final long durationNanos;
+
+    private Compression(Buffer variant, long durationNanos) {
+      this.variant = variant;
+      this.durationNanos = durationNanos;
+    }
+  }
+
+  private static class EncodingDetector extends HttpContentCompressor {
+
+    private EncodingDetector(CompressionOptions[] compressionOptions) {
+      super(compressionOptions);
+    }
+
+    @Override
+    protected String determineEncoding(String acceptEncoding) {
+      return super.determineEncoding(acceptEncoding);
+    }
+  }
+}
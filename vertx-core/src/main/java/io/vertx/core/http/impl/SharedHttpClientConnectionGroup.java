@@ -10,15 +10,18 @@
  */
 package io.vertx.core.http.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.NoStackTraceTimeoutException;
 import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.concurrent.Deadline;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.pool.ConnectResult;
 import io.vertx.core.internal.pool.ConnectionPool;
@@ -31,6 +34,7 @@ import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.metrics.PoolMetrics;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 /**
@@ -38,6 +42,12 @@ import java.util.function.BiFunction;
  */
 class SharedHttpClientConnectionGroup extends ManagedResource implements PoolConnector<HttpClientConnectionInternal> {
 
+  /**
+   * The delays between the attempts to restore the floor of connections after consecutive failures.
+   */
+  private static final long MIN_FILL_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long MAX_FILL_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
   /**
    * LIFO pool selector.
    */
@@ -61,12 +71,37 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
     return selected;
   };
 
+  /**
+   * Least loaded pool selector, a connection with a shrunk pipe-lining depth has fewer available slots.
+   */
+  private static final BiFunction<PoolWaiter<HttpClientConnectionInternal>, List<PoolConnection<HttpClientConnectionInternal>>, PoolConnection<HttpClientConnectionInternal>> LEAST_LOADED_SELECTOR = (waiter, connections) -> {
+    int size = connections.size();
+    PoolConnection<HttpClientConnectionInternal> selected = null;
+    for (int i = 0; i < size; i++) {
+      PoolConnection<HttpClientConnectionInternal> pooled = connections.get(i);
+      long available = pooled.available();
+      if (available > 0 && (selected == null || available > selected.available())) {
+        selected = pooled;
+      }
+    }
+    return selected;
+  };
+
   private final PoolMetrics poolMetrics;
   private final VertxInternal vertx;
   private final HttpClientImpl client;
   private final ClientMetrics clientMetrics;
   private final HttpChannelConnector connector;
   private final ConnectionPool<HttpClientConnectionInternal> pool;
+  private final int kind;
+  private final int minIdle;
+  private final long idleTimeoutNanos;  // The time without requests after which the floor is released, 0 to never release it
+  private volatile boolean shutdown;
+  private volatile long lastRequestTime;
+  private Future<Void> filling;         // Guarded by this
+  private boolean pinned;               // Guarded by this, whether the floor holds a reference on the group
+  private int fillFailures;             // Guarded by this, the number of consecutive failures to restore the floor
+  private long nextFillTime;            // Guarded by this
 
   public SharedHttpClientConnectionGroup(VertxInternal vertx,
                                          HttpClientImpl client,
@@ -75,9 +110,19 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
                                          int queueMaxSize,
                                          int http1MaxSize,
                                          int http2MaxSize,
+                                         boolean sharded,
+                                         int slices,
+                                         int minIdle,
                                          HttpChannelConnector connector) {
-    ConnectionPool<HttpClientConnectionInternal> pool = ConnectionPool.pool(this, new int[]{http1MaxSize, http2MaxSize}, queueMaxSize)
-      .connectionSelector(LIFO_SELECTOR).contextProvider(client.contextProvider());
+    ConnectionPool<HttpClientConnectionInternal> pool;
+    if (sharded) {
+      pool = ConnectionPool.sharded(this, new int[]{http1MaxSize, http2MaxSize}, queueMaxSize, slices);
+    } else {
+      HttpClientOptions options = client.options();
+      pool = ConnectionPool.pool(this, new int[]{http1MaxSize, http2MaxSize}, queueMaxSize)
+        .connectionSelector(options.isPipelining() && options.isAdaptivePipelining() ? LEAST_LOADED_SELECTOR : LIFO_SELECTOR);
+    }
+    pool.contextProvider(client.contextProvider());
 
     this.vertx = vertx;
     this.client = client;
@@ -85,6 +130,18 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
     this.clientMetrics = clientMetrics;
     this.connector = connector;
     this.pool = pool;
+    this.kind = client.options().getProtocolVersion() == HttpVersion.HTTP_2 ? 1 : 0;
+    // The pool cannot hold more connections of the kind than its max size
+    this.minIdle = Math.min(minIdle, kind == 1 ? http2MaxSize : http1MaxSize);
+    // The floor is released once the connections it holds would have expired without requests
+    HttpClientOptions options = client.options();
+    this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(kind == 1 ? options.getHttp2KeepAliveTimeout() : options.getKeepAliveTimeout());
+    this.lastRequestTime = System.nanoTime();
+    if (this.minIdle > 0) {
+      // Maintaining the floor keeps the group alive while it is used
+      pinned = true;
+      incRefCount();
+    }
   }
 
   @Override
@@ -96,6 +153,7 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
         connection.evictionHandler(v -> {
           decRefCount();
           listener.onRemove();
+          ensureMinIdle();
         });
         connection.concurrencyChangeHandler(listener::onConcurrencyChange);
         long capacity = connection.concurrency();
@@ -119,6 +177,9 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
   }
 
   protected void checkExpired() {
+    // Release the floor before evicting the expired connections so they are not re-established, the group is
+    // disposed once all its connections have expired
+    boolean release = idleTimeoutNanos > 0L && System.nanoTime() - lastRequestTime >= idleTimeoutNanos && unpin();
     pool
       .evict(conn -> !conn.isValid())
       .onComplete(ar -> {
@@ -126,23 +187,110 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
           List<HttpClientConnectionInternal> lst = ar.result();
           lst.forEach(HttpConnection::close);
         }
+        if (release) {
+          decRefCount();
+        } else {
+          ensureMinIdle();
+        }
       });
   }
 
+  /**
+   * Hold a reference on the group for the floor of connections when it has been released.
+   */
+  private void pin() {
+    synchronized (this) {
+      if (pinned) {
+        return;
+      }
+      pinned = true;
+    }
+    if (!incRefCount()) {
+      // Closed
+      unpin();
+      decRefCount();
+    }
+  }
+
+  /**
+   * @return whether the reference held by the floor of connections has been released by this call
+   */
+  private synchronized boolean unpin() {
+    if (pinned) {
+      pinned = false;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Establish the connections missing for the pool to hold {@code minIdle} connections of the configured protocol,
+   * at least one. The connections are not leased and remain available to the requests.
+   *
+   * @return a future completed when the connections are established
+   */
+  Future<Void> warmup() {
+    return fill(Math.max(minIdle, 1));
+  }
+
+  /**
+   * Re-establish connections in the background when the pool is below the floor of connections. After consecutive
+   * failures, the attempts are delayed with an exponential backoff.
+   */
+  void ensureMinIdle() {
+    if (minIdle > 0 && !shutdown && pool.size() < minIdle) {
+      synchronized (this) {
+        if (!pinned || filling != null || System.nanoTime() - nextFillTime < 0L) {
+          return;
+        }
+      }
+      fill(minIdle);
+    }
+  }
+
+  private Future<Void> fill(int count) {
+    PromiseInternal<Void> promise;
+    synchronized (this) {
+      if (filling != null) {
+        return filling;
+      }
+      promise = vertx.promise();
+      filling = promise.future();
+    }
+    // Each missing connection uses a context of the next event-loop to spread the connections
+    pool.fill(count, kind, vertx::createEventLoopContext).onComplete(ar -> {
+      synchronized (this) {
+        filling = null;
+        if (ar.succeeded()) {
+          fillFailures = 0;
+        } else {
+          long backoff = Math.min(MIN_FILL_BACKOFF_NANOS << Math.min(fillFailures, 20), MAX_FILL_BACKOFF_NANOS);
+          fillFailures++;
+          nextFillTime = System.nanoTime() + backoff;
+        }
+      }
+      if (ar.succeeded()) {
+        promise.complete();
+      } else {
+        promise.fail(ar.cause());
+      }
+    });
+    return promise.future();
+  }
+
   private class Request implements PoolWaiter.Listener<HttpClientConnectionInternal>, Handler<AsyncResult<Lease<HttpClientConnectionInternal>>> {
 
     private final ContextInternal context;
     private final HttpVersion protocol;
     private final long timeout;
     private final Promise<Lease<HttpClientConnectionInternal>> promise;
-    private long timerID;
+    private Deadline deadline;
 
     Request(ContextInternal context, HttpVersion protocol, long timeout, Promise<Lease<HttpClientConnectionInternal>> promise) {
       this.context = context;
       this.protocol = protocol;
       this.timeout = timeout;
       this.promise = promise;
-      this.timerID = -1L;
     }
 
     @Override
@@ -152,8 +300,8 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
 
     @Override
     public void onConnect(PoolWaiter<HttpClientConnectionInternal> waiter) {
-      if (timeout > 0L && timerID == -1L) {
-        timerID = context.setTimer(timeout, id -> {
+      if (timeout > 0L && deadline == null) {
+        deadline = context.deadline(v -> {
           pool.cancel(waiter)
             .onComplete(ar -> {
               if (ar.succeeded() && ar.result()) {
@@ -161,13 +309,14 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
               }
             });
         });
+        deadline.schedule(timeout, TimeUnit.MILLISECONDS);
       }
     }
 
     @Override
     public void handle(AsyncResult<Lease<HttpClientConnectionInternal>> ar) {
-      if (timerID >= 0) {
-        context.owner().cancelTimer(timerID);
+      if (deadline != null) {
+        deadline.cancel();
       }
       promise.handle(ar);
     }
@@ -179,11 +328,19 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
   }
 
   public Future<Lease<HttpClientConnectionInternal>> requestConnection(ContextInternal ctx, long timeout) {
+    lastRequestTime = System.nanoTime();
+    if (minIdle > 0) {
+      pin();
+    }
     Future<Lease<HttpClientConnectionInternal>> fut = requestConnection2(ctx, timeout);
     if (poolMetrics != null) {
       Object metric = poolMetrics.enqueue();
+      EventLoop eventLoop = ctx.nettyEventLoop();
       fut = fut.andThen(ar -> {
         poolMetrics.dequeue(metric);
+        if (ar.succeeded()) {
+          poolMetrics.leased(ar.result().get().context().nettyEventLoop() != eventLoop);
+        }
       });
     }
     return fut;
@@ -198,9 +355,17 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
     return promise.future();
   }
 
+  @Override
+  protected void handleShutdown() {
+    shutdown = true;
+  }
+
   @Override
   protected void handleClose() {
     pool.close();
+    if (unpin()) {
+      decRefCount();
+    }
   }
 
   @Override
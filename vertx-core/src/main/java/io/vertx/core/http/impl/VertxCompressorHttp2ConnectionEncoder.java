@@ -33,7 +33,7 @@ import static io.vertx.core.http.HttpHeaders.IDENTITY;
 
 public class VertxCompressorHttp2ConnectionEncoder implements Http2FrameWriter, Http2ConnectionEncoder, Http2SettingsReceivedConsumer {
 
-  private Http2ConnectionEncoder delegate;
+  private final Http2ConnectionEncoder delegate;
   private final Http2ConnectionEncoder plainEncoder;
 
   public VertxCompressorHttp2ConnectionEncoder(Http2ConnectionEncoder plainEncoder, CompressionOptions[] compressionOptions) {
@@ -41,15 +41,21 @@ public class VertxCompressorHttp2ConnectionEncoder implements Http2FrameWriter,
     this.plainEncoder = plainEncoder;
   }
 
-  private void beforeWritingHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers responseHeaders) {
+  /**
+   * Choose the encoder of the headers of a stream, the headers of a stream that is not compressed by the server are
+   * written with the plain encoder, e.g. a response carrying pre-compressed content. The compressor encoder
+   * passes through the data of such stream since it has no compressor attached.
+   */
+  private Http2ConnectionEncoder beforeWritingHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers responseHeaders) {
     String contentEncodingToApply = determineContentEncodingToApply(ctx, streamId, responseHeaders);
     if (contentEncodingToApply == null || contentEncodingToApply.equalsIgnoreCase(IDENTITY.toString())) {
       if (responseHeaders.contains(CONTENT_ENCODING, IDENTITY)) {
         responseHeaders.remove(CONTENT_ENCODING);
       }
-      delegate = plainEncoder;
+      return plainEncoder;
     } else {
       responseHeaders.set(CONTENT_ENCODING, contentEncodingToApply);
+      return delegate;
     }
   }
 
@@ -69,14 +75,12 @@ public class VertxCompressorHttp2ConnectionEncoder implements Http2FrameWriter,
 
   @Override
   public ChannelFuture writeHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int padding, boolean endStream, ChannelPromise promise) {
-    beforeWritingHeaders(ctx, streamId, headers);
-    return delegate.writeHeaders(ctx, streamId, headers, padding, endStream, promise);
+    return beforeWritingHeaders(ctx, streamId, headers).writeHeaders(ctx, streamId, headers, padding, endStream, promise);
   }
 
   @Override
   public ChannelFuture writeHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int streamDependency, short weight, boolean exclusive, int padding, boolean endStream, ChannelPromise promise) {
-    beforeWritingHeaders(ctx, streamId, headers);
-    return delegate.writeHeaders(ctx, streamId, headers, streamDependency, weight, exclusive, padding, endStream, promise);
+    return beforeWritingHeaders(ctx, streamId, headers).writeHeaders(ctx, streamId, headers, streamDependency, weight, exclusive, padding, endStream, promise);
   }
 
   @Override
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.impl.EventLoopExecutor;
+import io.vertx.core.impl.VertxImpl;
+import io.vertx.core.impl.WorkerExecutor;
+import io.vertx.core.impl.WorkerPool;
+import io.vertx.core.impl.WorkerTaskQueue;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.http.HttpServerRequestInternal;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * <p> Runs the request handler of a server on virtual threads.
+ *
+ * <p> Each request stream is dispatched on a duplicate of a virtual thread context created for the stream, the
+ * context executes the events of the request in order, the handler of distinct requests run concurrently. The number
+ * of requests handled concurrently can be limited, a request arriving when the limit is reached is paused until
+ * a handled request has its response ended or closed, a handler returning before the response is ended still holds
+ * its permit.
+ *
+ * <p> The stream context is a full context with its own task queue, so requests do not serialize each other on the
+ * server context. Creating it costs a few allocations per request (the context, its executors and a duplicate) which
+ * is small compared to the cost of starting the virtual thread that runs the handler.
+ */
+class VirtualThreadRequestHandler implements Handler<HttpServerRequest> {
+
+  private final HttpServerImpl server;
+  private final VertxImpl vertx;
+  private final ContextInternal context;
+  private final Handler<HttpServerRequest> handler;
+  private final Semaphore permits;
+
+  VirtualThreadRequestHandler(HttpServerImpl server, ContextInternal context, Handler<HttpServerRequest> handler, int maxConcurrency) {
+    this.server = server;
+    this.vertx = (VertxImpl) context.owner();
+    this.context = context;
+    this.handler = handler;
+    this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+  }
+
+  /**
+   * @return the context of a new request stream
+   */
+  ContextInternal createStreamContext() {
+    WorkerPool workerPool = vertx.virtualThreadWorkerPool();
+    RequestExecutor executor = new RequestExecutor(workerPool);
+    ContextInternal streamContext = vertx.createContext(
+      ThreadingModel.VIRTUAL_THREAD,
+      new EventLoopExecutor(context.nettyEventLoop()),
+      executor,
+      workerPool,
+      context.closeFuture(),
+      context.deployment(),
+      context.classLoader());
+    return streamContext.duplicate();
+  }
+
+  @Override
+  public void handle(HttpServerRequest req) {
+    HttpServerRequestInternal request = (HttpServerRequestInternal) req;
+    HttpServerMetrics<?, ?, ?> metrics = (HttpServerMetrics<?, ?, ?>) server.getMetrics();
+    if (metrics != null && request.context().executor() instanceof RequestExecutor) {
+      RequestExecutor executor = (RequestExecutor) request.context().executor();
+      executor.metrics = metrics;
+      executor.request = request;
+    }
+    if (permits != null && !permits.tryAcquire()) {
+      if (metrics != null) {
+        reportParked(metrics, request);
+      }
+      request.pause();
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        request.response().setStatusCode(503).end();
+        return;
+      }
+      request.resume();
+    }
+    if (permits == null) {
+      handler.handle(request);
+      return;
+    }
+    Handler<Void> release = releaseOnce();
+    boolean tracked = completionHandler(request, release);
+    boolean failed = true;
+    try {
+      handler.handle(request);
+      failed = false;
+    } finally {
+      if (failed || !tracked) {
+        release.handle(null);
+      }
+    }
+  }
+
+  /**
+   * @return a handler releasing a permit the first time it is called
+   */
+  private Handler<Void> releaseOnce() {
+    AtomicBoolean released = new AtomicBoolean();
+    return v -> {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    };
+  }
+
+  /**
+   * Call {@code handler} once the response of {@code request} has ended or has been closed.
+   *
+   * @return whether the response is tracked, otherwise the permit is released when the request handler returns
+   */
+  private static boolean completionHandler(HttpServerRequestInternal request, Handler<Void> handler) {
+    HttpServerResponse response = request.response();
+    if (response instanceof Http1xServerResponse) {
+      ((Http1xServerResponse) response).completionHandler(handler);
+      return true;
+    } else if (response instanceof Http2ServerResponse) {
+      ((Http2ServerResponse) response).completionHandler(handler);
+      return true;
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void reportParked(HttpServerMetrics<?, ?, ?> metrics, HttpServerRequestInternal request) {
+    ((HttpServerMetrics<Object, ?, ?>) metrics).requestParked(request.metric());
+  }
+
+  /**
+   * The executor of a request stream context, it reports the request parkings to the metrics.
+   */
+  private static class RequestExecutor extends WorkerExecutor {
+
+    // Accessed from the virtual thread of the request
+    private HttpServerMetrics<?, ?, ?> metrics;
+    private HttpServerRequestInternal request;
+
+    RequestExecutor(WorkerPool workerPool) {
+      super(workerPool, new WorkerTaskQueue());
+    }
+
+    @Override
+    public CountDownLatch suspend(Consumer<Continuation> resumeAcceptor) {
+      CountDownLatch latch = super.suspend(resumeAcceptor);
+      HttpServerMetrics<?, ?, ?> metrics = this.metrics;
+      // A null latch means the task was resumed eagerly
+      if (latch != null && metrics != null) {
+        reportParked(metrics, request);
+      }
+      return latch;
+    }
+  }
+}
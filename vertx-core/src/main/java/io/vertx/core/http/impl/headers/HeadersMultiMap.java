@@ -13,13 +13,13 @@ package io.vertx.core.http.impl.headers;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.HttpUtils;
 
-import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -38,6 +38,12 @@ import static io.netty.handler.codec.http.HttpConstants.*;
 /**
  * A case-insensitive {@link MultiMap} implementation that extends Netty {@link HttpHeaders}
  * for convenience.
+ * <p>
+ * Names are stored in a resizable open addressing table using linear probing, each slot holds the entries of a name
+ * from the most recent to the oldest. Entries are also linked in insertion order for iteration. Entries keep the name
+ * given by the caller for iteration and encoding, well known header names, matched ignoring their case, are also
+ * resolved to their lower case interned {@link AsciiString} constant used for lookups, which allows lookups with the
+ * constants to match by identity.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -93,11 +99,78 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   @Override
   public int size() {
-    return names().size();
+    return names;
+  }
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  // HttpHeaderNames.KEEP_ALIVE is deprecated
+  private static final AsciiString KEEP_ALIVE = AsciiString.cached("keep-alive");
+
+  /**
+   * Interned well known header names, this table is never modified once built.
+   */
+  private static final AsciiString[] KNOWN_NAMES;
+
+  static {
+    AsciiString[] names = {
+      HttpHeaderNames.ACCEPT, HttpHeaderNames.ACCEPT_CHARSET, HttpHeaderNames.ACCEPT_ENCODING,
+      HttpHeaderNames.ACCEPT_LANGUAGE, HttpHeaderNames.ACCEPT_RANGES, HttpHeaderNames.ACCESS_CONTROL_ALLOW_CREDENTIALS,
+      HttpHeaderNames.ACCESS_CONTROL_ALLOW_HEADERS, HttpHeaderNames.ACCESS_CONTROL_ALLOW_METHODS,
+      HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN, HttpHeaderNames.ACCESS_CONTROL_EXPOSE_HEADERS,
+      HttpHeaderNames.ACCESS_CONTROL_MAX_AGE, HttpHeaderNames.ACCESS_CONTROL_REQUEST_HEADERS,
+      HttpHeaderNames.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaderNames.AGE, HttpHeaderNames.ALLOW,
+      HttpHeaderNames.AUTHORIZATION, HttpHeaderNames.CACHE_CONTROL, HttpHeaderNames.CONNECTION,
+      HttpHeaderNames.CONTENT_DISPOSITION, HttpHeaderNames.CONTENT_ENCODING, HttpHeaderNames.CONTENT_LANGUAGE,
+      HttpHeaderNames.CONTENT_LENGTH, HttpHeaderNames.CONTENT_LOCATION, HttpHeaderNames.CONTENT_RANGE,
+      HttpHeaderNames.CONTENT_TYPE, HttpHeaderNames.COOKIE, HttpHeaderNames.DATE, HttpHeaderNames.ETAG,
+      HttpHeaderNames.EXPECT, HttpHeaderNames.EXPIRES, HttpHeaderNames.FROM,
+      HttpHeaderNames.HOST, HttpHeaderNames.IF_MATCH, HttpHeaderNames.IF_MODIFIED_SINCE, HttpHeaderNames.IF_NONE_MATCH,
+      HttpHeaderNames.IF_RANGE, HttpHeaderNames.IF_UNMODIFIED_SINCE, KEEP_ALIVE,
+      HttpHeaderNames.LAST_MODIFIED, HttpHeaderNames.LOCATION, HttpHeaderNames.ORIGIN, HttpHeaderNames.PRAGMA,
+      HttpHeaderNames.PROXY_AUTHENTICATE, HttpHeaderNames.PROXY_AUTHORIZATION, HttpHeaderNames.RANGE,
+      HttpHeaderNames.REFERER, HttpHeaderNames.RETRY_AFTER, HttpHeaderNames.SERVER, HttpHeaderNames.SET_COOKIE,
+      HttpHeaderNames.TE, HttpHeaderNames.TRAILER, HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderNames.UPGRADE,
+      HttpHeaderNames.USER_AGENT, HttpHeaderNames.VARY, HttpHeaderNames.VIA, HttpHeaderNames.WWW_AUTHENTICATE,
+      HttpHeaderNames.X_REQUESTED_WITH
+    };
+    AsciiString[] table = new AsciiString[256];
+    for (AsciiString name : names) {
+      int idx = index(name.hashCode(), table.length - 1);
+      while (table[idx] != null) {
+        idx = (idx + 1) & (table.length - 1);
+      }
+      table[idx] = name;
+    }
+    KNOWN_NAMES = table;
+  }
+
+  private static int index(int hash, int mask) {
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  /**
+   * @return the interned constant of the well known header {@code name} matched ignoring the ASCII case or {@code name}
+   */
+  private static CharSequence intern(int h, CharSequence name) {
+    if (name instanceof AsciiString) {
+      return name;
+    }
+    int mask = KNOWN_NAMES.length - 1;
+    int idx = index(h, mask);
+    AsciiString known;
+    while ((known = KNOWN_NAMES[idx]) != null) {
+      if (known.hashCode() == h && known.contentEqualsIgnoreCase(name)) {
+        return known;
+      }
+      idx = (idx + 1) & mask;
+    }
+    return name;
   }
 
   private final BiConsumer<CharSequence, CharSequence> validator;
-  private final HeadersMultiMap.MapEntry[] entries = new HeadersMultiMap.MapEntry[16];
+  private HeadersMultiMap.MapEntry[] table = new HeadersMultiMap.MapEntry[INITIAL_CAPACITY];
+  private int names;
   private final HeadersMultiMap.MapEntry head = new HeadersMultiMap.MapEntry();
 
   public HeadersMultiMap() {
@@ -113,8 +186,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   public HeadersMultiMap add(CharSequence name, CharSequence value) {
     Objects.requireNonNull(value);
     int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
-    add0(h, i, name, value);
+    add0(h, name, value);
     return this;
   }
 
@@ -136,9 +208,8 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   @Override
   public HeadersMultiMap add(CharSequence name, Iterable values) {
     int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
     for (Object vstr: values) {
-      add0(h, i, name, toValidCharSequence(vstr));
+      add0(h, name, toValidCharSequence(vstr));
     }
     return this;
   }
@@ -169,8 +240,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   public HeadersMultiMap remove(CharSequence name) {
     Objects.requireNonNull(name, "name");
     int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
-    remove0(h, i, name);
+    remove0(h, name);
     return this;
   }
 
@@ -204,14 +274,13 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     Objects.requireNonNull(values, "values");
 
     int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
 
-    remove0(h, i, name);
+    remove0(h, name);
     for (Object v: values) {
       if (v == null) {
         break;
       }
-      add0(h, i, name, toValidCharSequence(v));
+      add0(h, name, toValidCharSequence(v));
     }
 
     return this;
@@ -234,41 +303,41 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   private boolean containsInternal(CharSequence name, CharSequence value, boolean equals, boolean ignoreCase) {
     int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
-    HeadersMultiMap.MapEntry e = entries[i];
+    int slot = find(h, name);
+    if (slot == -1) {
+      return false;
+    }
+    HeadersMultiMap.MapEntry e = table[slot];
     while (e != null) {
-      CharSequence key = e.key;
-      if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
-        CharSequence other = e.getValue();
-        if (equals) {
-          if ((ignoreCase && AsciiString.contentEqualsIgnoreCase(value, other)) || (!ignoreCase && AsciiString.contentEquals(value, other))) {
-            return true;
+      CharSequence other = e.getValue();
+      if (equals) {
+        if ((ignoreCase && AsciiString.contentEqualsIgnoreCase(value, other)) || (!ignoreCase && AsciiString.contentEquals(value, other))) {
+          return true;
+        }
+      } else {
+        int prev = 0;
+        while (true) {
+          final int idx = AsciiString.indexOf(other, ',', prev);
+          int to;
+          if (idx == -1) {
+            to = other.length();
+          } else {
+            to = idx;
+          }
+          while (to > prev && other.charAt(to - 1) == ' ') {
+            to--;
           }
-        } else {
-          int prev = 0;
-          while (true) {
-            final int idx = AsciiString.indexOf(other, ',', prev);
-            int to;
-            if (idx == -1) {
-              to = other.length();
-            } else {
-              to = idx;
-            }
-            while (to > prev && other.charAt(to - 1) == ' ') {
-              to--;
-            }
-            int from = prev;
-            while (from < to && other.charAt(from) == ' ') {
-              from++;
-            }
-            int len = to - from;
-            if (len > 0 && AsciiString.regionMatches(other, ignoreCase, from, value, 0, len)) {
-              return true;
-            } else if (idx == -1) {
-              break;
-            }
-            prev = idx + 1;
+          int from = prev;
+          while (from < to && other.charAt(from) == ' ') {
+            from++;
           }
+          int len = to - from;
+          if (len > 0 && AsciiString.regionMatches(other, ignoreCase, from, value, 0, len)) {
+            return true;
+          } else if (idx == -1) {
+            break;
+          }
+          prev = idx + 1;
         }
       }
       e = e.next;
@@ -307,18 +376,12 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   public List<String> getAll(CharSequence name) {
     Objects.requireNonNull(name, "name");
     LinkedList<String> values = null;
-    int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
-    HeadersMultiMap.MapEntry e = entries[i];
-    while (e != null) {
-      CharSequence key = e.key;
-      if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
-        if (values == null) {
-          values = new LinkedList<>();
-        }
+    int idx = find(AsciiString.hashCode(name), name);
+    if (idx != -1) {
+      values = new LinkedList<>();
+      for (HeadersMultiMap.MapEntry e = table[idx];e != null;e = e.next) {
         values.addFirst(e.getValue().toString());
       }
-      e = e.next;
     }
     return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
   }
@@ -406,7 +469,8 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   @Override
   public HeadersMultiMap clear() {
-    Arrays.fill(entries, null);
+    Arrays.fill(table, null);
+    names = 0;
     head.before = head.after = head;
     return this;
   }
@@ -524,19 +588,23 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   private final class MapEntry implements Map.Entry<CharSequence, CharSequence> {
     final int hash;
+    final CharSequence name;
     final CharSequence key;
     CharSequence value;
+    StringEntry stringEntry;
     HeadersMultiMap.MapEntry next;
     HeadersMultiMap.MapEntry before, after;
 
     MapEntry() {
       this.hash = -1;
+      this.name = null;
       this.key = null;
       this.value = null;
     }
 
-    MapEntry(int hash, CharSequence key, CharSequence value) {
+    MapEntry(int hash, CharSequence name, CharSequence key, CharSequence value) {
       this.hash = hash;
+      this.name = name;
       this.key = key;
       this.value = value;
     }
@@ -573,6 +641,9 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
       }
       CharSequence oldValue = this.value;
       this.value = value;
+      if (stringEntry != null) {
+        stringEntry.value = null;
+      }
       return oldValue;
     }
 
@@ -585,69 +656,177 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     private Map.Entry<String, String> stringEntry() {
       if (key instanceof String && value instanceof String) {
         return (Map.Entry) this;
-      } else {
-        return new AbstractMap.SimpleEntry<>(key.toString(), value.toString());
       }
+      // Cached, a name or a value given as an AsciiString would otherwise allocate an entry on each iteration
+      StringEntry entry = stringEntry;
+      if (entry == null) {
+        entry = new StringEntry(this);
+        stringEntry = entry;
+      }
+      return entry;
     }
   }
 
-  private void remove0(int h, int i, CharSequence name) {
-    HeadersMultiMap.MapEntry e = entries[i];
-    MapEntry prev = null;
-    while (e != null) {
-      MapEntry next = e.next;
-      CharSequence key = e.key;
+  /**
+   * A view of an entry converted to strings, setting the value writes through the entry.
+   */
+  private static final class StringEntry implements Map.Entry<String, String> {
+
+    private final MapEntry entry;
+    private final String key;
+    private String value;
+
+    StringEntry(MapEntry entry) {
+      this.entry = entry;
+      this.key = entry.key.toString();
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public String getValue() {
+      String v = value;
+      if (v == null) {
+        v = entry.value.toString();
+        value = v;
+      }
+      return v;
+    }
+
+    @Override
+    public String setValue(String value) {
+      return entry.setValue(value).toString();
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  /**
+   * @return the table index of {@code name} or {@code -1}
+   */
+  private int find(int h, CharSequence name) {
+    HeadersMultiMap.MapEntry[] table = this.table;
+    int mask = table.length - 1;
+    int idx = index(h, mask);
+    HeadersMultiMap.MapEntry e;
+    while ((e = table[idx]) != null) {
+      CharSequence key = e.name;
       if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
-        if (prev == null) {
-          entries[i] = next;
-        } else {
-          prev.next = next;
-        }
-        e.remove();
-      } else {
-        prev = e;
+        return idx;
+      }
+      idx = (idx + 1) & mask;
+    }
+    return -1;
+  }
+
+  private void remove0(int h, CharSequence name) {
+    int idx = find(h, name);
+    if (idx == -1) {
+      return;
+    }
+    for (HeadersMultiMap.MapEntry e = table[idx];e != null;e = e.next) {
+      e.remove();
+    }
+    delete(idx);
+    names--;
+  }
+
+  /**
+   * Delete the slot at {@code idx}, shifting back the following slots of the probe sequence.
+   */
+  private void delete(int idx) {
+    HeadersMultiMap.MapEntry[] table = this.table;
+    int mask = table.length - 1;
+    int i = idx;
+    int j = idx;
+    while (true) {
+      j = (j + 1) & mask;
+      HeadersMultiMap.MapEntry e = table[j];
+      if (e == null) {
+        break;
+      }
+      int k = index(e.hash, mask);
+      // Keep the entry when its home slot is cyclically in (i, j]
+      if (i <= j ? (i < k && k <= j) : (i < k || k <= j)) {
+        continue;
       }
-      e = next;
+      table[i] = e;
+      i = j;
     }
+    table[i] = null;
   }
 
-  private void add0(int h, int i, final CharSequence name, final CharSequence value) {
+  private void add0(int h, CharSequence name, final CharSequence value) {
     if (validator != null) {
       validator.accept(name, value);
     }
+    CharSequence interned = intern(h, name);
+    HeadersMultiMap.MapEntry newEntry = new HeadersMultiMap.MapEntry(h, interned, name, value);
+
     // Update the hash table.
-    HeadersMultiMap.MapEntry e = entries[i];
-    HeadersMultiMap.MapEntry newEntry;
-    entries[i] = newEntry = new HeadersMultiMap.MapEntry(h, name, value);
-    newEntry.next = e;
+    HeadersMultiMap.MapEntry[] table = this.table;
+    int mask = table.length - 1;
+    int idx = index(h, mask);
+    HeadersMultiMap.MapEntry e;
+    while ((e = table[idx]) != null) {
+      CharSequence key = e.name;
+      if (e.hash == h && (interned == key || AsciiString.contentEqualsIgnoreCase(interned, key))) {
+        newEntry.next = e;
+        break;
+      }
+      idx = (idx + 1) & mask;
+    }
+    table[idx] = newEntry;
+    if (e == null && ++names * 2 > table.length) {
+      resize();
+    }
 
     // Update the linked list.
     newEntry.addBefore(head);
   }
 
+  private void resize() {
+    HeadersMultiMap.MapEntry[] prev = table;
+    HeadersMultiMap.MapEntry[] table = new HeadersMultiMap.MapEntry[prev.length * 2];
+    int mask = table.length - 1;
+    for (HeadersMultiMap.MapEntry e : prev) {
+      if (e != null) {
+        int idx = index(e.hash, mask);
+        while (table[idx] != null) {
+          idx = (idx + 1) & mask;
+        }
+        table[idx] = e;
+      }
+    }
+    this.table = table;
+  }
+
   private HeadersMultiMap set0(final CharSequence name, final CharSequence strVal) {
     int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
-    remove0(h, i, name);
+    remove0(h, name);
     if (strVal != null) {
-      add0(h, i, name, strVal);
+      add0(h, name, strVal);
     }
     return this;
   }
 
   private CharSequence get0(CharSequence name) {
-    int h = AsciiString.hashCode(name);
-    int i = h & 0x0000000F;
-    HeadersMultiMap.MapEntry e = entries[i];
-    CharSequence value = null;
-    while (e != null) {
-      CharSequence key = e.key;
-      if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
-        value = e.getValue();
-      }
+    int idx = find(AsciiString.hashCode(name), name);
+    if (idx == -1) {
+      return null;
+    }
+    // The oldest entry holds the first value
+    HeadersMultiMap.MapEntry e = table[idx];
+    while (e.next != null) {
       e = e.next;
     }
-    return value;
+    return e.getValue();
   }
 
   private MultiMap set0(Iterable<Map.Entry<String, String>> map) {
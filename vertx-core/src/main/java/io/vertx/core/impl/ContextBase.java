@@ -13,6 +13,7 @@ package io.vertx.core.impl;
 import io.vertx.core.Handler;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.EventExecutor;
+import io.vertx.core.internal.profiler.HandlerTask;
 import io.vertx.core.spi.context.storage.AccessMode;
 import io.vertx.core.spi.context.storage.ContextLocal;
 
@@ -87,7 +88,12 @@ abstract class ContextBase implements ContextInternal {
         endDispatch(prev);
       }
     } else {
-      executor().execute(() -> emit(argument, task));
+      EventExecutor executor = executor();
+      if (HandlerTask.isProfiled(executor)) {
+        executor.execute(HandlerTask.emit(this, argument, task));
+      } else {
+        executor.execute(() -> emit(argument, task));
+      }
     }
   }
 
@@ -112,7 +118,12 @@ abstract class ContextBase implements ContextInternal {
     if (executor().inThread()) {
       task.handle(argument);
     } else {
-      executor().execute(() -> task.handle(argument));
+      EventExecutor executor = executor();
+      if (HandlerTask.isProfiled(executor)) {
+        executor.execute(HandlerTask.handle(argument, task));
+      } else {
+        executor.execute(() -> task.handle(argument));
+      }
     }
   }
 }
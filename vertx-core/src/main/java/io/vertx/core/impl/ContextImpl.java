@@ -21,10 +21,12 @@ import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.internal.CloseFuture;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.concurrent.TaskPriority;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A base class for {@link Context} implementations.
@@ -38,6 +40,9 @@ public final class ContextImpl extends ContextBase implements ContextInternal {
 
   static final boolean DISABLE_TIMINGS = SysProps.DISABLE_CONTEXT_TIMINGS.getBoolean();
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<ContextImpl, ConcurrentMap> DATA_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ContextImpl.class, ConcurrentMap.class, "data");
+
   private final VertxInternal owner;
   private final JsonObject config;
   private final DeploymentContext deployment;
@@ -46,7 +51,7 @@ public final class ContextImpl extends ContextBase implements ContextInternal {
   private final EventLoopExecutor eventLoop;
   private final ThreadingModel threadingModel;
   private final EventExecutor executor;
-  private ConcurrentMap<Object, Object> data;
+  private volatile ConcurrentMap<Object, Object> data;
   private volatile Handler<Throwable> exceptionHandler;
   final WorkerPool workerPool;
   final WorkerTaskQueue executeBlockingTasks;
@@ -122,6 +127,11 @@ public final class ContextImpl extends ContextBase implements ContextInternal {
     return workerPool.executeBlocking(this, blockingCodeHandler, ordered ? executeBlockingTasks : null);
   }
 
+  @Override
+  public <T> Future<T> executeBlocking(Callable<T> blockingCodeHandler, boolean ordered, TaskPriority priority) {
+    return workerPool.executeBlocking(this, blockingCodeHandler, ordered ? executeBlockingTasks : null, priority);
+  }
+
   @Override
   public EventExecutor eventLoop() {
     return eventLoop;
@@ -162,11 +172,15 @@ public final class ContextImpl extends ContextBase implements ContextInternal {
   }
 
   @Override
-  public synchronized ConcurrentMap<Object, Object> contextData() {
-    if (data == null) {
-      data = new ConcurrentHashMap<>();
+  public ConcurrentMap<Object, Object> contextData() {
+    ConcurrentMap<Object, Object> map = data;
+    if (map == null) {
+      map = new ConcurrentHashMap<>();
+      if (!DATA_UPDATER.compareAndSet(this, null, map)) {
+        map = data;
+      }
     }
-    return data;
+    return map;
   }
 
   public void reportException(Throwable t) {
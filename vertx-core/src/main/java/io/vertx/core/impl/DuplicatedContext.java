@@ -20,6 +20,7 @@ import io.vertx.core.internal.CloseFuture;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.EventExecutor;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.concurrent.TaskPriority;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.tracing.VertxTracer;
 
@@ -130,6 +131,11 @@ final class DuplicatedContext extends ContextBase implements ContextInternal {
     return delegate.workerPool.executeBlocking(this, blockingCodeHandler, ordered ? delegate.executeBlockingTasks : null);
   }
 
+  @Override
+  public <T> Future<T> executeBlocking(Callable<T> blockingCodeHandler, boolean ordered, TaskPriority priority) {
+    return delegate.workerPool.executeBlocking(this, blockingCodeHandler, ordered ? delegate.executeBlockingTasks : null, priority);
+  }
+
   @Override
   public boolean isEventLoopContext() {
     return delegate.isEventLoopContext();
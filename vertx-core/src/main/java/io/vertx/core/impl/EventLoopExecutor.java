@@ -12,24 +12,39 @@ package io.vertx.core.impl;
 
 import io.netty.channel.EventLoop;
 import io.vertx.core.internal.EventExecutor;
+import io.vertx.core.internal.profiler.EventLoopProfiler;
+import io.vertx.core.internal.profiler.HandlerTask;
 
 /**
- * Execute events on an event-loop.
+ * Execute events on an event-loop, the events are profiled when the executor has an {@link EventLoopProfiler}.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public final class EventLoopExecutor implements EventExecutor {
 
   final EventLoop eventLoop;
+  private final EventLoopProfiler profiler;
 
   public EventLoopExecutor(EventLoop eventLoop) {
+    this(eventLoop, null);
+  }
+
+  public EventLoopExecutor(EventLoop eventLoop, EventLoopProfiler profiler) {
     this.eventLoop = eventLoop;
+    this.profiler = profiler;
   }
 
   public EventLoop eventLoop() {
     return eventLoop;
   }
 
+  /**
+   * @return whether the events executed by this executor are profiled
+   */
+  public boolean isProfiled() {
+    return profiler != null;
+  }
+
   @Override
   public boolean inThread() {
     return eventLoop.inEventLoop();
@@ -37,6 +52,10 @@ public final class EventLoopExecutor implements EventExecutor {
 
   @Override
   public void execute(Runnable command) {
+    EventLoopProfiler p = profiler;
+    if (p != null) {
+      command = p.task(command, HandlerTask.handlerClass(command));
+    }
     eventLoop.execute(command);
   }
 }
@@ -18,6 +18,7 @@ import io.vertx.core.internal.CloseFuture;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.EventExecutor;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.concurrent.TaskPriority;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.tracing.VertxTracer;
 
@@ -150,6 +151,11 @@ final class ShadowContext extends ContextBase {
     return owner.getWorkerPool().executeBlocking(this, blockingCodeHandler, ordered ? orderedTasks : null);
   }
 
+  @Override
+  public <T> Future<@Nullable T> executeBlocking(Callable<T> blockingCodeHandler, boolean ordered, TaskPriority priority) {
+    return owner.getWorkerPool().executeBlocking(this, blockingCodeHandler, ordered ? orderedTasks : null, priority);
+  }
+
   @Override
   public @Nullable JsonObject config() {
     return null;
@@ -77,6 +77,12 @@ public enum SysProps {
     }
   },
 
+  /**
+   * Canonicalize the JSON objects decoded by the default JSON codec, see
+   * {@link io.vertx.core.json.jackson.JacksonCodec#JacksonCodec(boolean)}.
+   */
+  JSON_CANONICALIZE("vertx.json.canonicalize"),
+
   /**
    * Configure the Vert.x logger.
    *
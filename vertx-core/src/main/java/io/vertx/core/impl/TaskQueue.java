@@ -37,7 +37,7 @@ public class TaskQueue {
   static final Logger log = LoggerFactory.getLogger(TaskQueue.class);
 
   // @protectedby tasks
-  private final LinkedList<Task> tasks = new LinkedList<>();
+  private final ArrayDeque<Task> tasks = new ArrayDeque<>();
   private final Set<ContinuationTask> continuations = new HashSet<>();
   private boolean closed;
   private Executor currentExecutor;
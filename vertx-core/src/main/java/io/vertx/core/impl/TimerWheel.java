@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p> A hashed timer wheel owned by an event-loop.
+ *
+ * <p> A timeout is linked in the bucket of the tick following its deadline, scheduling and cancelling a timeout are
+ * constant time operations. The wheel is only manipulated from its event-loop, other threads hand over the operation
+ * to the event-loop. The event-loop runs a tick task only when the wheel has pending timeouts.
+ *
+ * <p> The ids of the timers scheduled on a wheel are allocated by the wheel, an id encodes the index of the wheel
+ * so a timer can be found without a map shared by all event-loops.
+ */
+final class TimerWheel {
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  /**
+   * The bit set on the ids allocated by a wheel.
+   */
+  private static final long ID_BIT = 1L << 62;
+  private static final int INDEX_SHIFT = 48;
+  private static final long SEQ_MASK = (1L << INDEX_SHIFT) - 1;
+
+  /**
+   * @return the index of the wheel that allocated the timer {@code id} or {@code -1} when the id was not allocated by
+   *         a wheel
+   */
+  static int indexOf(long id) {
+    if ((id & ID_BIT) == 0) {
+      return -1;
+    }
+    return (int) ((id & ~ID_BIT) >>> INDEX_SHIFT);
+  }
+
+  final ConcurrentMap<Long, VertxImpl.InternalTimerHandler> timers = new ConcurrentHashMap<>();
+  private final AtomicLong seq = new AtomicLong();
+  private final EventLoop eventLoop;
+  private final long idBase;
+  private final long tickNanos;
+  private final long startTime;
+  private final Timeout[] buckets;
+
+  // Event-loop state
+  private long tick;
+  private int pending;
+  private ScheduledFuture<?> ticker;
+
+  TimerWheel(EventLoop eventLoop, int index, long tickNanos) {
+    if (tickNanos <= 0) {
+      throw new IllegalArgumentException("Invalid tick duration: " + tickNanos);
+    }
+    this.eventLoop = eventLoop;
+    this.idBase = ID_BIT | ((long) index << INDEX_SHIFT);
+    this.tickNanos = tickNanos;
+    this.startTime = System.nanoTime();
+    this.buckets = new Timeout[WHEEL_SIZE];
+  }
+
+  /**
+   * @return a new timer id
+   */
+  long nextId() {
+    return idBase | (seq.getAndIncrement() & SEQ_MASK);
+  }
+
+  /**
+   * Schedule the {@code task} after the {@code delay}.
+   */
+  ScheduledFuture<Void> schedule(Runnable task, long delay, TimeUnit unit) {
+    return schedule(task, unit.toNanos(delay), 0L);
+  }
+
+  /**
+   * Schedule the {@code task} after the {@code initialDelay} and then with the {@code period}.
+   */
+  ScheduledFuture<Void> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+    return schedule(task, unit.toNanos(initialDelay), unit.toNanos(period));
+  }
+
+  private Timeout schedule(Runnable task, long delay, long period) {
+    Timeout timeout = new Timeout(this, task, now() + delay, period);
+    if (eventLoop.inEventLoop()) {
+      add(timeout);
+    } else {
+      eventLoop.execute(() -> add(timeout));
+    }
+    return timeout;
+  }
+
+  private long now() {
+    return System.nanoTime() - startTime;
+  }
+
+  private void add(Timeout timeout) {
+    if (timeout.isCancelled()) {
+      return;
+    }
+    if (pending == 0) {
+      // Skip the ticks elapsed while the wheel was empty
+      tick = Math.max(tick, now() / tickNanos + 1);
+    }
+    // The first tick at or after the deadline
+    long expiration = Math.max(tick, (timeout.deadline + tickNanos - 1) / tickNanos);
+    int idx = (int) (expiration & MASK);
+    timeout.rounds = (expiration - tick) / WHEEL_SIZE;
+    timeout.bucket = idx;
+    Timeout head = buckets[idx];
+    timeout.prev = null;
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    buckets[idx] = timeout;
+    if (pending++ == 0 && ticker == null) {
+      arm();
+    }
+  }
+
+  private void remove(Timeout timeout) {
+    int idx = timeout.bucket;
+    if (idx < 0) {
+      return;
+    }
+    Timeout prev = timeout.prev;
+    Timeout next = timeout.next;
+    if (prev != null) {
+      prev.next = next;
+    } else {
+      buckets[idx] = next;
+    }
+    if (next != null) {
+      next.prev = prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.bucket = -1;
+    pending--;
+  }
+
+  private void cancelled(Timeout timeout) {
+    if (eventLoop.inEventLoop()) {
+      remove(timeout);
+    } else {
+      eventLoop.execute(() -> remove(timeout));
+    }
+  }
+
+  private void arm() {
+    long delay = Math.max(0L, tick * tickNanos - now());
+    ticker = eventLoop.schedule(this::onTick, delay, TimeUnit.NANOSECONDS);
+  }
+
+  private void onTick() {
+    ticker = null;
+    long now = now();
+    List<Timeout> expired = null;
+    while (pending > 0 && tick * tickNanos <= now) {
+      long current = tick++;
+      Timeout timeout = buckets[(int) (current & MASK)];
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.rounds <= 0) {
+          remove(timeout);
+          if (expired == null) {
+            expired = new ArrayList<>();
+          }
+          expired.add(timeout);
+        } else {
+          timeout.rounds--;
+        }
+        timeout = next;
+      }
+    }
+    // Fire after the sweep, a timer handler can schedule or cancel timeouts
+    if (expired != null) {
+      for (Timeout timeout : expired) {
+        timeout.expire();
+      }
+    }
+    if (pending > 0 && ticker == null) {
+      arm();
+    }
+  }
+
+  /**
+   * A timeout, as a Netty scheduled future so it can be used in place of a task scheduled on the event-loop.
+   */
+  private static final class Timeout extends DefaultPromise<Void> implements ScheduledFuture<Void> {
+
+    private final TimerWheel wheel;
+    private final Runnable task;
+    private final long period;
+    private long deadline;
+
+    // Event-loop state
+    private long rounds;
+    private int bucket = -1;
+    private Timeout prev;
+    private Timeout next;
+
+    Timeout(TimerWheel wheel, Runnable task, long deadline, long period) {
+      super(wheel.eventLoop);
+      this.wheel = wheel;
+      this.task = task;
+      this.deadline = deadline;
+      this.period = period;
+    }
+
+    private void expire() {
+      if (period > 0L) {
+        if (isCancelled()) {
+          return;
+        }
+        try {
+          task.run();
+        } catch (Throwable t) {
+          tryFailure(t);
+          return;
+        }
+        if (!isCancelled()) {
+          deadline += period;
+          wheel.add(this);
+        }
+      } else if (setUncancellable()) {
+        try {
+          task.run();
+        } catch (Throwable t) {
+          tryFailure(t);
+          return;
+        }
+        trySuccess(null);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      if (super.cancel(mayInterruptIfRunning)) {
+        wheel.cancelled(this);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(deadline - wheel.now(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
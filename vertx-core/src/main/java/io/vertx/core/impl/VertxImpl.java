@@ -39,7 +39,10 @@ import io.vertx.core.impl.deployment.DeploymentContext;
 import io.vertx.core.impl.deployment.DeploymentManager;
 import io.vertx.core.impl.verticle.VerticleManager;
 import io.vertx.core.internal.*;
+import io.vertx.core.internal.concurrent.DeadlineTracker;
 import io.vertx.core.internal.net.NetClientInternal;
+import io.vertx.core.internal.profiler.EventLoopProfile;
+import io.vertx.core.internal.profiler.EventLoopProfiler;
 import io.vertx.core.internal.threadchecker.BlockedThreadChecker;
 import io.vertx.core.net.*;
 import io.vertx.core.net.impl.*;
@@ -136,6 +139,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
   private final AtomicLong timeoutCounter = new AtomicLong(0);
+  private final Map<EventLoop, TimerWheel> timerWheels;
+  private final TimerWheel[] timerWheelsByIndex;
+  private final ConcurrentMap<EventLoop, DeadlineTracker> deadlineTrackers = new ConcurrentHashMap<>();
+  private final Map<EventLoop, EventLoopProfiler> eventLoopProfilers;
   private final ClusterManager clusterManager;
   private final NodeSelector nodeSelector;
   private final DeploymentManager deploymentManager;
@@ -149,6 +156,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   final WorkerPool virtualThreaWorkerPool;
   private final VertxThreadFactory threadFactory;
   private final ExecutorServiceFactory executorServiceFactory;
+  private final boolean workerPoolWorkStealing;
   private final ThreadFactory eventLoopThreadFactory;
   private final EventLoopGroup eventLoopGroup;
   private final EventLoopGroup acceptorEventLoopGroup;
@@ -194,7 +202,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     long maxWorkerExecuteTime = options.getMaxWorkerExecuteTime();
 
     ThreadFactory workerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-worker-thread-", true);
-    ExecutorService workerExec = executorServiceFactory.createExecutor(workerThreadFactory, workerPoolSize, workerPoolSize);
+    ExecutorService workerExec = createWorkerExecutor(executorServiceFactory, options.isWorkerPoolWorkStealing(), workerThreadFactory, workerPoolSize);
     PoolMetrics workerPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-worker-thread", options.getWorkerPoolSize()) : null;
     ThreadFactory internalWorkerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-internal-blocking-", true);
     ExecutorService internalWorkerExec = executorServiceFactory.createExecutor(internalWorkerThreadFactory, internalBlockingPoolSize, internalBlockingPoolSize);
@@ -211,6 +219,31 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     // The acceptor event loop thread needs to be from a different pool otherwise can get lags in accepted connections
     // under a lot of load
     acceptorEventLoopGroup = transport.eventLoopGroup(Transport.ACCEPTOR_EVENT_LOOP_GROUP, 1, acceptorEventLoopThreadFactory, 100);
+    if (options.isEventLoopProfilingEnabled()) {
+      Map<EventLoop, EventLoopProfiler> map = new LinkedHashMap<>();
+      for (io.netty.util.concurrent.EventExecutor executor : eventLoopGroup) {
+        map.put((EventLoop) executor, new EventLoopProfiler(metrics != null ? metrics::createEventLoopMetrics : null));
+      }
+      eventLoopProfilers = map;
+    } else {
+      eventLoopProfilers = null;
+    }
+    long timerWheelTickDuration = options.getTimerWheelTickDuration();
+    if (timerWheelTickDuration > 0) {
+      long tickNanos = options.getTimerWheelTickDurationUnit().toNanos(timerWheelTickDuration);
+      List<TimerWheel> wheels = new ArrayList<>();
+      Map<EventLoop, TimerWheel> map = new IdentityHashMap<>();
+      for (io.netty.util.concurrent.EventExecutor executor : eventLoopGroup) {
+        TimerWheel wheel = new TimerWheel((EventLoop) executor, wheels.size(), tickNanos);
+        wheels.add(wheel);
+        map.put((EventLoop) executor, wheel);
+      }
+      timerWheels = map;
+      timerWheelsByIndex = wheels.toArray(new TimerWheel[0]);
+    } else {
+      timerWheels = null;
+      timerWheelsByIndex = null;
+    }
     virtualThreadExecutor = virtualThreadFactory != null ? new ThreadPerTaskExecutorService(virtualThreadFactory) : null;
     virtualThreaWorkerPool = virtualThreadFactory != null ? new WorkerPool(virtualThreadExecutor, null) : null;
     internalWorkerPool = new WorkerPool(internalWorkerExec, internalBlockingPoolMetrics);
@@ -222,6 +255,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     this.checker = checker;
     this.useDaemonThread = useDaemonThread;
     this.executorServiceFactory = executorServiceFactory;
+    this.workerPoolWorkStealing = options.isWorkerPoolWorkStealing();
     this.threadFactory = threadFactory;
     this.metrics = metrics;
     this.transport = transport;
@@ -491,7 +525,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     } else {
       ContextInternal ctx;
       EventLoop eventLoop = stickyEventLoop();
-      EventLoopExecutor eventLoopExecutor = new EventLoopExecutor(eventLoop);
+      EventLoopExecutor eventLoopExecutor = eventLoopExecutor(eventLoop);
       EventExecutor eventExecutor = null;
       if (eventExecutorProvider != null) {
         java.util.concurrent.Executor executor = eventExecutorProvider.eventExecutorFor(thread);
@@ -556,7 +590,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   public boolean cancelTimer(long id) {
-    InternalTimerHandler handler = timeouts.get(id);
+    InternalTimerHandler handler = timers(id).get(id);
     if (handler != null) {
       return handler.cancel();
     } else {
@@ -579,7 +613,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
                                    DeploymentContext deployment,
                                    ClassLoader tccl) {
     EventExecutor eventExecutor;
-    EventLoopExecutor eventLoopExecutor = new EventLoopExecutor(eventLoop);
+    EventLoopExecutor eventLoopExecutor = eventLoopExecutor(eventLoop);
     WorkerPool wp;
     switch (threadingModel) {
       case EVENT_LOOP:
@@ -659,14 +693,29 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (initialDelay < 0) {
       throw new IllegalArgumentException("Cannot schedule a timer with initialDelay < 0");
     }
-    long timerId = timeoutCounter.getAndIncrement();
-    InternalTimerHandler task = new InternalTimerHandler(timerId, handler, periodic, context);
-    timeouts.put(timerId, task);
+    EventLoop el = context.nettyEventLoop();
+    TimerWheel wheel = timerWheels != null ? timerWheels.get(el) : null;
+    long timerId;
+    ConcurrentMap<Long, InternalTimerHandler> timers;
+    if (wheel != null) {
+      timerId = wheel.nextId();
+      timers = wheel.timers;
+    } else {
+      timerId = timeoutCounter.getAndIncrement();
+      timers = timeouts;
+    }
+    InternalTimerHandler task = new InternalTimerHandler(timerId, handler, periodic, context, timers);
+    timers.put(timerId, task);
     if (addCloseHook) {
       context.addCloseHook(task);
     }
-    EventLoop el = context.nettyEventLoop();
-    if (periodic) {
+    if (wheel != null) {
+      if (periodic) {
+        task.future = wheel.scheduleAtFixedRate(task, initialDelay, delay, timeUnit);
+      } else {
+        task.future = wheel.schedule(task, delay, timeUnit);
+      }
+    } else if (periodic) {
       task.future = el.scheduleAtFixedRate(task, initialDelay, delay, timeUnit);
     } else {
       task.future = el.schedule(task, delay, timeUnit);
@@ -674,6 +723,45 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return task.id;
   }
 
+  /**
+   * @return the timers map of the timer {@code id}
+   */
+  private ConcurrentMap<Long, InternalTimerHandler> timers(long id) {
+    int index = TimerWheel.indexOf(id);
+    if (index >= 0 && timerWheelsByIndex != null && index < timerWheelsByIndex.length) {
+      return timerWheelsByIndex[index].timers;
+    }
+    return timeouts;
+  }
+
+  /**
+   * Schedule a timer task on the {@code eventLoop}, the task is kept in the timer wheel of the event-loop
+   * when timer wheels are enabled.
+   *
+   * @param eventLoop the event-loop
+   * @param delay the delay
+   * @param unit the delay unit
+   * @return the future completed when the timer fires
+   */
+  public io.netty.util.concurrent.ScheduledFuture<Void> schedule(EventLoop eventLoop, long delay, TimeUnit unit) {
+    TimerWheel wheel = timerWheels != null ? timerWheels.get(eventLoop) : null;
+    if (wheel != null) {
+      return wheel.schedule(() -> {}, delay, unit);
+    }
+    return eventLoop.schedule(() -> null, delay, unit);
+  }
+
+  /**
+   * @return the tracker of the deadlines of the {@code eventLoop}
+   */
+  public DeadlineTracker deadlineTracker(EventLoop eventLoop) {
+    DeadlineTracker tracker = deadlineTrackers.get(eventLoop);
+    if (tracker == null) {
+      tracker = deadlineTrackers.computeIfAbsent(eventLoop, DeadlineTracker::new);
+    }
+    return tracker;
+  }
+
   public long scheduleTimeout(ContextInternal context,
                                               boolean periodic,
                                               long delay,
@@ -703,7 +791,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
         }
       } else {
         EventLoop eventLoop = stickyEventLoop();
-        return new ShadowContext(this, new EventLoopExecutor(eventLoop), context);
+        return new ShadowContext(this, eventLoopExecutor(eventLoop), context);
       }
     } else {
       WeakReference<ContextInternal> ref = stickyContext.get();
@@ -960,6 +1048,14 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }).onComplete(ar -> {
       workerPool.close();
       internalWorkerPool.close();
+      ((SharedDataImpl) sharedData).close();
+      if (eventLoopProfilers != null) {
+        for (EventLoopProfiler profiler : eventLoopProfilers.values()) {
+          if (profiler.metrics() != null) {
+            profiler.metrics().close();
+          }
+        }
+      }
       List<WorkerPool> objects = SharedResourceHolder.clearSharedResource(this, "__vertx.shared.workerPools");
       for (WorkerPool workerPool : objects) {
         workerPool.close();
@@ -1005,9 +1101,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   /**
-   * Timers are stored in the {@link #timeouts} map at creation time.
+   * Timers are stored in the {@link #timeouts} map or the map of their {@link TimerWheel} at creation time.
    * <p/>
-   * Timers are removed from the {@link #timeouts} map when they are cancelled or are fired. The thread
+   * Timers are removed from this map when they are cancelled or are fired. The thread
    * removing the timer successfully owns the timer termination (i.e cancel or timer) to avoid race conditions
    * between timeout and cancellation.
    * <p/>
@@ -1020,11 +1116,13 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     private final boolean periodic;
     private final long id;
     private final ContextInternal context;
+    private final ConcurrentMap<Long, InternalTimerHandler> timers;
     private final AtomicBoolean disposed = new AtomicBoolean();
     private volatile java.util.concurrent.Future<?> future;
 
-    InternalTimerHandler(long id, Handler<Long> runnable, boolean periodic, ContextInternal context) {
+    InternalTimerHandler(long id, Handler<Long> runnable, boolean periodic, ContextInternal context, ConcurrentMap<Long, InternalTimerHandler> timers) {
       this.context = context;
+      this.timers = timers;
       this.id = id;
       this.handler = runnable;
       this.periodic = periodic;
@@ -1045,7 +1143,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
           handler.handle(id);
         }
       } else if (disposed.compareAndSet(false, true)) {
-        timeouts.remove(id);
+        timers.remove(id);
         try {
           handler.handle(id);
         } finally {
@@ -1067,7 +1165,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
     private boolean tryCancel() {
       if  (disposed.compareAndSet(false, true)) {
-        timeouts.remove(id);
+        timers.remove(id);
         future.cancel(false);
         return true;
       } else {
@@ -1119,7 +1217,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
     WorkerPool shared = createSharedResource("__vertx.shared.workerPools", name, closeFuture, cf -> {
       ThreadFactory workerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxExecuteTime, maxExecuteTimeUnit, name + "-", true);
-      ExecutorService workerExec = executorServiceFactory.createExecutor(workerThreadFactory, poolSize, poolSize);
+      ExecutorService workerExec = createWorkerExecutor(executorServiceFactory, workerPoolWorkStealing, workerThreadFactory, poolSize);
       PoolMetrics workerMetrics = metrics != null ? metrics.createPoolMetrics("worker", name, poolSize) : null;
       WorkerPool pool = new WorkerPool(workerExec, workerMetrics);
       cf.add(completion -> {
@@ -1142,6 +1240,30 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return new WorkerPool(executor, workerMetrics);
   }
 
+  private EventLoopExecutor eventLoopExecutor(EventLoop eventLoop) {
+    EventLoopProfiler profiler = eventLoopProfilers != null ? eventLoopProfilers.get(eventLoop) : null;
+    return new EventLoopExecutor(eventLoop, profiler);
+  }
+
+  @Override
+  public List<EventLoopProfile> eventLoopProfiles(int topHandlers) {
+    if (eventLoopProfilers == null) {
+      return Collections.emptyList();
+    }
+    List<EventLoopProfile> profiles = new ArrayList<>(eventLoopProfilers.size());
+    for (EventLoopProfiler profiler : eventLoopProfilers.values()) {
+      profiles.add(profiler.snapshot(topHandlers));
+    }
+    return profiles;
+  }
+
+  private static ExecutorService createWorkerExecutor(ExecutorServiceFactory executorServiceFactory, boolean workStealing, ThreadFactory threadFactory, int poolSize) {
+    if (workStealing) {
+      return new WorkStealingExecutorService(threadFactory, poolSize);
+    }
+    return executorServiceFactory.createExecutor(threadFactory, poolSize, poolSize);
+  }
+
   private ThreadFactory createThreadFactory(VertxThreadFactory threadFactory, BlockedThreadChecker checker, Boolean useDaemonThread, long maxExecuteTime, TimeUnit maxExecuteTimeUnit, String prefix, boolean worker) {
     AtomicInteger threadCount = new AtomicInteger(0);
     return runnable -> {
@@ -1191,6 +1313,13 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return virtualThreadExecutor != null;
   }
 
+  /**
+   * @return the worker pool of virtual thread contexts or {@code null} when virtual threads are not available
+   */
+  public WorkerPool virtualThreadWorkerPool() {
+    return virtualThreaWorkerPool;
+  }
+
   private CloseFuture resolveCloseFuture() {
     ContextInternal context = getContext();
     return context != null ? context.closeFuture() : closeFuture;
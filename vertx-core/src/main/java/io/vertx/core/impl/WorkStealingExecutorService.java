@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.vertx.core.internal.concurrent.TaskPriority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p> A fixed size executor service, each worker thread owns a deque per {@link TaskPriority} lane.
+ *
+ * <p> A task submitted by a worker thread is queued in the deque of this worker, other tasks are spread over the
+ * workers. A worker runs the oldest task of its own deque, when its deque is empty it steals the newest task of the
+ * deque of another worker, that is the task that would wait the longest. The lanes are scanned in priority order, a
+ * worker runs the tasks of the highest priority lane of the pool first. So that a busy higher priority lane cannot
+ * starve the lower lanes, one in {@link #FAIRNESS_INTERVAL} tasks taken by a worker is taken with the scan starting
+ * at another lane, the starting lane rotating over the lanes, which bounds the share of a lower lane to a minimum.
+ *
+ * <p> An idle worker parks, a submission only signals a worker when the pool has idle workers.
+ *
+ * <p> {@link #execute(Runnable)} queues the task in the {@link TaskPriority#NORMAL} lane, {@link #lane(TaskPriority)}
+ * returns the executor of a lane.
+ */
+public class WorkStealingExecutorService extends AbstractExecutorService {
+
+  private static final int ST_RUNNING = 0;
+  private static final int ST_SHUTDOWN = 1;
+  private static final int ST_STOP = 2;
+
+  private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+  /**
+   * The number of tasks a worker takes between two scans starting at another lane than the highest priority lane,
+   * this must be a power of two.
+   */
+  static final int FAIRNESS_INTERVAL = 16;
+  private static final AtomicIntegerFieldUpdater<Worker> PARKED_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Worker.class, "parked");
+
+  private final AtomicInteger state = new AtomicInteger();
+  private final AtomicInteger idle = new AtomicInteger();
+  private final AtomicInteger next = new AtomicInteger();
+  private final Worker[] workers;
+  private final Executor[] lanes;
+  private final CountDownLatch terminated;
+  private final ThreadLocal<Worker> current = new ThreadLocal<>();
+
+  public WorkStealingExecutorService(ThreadFactory threadFactory, int size) {
+    Objects.requireNonNull(threadFactory);
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be > 0");
+    }
+    workers = new Worker[size];
+    lanes = new Executor[PRIORITIES.length];
+    terminated = new CountDownLatch(size);
+    for (TaskPriority priority : PRIORITIES) {
+      int lane = priority.ordinal();
+      lanes[lane] = priority == TaskPriority.NORMAL ? this : command -> execute(command, lane);
+    }
+    for (int i = 0;i < size;i++) {
+      workers[i] = new Worker(i, threadFactory);
+    }
+    for (Worker worker : workers) {
+      worker.thread.start();
+    }
+  }
+
+  /**
+   * @return the executor queuing its tasks in the lane of the {@code priority}, the executor of the
+   *         {@link TaskPriority#NORMAL} lane is this executor service
+   */
+  public Executor lane(TaskPriority priority) {
+    return lanes[priority.ordinal()];
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    execute(command, TaskPriority.NORMAL.ordinal());
+  }
+
+  private void execute(Runnable command, int lane) {
+    Objects.requireNonNull(command);
+    if (state.get() != ST_RUNNING) {
+      throw new RejectedExecutionException();
+    }
+    Worker worker = current.get();
+    if (worker == null) {
+      worker = workers[(next.getAndIncrement() & Integer.MAX_VALUE) % workers.length];
+    }
+    ConcurrentLinkedDeque<Runnable> deque = worker.deques[lane];
+    deque.offerLast(command);
+    if (state.get() != ST_RUNNING && deque.removeLastOccurrence(command)) {
+      // Shutdown happened concurrently, the workers might be gone
+      throw new RejectedExecutionException();
+    }
+    signal(worker);
+  }
+
+  /**
+   * Unpark an idle worker, preferably the {@code target} worker.
+   */
+  private void signal(Worker target) {
+    if (idle.get() == 0) {
+      return;
+    }
+    int size = workers.length;
+    for (int i = 0;i < size;i++) {
+      if (workers[(target.index + i) % size].wake()) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    if (state.compareAndSet(ST_RUNNING, ST_SHUTDOWN)) {
+      for (Worker worker : workers) {
+        LockSupport.unpark(worker.thread);
+      }
+    }
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    int st;
+    do {
+      st = state.get();
+      if (st == ST_STOP) {
+        return new ArrayList<>();
+      }
+    } while (!state.compareAndSet(st, ST_STOP));
+    List<Runnable> pending = new ArrayList<>();
+    for (Worker worker : workers) {
+      worker.thread.interrupt();
+      for (ConcurrentLinkedDeque<Runnable> deque : worker.deques) {
+        Runnable task;
+        while ((task = deque.pollFirst()) != null) {
+          pending.add(task);
+        }
+      }
+    }
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return state.get() != ST_RUNNING;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return terminated.getCount() == 0;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return terminated.await(timeout, unit);
+  }
+
+  private final class Worker implements Runnable {
+
+    private final int index;
+    private final ConcurrentLinkedDeque<Runnable>[] deques;
+    private final Thread thread;
+    private volatile int parked;
+    // Accessed from the worker thread
+    private int taken;
+    private int turn;
+
+    Worker(int index, ThreadFactory threadFactory) {
+      this.index = index;
+      this.thread = threadFactory.newThread(this);
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      ConcurrentLinkedDeque<Runnable>[] deques = new ConcurrentLinkedDeque[PRIORITIES.length];
+      for (int i = 0;i < deques.length;i++) {
+        deques[i] = new ConcurrentLinkedDeque<>();
+      }
+      this.deques = deques;
+    }
+
+    /**
+     * @return whether this worker was parked and has been woken up
+     */
+    boolean wake() {
+      if (parked == 1 && PARKED_UPDATER.compareAndSet(this, 1, 0)) {
+        idle.decrementAndGet();
+        LockSupport.unpark(thread);
+        return true;
+      }
+      return false;
+    }
+
+    private void unparked() {
+      if (PARKED_UPDATER.compareAndSet(this, 1, 0)) {
+        idle.decrementAndGet();
+      }
+    }
+
+    @Override
+    public void run() {
+      current.set(this);
+      try {
+        Runnable task;
+        while ((task = take()) != null) {
+          if (state.get() != ST_STOP) {
+            // Clear a stale interrupt of the previous task
+            Thread.interrupted();
+          }
+          try {
+            task.run();
+          } catch (Throwable t) {
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+          }
+        }
+      } finally {
+        current.remove();
+        terminated.countDown();
+      }
+    }
+
+    /**
+     * @return the next task to run or {@code null} when the worker shall terminate
+     */
+    private Runnable take() {
+      while (true) {
+        int st = state.get();
+        if (st == ST_STOP) {
+          return null;
+        }
+        Runnable task = poll();
+        if (task != null) {
+          return task;
+        }
+        if (st == ST_SHUTDOWN) {
+          return null;
+        }
+        parked = 1;
+        idle.incrementAndGet();
+        // Check again after publishing the parked state, a submitter that has not seen it queued its task before
+        task = poll();
+        if (task == null && state.get() == ST_RUNNING) {
+          LockSupport.park(this);
+        }
+        unparked();
+        if (task != null) {
+          return task;
+        }
+      }
+    }
+
+    private Runnable poll() {
+      int lanes = deques.length;
+      int first = 0;
+      if ((taken & (FAIRNESS_INTERVAL - 1)) == FAIRNESS_INTERVAL - 1) {
+        // Give the turn to another lane
+        turn = (turn + 1) % lanes;
+        first = turn;
+      }
+      for (int i = 0;i < lanes;i++) {
+        Runnable task = poll((first + i) % lanes);
+        if (task != null) {
+          taken++;
+          return task;
+        }
+      }
+      return null;
+    }
+
+    private Runnable poll(int lane) {
+      Runnable task = deques[lane].pollFirst();
+      if (task != null) {
+        return task;
+      }
+      int size = workers.length;
+      for (int i = 1;i < size;i++) {
+        // Steal the newest task of the same lane of another worker
+        task = workers[(index + i) % size].deques[lane].pollLast();
+        if (task != null) {
+          return task;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -14,6 +14,7 @@ import io.vertx.core.Future;
 import io.vertx.core.ThreadingModel;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.EventExecutor;
+import io.vertx.core.internal.concurrent.TaskPriority;
 import io.vertx.core.spi.metrics.PoolMetrics;
 
 import java.util.concurrent.CountDownLatch;
@@ -59,7 +60,7 @@ public class WorkerExecutor implements EventExecutor {
   @Override
   public void execute(Runnable command) {
     PoolMetrics metrics = workerPool.metrics();
-    Object queueMetric = metrics != null ? metrics.enqueue() : null;
+    Object queueMetric = metrics != null ? metrics.enqueue(TaskPriority.NORMAL.lane()) : null;
     // Todo : collapse WorkerTask with context submitted task object
     WorkerTask task = new WorkerTask(metrics, queueMetric) {
       @Override
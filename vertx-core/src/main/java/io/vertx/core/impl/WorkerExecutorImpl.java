@@ -15,6 +15,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.*;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.concurrent.TaskPriority;
 import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.PoolMetrics;
@@ -60,9 +61,14 @@ class WorkerExecutorImpl implements MetricsProvider, WorkerExecutorInternal {
 
   @Override
   public <T> Future<@Nullable T> executeBlocking(Callable<T> blockingCodeHandler, boolean ordered) {
+    return executeBlocking(blockingCodeHandler, ordered, TaskPriority.NORMAL);
+  }
+
+  @Override
+  public <T> Future<@Nullable T> executeBlocking(Callable<T> blockingCodeHandler, boolean ordered, TaskPriority priority) {
     ContextInternal context = vertx.getOrCreateContext();
     ContextImpl impl = context instanceof DuplicatedContext ? ((DuplicatedContext)context).delegate : (ContextImpl) context;
-    return pool.executeBlocking(context, blockingCodeHandler, ordered ? impl.executeBlockingTasks : null);
+    return pool.executeBlocking(context, blockingCodeHandler, ordered ? impl.executeBlockingTasks : null, priority);
   }
 
   @Override
@@ -11,8 +11,12 @@
 package io.vertx.core.impl;
 
 import io.vertx.core.Closeable;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.internal.concurrent.TaskPriority;
+
+import java.util.concurrent.Callable;
 
 /**
  * @author Thomas Segismont
@@ -21,4 +25,10 @@ public interface WorkerExecutorInternal extends WorkerExecutor {
   Vertx vertx();
 
   WorkerPool getPool();
+
+  /**
+   * Like {@link #executeBlocking(Callable, boolean)} but the task is queued in the worker pool lane of the
+   * {@code priority}, the priority is ignored when the worker pool has no lanes.
+   */
+  <T> Future<T> executeBlocking(Callable<T> blockingCodeHandler, boolean ordered, TaskPriority priority);
 }
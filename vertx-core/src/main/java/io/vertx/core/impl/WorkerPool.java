@@ -14,6 +14,7 @@ package io.vertx.core.impl;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.concurrent.TaskPriority;
 import io.vertx.core.spi.metrics.PoolMetrics;
 
 import java.util.concurrent.Callable;
@@ -38,6 +39,16 @@ public class WorkerPool {
     return pool;
   }
 
+  /**
+   * @return the executor of the lane of the {@code priority}, when the pool has no lanes this is the pool executor
+   */
+  public Executor executor(TaskPriority priority) {
+    if (pool instanceof WorkStealingExecutorService) {
+      return ((WorkStealingExecutorService) pool).lane(priority);
+    }
+    return pool;
+  }
+
   public PoolMetrics metrics() {
     return metrics;
   }
@@ -50,9 +61,17 @@ public class WorkerPool {
   }
 
   public <T> Future<T> executeBlocking(ContextInternal context, Callable<T> blockingCodeHandler, TaskQueue queue) {
+    return executeBlocking(context, blockingCodeHandler, queue, TaskPriority.NORMAL);
+  }
+
+  public <T> Future<T> executeBlocking(ContextInternal context, Callable<T> blockingCodeHandler, TaskQueue queue, TaskPriority priority) {
+    if (!(pool instanceof WorkStealingExecutorService)) {
+      // No lanes
+      priority = TaskPriority.NORMAL;
+    }
     Promise<T> promise = context.promise();
     Future<T> fut = promise.future();
-    Object queueMetric = metrics != null ? metrics.enqueue() : null;
+    Object queueMetric = metrics != null ? metrics.enqueue(priority.lane()) : null;
     WorkerTask task = new WorkerTask(metrics, queueMetric) {
       @Override
       protected void execute() {
@@ -77,7 +96,7 @@ public class WorkerPool {
       }
     };
     try {
-      Executor exec = executor();
+      Executor exec = executor(priority);
       if (queue != null) {
         queue.execute(task, exec);
       } else {
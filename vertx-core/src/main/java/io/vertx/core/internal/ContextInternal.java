@@ -19,6 +19,10 @@ import io.vertx.core.impl.deployment.DeploymentContext;
 import io.vertx.core.impl.future.FailedFuture;
 import io.vertx.core.impl.future.PromiseImpl;
 import io.vertx.core.impl.future.SucceededFuture;
+import io.vertx.core.internal.concurrent.Deadline;
+import io.vertx.core.internal.concurrent.DeadlineTracker;
+import io.vertx.core.internal.concurrent.TaskPriority;
+import io.vertx.core.internal.profiler.HandlerTask;
 import io.vertx.core.spi.context.storage.AccessMode;
 import io.vertx.core.spi.context.storage.ContextLocal;
 import io.vertx.core.spi.tracing.VertxTracer;
@@ -47,7 +51,12 @@ public interface ContextInternal extends Context {
 
   @Override
   default void runOnContext(Handler<Void> action) {
-    executor().execute(() -> dispatch(action));
+    EventExecutor executor = executor();
+    if (HandlerTask.isProfiled(executor)) {
+      executor.execute(HandlerTask.dispatch(this, null, action));
+    } else {
+      executor.execute(() -> dispatch(action));
+    }
   }
 
   /**
@@ -137,6 +146,18 @@ public interface ContextInternal extends Context {
     return new FailedFuture<>(this, message);
   }
 
+  /**
+   * Like {@link #executeBlocking(Callable, boolean)} but the task is queued in the worker pool lane of the
+   * {@code priority}, the priority is ignored when the worker pool has no lanes.
+   *
+   * @param blockingCodeHandler handler representing the blocking code to run
+   * @param ordered if true then if executeBlocking is called several times on the same context, the executions
+   *                for that context will be executed serially, not in parallel
+   * @param priority the priority of the task
+   * @return a future completed when the blocking code is complete
+   */
+  <T> Future<T> executeBlocking(Callable<T> blockingCodeHandler, boolean ordered, TaskPriority priority);
+
   /**
    * Execute an internal task on the internal blocking ordered executor.
    */
@@ -283,6 +304,9 @@ public interface ContextInternal extends Context {
   void reportException(Throwable t);
 
   /**
+   * The context data map is kept for compatibility, it is shared by a context and its duplicates, internal
+   * components should prefer a {@link ContextLocal} which is stored in an indexed slot of the context.
+   *
    * @return the {@link ConcurrentMap} used to store context data
    * @see Context#get(Object)
    * @see Context#put(Object, Object)
@@ -306,6 +330,9 @@ public interface ContextInternal extends Context {
   }
 
   /**
+   * The local context data map is kept for compatibility, it is allocated on first use in the reserved slot of the
+   * context locals, internal components should prefer a {@link ContextLocal}.
+   *
    * @return the {@link ConcurrentMap} used to store local context data
    */
   default ConcurrentMap<Object, Object> localContextData() {
@@ -437,6 +464,18 @@ public interface ContextInternal extends Context {
     return owner.scheduleTimeout(this, false, delay, TimeUnit.MILLISECONDS, false, handler);
   }
 
+  /**
+   * Create a deadline calling the {@code handler} on this context when it elapses, unlike a timer scheduling and
+   * cancelling a deadline does not schedule a task on the event-loop, the deadline is checked on a coarse tick.
+   *
+   * @param handler the handler
+   * @return the deadline, not yet scheduled
+   */
+  default Deadline deadline(Handler<Void> handler) {
+    DeadlineTracker tracker = ((VertxImpl) owner()).deadlineTracker(nettyEventLoop());
+    return tracker.deadline(this, handler);
+  }
+
   /**
    * Like {@link #timer(long, TimeUnit)} with a unit in millis.
    */
@@ -458,7 +497,7 @@ public interface ContextInternal extends Context {
     if (delay <= 0) {
       throw new IllegalArgumentException("Invalid timer delay: " + delay);
     }
-    io.netty.util.concurrent.ScheduledFuture<Void> fut = nettyEventLoop().schedule(() -> null, delay, unit);
+    io.netty.util.concurrent.ScheduledFuture<Void> fut = ((VertxImpl) owner()).schedule(nettyEventLoop(), delay, unit);
     TimerImpl timer = new TimerImpl(this, fut);
     fut.addListener(timer);
     return timer;
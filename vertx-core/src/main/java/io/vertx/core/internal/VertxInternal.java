@@ -19,6 +19,7 @@ import io.vertx.core.*;
 import io.vertx.core.dns.impl.DnsAddressResolverProvider;
 import io.vertx.core.impl.*;
 import io.vertx.core.impl.deployment.DeploymentContext;
+import io.vertx.core.internal.profiler.EventLoopProfile;
 import io.vertx.core.internal.threadchecker.BlockedThreadChecker;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.impl.NetServerInternal;
@@ -33,6 +34,7 @@ import java.io.File;
 import java.lang.ref.Cleaner;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -322,4 +324,10 @@ public interface VertxInternal extends Vertx {
    * @return whether virtual threads are available
    */
   boolean isVirtualThreadAvailable();
+
+  /**
+   * @param topHandlers the maximum number of handler classes reported per event-loop
+   * @return a snapshot of the profile of each event-loop, empty when the event-loop profiling is disabled
+   */
+  List<EventLoopProfile> eventLoopProfiles(int topHandlers);
 }
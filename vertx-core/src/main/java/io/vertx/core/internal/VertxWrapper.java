@@ -24,6 +24,7 @@ import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.*;
 import io.vertx.core.impl.*;
 import io.vertx.core.impl.deployment.DeploymentContext;
+import io.vertx.core.internal.profiler.EventLoopProfile;
 import io.vertx.core.internal.threadchecker.BlockedThreadChecker;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
@@ -42,6 +43,7 @@ import java.io.File;
 import java.lang.ref.Cleaner;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -415,6 +417,11 @@ public abstract class VertxWrapper implements VertxInternal {
     return delegate.isVirtualThreadAvailable();
   }
 
+  @Override
+  public List<EventLoopProfile> eventLoopProfiles(int topHandlers) {
+    return delegate.eventLoopProfiles(topHandlers);
+  }
+
   @Override
   public boolean isMetricsEnabled() {
     return delegate.isMetricsEnabled();
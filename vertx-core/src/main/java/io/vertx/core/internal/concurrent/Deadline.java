@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.concurrent;
+
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * <p> A deadline checked by the {@link DeadlineTracker} of a context event-loop, this is a cheap replacement for a
+ * timer that is usually cancelled before it fires, e.g. a request timeout.
+ *
+ * <p> Scheduling and cancelling a deadline writes a field, the deadline is handed to the tracker only when it is not
+ * already tracked or when it is rescheduled before the tick it is tracked at. A deadline can be scheduled again after
+ * it has been cancelled or after it has fired.
+ *
+ * <p> The tracker checks deadlines on a coarse tick, the handler is called on the context after the deadline has
+ * elapsed, possibly up to a tick later.
+ */
+public final class Deadline {
+
+  private static final AtomicLongFieldUpdater<Deadline> DEADLINE_UPDATER = AtomicLongFieldUpdater.newUpdater(Deadline.class, "deadline");
+  private static final AtomicIntegerFieldUpdater<Deadline> TRACKED_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Deadline.class, "tracked");
+
+  private final DeadlineTracker tracker;
+  private final ContextInternal context;
+  private final Handler<Void> handler;
+
+  // The deadline in nanos or 0 when the deadline is not scheduled
+  private volatile long deadline;
+
+  // 1 when the deadline is referenced by the tracker
+  private volatile int tracked;
+
+  // The time of the tick the deadline is tracked at
+  volatile long placement;
+
+  // Tracker state: the tick of the deadline in the wheel or -1 when it is not in the wheel
+  long tick = -1L;
+
+  Deadline(DeadlineTracker tracker, ContextInternal context, Handler<Void> handler) {
+    this.tracker = tracker;
+    this.context = context;
+    this.handler = handler;
+  }
+
+  /**
+   * Schedule the deadline after the {@code delay}, a deadline already scheduled is rescheduled.
+   *
+   * @param delay the delay
+   * @param unit the delay unit
+   * @throws IllegalArgumentException when the {@code delay} is not positive
+   */
+  public void schedule(long delay, TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException("Invalid deadline delay: " + delay);
+    }
+    long value = System.nanoTime() + unit.toNanos(delay);
+    deadline = value == 0L ? 1L : value;
+    if (tracked == 0 && TRACKED_UPDATER.compareAndSet(this, 0, 1)) {
+      tracker.track(this);
+    } else if (value - placement < 0L) {
+      // Earlier than the tick it is tracked at
+      tracker.track(this);
+    }
+  }
+
+  /**
+   * Cancel the deadline.
+   *
+   * @return {@code true} when the deadline was scheduled, {@code false} when it was not scheduled or has fired
+   */
+  public boolean cancel() {
+    return DEADLINE_UPDATER.getAndSet(this, 0L) != 0L;
+  }
+
+  /**
+   * @return whether the deadline is scheduled
+   */
+  public boolean isScheduled() {
+    return deadline != 0L;
+  }
+
+  long deadline() {
+    return deadline;
+  }
+
+  /**
+   * Expire the deadline that elapsed at {@code value}.
+   *
+   * @return whether the deadline expired, otherwise it was cancelled or rescheduled concurrently
+   */
+  boolean expire(long value) {
+    return DEADLINE_UPDATER.compareAndSet(this, value, 0L);
+  }
+
+  /**
+   * Untrack the deadline.
+   *
+   * @return {@code true} when the deadline is not tracked anymore, {@code false} when the deadline has been scheduled
+   *         concurrently and must be kept tracked
+   */
+  boolean untrack() {
+    tracked = 0;
+    return deadline == 0L || !TRACKED_UPDATER.compareAndSet(this, 0, 1);
+  }
+
+  void fire() {
+    context.emit(handler);
+  }
+}
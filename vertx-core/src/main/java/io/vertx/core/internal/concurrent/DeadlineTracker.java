@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.concurrent;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * <p> Tracks the {@link Deadline deadlines} of an event-loop.
+ *
+ * <p> Deadlines are handed to the tracker through a multi producer queue, the event-loop places them in a hashed
+ * wheel of ticks and runs a tick task that only visits the buckets of the elapsed ticks: it fires the elapsed
+ * deadlines, forgets the cancelled ones and moves the rescheduled ones to the bucket of their new tick. A deadline
+ * rescheduled before its tick is handed again to the tracker. The tick task only runs when the tracker has deadlines.
+ */
+public final class DeadlineTracker {
+
+  /**
+   * The default tick duration in millis.
+   */
+  public static final long DEFAULT_TICK_DURATION = 10L;
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+  private static final AtomicIntegerFieldUpdater<DeadlineTracker> ARMED_UPDATER = AtomicIntegerFieldUpdater.newUpdater(DeadlineTracker.class, "armed");
+
+  private final EventLoop eventLoop;
+  private final long tickDuration;
+  private final long tickNanos;
+  private final long origin;
+  private final Queue<Deadline> queue = PlatformDependent.newMpscQueue();
+  private volatile int armed;
+
+  // Event-loop state
+  private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+  private final List<Deadline> moved = new ArrayList<>();
+  private long tick; // The next tick to visit
+  private int size;  // The number of wheel entries
+
+  public DeadlineTracker(EventLoop eventLoop) {
+    this(eventLoop, DEFAULT_TICK_DURATION);
+  }
+
+  public DeadlineTracker(EventLoop eventLoop, long tickDuration) {
+    if (tickDuration <= 0) {
+      throw new IllegalArgumentException("Invalid tick duration: " + tickDuration);
+    }
+    this.eventLoop = eventLoop;
+    this.tickDuration = tickDuration;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+    this.origin = System.nanoTime();
+  }
+
+  /**
+   * Create a deadline, the {@code handler} is called on the {@code context} when the deadline elapses.
+   *
+   * @param context the context
+   * @param handler the handler
+   * @return the deadline
+   */
+  public Deadline deadline(ContextInternal context, Handler<Void> handler) {
+    return new Deadline(this, context, handler);
+  }
+
+  void track(Deadline deadline) {
+    queue.add(deadline);
+    if (armed == 0 && ARMED_UPDATER.compareAndSet(this, 0, 1)) {
+      arm();
+    }
+  }
+
+  private void arm() {
+    eventLoop.schedule(this::onTick, tickDuration, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @return the first tick elapsed at {@code value}, not before the next tick to visit
+   */
+  private long tickOf(long value) {
+    if (value == 0L) {
+      // Cancelled, visit it at the next tick
+      return tick;
+    }
+    long t = value - origin;
+    return t <= 0L ? tick : Math.max(tick, (t + tickNanos - 1) / tickNanos);
+  }
+
+  private void place(Deadline deadline, long value) {
+    long t = tickOf(value);
+    deadline.tick = t;
+    deadline.placement = origin + t * tickNanos;
+    int index = (int) (t & WHEEL_MASK);
+    Bucket bucket = wheel[index];
+    if (bucket == null) {
+      bucket = new Bucket();
+      wheel[index] = bucket;
+    }
+    bucket.add(deadline);
+    size++;
+  }
+
+  private void onTick() {
+    Deadline deadline;
+    while ((deadline = queue.poll()) != null) {
+      long value = deadline.deadline();
+      if (deadline.tick < 0L) {
+        // Not in the wheel
+        if (value != 0L || !deadline.untrack()) {
+          place(deadline, deadline.deadline());
+        }
+      } else if (value != 0L && tickOf(value) != deadline.tick) {
+        // Rescheduled before its tick, the previous wheel entry becomes stale
+        place(deadline, value);
+      }
+    }
+    long now = System.nanoTime();
+    long last = (now - origin) / tickNanos;
+    List<Deadline> expired = null;
+    if (last >= tick) {
+      long from = tick;
+      tick = last + 1;
+      // A bucket holds the ticks of every wheel round, visiting each bucket once is enough to catch up
+      long to = Math.min(last, from + WHEEL_SIZE - 1);
+      for (long t = from;t <= to;t++) {
+        int index = (int) (t & WHEEL_MASK);
+        Bucket bucket = wheel[index];
+        if (bucket != null && bucket.size > 0) {
+          expired = sweep(bucket, index, last, now, expired);
+        }
+      }
+      for (Deadline d : moved) {
+        place(d, d.deadline());
+      }
+      moved.clear();
+    }
+    // Fire after the sweep, a handler can schedule a deadline
+    if (expired != null) {
+      for (Deadline e : expired) {
+        e.fire();
+      }
+    }
+    if (size > 0) {
+      arm();
+    } else {
+      armed = 0;
+      if (!queue.isEmpty() && ARMED_UPDATER.compareAndSet(this, 0, 1)) {
+        arm();
+      }
+    }
+  }
+
+  /**
+   * Visit the entries of a bucket elapsed at the {@code last} tick.
+   */
+  private List<Deadline> sweep(Bucket bucket, int index, long last, long now, List<Deadline> expired) {
+    Deadline[] entries = bucket.entries;
+    int n = bucket.size;
+    int kept = 0;
+    for (int i = 0;i < n;i++) {
+      Deadline deadline = entries[i];
+      entries[i] = null;
+      long t = deadline.tick;
+      if (t < 0L || (t & WHEEL_MASK) != index) {
+        // Stale entry of a deadline moved to another bucket
+        size--;
+        continue;
+      }
+      if (t > last) {
+        // A later round
+        entries[kept++] = deadline;
+        continue;
+      }
+      size--;
+      long value = deadline.deadline();
+      if (value != 0L) {
+        if (value - now > 0L) {
+          // Rescheduled
+          deadline.tick = -1L;
+          moved.add(deadline);
+          continue;
+        }
+        if (deadline.expire(value)) {
+          if (expired == null) {
+            expired = new ArrayList<>();
+          }
+          expired.add(deadline);
+        }
+      }
+      deadline.tick = -1L;
+      if (!deadline.untrack()) {
+        // Scheduled concurrently
+        moved.add(deadline);
+      }
+    }
+    bucket.size = kept;
+    return expired;
+  }
+
+  private static final class Bucket {
+
+    private Deadline[] entries = new Deadline[4];
+    private int size;
+
+    private void add(Deadline deadline) {
+      if (size == entries.length) {
+        Deadline[] copy = new Deadline[size * 2];
+        System.arraycopy(entries, 0, copy, 0, size);
+        entries = copy;
+      }
+      entries[size++] = deadline;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.concurrent;
+
+/**
+ * <p> The priority of a blocking task, selecting the lane of the worker pool the task is queued in.
+ *
+ * <p> A work stealing worker pool runs the tasks of the highest priority lane first while guaranteeing a minimum share
+ * of the workers to the lower lanes, other worker pools run the tasks in submission order and queue all of them in the
+ * {@link #NORMAL} lane.
+ */
+public enum TaskPriority {
+
+  HIGH("high"),
+
+  NORMAL("normal"),
+
+  LOW("low");
+
+  private final String lane;
+
+  TaskPriority(String lane) {
+    this.lane = lane;
+  }
+
+  /**
+   * @return the name of the lane reported to the pool metrics
+   */
+  public String lane() {
+    return lane;
+  }
+}
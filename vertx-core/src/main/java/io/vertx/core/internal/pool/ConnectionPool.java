@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * A connection pool.
@@ -43,6 +44,23 @@ public interface ConnectionPool<C> {
     return new SimpleConnectionPool<>(connector, maxSizes, maxWaiters);
   }
 
+  /**
+   * Create a pool sharding its connections by event-loop, see {@link ShardedConnectionPool}.
+   */
+  static <C> ConnectionPool<C> sharded(PoolConnector<C> connector, int[] maxSizes, int maxWaiters) {
+    return new ShardedConnectionPool<>(connector, maxSizes, maxWaiters);
+  }
+
+  /**
+   * Create a pool sharding its connections by event-loop with a strict event-loop affinity, each event-loop can create
+   * at most a slice of the {@code maxSizes}, see {@link ShardedConnectionPool}.
+   *
+   * @param slices the number of slices, usually the number of event-loops
+   */
+  static <C> ConnectionPool<C> sharded(PoolConnector<C> connector, int[] maxSizes, int maxWaiters, int slices) {
+    return new ShardedConnectionPool<>(connector, maxSizes, maxWaiters, slices);
+  }
+
   /**
    * Set a {@code selector} function that decides the best connection to use.
    *
@@ -97,6 +115,18 @@ public interface ConnectionPool<C> {
     acquire(context, listener, kind).onComplete(handler);
   }
 
+  /**
+   * Establish the connections of a {@code kind} missing for the pool to hold {@code count} connections of this kind,
+   * the connections being established are counted. The new connections are not leased, they serve the waiters and
+   * are then available to the next acquisitions.
+   *
+   * @param count the number of connections of the {@code kind} the pool should hold
+   * @param kind the connection kind which is an index in the max size array provided when constructing the pool
+   * @param contextSupplier provides the context of each new connection
+   * @return the future completed when the new connections are established
+   */
+  Future<Void> fill(int count, int kind, Supplier<ContextInternal> contextSupplier);
+
   /**
    * Cancel a waiter.
    *
@@ -45,6 +45,7 @@ public class PoolWaiter<C> {
 
   final PoolWaiter.Listener<C> listener;
   final ContextInternal context;
+  final int kind;
   final int capacity;
   final Promise<Lease<C>> handler;
   PoolWaiter<C> prev;
@@ -52,9 +53,10 @@ public class PoolWaiter<C> {
   boolean disposed;
   boolean queued;
 
-  PoolWaiter(PoolWaiter.Listener<C> listener, ContextInternal context, final int capacity, Promise<Lease<C>> handler) {
+  PoolWaiter(PoolWaiter.Listener<C> listener, ContextInternal context, int kind, final int capacity, Promise<Lease<C>> handler) {
     this.listener = listener;
     this.context = context;
+    this.kind = kind;
     this.capacity = capacity;
     this.handler = handler;
   }
@@ -0,0 +1,858 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.pool;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.internal.ContextInternal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <p> A connection pool sharded by event-loop.
+ *
+ * <h3>Shards</h3>
+ *
+ * <p> Each event-loop owns a shard holding the connections bound to this event-loop. A shard keeps its connections
+ * with available capacity in a lock-free free list, a connection is acquired by popping it from the free list of the
+ * shard of the requester event-loop and is pushed back when recycled. The free list is used as a stack so the most
+ * recently used connection is acquired first.
+ *
+ * <p> The free lists of the other shards are only looked up when the requester shard is empty and the pool cannot
+ * create a new connection.
+ *
+ * <h3>Pool capacity</h3>
+ *
+ * <p> Like {@link SimpleConnectionPool} the pool capacity is constrained by {@code maxCapacity}. The capacity is counted
+ * by a striped counter where each shard holds a stripe: a connection request adds its capacity to the stripe of its
+ * shard and then checks the sum of the stripes does not exceed the max capacity, rolling back otherwise.
+ *
+ * <h3>Event-loop affinity</h3>
+ *
+ * <p> A pool created with a number of {@code slices} has a strict event-loop affinity: the stripe of a shard cannot
+ * exceed a slice of the pool capacity, i.e. each event-loop can create at most {@code ceil(maxSize / slices)}
+ * connections of each kind. An event-loop cannot take the whole capacity of the pool and the other event-loops can
+ * always create their own connections, a request uses the connections of another event-loop only when the slice of its
+ * own event-loop is exhausted.
+ *
+ * <h3>Waiters</h3>
+ *
+ * <p> When the pool is full, waiters are queued and served by the threads recycling or removing connections. There is no
+ * lock, instead a waiter is owned by the thread that removes it from the queue and a thread that cannot serve the
+ * waiter it owns puts it back at the head of the queue and then checks the pool again.
+ *
+ * <h3>Connection selector</h3>
+ *
+ * <p> Unlike {@link SimpleConnectionPool}, a {@link ConnectionPool#connectionSelector(BiFunction) connection selector}
+ * is given the available connections of a single shard, the shard of the requester event-loop and then the other
+ * shards in turn. The selector is not serialized and can be called concurrently by several threads. A selector returning
+ * {@code null} does not prevent the reuse of the available connections of the shard, the most recently used one is
+ * acquired instead, so waiters are never left queued while connections are available.
+ *
+ * <p> The max wait queue size is only approximately enforced under contention.
+ */
+public class ShardedConnectionPool<C> implements ConnectionPool<C> {
+
+  private static final Future<?> POOL_CLOSED = Future.failedFuture("Pool closed");
+
+  private static final int EVICTED = Integer.MAX_VALUE;
+
+  /**
+   * The connections of an event-loop.
+   */
+  static final class Shard<C> {
+
+    private final EventLoop eventLoop;
+    private final int index;
+    private final ConcurrentLinkedDeque<Slot<C>> free = new ConcurrentLinkedDeque<>();
+    private final ConcurrentLinkedDeque<Slot<C>> slots = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger capacity = new AtomicInteger(); // The stripe of the pool capacity counter
+
+    private Shard(EventLoop eventLoop, int index) {
+      this.eventLoop = eventLoop;
+      this.index = index;
+    }
+  }
+
+  /**
+   * A slot for a connection.
+   */
+  static final class Slot<C> implements PoolConnector.Listener, PoolConnection<C> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Slot> USAGE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Slot.class, "usage");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Slot> FREE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Slot.class, "free");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Slot> REMOVED_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Slot.class, "removed");
+
+    private final ShardedConnectionPool<C> pool;
+    private final Shard<C> shard;         // The shard of the connection event-loop
+    private final Shard<C> stripe;        // The shard holding the capacity of this slot
+    private final ContextInternal context;
+    private final Promise<C> result;
+    private volatile Acquire<C> initiator;
+    private volatile C connection;        // The actual connection, might be null
+    private volatile long concurrency;    // The total number of times the connection can be acquired
+    private volatile int capacity;        // The connection capacity
+    private volatile int kind;            // The connection kind, the requested kind until the connection is established
+    private volatile int usage;           // The number of times this connection is acquired
+    private volatile int free;            // Whether the slot is in the shard free list
+    private volatile int removed;
+
+    Slot(ShardedConnectionPool<C> pool, Shard<C> shard, Shard<C> stripe, ContextInternal context, int capacity, int kind) {
+      this.pool = pool;
+      this.shard = shard;
+      this.stripe = stripe;
+      this.context = context;
+      this.capacity = capacity;
+      this.kind = kind;
+      this.result = context.promise();
+    }
+
+    boolean tryAcquire() {
+      while (true) {
+        int u = usage;
+        if (removed != 0 || u >= concurrency) {
+          return false;
+        }
+        if (USAGE_UPDATER.compareAndSet(this, u, u + 1)) {
+          return true;
+        }
+      }
+    }
+
+    @Override
+    public void onRemove() {
+      pool.remove(this);
+    }
+
+    @Override
+    public void onConcurrencyChange(long concurrency) {
+      pool.setConcurrency(this, concurrency);
+    }
+
+    @Override
+    public ContextInternal context() {
+      return context;
+    }
+
+    @Override
+    public C get() {
+      return connection;
+    }
+
+    @Override
+    public int usage() {
+      return usage;
+    }
+
+    @Override
+    public long available() {
+      return concurrency - usage;
+    }
+
+    @Override
+    public long concurrency() {
+      return concurrency;
+    }
+  }
+
+  private final PoolConnector<C> connector;
+  private final int maxWaiters;
+  private final int maxCapacity;
+  private final int[] capacityFactors;
+  private final int[] sliceCapacities; // The max stripe capacity per kind, null when the pool has no affinity
+  private final ConcurrentHashMap<EventLoop, Shard<C>> shardMap = new ConcurrentHashMap<>();
+  @SuppressWarnings({"rawtypes","unchecked"})
+  private volatile Shard<C>[] shards = new Shard[0];
+  private final ConcurrentLinkedDeque<Acquire<C>> waiters = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger numWaiters = new AtomicInteger();
+  private final AtomicInteger requests = new AtomicInteger();
+  private Function<ContextInternal, ContextInternal> contextProvider;
+  private volatile BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector;
+  private volatile boolean closed;
+
+  ShardedConnectionPool(PoolConnector<C> connector, int[] maxSizes) {
+    this(connector, maxSizes, -1);
+  }
+
+  ShardedConnectionPool(PoolConnector<C> connector, int[] maxSizes, int maxWaiters) {
+    this(connector, maxSizes, maxWaiters, 0);
+  }
+
+  ShardedConnectionPool(PoolConnector<C> connector, int[] maxSizes, int maxWaiters, int slices) {
+    if (slices < 0) {
+      throw new IllegalArgumentException();
+    }
+    int[] capacities = new int[maxSizes.length];
+    int maxCapacity = 1;
+    for (int maxSize : maxSizes) {
+      if (maxSize < 1) {
+        throw new IllegalArgumentException();
+      }
+      maxCapacity *= maxSize;
+    }
+    for (int i = 0;i < maxSizes.length;i++) {
+      capacities[i] = maxCapacity / maxSizes[i];
+    }
+    this.connector = connector;
+    this.maxWaiters = maxWaiters;
+    this.maxCapacity = maxCapacity;
+    this.capacityFactors = capacities;
+    if (slices > 0) {
+      int[] sliceCapacities = new int[maxSizes.length];
+      for (int i = 0;i < maxSizes.length;i++) {
+        sliceCapacities[i] = ((maxSizes[i] + slices - 1) / slices) * capacities[i];
+      }
+      this.sliceCapacities = sliceCapacities;
+    } else {
+      this.sliceCapacities = null;
+    }
+    this.contextProvider = EVENT_LOOP_CONTEXT_PROVIDER;
+  }
+
+  /**
+   * Set the connection selector, the selector is given the available connections of a single shard at a time.
+   */
+  @Override
+  public ConnectionPool<C> connectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector) {
+    this.selector = selector;
+    return this;
+  }
+
+  @Override
+  public ConnectionPool<C> contextProvider(Function<ContextInternal, ContextInternal> contextProvider) {
+    this.contextProvider = contextProvider;
+    return this;
+  }
+
+  private Shard<C> shard(EventLoop eventLoop) {
+    Shard<C> shard = shardMap.get(eventLoop);
+    if (shard == null) {
+      synchronized (this) {
+        shard = shardMap.get(eventLoop);
+        if (shard == null) {
+          Shard<C>[] list = shards;
+          shard = new Shard<>(eventLoop, list.length);
+          list = Arrays.copyOf(list, list.length + 1);
+          list[shard.index] = shard;
+          // Publish the stripe before the shard can be used
+          shards = list;
+          shardMap.put(eventLoop, shard);
+        }
+      }
+    }
+    return shard;
+  }
+
+  /**
+   * Reserve the capacity of the {@code waiter} on the stripe of its shard.
+   */
+  private boolean reserve(Acquire<C> waiter) {
+    Shard<C> stripe = waiter.shard;
+    int amount = waiter.capacity;
+    int sliceCapacity = sliceCapacity(waiter.kind);
+    while (true) {
+      int stripeCapacity = stripe.capacity.addAndGet(amount);
+      if (stripeCapacity <= sliceCapacity && capacity() <= maxCapacity) {
+        return true;
+      }
+      stripe.capacity.addAndGet(-amount);
+      // Another thread might have rolled back its reservation concurrently
+      if (!fits(waiter)) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * @return whether the capacity of the {@code waiter} fits in the pool
+   */
+  private boolean fits(Acquire<C> waiter) {
+    return waiter.shard.capacity.get() + waiter.capacity <= sliceCapacity(waiter.kind) && capacity() + waiter.capacity <= maxCapacity;
+  }
+
+  private int sliceCapacity(int kind) {
+    return sliceCapacities != null ? sliceCapacities[kind] : maxCapacity;
+  }
+
+  /**
+   * Acquire a connection of the {@code shard} for the {@code waiter}, with the connection selector when there is one.
+   */
+  private Slot<C> poll(Acquire<C> waiter, Shard<C> shard) {
+    BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector = this.selector;
+    return selector != null ? select(selector, waiter, shard) : poll(shard);
+  }
+
+  /**
+   * Pop a connection with available capacity from the free list of the {@code shard}.
+   */
+  private static <C> Slot<C> poll(Shard<C> shard) {
+    Slot<C> slot;
+    while ((slot = shard.free.pollFirst()) != null) {
+      slot.free = 0;
+      if (slot.tryAcquire()) {
+        push(slot);
+        return slot;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Select a connection among the connections of the free list of the {@code shard}, the free list entries without
+   * available capacity are discarded like when they are polled. The free list is polled when the selector does not
+   * select a connection.
+   */
+  private static <C> Slot<C> select(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector, Acquire<C> waiter, Shard<C> shard) {
+    while (true) {
+      List<PoolConnection<C>> candidates = new ArrayList<>();
+      for (Slot<C> slot : shard.free) {
+        if (slot.removed == 0 && slot.available() > 0) {
+          candidates.add(slot);
+        } else if (shard.free.remove(slot)) {
+          slot.free = 0;
+          // The slot might have been recycled concurrently
+          push(slot);
+        }
+      }
+      if (candidates.isEmpty()) {
+        return null;
+      }
+      Slot<C> slot = (Slot<C>) selector.apply(waiter, candidates);
+      if (slot == null) {
+        return poll(shard);
+      }
+      if (slot.tryAcquire()) {
+        // Move the slot to the head of the free list or discard it when it has no capacity left
+        if (shard.free.remove(slot)) {
+          slot.free = 0;
+          push(slot);
+        }
+        return slot;
+      }
+    }
+  }
+
+  /**
+   * Pop a connection from the free list of a shard other than {@code shard}.
+   */
+  private Slot<C> steal(Acquire<C> waiter, Shard<C> shard) {
+    Shard<C>[] list = shards;
+    for (int i = 1;i < list.length;i++) {
+      Slot<C> slot = poll(waiter, list[(shard.index + i) % list.length]);
+      if (slot != null) {
+        return slot;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Push the {@code slot} on the free list of its shard when it has available capacity.
+   */
+  private static <C> void push(Slot<C> slot) {
+    if (slot.removed == 0 && slot.available() > 0 && Slot.FREE_UPDATER.compareAndSet(slot, 0, 1)) {
+      slot.shard.free.offerFirst(slot);
+    }
+  }
+
+  private static class Acquire<C> extends PoolWaiter<C> {
+
+    private static final int PENDING = 0, CONNECTING = 1, DONE = 2;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Acquire> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Acquire.class, "state");
+
+    private final Shard<C> shard;
+    private volatile int state;
+
+    Acquire(PoolWaiter.Listener<C> listener, ContextInternal context, int kind, int capacity, Promise<Lease<C>> handler, Shard<C> shard) {
+      super(listener, context, kind, capacity, handler);
+      this.shard = shard;
+    }
+
+    boolean transition(int from, int to) {
+      return STATE_UPDATER.compareAndSet(this, from, to);
+    }
+
+    boolean cancel() {
+      while (true) {
+        int s = state;
+        if (s == DONE) {
+          return false;
+        }
+        if (STATE_UPDATER.compareAndSet(this, s, DONE)) {
+          return true;
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Future<Lease<C>> acquire(ContextInternal context, int kind) {
+    return acquire(context, PoolWaiter.NULL_LISTENER, kind);
+  }
+
+  @Override
+  public Future<Lease<C>> acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind) {
+    SimpleConnectionPool.LazyFuture<Lease<C>> fut = new SimpleConnectionPool.LazyFuture<>();
+    Acquire<C> waiter = new Acquire<>(listener, context, kind, capacityFactors[kind], fut, shard(context.nettyEventLoop()));
+    acquire(waiter);
+    return fut;
+  }
+
+  private void acquire(Acquire<C> waiter) {
+    if (closed) {
+      Future<Lease<C>> fut = waiter.context.failedFuture("Pool closed");
+      fut.onComplete(waiter.handler);
+      return;
+    }
+
+    // 1. Try reuse a connection of the same event-loop
+    Slot<C> slot = poll(waiter, waiter.shard);
+    if (slot != null) {
+      waiter.state = Acquire.DONE;
+      new LeaseImpl<>(slot, waiter.handler).emit();
+      return;
+    }
+
+    // 2. Try create connection
+    if (reserve(waiter)) {
+      waiter.state = Acquire.CONNECTING;
+      connect(waiter);
+      return;
+    }
+
+    // 3. Try use another event-loop
+    slot = steal(waiter, waiter.shard);
+    if (slot != null) {
+      waiter.state = Acquire.DONE;
+      new LeaseImpl<>(slot, waiter.handler).emit();
+      return;
+    }
+
+    // 4. Fall in waiters list
+    if (maxWaiters == -1 || (numWaiters.get() + requests.get()) < maxWaiters) {
+      if (waiter.listener != null) {
+        waiter.listener.onEnqueue(waiter);
+      }
+      numWaiters.incrementAndGet();
+      waiters.offerLast(waiter);
+      if (waiter.state == Acquire.DONE && waiters.remove(waiter)) {
+        // Cancelled by the listener
+        numWaiters.decrementAndGet();
+      }
+      drain();
+    } else {
+      Future<Lease<C>> fut = waiter.context.failedFuture(new ConnectionPoolTooBusyException("Connection pool reached max wait queue size of " + maxWaiters));
+      fut.onComplete(waiter.handler);
+    }
+  }
+
+  /**
+   * The pools being drained by the current thread.
+   */
+  private static final FastThreadLocal<List<Drain>> DRAINS = new FastThreadLocal<>() {
+    @Override
+    protected List<Drain> initialValue() {
+      return new ArrayList<>(1);
+    }
+  };
+
+  private static final class Drain {
+
+    private final ShardedConnectionPool<?> pool;
+    private boolean again;
+
+    private Drain(ShardedConnectionPool<?> pool) {
+      this.pool = pool;
+    }
+  }
+
+  /**
+   * Serve the queued waiters with the capacity available in the pool.
+   *
+   * <p> Serving a waiter can re-enter the pool, e.g. a connection failing synchronously, such re-entrant calls are
+   * executed by the outer call to not grow the stack with the number of waiters.
+   */
+  private void drain() {
+    List<Drain> drains = DRAINS.get();
+    for (Drain drain : drains) {
+      if (drain.pool == this) {
+        drain.again = true;
+        return;
+      }
+    }
+    Drain drain = new Drain(this);
+    drains.add(drain);
+    try {
+      do {
+        drain.again = false;
+        drain0();
+      } while (drain.again);
+    } finally {
+      drains.remove(drain);
+    }
+  }
+
+  private void drain0() {
+    Acquire<C> waiter;
+    while (!closed && (waiter = pollWaiter()) != null) {
+      if (!serve(waiter)) {
+        numWaiters.incrementAndGet();
+        waiters.offerFirst(waiter);
+        // Check again since the pool might have been updated while the waiter was out of the queue
+        if (!hasCapacity(waiter)) {
+          return;
+        }
+      }
+    }
+  }
+
+  private Acquire<C> pollWaiter() {
+    Acquire<C> waiter;
+    while ((waiter = waiters.pollFirst()) != null) {
+      numWaiters.decrementAndGet();
+      if (waiter.state != Acquire.DONE) {
+        return waiter;
+      }
+    }
+    return null;
+  }
+
+  private boolean serve(Acquire<C> waiter) {
+    Slot<C> slot = poll(waiter, waiter.shard);
+    if (slot == null) {
+      slot = steal(waiter, waiter.shard);
+    }
+    if (slot != null) {
+      if (waiter.transition(Acquire.PENDING, Acquire.DONE)) {
+        new LeaseImpl<>(slot, waiter.handler).emit();
+      } else {
+        release(slot);
+      }
+      return true;
+    }
+    if (reserve(waiter)) {
+      if (waiter.transition(Acquire.PENDING, Acquire.CONNECTING)) {
+        connect(waiter);
+      } else {
+        waiter.shard.capacity.addAndGet(-waiter.capacity);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private boolean hasCapacity(Acquire<C> waiter) {
+    for (Shard<C> shard : shards) {
+      if (!shard.free.isEmpty()) {
+        return true;
+      }
+    }
+    return fits(waiter);
+  }
+
+  private Future<C> connect(Acquire<C> waiter) {
+    ContextInternal connectionContext = contextProvider.apply(waiter.context);
+    Shard<C> shard = shard(connectionContext.nettyEventLoop());
+    Slot<C> slot = new Slot<>(this, shard, waiter.shard, connectionContext, waiter.capacity, waiter.kind);
+    shard.slots.add(slot);
+    slot.initiator = waiter;
+    requests.incrementAndGet();
+    if (waiter.listener != null) {
+      waiter.listener.onConnect(waiter);
+    }
+    connector.connect(connectionContext, slot).onComplete(ar -> {
+      slot.initiator = null;
+      requests.decrementAndGet();
+      if (ar.succeeded()) {
+        connectSucceeded(slot, ar.result(), waiter);
+      } else {
+        connectFailed(slot, ar.cause(), waiter);
+      }
+    });
+    return slot.result.future();
+  }
+
+  private void connectSucceeded(Slot<C> slot, ConnectResult<C> result, Acquire<C> waiter) {
+    if (closed) {
+      slot.connection = result.connection();
+      if (waiter.transition(Acquire.CONNECTING, Acquire.DONE)) {
+        Future<Lease<C>> fut = slot.context.failedFuture("Pool closed");
+        fut.onComplete(waiter.handler);
+      }
+      slot.result.complete(slot.connection);
+      return;
+    }
+    int capacity = capacityFactors[(int) result.weight()];
+    slot.stripe.capacity.addAndGet(capacity - slot.capacity);
+    slot.capacity = capacity;
+    slot.kind = (int) result.weight();
+    slot.concurrency = result.concurrency();
+    boolean acquired = false;
+    if (slot.concurrency == 0) {
+      if (waiter.transition(Acquire.CONNECTING, Acquire.PENDING)) {
+        numWaiters.incrementAndGet();
+        waiters.offerFirst(waiter);
+      }
+    } else if (waiter.transition(Acquire.CONNECTING, Acquire.DONE)) {
+      // Acquire the slot before it becomes visible to eviction
+      slot.usage = 1;
+      acquired = true;
+    }
+    slot.connection = result.connection();
+    LeaseImpl<C> lease = acquired ? new LeaseImpl<>(slot, waiter.handler) : null;
+    push(slot);
+    if (lease != null) {
+      lease.emit();
+    }
+    drain();
+    slot.result.complete(slot.connection);
+  }
+
+  private void connectFailed(Slot<C> slot, Throwable cause, Acquire<C> waiter) {
+    boolean notify = waiter.transition(Acquire.CONNECTING, Acquire.DONE);
+    if (!closed && removeSlot(slot)) {
+      // Serve the waiters with the released capacity first
+      drain();
+    }
+    if (notify) {
+      Future<Lease<C>> failure = closed ? poolClosed() : Future.failedFuture(cause);
+      slot.context.emit(failure, waiter.handler::handle);
+    }
+    slot.result.fail(cause);
+  }
+
+  private boolean removeSlot(Slot<C> slot) {
+    if (!Slot.REMOVED_UPDATER.compareAndSet(slot, 0, 1)) {
+      return false;
+    }
+    // Stale free list entries are discarded when polled
+    slot.shard.slots.remove(slot);
+    slot.stripe.capacity.addAndGet(-slot.capacity);
+    slot.connection = null;
+    return true;
+  }
+
+  private void remove(Slot<C> slot) {
+    if (!closed && removeSlot(slot)) {
+      drain();
+    }
+  }
+
+  private void setConcurrency(Slot<C> slot, long concurrency) {
+    if (slot.connection != null) {
+      slot.concurrency = concurrency;
+      push(slot);
+      drain();
+    }
+  }
+
+  private void release(Slot<C> slot) {
+    Slot.USAGE_UPDATER.decrementAndGet(slot);
+    push(slot);
+  }
+
+  private void recycle(LeaseImpl<C> lease) {
+    if (lease.recycled) {
+      throw new IllegalStateException("Attempt to recycle more than permitted");
+    }
+    lease.recycled = true;
+    if (closed) {
+      return;
+    }
+    release(lease.slot);
+    if (!waiters.isEmpty()) {
+      drain();
+    }
+  }
+
+  @Override
+  public Future<Void> fill(int count, int kind, Supplier<ContextInternal> contextSupplier) {
+    if (closed) {
+      return poolClosed();
+    }
+    int missing = count;
+    for (Shard<C> shard : shards) {
+      for (Slot<C> slot : shard.slots) {
+        if (slot.kind == kind) {
+          missing--;
+        }
+      }
+    }
+    List<Future<C>> results = new ArrayList<>();
+    while (missing-- > 0) {
+      ContextInternal context = contextSupplier.get();
+      // The initiator is done, the connection is not leased and serves the waiters when established
+      Acquire<C> initiator = new Acquire<>(null, context, kind, capacityFactors[kind], Promise.promise(), shard(context.nettyEventLoop()));
+      initiator.state = Acquire.DONE;
+      if (!reserve(initiator)) {
+        break;
+      }
+      results.add(connect(initiator));
+    }
+    return Future.join(results).mapEmpty();
+  }
+
+  @Override
+  public Future<Boolean> cancel(PoolWaiter<C> waiter) {
+    if (closed) {
+      return poolClosed();
+    }
+    Acquire<C> acquire = (Acquire<C>) waiter;
+    boolean cancelled = acquire.cancel();
+    if (cancelled && waiters.remove(acquire)) {
+      numWaiters.decrementAndGet();
+    }
+    return Future.succeededFuture(cancelled);
+  }
+
+  @Override
+  public Future<List<C>> evict(Predicate<C> predicate) {
+    if (closed) {
+      return poolClosed();
+    }
+    List<C> res = new ArrayList<>();
+    for (Shard<C> shard : shards) {
+      for (Iterator<Slot<C>> it = shard.slots.descendingIterator();it.hasNext();) {
+        Slot<C> slot = it.next();
+        C connection = slot.connection;
+        // Mark the slot as evicted to prevent concurrent acquisitions while testing the predicate
+        if (connection != null && Slot.USAGE_UPDATER.compareAndSet(slot, 0, EVICTED)) {
+          if (predicate.test(connection)) {
+            if (removeSlot(slot)) {
+              res.add(connection);
+            }
+          } else {
+            slot.usage = 0;
+            push(slot);
+          }
+        }
+      }
+    }
+    if (!waiters.isEmpty()) {
+      drain();
+    }
+    return Future.succeededFuture(res);
+  }
+
+  @Override
+  public Future<List<Future<C>>> close() {
+    synchronized (this) {
+      if (closed) {
+        return poolClosed();
+      }
+      closed = true;
+    }
+    List<Acquire<C>> failed = new ArrayList<>();
+    Acquire<C> waiter;
+    while ((waiter = pollWaiter()) != null) {
+      if (waiter.cancel()) {
+        failed.add(waiter);
+      }
+    }
+    List<Future<C>> list = new ArrayList<>();
+    for (Shard<C> shard : shards) {
+      for (Slot<C> slot : shard.slots) {
+        Acquire<C> initiator = slot.initiator;
+        if (initiator != null && initiator.transition(Acquire.CONNECTING, Acquire.DONE)) {
+          failed.add(initiator);
+        }
+        list.add(slot.result.future());
+      }
+      shard.slots.clear();
+      shard.free.clear();
+      shard.capacity.set(0);
+    }
+    Future<Lease<C>> failure = poolClosed();
+    failed.forEach(w -> w.context.emit(failure, w.handler::handle));
+    return Future.succeededFuture(list);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Future<T> poolClosed() {
+    return (Future<T>) POOL_CLOSED;
+  }
+
+  static class LeaseImpl<C> implements Lease<C> {
+
+    private final Promise<Lease<C>> handler;
+    private final Slot<C> slot;
+    private final C connection;
+    private boolean recycled;
+
+    LeaseImpl(Slot<C> slot, Promise<Lease<C>> handler) {
+      this.handler = handler;
+      this.slot = slot;
+      this.connection = slot.connection;
+    }
+
+    @Override
+    public C get() {
+      return connection;
+    }
+
+    @Override
+    public void recycle() {
+      slot.pool.recycle(this);
+    }
+
+    void emit() {
+      Future<Lease<C>> fut = slot.context.succeededFuture(this);
+      fut.onComplete(handler);
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Shard<C> shard : shards) {
+      size += shard.slots.size();
+    }
+    return size;
+  }
+
+  @Override
+  public int waiters() {
+    return numWaiters.get();
+  }
+
+  @Override
+  public int capacity() {
+    int capacity = 0;
+    for (Shard<C> shard : shards) {
+      capacity += shard.capacity.get();
+    }
+    return capacity;
+  }
+
+  @Override
+  public int requests() {
+    return requests.get();
+  }
+}
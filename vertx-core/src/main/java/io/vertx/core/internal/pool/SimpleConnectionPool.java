@@ -22,6 +22,7 @@ import java.util.NoSuchElementException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * <p> The pool is a state machine that maintains a queue of waiters and a list of connections.
@@ -119,14 +120,16 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     private int usage;    // The number of times this connection is acquired
     private long concurrency; // The total number of times the connection can be acquired
     private int capacity;      // The connection capacity
+    private int kind;          // The connection kind, the requested kind until the connection is established
 
-    public Slot(SimpleConnectionPool<C> pool, ContextInternal context, int index, int capacity) {
+    public Slot(SimpleConnectionPool<C> pool, ContextInternal context, int index, int capacity, int kind) {
       this.pool = pool;
       this.context = context;
       this.connection = null;
       this.usage = 0;
       this.index = index;
       this.capacity = capacity;
+      this.kind = kind;
       this.result = context.promise();
     }
 
@@ -275,6 +278,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       int capacity = pool.capacityFactors[(int)result.weight()];
 
       int initialCapacity = slot.capacity;
+      slot.kind = (int)result.weight();
       slot.connection = result.connection();
       slot.concurrency = result.concurrency();
       slot.capacity = capacity;
@@ -412,7 +416,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       PoolWaiter<C> waiter = pool.waiters.poll();
       if (waiter != null) {
         ContextInternal connectionContext = pool.contextProvider.apply(waiter.context);
-        Slot<C> slot = new Slot<>(pool, connectionContext, removed.index, waiter.capacity);
+        Slot<C> slot = new Slot<>(pool, connectionContext, removed.index, waiter.capacity, waiter.kind);
         pool.capacity -= w;
         pool.capacity += waiter.capacity;
         pool.slots[removed.index] = slot;
@@ -549,10 +553,77 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     return promise.future();
   }
 
+  private static class Fill<C> implements Executor.Action<SimpleConnectionPool<C>> {
+
+    private final int count;
+    private final int kind;
+    private final Supplier<ContextInternal> contextSupplier;
+    private final Promise<Void> handler;
+
+    private Fill(int count, int kind, Supplier<ContextInternal> contextSupplier, Promise<Void> handler) {
+      this.count = count;
+      this.kind = kind;
+      this.contextSupplier = contextSupplier;
+      this.handler = handler;
+    }
+
+    @Override
+    public Task execute(SimpleConnectionPool<C> pool) {
+      if (pool.closed) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.handle(POOL_CLOSED);
+          }
+        };
+      }
+      int missing = count;
+      for (int i = 0;i < pool.size;i++) {
+        if (pool.slots[i].kind == kind) {
+          missing--;
+        }
+      }
+      int capacity = pool.capacityFactors[kind];
+      List<Slot<C>> created = new ArrayList<>();
+      List<PoolWaiter<C>> initiators = new ArrayList<>();
+      while (missing-- > 0 && pool.capacity + capacity <= pool.maxCapacity) {
+        ContextInternal connectionContext = pool.contextProvider.apply(contextSupplier.get());
+        // The initiator is disposed, the connection is not leased and serves the waiters when established
+        PoolWaiter<C> initiator = new PoolWaiter<>(null, connectionContext, kind, capacity, Promise.promise());
+        initiator.disposed = true;
+        Slot<C> slot = new Slot<>(pool, connectionContext, pool.size, capacity, kind);
+        pool.slots[pool.size++] = slot;
+        pool.capacity += capacity;
+        pool.requests++;
+        created.add(slot);
+        initiators.add(initiator);
+      }
+      return new Task() {
+        @Override
+        public void run() {
+          List<Future<C>> results = new ArrayList<>(created.size());
+          for (int i = 0;i < created.size();i++) {
+            Slot<C> slot = created.get(i);
+            results.add(slot.result.future());
+            pool.connect(slot, initiators.get(i));
+          }
+          Future.join(results).<Void>mapEmpty().onComplete(handler);
+        }
+      };
+    }
+  }
+
+  @Override
+  public Future<Void> fill(int count, int kind, Supplier<ContextInternal> contextSupplier) {
+    Promise<Void> promise = Promise.promise();
+    execute(new Fill<>(count, kind, contextSupplier, promise));
+    return promise.future();
+  }
+
   private static class Acquire<C> extends PoolWaiter<C> implements Executor.Action<SimpleConnectionPool<C>> {
 
-    public Acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int capacity, Promise<Lease<C>> handler) {
-      super(listener, context, capacity, handler);
+    public Acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind, int capacity, Promise<Lease<C>> handler) {
+      super(listener, context, kind, capacity, handler);
     }
 
     @Override
@@ -584,7 +655,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       if (pool.capacity < pool.maxCapacity) {
         pool.capacity += capacity;
         ContextInternal connectionContext = pool.contextProvider.apply(context);
-        Slot<C> slot2 = new Slot<>(pool, connectionContext, pool.size, capacity);
+        Slot<C> slot2 = new Slot<>(pool, connectionContext, pool.size, capacity, kind);
         pool.slots[pool.size++] = slot2;
         pool.requests++;
         return new Task() {
@@ -639,14 +710,14 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   @Override
   public Future<Lease<C>> acquire(ContextInternal context, int kind) {
     LazyFuture<Lease<C>> fut = new LazyFuture<>();
-    execute(new Acquire<>(context, PoolWaiter.NULL_LISTENER, capacityFactors[kind], fut));
+    execute(new Acquire<>(context, PoolWaiter.NULL_LISTENER, kind, capacityFactors[kind], fut));
     return fut;
   }
 
   @Override
   public Future<Lease<C>> acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind) {
     LazyFuture<Lease<C>> fut = new LazyFuture<>();
-    execute(new Acquire<>(context, listener, capacityFactors[kind], fut));
+    execute(new Acquire<>(context, listener, kind, capacityFactors[kind], fut));
     return fut;
   }
 
@@ -831,7 +902,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     private int size;
 
     public Waiters() {
-      head = new PoolWaiter<>(null, null, 0, null);
+      head = new PoolWaiter<>(null, null, -1, 0, null);
       head.next = head.prev = head;
     }
 
@@ -953,6 +1024,8 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       synchronized (this) {
         fut = f;
         h = handlers;
+        // A listener can be removed while the handlers are notified, e.g. by a composite future
+        handlers = null;
       }
       for (Completable<T> t : h) {
         t.complete(event.result(), event.cause());
@@ -1004,7 +1077,9 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     @Override
     public void removeListener(Completable<T> listener) {
       synchronized (this) {
-        handlers.remove(listener);
+        if (handlers != null) {
+          handlers.remove(listener);
+        }
       }
     }
   }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.profiler;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A snapshot of the profile of an event-loop.
+ */
+public final class EventLoopProfile {
+
+  private final String name;
+  private final LatencyHistogram executionTimes;
+  private final LatencyHistogram queueDelays;
+  private final List<HandlerProfile> topHandlers;
+
+  EventLoopProfile(String name, LatencyHistogram executionTimes, LatencyHistogram queueDelays, List<HandlerProfile> topHandlers) {
+    this.name = name;
+    this.executionTimes = executionTimes;
+    this.queueDelays = queueDelays;
+    this.topHandlers = Collections.unmodifiableList(topHandlers);
+  }
+
+  /**
+   * @return the name of the event-loop or {@code null} when it has not executed a profiled task yet
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * @return the histogram of the task execution times
+   */
+  public LatencyHistogram executionTimes() {
+    return executionTimes;
+  }
+
+  /**
+   * @return the histogram of the delays between the task submissions and their executions
+   */
+  public LatencyHistogram queueDelays() {
+    return queueDelays;
+  }
+
+  /**
+   * @return the handler classes with the largest cumulated execution time, in decreasing order
+   */
+  public List<HandlerProfile> topHandlers() {
+    return topHandlers;
+  }
+
+  /**
+   * The cumulated execution of the tasks of a handler class.
+   */
+  public static final class HandlerProfile {
+
+    private final String handler;
+    private final long count;
+    private final long totalTime;
+
+    HandlerProfile(String handler, long count, long totalTime) {
+      this.handler = handler;
+      this.count = count;
+      this.totalTime = totalTime;
+    }
+
+    /**
+     * @return the name of the handler class
+     */
+    public String handler() {
+      return handler;
+    }
+
+    /**
+     * @return the number of executed tasks
+     */
+    public long count() {
+      return count;
+    }
+
+    /**
+     * @return the cumulated execution time in nanoseconds
+     */
+    public long totalTime() {
+      return totalTime;
+    }
+  }
+}
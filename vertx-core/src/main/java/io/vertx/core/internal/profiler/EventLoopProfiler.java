@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.profiler;
+
+import io.vertx.core.spi.metrics.EventLoopMetrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * <p> Profile the tasks executed by an event-loop.
+ *
+ * <p> A profiled task records its submission time, when it runs the event-loop records the delay between the
+ * submission and the execution, the execution time and the cumulated execution time of the class of its handler.
+ * The profiler is only updated by the event-loop thread, recording a task reads the clock twice, updates two
+ * {@link LatencyHistogram} and the counters of the handler class, none of this allocates once the handler class
+ * has been seen. The handler classes are tracked by name, so the profiler does not retain their class loaders.
+ *
+ * <p> The profiler is named after the event-loop thread and creates its metrics when it records its first task, so
+ * the event-loop thread does not have to be started beforehand.
+ *
+ * <p> The {@link #snapshot(int)} can be taken from any thread.
+ */
+public final class EventLoopProfiler {
+
+  private final Function<String, EventLoopMetrics> metricsFactory;
+  private volatile String name;
+  private volatile EventLoopMetrics metrics;
+  private final LatencyHistogram executionTimes = new LatencyHistogram();
+  private final LatencyHistogram queueDelays = new LatencyHistogram();
+  private final ConcurrentMap<String, HandlerStats> handlers = new ConcurrentHashMap<>();
+
+  /**
+   * @param metricsFactory creates the event-loop metrics given the event-loop name or {@code null}
+   */
+  public EventLoopProfiler(Function<String, EventLoopMetrics> metricsFactory) {
+    this.metricsFactory = metricsFactory;
+  }
+
+  /**
+   * @return the name of the profiled event-loop or {@code null} when it has not recorded a task yet
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * @return the event-loop metrics or {@code null}
+   */
+  public EventLoopMetrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * Wrap a {@code command} submitted to the event-loop.
+   *
+   * @param command the command
+   * @param handler the class of the handler the execution time is attributed to
+   * @return the profiled task to submit instead of the {@code command}
+   */
+  public Runnable task(Runnable command, Class<?> handler) {
+    return new Task(this, command, handler, System.nanoTime());
+  }
+
+  /**
+   * Record the execution of a task, this must be called from the event-loop thread.
+   *
+   * @param handler the class of the handler of the task
+   * @param queueDelay the delay between the task submission and its execution in nanoseconds
+   * @param executionTime the task execution time in nanoseconds
+   */
+  public void record(Class<?> handler, long queueDelay, long executionTime) {
+    if (name == null) {
+      init();
+    }
+    queueDelays.record(queueDelay);
+    executionTimes.record(executionTime);
+    String name = handler.getName();
+    HandlerStats stats = handlers.get(name);
+    if (stats == null) {
+      stats = handlers.computeIfAbsent(name, HandlerStats::new);
+    }
+    stats.count++;
+    stats.totalTime += executionTime;
+    if (metrics != null) {
+      metrics.taskExecuted(handler, queueDelay, executionTime);
+    }
+  }
+
+  private void init() {
+    String name = Thread.currentThread().getName();
+    if (metricsFactory != null) {
+      metrics = metricsFactory.apply(name);
+    }
+    // Publishes the metrics
+    this.name = name;
+  }
+
+  /**
+   * @param topHandlers the maximum number of handler classes to report
+   * @return a snapshot of the profile, the handler classes are sorted by decreasing cumulated execution time
+   */
+  public EventLoopProfile snapshot(int topHandlers) {
+    List<EventLoopProfile.HandlerProfile> list = new ArrayList<>(handlers.size());
+    for (HandlerStats stats : handlers.values()) {
+      list.add(new EventLoopProfile.HandlerProfile(stats.handler, stats.count, stats.totalTime));
+    }
+    list.sort(Comparator.comparingLong(EventLoopProfile.HandlerProfile::totalTime).reversed());
+    if (list.size() > topHandlers) {
+      list = new ArrayList<>(list.subList(0, topHandlers));
+    }
+    return new EventLoopProfile(name, executionTimes.copy(), queueDelays.copy(), list);
+  }
+
+  private static final class HandlerStats {
+
+    private final String handler;
+    private long count;
+    private long totalTime;
+
+    HandlerStats(String handler) {
+      this.handler = handler;
+    }
+  }
+
+  private static final class Task implements Runnable {
+
+    private final EventLoopProfiler profiler;
+    private final Runnable command;
+    private final Class<?> handler;
+    private final long submissionTime;
+
+    Task(EventLoopProfiler profiler, Runnable command, Class<?> handler, long submissionTime) {
+      this.profiler = profiler;
+      this.command = command;
+      this.handler = handler;
+      this.submissionTime = submissionTime;
+    }
+
+    @Override
+    public void run() {
+      long start = System.nanoTime();
+      try {
+        command.run();
+      } finally {
+        profiler.record(handler, start - submissionTime, System.nanoTime() - start);
+      }
+    }
+  }
+}
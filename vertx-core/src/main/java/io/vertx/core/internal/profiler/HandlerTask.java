@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.profiler;
+
+import io.vertx.core.Handler;
+import io.vertx.core.impl.EventLoopExecutor;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.EventExecutor;
+
+/**
+ * A task calling a handler with an argument, the {@link EventLoopProfiler} attributes the execution of the task to
+ * the class of the handler rather than to the class of the task.
+ *
+ * <p> A context only submits such tasks to a profiled event-loop, see {@link #isProfiled(EventExecutor)}, otherwise it
+ * submits a plain lambda.
+ */
+public final class HandlerTask<T> implements Runnable {
+
+  private static final int HANDLE = 0;
+  private static final int EMIT = 1;
+  private static final int DISPATCH = 2;
+
+  /**
+   * @return a task calling {@code handler}
+   */
+  public static <T> HandlerTask<T> handle(T argument, Handler<T> handler) {
+    return new HandlerTask<>(HANDLE, null, argument, handler);
+  }
+
+  /**
+   * @return a task emitting the {@code argument} to the {@code handler} on the {@code context}
+   */
+  public static <T> HandlerTask<T> emit(ContextInternal context, T argument, Handler<T> handler) {
+    return new HandlerTask<>(EMIT, context, argument, handler);
+  }
+
+  /**
+   * @return a task dispatching the {@code argument} to the {@code handler} on the {@code context}
+   */
+  public static <T> HandlerTask<T> dispatch(ContextInternal context, T argument, Handler<T> handler) {
+    return new HandlerTask<>(DISPATCH, context, argument, handler);
+  }
+
+  /**
+   * @return whether the tasks executed by {@code executor} are profiled
+   */
+  public static boolean isProfiled(EventExecutor executor) {
+    return executor instanceof EventLoopExecutor && ((EventLoopExecutor) executor).isProfiled();
+  }
+
+  /**
+   * @return the class the execution of the {@code task} is attributed to
+   */
+  public static Class<?> handlerClass(Runnable task) {
+    if (task instanceof HandlerTask) {
+      return ((HandlerTask<?>) task).handler.getClass();
+    }
+    return task.getClass();
+  }
+
+  private final int mode;
+  private final ContextInternal context;
+  private final T argument;
+  private final Handler<T> handler;
+
+  private HandlerTask(int mode, ContextInternal context, T argument, Handler<T> handler) {
+    this.mode = mode;
+    this.context = context;
+    this.argument = argument;
+    this.handler = handler;
+  }
+
+  @Override
+  public void run() {
+    switch (mode) {
+      case EMIT:
+        context.emit(argument, handler);
+        break;
+      case DISPATCH:
+        context.dispatch(argument, handler);
+        break;
+      default:
+        handler.handle(argument);
+        break;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.profiler;
+
+/**
+ * <p> A log-linear histogram of durations in nanoseconds, in the manner of HdrHistogram.
+ *
+ * <p> Values below {@code 16} have their own bucket, above each power of two range is split in {@code 16} linear
+ * buckets, so a value is recorded with a relative error below {@code 6.25%}. Recording a value updates a counter of
+ * a fixed size array and does not allocate.
+ *
+ * <p> A histogram has a single writer, other threads read a {@link #copy()} of the histogram which might be slightly
+ * inconsistent with respect to the values recorded concurrently.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) Math.max(0L, value);
+    }
+    int exp = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return ((exp - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+  }
+
+  static long lowestValueAt(int index) {
+    int group = index >>> SUB_BUCKET_BITS;
+    if (group == 0) {
+      return index;
+    }
+    int sub = index & (SUB_BUCKET_COUNT - 1);
+    return (long) (SUB_BUCKET_COUNT + sub) << (group - 1);
+  }
+
+  private final long[] counts;
+  private long count;
+  private long sum;
+  private long max;
+
+  public LatencyHistogram() {
+    this.counts = new long[BUCKET_COUNT];
+  }
+
+  private LatencyHistogram(LatencyHistogram that) {
+    this.counts = that.counts.clone();
+    this.count = that.count;
+    this.sum = that.sum;
+    this.max = that.max;
+  }
+
+  /**
+   * Record a {@code value}, negative values are recorded as {@code 0}.
+   *
+   * @param value the value in nanoseconds
+   */
+  public void record(long value) {
+    if (value < 0L) {
+      value = 0L;
+    }
+    counts[indexOf(value)]++;
+    count++;
+    sum += value;
+    if (value > max) {
+      max = value;
+    }
+  }
+
+  /**
+   * @return a copy of this histogram
+   */
+  public LatencyHistogram copy() {
+    return new LatencyHistogram(this);
+  }
+
+  /**
+   * @return the number of recorded values
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * @return the largest recorded value
+   */
+  public long max() {
+    return max;
+  }
+
+  /**
+   * @return the mean of the recorded values or {@code 0} when the histogram is empty
+   */
+  public double mean() {
+    return count == 0L ? 0D : (double) sum / count;
+  }
+
+  /**
+   * @param percentile the percentile, between {@code 0} and {@code 100}
+   * @return the value at the {@code percentile}, as the highest value of its bucket bounded by the {@link #max()}
+   */
+  public long valueAtPercentile(double percentile) {
+    if (percentile < 0D || percentile > 100D) {
+      throw new IllegalArgumentException("Invalid percentile: " + percentile);
+    }
+    long total = 0L;
+    for (long c : counts) {
+      total += c;
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(percentile / 100D * total));
+    long seen = 0L;
+    for (int i = 0;i < counts.length;i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        long highest = i + 1 < counts.length ? lowestValueAt(i + 1) - 1 : Long.MAX_VALUE;
+        return Math.min(highest, max);
+      }
+    }
+    return max;
+  }
+}
@@ -12,6 +12,8 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.CopyOnWriteList;
+import io.vertx.core.json.impl.FrozenList;
 import io.vertx.core.shareddata.ClusterSerializable;
 import io.vertx.core.shareddata.Shareable;
 
@@ -629,6 +631,15 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
    * @return a copy where all elements have been copied recursively
    */
   public JsonArray copy(Function<Object, ?> cloner) {
+    if (list instanceof FrozenList) {
+      return new JsonArray(new CopyOnWriteList((FrozenList) list, cloner));
+    }
+    if (list instanceof CopyOnWriteList) {
+      CopyOnWriteList copy = ((CopyOnWriteList) list).copy(cloner);
+      if (copy != null) {
+        return new JsonArray(copy);
+      }
+    }
     List<Object> copiedList = new ArrayList<>(list.size());
     for (Object val : list) {
       copiedList.add(deepCopy(val, cloner));
@@ -636,6 +647,38 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Freeze this JSON array.
+   *
+   * <p> A frozen JSON array cannot be mutated, mutations throw {@link UnsupportedOperationException}, its nested
+   * JSON objects and arrays are frozen. A frozen JSON array can be shared without copying, its {@link #copy()} is
+   * a JSON array that copies the frozen array on write.
+   *
+   * <p> The binary values, {@code byte[]} and {@link Buffer}, are stored as their Base64 encoded string, the binary
+   * getters decode them. Other {@link io.vertx.core.shareddata.Shareable} values cannot be frozen.
+   *
+   * @return a frozen copy of this JSON array, or this array when it is already frozen
+   */
+  public JsonArray freeze() {
+    if (list instanceof FrozenList) {
+      return this;
+    }
+    Object[] frozen = new Object[list.size()];
+    int i = 0;
+    for (Object val : list) {
+      frozen[i++] = frozenCopy(val);
+    }
+    return new JsonArray(new FrozenList(frozen));
+  }
+
+  /**
+   * @return whether this JSON array is frozen
+   * @see #freeze()
+   */
+  public boolean isFrozen() {
+    return list instanceof FrozenList;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array. The values in the stream will follow
    * the same rules as defined in {@link #getValue(int)}, respecting the JSON requirements.
@@ -11,6 +11,10 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.CopyOnWriteMap;
+import io.vertx.core.json.impl.FrozenMap;
+import io.vertx.core.json.jackson.CompactMap;
+import io.vertx.core.json.jackson.LazyJsonMap;
 import io.vertx.core.shareddata.ClusterSerializable;
 import io.vertx.core.shareddata.Shareable;
 
@@ -58,7 +62,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * Create a new, empty instance
    */
   public JsonObject() {
-    map = new LinkedHashMap<>();
+    map = new CompactMap();
   }
 
   /**
@@ -88,6 +92,32 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     }
   }
 
+  /**
+   * Create a lazy instance from a buffer.
+   *
+   * <p> Unlike {@link #JsonObject(Buffer)} the buffer is not decoded, the instance keeps a copy of the buffer content and
+   * indexes the field names on first access, a value is decoded the first time it is accessed. As long as the
+   * instance is not modified, {@link #encode()} and {@link #toBuffer()} return the original JSON unchanged and
+   * {@link #copy()} shares the original JSON with the copy.
+   *
+   * <p> Since the buffer is decoded on demand, an invalid JSON object fails with a {@link DecodeException} on first
+   * access.
+   *
+   * <p> The reads of a lazy instance mutate its internal state to index the field names and cache the decoded values,
+   * unlike a decoded instance it must not be read concurrently by several threads.
+   *
+   * <p> This is useful to relay JSON objects when only a few fields are read.
+   *
+   * @param buf the buffer to create the instance from.
+   * @return the lazy instance
+   */
+  public static JsonObject lazy(Buffer buf) {
+    if (buf == null) {
+      throw new NullPointerException();
+    }
+    return new JsonObject(LazyJsonMap.create(buf));
+  }
+
   /**
    * Create a JsonObject containing zero mappings.
    *
@@ -105,7 +135,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a JsonObject containing the specified mapping.
    */
   public static JsonObject of(String k1, Object v1) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(1));
+    JsonObject obj = new JsonObject(new CompactMap(1));
 
     obj.put(k1, v1);
 
@@ -122,7 +152,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a JsonObject containing the specified mappings.
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(2));
+    JsonObject obj = new JsonObject(new CompactMap(2));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -142,7 +172,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a JsonObject containing the specified mappings.
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(3));
+    JsonObject obj = new JsonObject(new CompactMap(3));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -166,7 +196,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(4));
+    JsonObject obj = new JsonObject(new CompactMap(4));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -193,7 +223,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(5));
+    JsonObject obj = new JsonObject(new CompactMap(5));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -223,7 +253,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(6));
+    JsonObject obj = new JsonObject(new CompactMap(6));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -257,7 +287,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(7));
+    JsonObject obj = new JsonObject(new CompactMap(7));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -294,7 +324,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7, String k8, Object v8) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(8));
+    JsonObject obj = new JsonObject(new CompactMap(8));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -334,7 +364,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7, String k8, Object v8, String k9, Object v9) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(9));
+    JsonObject obj = new JsonObject(new CompactMap(9));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -378,7 +408,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7, String k8, Object v8, String k9, Object v9,
                               String k10, Object v10) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(10));
+    JsonObject obj = new JsonObject(new CompactMap(10));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -1031,6 +1061,12 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the string encoding.
    */
   public String encode() {
+    if (map instanceof LazyJsonMap) {
+      String json = ((LazyJsonMap) map).encode();
+      if (json != null) {
+        return json;
+      }
+    }
     return Json.CODEC.toString(this, false);
   }
 
@@ -1050,6 +1086,12 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the buffer encoding.
    */
   public Buffer toBuffer() {
+    if (map instanceof LazyJsonMap) {
+      Buffer buf = ((LazyJsonMap) map).toBuffer();
+      if (buf != null) {
+        return buf;
+      }
+    }
     return Json.CODEC.toBuffer(this, false);
   }
 
@@ -1075,8 +1117,30 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject copy(Function<Object, ?> cloner) {
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
-      copiedMap = new LinkedHashMap<>(map.size());
+    if (map instanceof FrozenMap) {
+      return new JsonObject(new CopyOnWriteMap((FrozenMap) map, cloner));
+    }
+    if (map instanceof CopyOnWriteMap) {
+      CopyOnWriteMap cow = (CopyOnWriteMap) map;
+      CopyOnWriteMap copy = cow.copy(cloner);
+      if (copy != null) {
+        return new JsonObject(copy);
+      }
+      // Share the keys of the copied map
+      return new JsonObject(deepCopy(cow.copied(), cloner));
+    }
+    if (map instanceof LazyJsonMap) {
+      LazyJsonMap copy = ((LazyJsonMap) map).copy();
+      if (copy != null) {
+        return new JsonObject(copy);
+      }
+    }
+    if (map instanceof CompactMap) {
+      // Share the keys and only copy the values
+      return new JsonObject(deepCopy((CompactMap) map, cloner));
+    }
+    if (map instanceof LinkedHashMap || map instanceof LazyJsonMap) {
+      copiedMap = new CompactMap(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
     }
@@ -1087,6 +1151,37 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Freeze this JSON object.
+   *
+   * <p> A frozen JSON object cannot be mutated, mutations throw {@link UnsupportedOperationException}, its nested
+   * JSON objects and arrays are frozen. A frozen JSON object can be shared without copying, its {@link #copy()} is
+   * a JSON object that copies the frozen object on write.
+   *
+   * <p> The binary values, {@code byte[]} and {@link Buffer}, are stored as their Base64 encoded string, the binary
+   * getters decode them. Other {@link io.vertx.core.shareddata.Shareable} values cannot be frozen.
+   *
+   * @return a frozen copy of this JSON object, or this object when it is already frozen
+   */
+  public JsonObject freeze() {
+    if (map instanceof FrozenMap) {
+      return this;
+    }
+    CompactMap frozen = new CompactMap(map.size());
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      frozen.put(entry.getKey(), frozenCopy(entry.getValue()));
+    }
+    return new JsonObject(new FrozenMap(frozen));
+  }
+
+  /**
+   * @return whether this JSON object is frozen
+   * @see #freeze()
+   */
+  public boolean isFrozen() {
+    return map instanceof FrozenMap;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    * <p>
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.impl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * <p> The list of a copy of a frozen JSON array.
+ *
+ * <p> The list reads the frozen list until it is copied, a frozen element is copied as a JSON object or array that is
+ * itself copied on write.
+ *
+ * <p> The list is copied on the first mutation or read of a mutable element.
+ */
+public final class CopyOnWriteList extends AbstractList<Object> implements RandomAccess {
+
+  private final Function<Object, ?> cloner;
+  private FrozenList source;
+  private List<Object> list;
+
+  public CopyOnWriteList(FrozenList source, Function<Object, ?> cloner) {
+    this.source = source;
+    this.cloner = cloner;
+  }
+
+  /**
+   * @return a copy of this list when it was not yet copied, otherwise {@code null}
+   */
+  public CopyOnWriteList copy(Function<Object, ?> cloner) {
+    FrozenList s = source;
+    return s != null ? new CopyOnWriteList(s, cloner) : null;
+  }
+
+  private List<Object> list() {
+    List<Object> l = list;
+    if (l == null) {
+      Object[] elements = source.elements();
+      l = new ArrayList<>(elements.length);
+      for (Object element : elements) {
+        l.add(JsonUtil.deepCopy(element, cloner));
+      }
+      list = l;
+      source = null;
+    }
+    return l;
+  }
+
+  @Override
+  public int size() {
+    FrozenList s = source;
+    return s != null ? s.size() : list.size();
+  }
+
+  @Override
+  public Object get(int index) {
+    FrozenList s = source;
+    if (s != null) {
+      Object element = s.get(index);
+      if (JsonUtil.isImmutable(element)) {
+        return element;
+      }
+    }
+    return list().get(index);
+  }
+
+  @Override
+  public Object set(int index, Object element) {
+    return list().set(index, element);
+  }
+
+  @Override
+  public void add(int index, Object element) {
+    modCount++;
+    list().add(index, element);
+  }
+
+  @Override
+  public Object remove(int index) {
+    modCount++;
+    return list().remove(index);
+  }
+
+  @Override
+  public void clear() {
+    modCount++;
+    source = null;
+    list = new ArrayList<>();
+  }
+}
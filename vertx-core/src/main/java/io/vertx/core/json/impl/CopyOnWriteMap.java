@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.impl;
+
+import io.vertx.core.json.jackson.CompactMap;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <p> The map of a copy of a frozen JSON object.
+ *
+ * <p> The map reads the frozen map until it is copied, the copy is a {@link CompactMap} sharing the keys of the frozen
+ * map and holding a copy of its values, a frozen value is copied as a JSON object or array that is itself copied on
+ * write.
+ *
+ * <p> The map is copied on the first mutation, iteration or read of a mutable value.
+ */
+public final class CopyOnWriteMap extends AbstractMap<String, Object> {
+
+  private final Function<Object, ?> cloner;
+  private FrozenMap source;
+  private CompactMap map;
+
+  public CopyOnWriteMap(FrozenMap source, Function<Object, ?> cloner) {
+    this.source = source;
+    this.cloner = cloner;
+  }
+
+  /**
+   * @return a copy of this map when it was not yet copied, otherwise {@code null}
+   */
+  public CopyOnWriteMap copy(Function<Object, ?> cloner) {
+    FrozenMap s = source;
+    return s != null ? new CopyOnWriteMap(s, cloner) : null;
+  }
+
+  /**
+   * @return the copy of the frozen map or {@code null} when the map was not yet copied
+   */
+  public CompactMap copied() {
+    return map;
+  }
+
+  private Map<String, Object> map() {
+    CompactMap m = map;
+    if (m == null) {
+      m = JsonUtil.deepCopy(source.map(), cloner);
+      map = m;
+      source = null;
+    }
+    return m;
+  }
+
+  @Override
+  public int size() {
+    FrozenMap s = source;
+    return s != null ? s.size() : map.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    FrozenMap s = source;
+    return s != null ? s.containsKey(key) : map.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    FrozenMap s = source;
+    if (s != null) {
+      Object value = s.get(key);
+      if (JsonUtil.isImmutable(value)) {
+        return value;
+      }
+    }
+    return map().get(key);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    return map().put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    return map().remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    map().putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    source = null;
+    map = new CompactMap();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return map().entrySet();
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.impl;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The immutable list of a frozen JSON array, the elements are immutable or frozen, any mutation throws
+ * {@link UnsupportedOperationException}.
+ */
+public final class FrozenList extends AbstractList<Object> implements RandomAccess {
+
+  private final Object[] elements;
+
+  public FrozenList(Object[] elements) {
+    this.elements = elements;
+  }
+
+  Object[] elements() {
+    return elements;
+  }
+
+  @Override
+  public Object get(int index) {
+    return elements[index];
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.impl;
+
+import io.vertx.core.json.jackson.CompactMap;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The immutable map of a frozen JSON object, the values are immutable or frozen, any mutation throws
+ * {@link UnsupportedOperationException}.
+ */
+public final class FrozenMap extends AbstractMap<String, Object> {
+
+  private final CompactMap map;
+  private final Set<Entry<String, Object>> entrySet;
+
+  public FrozenMap(CompactMap map) {
+    // Copies never modify the shared keys
+    map.shareKeys();
+    this.map = map;
+    this.entrySet = Collections.unmodifiableMap(map).entrySet();
+  }
+
+  CompactMap map() {
+    return map;
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return map.containsValue(value);
+  }
+
+  @Override
+  public Object get(Object key) {
+    return map.get(key);
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    return map.getOrDefault(key, defaultValue);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    map.forEach(action);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return entrySet;
+  }
+}
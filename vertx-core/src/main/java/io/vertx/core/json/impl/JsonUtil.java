@@ -13,8 +13,11 @@ package io.vertx.core.json.impl;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.CompactMap;
 import io.vertx.core.shareddata.Shareable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Iterator;
@@ -109,6 +112,65 @@ public final class JsonUtil {
     return val;
   }
 
+  /**
+   * Deep copy of a compact map, the copy shares the key array of the {@code map}.
+   */
+  public static CompactMap deepCopy(CompactMap map, Function<Object, ?> copier) {
+    Object[] values = map.values0().clone();
+    for (int i = 0;i < values.length;i++) {
+      values[i] = deepCopy(values[i], copier);
+    }
+    return map.copy(values);
+  }
+
+  /**
+   * Deep copy of a value to be stored in a frozen JSON object or array, JSON objects and arrays are frozen, binary
+   * values are converted to their Base64 encoded string.
+   *
+   * @throws IllegalStateException when the value is a {@link Shareable} that is not a JSON object, a JSON array or
+   *                               a buffer, such value cannot be made immutable
+   */
+  @SuppressWarnings("unchecked")
+  public static Object frozenCopy(Object val) {
+    if (val instanceof JsonObject) {
+      return ((JsonObject) val).freeze();
+    } else if (val instanceof JsonArray) {
+      return ((JsonArray) val).freeze();
+    } else if (val instanceof Map) {
+      return new JsonObject((Map) val).freeze();
+    } else if (val instanceof List) {
+      return new JsonArray((List) val).freeze();
+    } else if (val instanceof byte[]) {
+      return BASE64_ENCODER.encodeToString((byte[]) val);
+    } else if (val instanceof Buffer) {
+      return BASE64_ENCODER.encodeToString(((Buffer) val).getBytes());
+    } else if (val instanceof Shareable) {
+      throw new IllegalStateException("Cannot freeze a mutable value: " + val.getClass());
+    } else {
+      return deepCopy(val, DEFAULT_CLONER);
+    }
+  }
+
+  /**
+   * @return whether {@code val} is a value that can be shared between a frozen JSON object or array and its copies
+   */
+  public static boolean isImmutable(Object val) {
+    return val == null
+      || val instanceof String
+      || val instanceof Integer
+      || val instanceof Long
+      || val instanceof Double
+      || val instanceof Float
+      || val instanceof Boolean
+      || val instanceof Short
+      || val instanceof Byte
+      || val instanceof Character
+      || val instanceof BigInteger
+      || val instanceof BigDecimal
+      || val instanceof Instant
+      || val instanceof Enum;
+  }
+
   public static <T> Stream<T> asStream(Iterator<T> sourceIterator) {
     Iterable<T> iterable = () -> sourceIterator;
     return StreamSupport.stream(iterable.spliterator(), false);
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p> Encode JSON to a {@link WriteStream} in chunks.
+ *
+ * <p> The JSON tree is walked with an explicit stack of iterators so the encoding can be suspended between two
+ * elements when the stream write queue is full and resumed by the stream drain handler. The generator writes to this
+ * output stream that cuts the output in chunks of {@code chunkSize} bytes and writes each chunk to the stream.
+ *
+ * <p> A value that is neither a JSON object nor a JSON array, e.g. a POJO encoded by the {@link DatabindCodec}, is
+ * encoded at once, its chunks are still written to the stream as they are produced.
+ *
+ * <p> The result of every write is watched, the first failed write, e.g. when the stream is closed while the encoder
+ * waits for the stream to drain, stops the encoding and fails the encoding future.
+ */
+class ChunkedJsonEncoder extends OutputStream implements Handler<Void> {
+
+  private final JacksonCodec codec;
+  private final Object json;
+  private final boolean pretty;
+  private final WriteStream<Buffer> stream;
+  private final int chunkSize;
+  private final Promise<Void> promise = Promise.promise();
+  private final ArrayDeque<Frame> stack = new ArrayDeque<>();
+  private JsonGenerator generator;
+  private ByteBuf chunk;
+  private Future<Void> last;
+  private boolean paused;
+
+  private static final class Frame {
+    private final Iterator<?> iterator;
+    private final boolean object;
+    private Frame(Iterator<?> iterator, boolean object) {
+      this.iterator = iterator;
+      this.object = object;
+    }
+  }
+
+  ChunkedJsonEncoder(JacksonCodec codec, Object json, boolean pretty, WriteStream<Buffer> stream, int chunkSize) {
+    this.codec = codec;
+    this.json = json;
+    this.pretty = pretty;
+    this.stream = stream;
+    this.chunkSize = chunkSize;
+  }
+
+  Future<Void> encode() {
+    try {
+      generator = JacksonCodec.createGenerator(this, pretty);
+      encodeValue(json);
+    } catch (Exception e) {
+      fail(e);
+      return promise.future();
+    }
+    resume();
+    return promise.future();
+  }
+
+  /**
+   * Drain handler.
+   */
+  @Override
+  public void handle(Void event) {
+    paused = false;
+    stream.drainHandler(null);
+    resume();
+  }
+
+  private void resume() {
+    try {
+      while (!stack.isEmpty()) {
+        if (promise.future().isComplete()) {
+          // A write failed
+          release();
+          return;
+        }
+        if (stream.writeQueueFull()) {
+          paused = true;
+          stream.drainHandler(this);
+          return;
+        }
+        Frame frame = stack.peek();
+        if (!frame.iterator.hasNext()) {
+          stack.pop();
+          if (frame.object) {
+            generator.writeEndObject();
+          } else {
+            generator.writeEndArray();
+          }
+        } else if (frame.object) {
+          Map.Entry<?, ?> entry = (Map.Entry<?, ?>) frame.iterator.next();
+          generator.writeFieldName((String) entry.getKey());
+          encodeValue(entry.getValue());
+        } else {
+          encodeValue(frame.iterator.next());
+        }
+      }
+      generator.close();
+      flushChunk();
+    } catch (Exception e) {
+      fail(e);
+      return;
+    }
+    if (last != null) {
+      // The failure of a write is reported by writeFailed
+      last.onSuccess(v -> promise.tryComplete());
+    } else {
+      promise.tryComplete();
+    }
+  }
+
+  private void encodeValue(Object value) throws IOException {
+    if (value instanceof JsonObject) {
+      value = ((JsonObject) value).getMap();
+    } else if (value instanceof JsonArray) {
+      value = ((JsonArray) value).getList();
+    }
+    if (value instanceof Map) {
+      generator.writeStartObject();
+      stack.push(new Frame(((Map<?, ?>) value).entrySet().iterator(), true));
+    } else if (value instanceof List) {
+      generator.writeStartArray();
+      stack.push(new Frame(((List<?>) value).iterator(), false));
+    } else {
+      codec.encodeValue(value, generator);
+    }
+  }
+
+  private void fail(Exception e) {
+    release();
+    promise.tryFail(e instanceof EncodeException ? e : new EncodeException(e.getMessage(), e));
+  }
+
+  private void writeFailed(Throwable cause) {
+    if (promise.tryFail(cause)) {
+      release();
+    }
+  }
+
+  private void release() {
+    if (paused) {
+      paused = false;
+      stream.drainHandler(null);
+    }
+    if (chunk != null) {
+      chunk.release();
+      chunk = null;
+    }
+  }
+
+  private ByteBuf chunk() {
+    ByteBuf buf = chunk;
+    if (buf == null) {
+      buf = VertxByteBufAllocator.DEFAULT.heapBuffer(chunkSize, chunkSize);
+      chunk = buf;
+    }
+    return buf;
+  }
+
+  private void flushChunk() {
+    ByteBuf buf = chunk;
+    if (buf != null && buf.isReadable()) {
+      chunk = null;
+      Future<Void> fut = stream.write(BufferInternal.buffer(buf));
+      fut.onFailure(this::writeFailed);
+      last = fut;
+    }
+  }
+
+  @Override
+  public void write(int b) {
+    ByteBuf buf = chunk();
+    buf.writeByte(b);
+    if (!buf.isWritable()) {
+      flushChunk();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    while (len > 0) {
+      ByteBuf buf = chunk();
+      int n = Math.min(len, buf.writableBytes());
+      buf.writeBytes(b, off, n);
+      off += n;
+      len -= n;
+      if (!buf.isWritable()) {
+        flushChunk();
+      }
+    }
+  }
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.jackson;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p> An insertion ordered map of JSON object members with a small footprint.
+ *
+ * <p> The members are stored in a pair of parallel key and value arrays in insertion order. A map with up to
+ * {@code 8} slots is searched by a linear scan, a larger map has an open addressing index of the slots. There is no
+ * entry object per member.
+ *
+ * <p> Removing a member leaves an empty slot in the arrays, the slots are compacted when the arrays are full so
+ * removing members while iterating is safe.
+ *
+ * <p> The key array of a {@link #copy()} is shared with the original map and is copied when either map changes its keys.
+ *
+ * <p> This map does not support {@code null} keys.
+ */
+public final class CompactMap extends AbstractMap<String, Object> {
+
+  private static final String[] EMPTY_KEYS = new String[0];
+  private static final Object[] EMPTY_VALUES = new Object[0];
+  private static final int SCAN_THRESHOLD = 8;
+
+  private String[] keys;      // A removed member leaves a null key
+  private Object[] values;
+  private int[] index;        // Open addressing table of slot + 1, null when the map is scanned
+  private int end;            // The number of used slots
+  private int size;
+  private boolean sharedKeys; // Whether the key array is shared with another map
+  private int modCount;
+  private EntrySet entrySet;
+
+  public CompactMap() {
+    keys = EMPTY_KEYS;
+    values = EMPTY_VALUES;
+  }
+
+  public CompactMap(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+    }
+    if (initialCapacity == 0) {
+      keys = EMPTY_KEYS;
+      values = EMPTY_VALUES;
+    } else {
+      keys = new String[initialCapacity];
+      values = new Object[initialCapacity];
+    }
+  }
+
+  private CompactMap(CompactMap that, Object[] values) {
+    this.keys = that.keys;
+    this.values = values;
+    this.index = that.index;
+    this.end = that.end;
+    this.size = that.size;
+    this.sharedKeys = that.keys.length > 0;
+    if (this.sharedKeys && !that.sharedKeys) {
+      that.sharedKeys = true;
+    }
+  }
+
+  /**
+   * @return a shallow copy of this map sharing the key array
+   */
+  public CompactMap copy() {
+    return new CompactMap(this, values.clone());
+  }
+
+  /**
+   * Like {@link #copy()} but with {@code values} replacing the values of this map, the array is owned by the copy.
+   *
+   * @param values the values of the copy with the same length than the values of this map
+   * @return the copy
+   */
+  public CompactMap copy(Object[] values) {
+    if (values.length != this.values.length) {
+      throw new IllegalArgumentException();
+    }
+    return new CompactMap(this, values);
+  }
+
+  /**
+   * @return the value array of this map, empty slots hold {@code null}
+   */
+  public Object[] values0() {
+    return values;
+  }
+
+  /**
+   * Mark the key array as shared before this map is published as a template of other maps, copying a shared
+   * template does not modify it.
+   */
+  public void shareKeys() {
+    sharedKeys = keys.length > 0;
+  }
+
+  /**
+   * @return whether the members of this map are the {@code size} first {@code keys}, in order
+   */
+  boolean hasKeys(String[] keys, int size) {
+    if (size != this.size || size != end) {
+      return false;
+    }
+    for (int i = 0;i < size;i++) {
+      String k = this.keys[i];
+      if (k != keys[i] && !k.equals(keys[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int indexOf(Object key) {
+    if (key == null) {
+      return -1;
+    }
+    String[] keys = this.keys;
+    int[] index = this.index;
+    if (index == null) {
+      for (int i = 0;i < end;i++) {
+        String k = keys[i];
+        if (k == key || (k != null && k.equals(key))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    int mask = index.length - 1;
+    int pos = spread(key.hashCode()) & mask;
+    while (true) {
+      int slot = index[pos] - 1;
+      if (slot < 0) {
+        return -1;
+      }
+      String k = keys[slot];
+      // A removed slot continues the probe sequence
+      if (k == key || (k != null && k.equals(key))) {
+        return slot;
+      }
+      pos = (pos + 1) & mask;
+    }
+  }
+
+  private static int spread(int h) {
+    return h ^ (h >>> 16);
+  }
+
+  private void buildIndex(int capacity) {
+    int[] index = new int[Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2];
+    int mask = index.length - 1;
+    for (int i = 0;i < end;i++) {
+      String k = keys[i];
+      if (k != null) {
+        int pos = spread(k.hashCode()) & mask;
+        while (index[pos] != 0) {
+          pos = (pos + 1) & mask;
+        }
+        index[pos] = i + 1;
+      }
+    }
+    this.index = index;
+  }
+
+  private void ownKeys() {
+    if (sharedKeys) {
+      keys = keys.clone();
+      if (index != null) {
+        index = index.clone();
+      }
+      sharedKeys = false;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    for (int i = 0;i < end;i++) {
+      if (keys[i] != null && Objects.equals(values[i], value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int i = indexOf(key);
+    return i >= 0 ? values[i] : null;
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    int i = indexOf(key);
+    return i >= 0 ? values[i] : defaultValue;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    int expectedModCount = modCount;
+    for (int i = 0;i < end;i++) {
+      String key = keys[i];
+      if (key != null) {
+        action.accept(key, values[i]);
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+    }
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    Objects.requireNonNull(key);
+    int i = indexOf(key);
+    if (i >= 0) {
+      Object old = values[i];
+      values[i] = value;
+      return old;
+    }
+    append(key, value);
+    return null;
+  }
+
+  private void append(String key, Object value) {
+    ownKeys();
+    if (end == keys.length) {
+      if (size < end) {
+        // Reuse the removed slots when there are enough
+        compact(size + 1 > (end * 3) / 4 ? grow(end) : end);
+      } else {
+        resize(grow(end));
+      }
+    }
+    int slot = end++;
+    keys[slot] = key;
+    values[slot] = value;
+    size++;
+    modCount++;
+    if (index != null) {
+      if (end * 2 > index.length) {
+        buildIndex(keys.length);
+      } else {
+        int mask = index.length - 1;
+        int pos = spread(key.hashCode()) & mask;
+        while (index[pos] != 0) {
+          pos = (pos + 1) & mask;
+        }
+        index[pos] = slot + 1;
+      }
+    } else if (end > SCAN_THRESHOLD) {
+      buildIndex(keys.length);
+    }
+  }
+
+  private static int grow(int capacity) {
+    return capacity < 4 ? 4 : capacity + (capacity >> 1);
+  }
+
+  private void resize(int capacity) {
+    keys = Arrays.copyOf(keys, capacity);
+    values = Arrays.copyOf(values, capacity);
+  }
+
+  /**
+   * Move the members to the front of arrays of the specified {@code capacity}.
+   */
+  private void compact(int capacity) {
+    String[] k = new String[capacity];
+    Object[] v = new Object[capacity];
+    int j = 0;
+    for (int i = 0;i < end;i++) {
+      if (keys[i] != null) {
+        k[j] = keys[i];
+        v[j] = values[i];
+        j++;
+      }
+    }
+    keys = k;
+    values = v;
+    end = j;
+    index = null;
+    if (end > SCAN_THRESHOLD) {
+      buildIndex(capacity);
+    }
+  }
+
+  @Override
+  public Object remove(Object key) {
+    int i = indexOf(key);
+    if (i < 0) {
+      return null;
+    }
+    return removeAt(i);
+  }
+
+  private Object removeAt(int slot) {
+    ownKeys();
+    Object old = values[slot];
+    keys[slot] = null;
+    values[slot] = null;
+    size--;
+    modCount++;
+    if (size == 0) {
+      // Start over
+      end = 0;
+      if (index != null) {
+        Arrays.fill(index, 0);
+      }
+    } else if (slot == end - 1 && index == null) {
+      end--;
+    }
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    if (sharedKeys) {
+      keys = EMPTY_KEYS;
+      values = EMPTY_VALUES;
+      index = null;
+      sharedKeys = false;
+    } else {
+      Arrays.fill(keys, 0, end, null);
+      Arrays.fill(values, 0, end, null);
+      if (index != null) {
+        Arrays.fill(index, 0);
+      }
+    }
+    end = 0;
+    size = 0;
+    modCount++;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    EntrySet set = entrySet;
+    if (set == null) {
+      set = new EntrySet();
+      entrySet = set;
+    }
+    return set;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public void clear() {
+      CompactMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private int next = advance(0);
+    private int current = -1;
+    private int expectedModCount = modCount;
+
+    private int advance(int from) {
+      while (from < end && keys[from] == null) {
+        from++;
+      }
+      return from;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < end;
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= end) {
+        throw new NoSuchElementException();
+      }
+      current = next;
+      next = advance(next + 1);
+      return new CompactEntry(keys[current], current);
+    }
+
+    @Override
+    public void remove() {
+      if (current < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(current);
+      expectedModCount = modCount;
+      current = -1;
+      // Removing the last member shrinks the used slots
+      next = advance(Math.min(next, end));
+    }
+  }
+
+  private final class CompactEntry implements Entry<String, Object> {
+
+    private final String key;
+    private final int slot;
+
+    CompactEntry(String key, int slot) {
+      this.key = key;
+      this.slot = slot;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    private boolean inPlace() {
+      // The slot is moved when the map is compacted
+      String[] keys = CompactMap.this.keys;
+      return slot < keys.length && keys[slot] == key;
+    }
+
+    @Override
+    public Object getValue() {
+      return inPlace() ? values[slot] : get(key);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      if (inPlace()) {
+        Object old = values[slot];
+        values[slot] = value;
+        return old;
+      }
+      return put(key, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+      return key.equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + getValue();
+    }
+  }
+}
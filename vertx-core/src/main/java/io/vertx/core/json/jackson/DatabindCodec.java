@@ -11,6 +11,7 @@
 
 package io.vertx.core.json.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -25,6 +26,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +49,22 @@ public class DatabindCodec extends JacksonCodec {
     mapper.registerModule(module);
   }
 
+  public DatabindCodec() {
+    this(false);
+  }
+
+  /**
+   * Create a codec, optionally canonicalizing the decoded JSON objects, see {@link JacksonCodec#JacksonCodec(boolean)}.
+   *
+   * <p> When {@code canonicalize} is {@code true}, untyped JSON, i.e. decoded as {@code Object}, {@code Map} or
+   * {@code List}, is decoded by the {@link JacksonCodec} instead of the {@link ObjectMapper}.
+   *
+   * @param canonicalize whether to canonicalize the decoded JSON objects
+   */
+  public DatabindCodec(boolean canonicalize) {
+    super(canonicalize);
+  }
+
   /**
    * @return the {@link ObjectMapper} used for data binding.
    */
@@ -73,6 +91,9 @@ public class DatabindCodec extends JacksonCodec {
 
   @Override
   public <T> T fromString(String str, Class<T> clazz) throws DecodeException {
+    if (shapes != null && isUntyped(clazz)) {
+      return JacksonCodec.fromParser(createParser(str), clazz, shapes);
+    }
     return fromParser(createParser(str), clazz);
   }
 
@@ -82,6 +103,9 @@ public class DatabindCodec extends JacksonCodec {
 
   @Override
   public <T> T fromBuffer(Buffer buf, Class<T> clazz) throws DecodeException {
+    if (shapes != null && isUntyped(clazz)) {
+      return JacksonCodec.fromParser(createParser(buf), clazz, shapes);
+    }
     return fromParser(createParser(buf), clazz);
   }
 
@@ -170,6 +194,24 @@ public class DatabindCodec extends JacksonCodec {
     }
   }
 
+  @Override
+  void encode(Object object, OutputStream out, boolean pretty) throws IOException {
+    if (pretty) {
+      mapper.writerWithDefaultPrettyPrinter().writeValue(out, object);
+    } else {
+      mapper.writeValue(out, object);
+    }
+  }
+
+  @Override
+  void encodeValue(Object value, JsonGenerator generator) throws IOException {
+    mapper.writeValue(generator, value);
+  }
+
+  private static boolean isUntyped(Class<?> clazz) {
+    return clazz == Object.class || clazz == Map.class || clazz == List.class;
+  }
+
   private static Object adapt(Object o) {
     try {
       if (o instanceof List) {
@@ -16,7 +16,11 @@ import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.BufferRecycler;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.json.DecodeException;
@@ -24,6 +28,7 @@ import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.json.JsonCodec;
+import io.vertx.core.streams.WriteStream;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -36,7 +41,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -62,9 +67,28 @@ public class JacksonCodec implements JsonCodec {
     JacksonCodec.factory.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
   }
 
+  final JsonShapeCache shapes;
+
+  public JacksonCodec() {
+    this(false);
+  }
+
+  /**
+   * Create a codec, optionally canonicalizing the decoded JSON objects.
+   *
+   * <p> When {@code canonicalize} is {@code true}, the decoded JSON objects with the same sequence of field names share
+   * their key array and index, the shapes are kept in a bounded table. This reduces the memory retained by many decoded
+   * objects of the same shape, the field names are interned by Jackson in any case.
+   *
+   * @param canonicalize whether to canonicalize the decoded JSON objects
+   */
+  public JacksonCodec(boolean canonicalize) {
+    this.shapes = canonicalize ? new JsonShapeCache() : null;
+  }
+
   @Override
   public <T> T fromString(String json, Class<T> clazz) throws DecodeException {
-    return fromParser(createParser(json), clazz);
+    return fromParser(createParser(json), clazz, shapes);
   }
 
   public <T> T fromString(String str, TypeReference<T> typeRef) throws DecodeException {
@@ -73,7 +97,7 @@ public class JacksonCodec implements JsonCodec {
 
   @Override
   public <T> T fromBuffer(Buffer json, Class<T> clazz) throws DecodeException {
-    return fromParser(createParser(json), clazz);
+    return fromParser(createParser(json), clazz, shapes);
   }
 
   public <T> T fromBuffer(Buffer buf, TypeReference<T> typeRef) throws DecodeException {
@@ -121,6 +145,71 @@ public class JacksonCodec implements JsonCodec {
     }
   }
 
+  /**
+   * Encode the specified {@code object} into a buffer allocated by the {@code allocator}, the JSON is streamed into the
+   * buffer without intermediate copies.
+   *
+   * <p> The caller owns the returned buffer, e.g. a pooled direct buffer is released by Netty when the buffer is written to a
+   * channel.
+   *
+   * @param object the object to encode
+   * @param pretty {@code true} to format the JSON prettily
+   * @param allocator the allocator of the buffer
+   * @return the buffer
+   * @throws EncodeException anything preventing the encoding
+   */
+  public ByteBuf toByteBuf(Object object, boolean pretty, ByteBufAllocator allocator) throws EncodeException {
+    ByteBuf buf = allocator.buffer();
+    boolean encoded = false;
+    try (OutputStream out = new ByteBufOutputStream(buf)) {
+      encode(object, out, pretty);
+      encoded = true;
+    } catch (IOException e) {
+      throw new EncodeException(e.getMessage(), e);
+    } finally {
+      if (!encoded) {
+        buf.release();
+      }
+    }
+    return buf;
+  }
+
+  /**
+   * Encode the specified {@code object} to a {@code stream} in chunks of {@code chunkSize} bytes, the JSON never exists
+   * as a whole in memory.
+   *
+   * <p> The encoder pauses between the members of a JSON object or the elements of a JSON array when the
+   * {@code stream} write queue is full and resumes when the {@code stream} is drained. The stream is not ended.
+   *
+   * @param object the object to encode
+   * @param pretty {@code true} to format the JSON prettily
+   * @param stream the stream to write to
+   * @param chunkSize the size of the chunks written to the stream
+   * @return a future succeeded when the last write succeeds, failed with the first failure of the encoding or of a write
+   */
+  public Future<Void> toWriteStream(Object object, boolean pretty, WriteStream<Buffer> stream, int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be > 0");
+    }
+    return new ChunkedJsonEncoder(this, object, pretty, stream, chunkSize).encode();
+  }
+
+  /**
+   * Encode the specified {@code object} to the {@code out} stream.
+   */
+  void encode(Object object, OutputStream out, boolean pretty) throws IOException {
+    JsonGenerator generator = createGenerator(out, pretty);
+    encodeJson(object, generator);
+    generator.close();
+  }
+
+  /**
+   * Encode a value that is not a JSON object or a JSON array.
+   */
+  void encodeValue(Object value, JsonGenerator generator) throws IOException {
+    encodeJson(value, generator);
+  }
+
   public static JsonParser createParser(String str) {
     try {
       return factory.createParser(str);
@@ -149,7 +238,7 @@ public class JacksonCodec implements JsonCodec {
     }
   }
 
-  private static JsonGenerator createGenerator(OutputStream out, boolean pretty) {
+  static JsonGenerator createGenerator(OutputStream out, boolean pretty) {
     try {
       JsonGenerator generator = factory.createGenerator(out);
       if (pretty) {
@@ -162,19 +251,23 @@ public class JacksonCodec implements JsonCodec {
   }
 
   public Object fromString(String str) throws DecodeException {
-    return fromParser(createParser(str), Object.class);
+    return fromParser(createParser(str), Object.class, shapes);
   }
 
   public Object fromBuffer(Buffer buf) throws DecodeException {
-    return fromParser(createParser(buf), Object.class);
+    return fromParser(createParser(buf), Object.class, shapes);
   }
 
   public static <T> T fromParser(JsonParser parser, Class<T> type) throws DecodeException {
+    return fromParser(parser, type, null);
+  }
+
+  static <T> T fromParser(JsonParser parser, Class<T> type, JsonShapeCache shapes) throws DecodeException {
     Object res;
     JsonToken remaining;
     try {
       parser.nextToken();
-      res = parseAny(parser);
+      res = parseAny(parser, shapes);
       remaining = parser.nextToken();
     } catch (IOException e) {
       throw new DecodeException(e.getMessage(), e);
@@ -187,12 +280,16 @@ public class JacksonCodec implements JsonCodec {
     return cast(res, type);
   }
 
-  private static Object parseAny(JsonParser parser) throws IOException, DecodeException {
+  static Object parseAny(JsonParser parser) throws IOException, DecodeException {
+    return parseAny(parser, null);
+  }
+
+  private static Object parseAny(JsonParser parser, JsonShapeCache shapes) throws IOException, DecodeException {
     switch (parser.currentTokenId()) {
       case JsonTokenId.ID_START_OBJECT:
-        return parseObject(parser);
+        return shapes != null ? parseObject(parser, shapes) : parseObject(parser);
       case JsonTokenId.ID_START_ARRAY:
-        return parseArray(parser);
+        return parseArray(parser, shapes);
       case JsonTokenId.ID_STRING:
         return parser.getText();
       case JsonTokenId.ID_NUMBER_FLOAT:
@@ -212,13 +309,13 @@ public class JacksonCodec implements JsonCodec {
   private static Map<String, Object> parseObject(JsonParser parser) throws IOException {
     String key1 = parser.nextFieldName();
     if (key1 == null) {
-      return new LinkedHashMap<>(2);
+      return new CompactMap();
     }
     parser.nextToken();
     Object value1 = parseAny(parser);
     String key2 = parser.nextFieldName();
     if (key2 == null) {
-      LinkedHashMap<String, Object> obj = new LinkedHashMap<>(2);
+      CompactMap obj = new CompactMap(1);
       obj.put(key1, value1);
       return obj;
     }
@@ -226,13 +323,13 @@ public class JacksonCodec implements JsonCodec {
     Object value2 = parseAny(parser);
     String key = parser.nextFieldName();
     if (key == null) {
-      LinkedHashMap<String, Object> obj = new LinkedHashMap<>(2);
+      CompactMap obj = new CompactMap(2);
       obj.put(key1, value1);
       obj.put(key2, value2);
       return obj;
     }
     // General case
-    LinkedHashMap<String, Object> obj = new LinkedHashMap<>();
+    CompactMap obj = new CompactMap(4);
     obj.put(key1, value1);
     obj.put(key2, value2);
     do {
@@ -244,7 +341,29 @@ public class JacksonCodec implements JsonCodec {
     return obj;
   }
 
-  private static List<Object> parseArray(JsonParser parser) throws IOException {
+  private static Map<String, Object> parseObject(JsonParser parser, JsonShapeCache shapes) throws IOException {
+    String key = parser.nextFieldName();
+    if (key == null) {
+      return new CompactMap();
+    }
+    String[] keys = new String[8];
+    Object[] values = new Object[8];
+    int size = 0;
+    do {
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      parser.nextToken();
+      keys[size] = key;
+      values[size] = parseAny(parser, shapes);
+      size++;
+      key = parser.nextFieldName();
+    } while (key != null);
+    return shapes.map(keys, values, size);
+  }
+
+  private static List<Object> parseArray(JsonParser parser, JsonShapeCache shapes) throws IOException {
     List<Object> array = new ArrayList<>();
     while (true) {
       parser.nextToken();
@@ -254,7 +373,7 @@ public class JacksonCodec implements JsonCodec {
       } else if (tokenId == JsonTokenId.ID_END_ARRAY) {
         return array;
       }
-      Object value = parseAny(parser);
+      Object value = parseAny(parser, shapes);
       array.add(value);
     }
   }
@@ -11,6 +11,7 @@
 
 package io.vertx.core.json.jackson;
 
+import io.vertx.core.impl.SysProps;
 import io.vertx.core.spi.json.JsonCodec;
 
 /**
@@ -24,11 +25,12 @@ public class JacksonFactory implements io.vertx.core.spi.JsonFactory {
 
   static {
     JacksonCodec codec;
+    boolean canonicalize = SysProps.JSON_CANONICALIZE.getBoolean();
     try {
-      codec = new DatabindCodec();
+      codec = new DatabindCodec(canonicalize);
     } catch (Throwable ignore) {
       // No databind
-      codec = new JacksonCodec();
+      codec = new JacksonCodec(canonicalize);
     }
     CODEC = codec;
   }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.jackson;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p> Canonicalize the shapes of the decoded JSON objects.
+ *
+ * <p> A shape is the sequence of the field names of an object, the decoded objects with the same shape share a
+ * template {@link CompactMap} key array and index, until they add or remove a member. The field names themselves are
+ * already canonical: the root symbol table of the Jackson factory is shared by all its parsers and interns the field
+ * names ({@code JsonFactory.Feature.INTERN_FIELD_NAMES} is enabled by default).
+ *
+ * <p> Shapes are kept in a table with a fixed number of slots, a shape replaces the shape of its slot on a miss. The
+ * table is lock-free, a racy miss only replaces an entry by an equivalent one.
+ */
+final class JsonShapeCache {
+
+  static final int MAX_SHAPE_SIZE = 64;
+
+  private static final class Shape {
+    private final int hash;
+    private final CompactMap template;
+    private Shape(int hash, CompactMap template) {
+      this.hash = hash;
+      this.template = template;
+    }
+  }
+
+  private final AtomicReferenceArray<Shape> shapes;
+
+  JsonShapeCache() {
+    this(1024);
+  }
+
+  JsonShapeCache(int slots) {
+    if (Integer.bitCount(slots) != 1) {
+      throw new IllegalArgumentException("Slots must be a power of two");
+    }
+    shapes = new AtomicReferenceArray<>(slots);
+  }
+
+  private static int spread(int h) {
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Create the map of an object.
+   *
+   * @param keys the field names
+   * @param values the values, the array can be owned by the returned map
+   * @param size the number of members
+   * @return the map
+   */
+  CompactMap map(String[] keys, Object[] values, int size) {
+    CompactMap template = template(keys, size);
+    if (template != null) {
+      return template.copy(values.length == size ? values : Arrays.copyOf(values, size));
+    }
+    CompactMap map = new CompactMap(size);
+    for (int i = 0;i < size;i++) {
+      map.put(keys[i], values[i]);
+    }
+    return map;
+  }
+
+  private CompactMap template(String[] keys, int size) {
+    if (size > MAX_SHAPE_SIZE) {
+      return null;
+    }
+    int hash = size;
+    for (int i = 0;i < size;i++) {
+      hash = 31 * hash + keys[i].hashCode();
+    }
+    int slot = spread(hash) & (shapes.length() - 1);
+    Shape shape = shapes.getAcquire(slot);
+    if (shape != null && shape.hash == hash && shape.template.hasKeys(keys, size)) {
+      return shape.template;
+    }
+    CompactMap template = new CompactMap(size);
+    for (int i = 0;i < size;i++) {
+      template.put(keys[i], null);
+    }
+    if (template.size() != size) {
+      // Duplicate keys
+      return null;
+    }
+    template.shareKeys();
+    shapes.setRelease(slot, new Shape(hash, template));
+    return template;
+  }
+}
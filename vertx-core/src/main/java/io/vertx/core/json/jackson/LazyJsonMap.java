@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p> A map of the members of a JSON object decoded on demand from the encoded JSON object.
+ *
+ * <p> The first access to the map scans the bytes to build an index of the members: the field names and the offsets
+ * of the values. The scan does not decode the values, a value is decoded when it is accessed for the first time and
+ * then cached, a JSON object value is itself decoded as a lazy map sharing the same bytes.
+ *
+ * <p> The first mutation of the map copies the members to a {@link CompactMap} that replaces the index. Until then,
+ * the map is <i>pristine</i> and can be encoded by returning its bytes unchanged. A decoded JSON array value can be
+ * mutated by the application and therefore makes the map not pristine.
+ *
+ * <p> The bytes are never modified, copies of a pristine map share them. The index is immutable and published at once,
+ * however the reads of the map build the index and cache the decoded values, so the map is not safe for concurrent
+ * reads unless it has been fully read before being shared.
+ */
+public final class LazyJsonMap extends AbstractMap<String, Object> {
+
+  private static final Object NOT_DECODED = new Object();
+  private static final Index MATERIALIZED = new Index(new String[0], new int[0], new int[0], new int[4], 0);
+
+  /**
+   * Create a lazy map of the JSON object encoded in {@code buf}, the buffer content is copied.
+   *
+   * @param buf the encoded JSON object
+   * @return the lazy map
+   */
+  public static LazyJsonMap create(Buffer buf) {
+    byte[] bytes = buf.getBytes();
+    return new LazyJsonMap(bytes, 0, bytes.length);
+  }
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+  private Index index;        // null until the index is built
+  private Object[] values;
+  private Map<String, Object> map;
+  private EntrySet entrySet;
+
+  private LazyJsonMap(byte[] bytes, int offset, int length) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * @return a copy of this map, the copy of a pristine map shares its bytes, {@code null} when the map is not pristine
+   */
+  public LazyJsonMap copy() {
+    if (!isPristine()) {
+      return null;
+    }
+    LazyJsonMap copy = new LazyJsonMap(bytes, offset, length);
+    // The index is immutable
+    copy.index = index;
+    return copy;
+  }
+
+  /**
+   * @return whether the map is unchanged since it was decoded
+   */
+  public boolean isPristine() {
+    index();
+    if (map != null) {
+      return false;
+    }
+    Object[] values = this.values;
+    if (values != null) {
+      for (Object value : values) {
+        if (value instanceof LazyJsonMap) {
+          if (!((LazyJsonMap) value).isPristine()) {
+            return false;
+          }
+        } else if (value instanceof List || value instanceof Map) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the original bytes when the map is pristine, otherwise {@code null}
+   */
+  public Buffer toBuffer() {
+    if (!isPristine()) {
+      return null;
+    }
+    return Buffer.buffer(Arrays.copyOfRange(bytes, offset, offset + length));
+  }
+
+  /**
+   * @return the original JSON string when the map is pristine, otherwise {@code null}
+   */
+  public String encode() {
+    if (!isPristine()) {
+      return null;
+    }
+    return new String(bytes, offset, length, StandardCharsets.UTF_8);
+  }
+
+  private Index index() {
+    Index index = this.index;
+    if (index != null) {
+      return index;
+    }
+    JsonParser parser = parser(offset, length);
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("Invalid JSON object");
+      }
+      // Align the offsets reported by the parser on the opening brace
+      int base = offset + openingBrace() - (int) parser.currentTokenLocation().getByteOffset();
+      int capacity = 8;
+      String[] keys = new String[capacity];
+      int[] starts = new int[capacity];
+      int[] ends = new int[capacity];
+      int end = offset + length;
+      int count = 0;
+      String key;
+      while ((key = parser.nextFieldName()) != null) {
+        if (count == capacity) {
+          capacity *= 2;
+          keys = Arrays.copyOf(keys, capacity);
+          starts = Arrays.copyOf(starts, capacity);
+          ends = Arrays.copyOf(ends, capacity);
+        }
+        JsonToken token = parser.nextToken();
+        keys[count] = key;
+        starts[count] = base + (int) parser.currentTokenLocation().getByteOffset();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+          parser.skipChildren();
+          ends[count] = base + (int) parser.currentTokenLocation().getByteOffset() + 1;
+        } else {
+          ends[count] = end;
+        }
+        count++;
+      }
+      if (parser.nextToken() != null) {
+        throw new DecodeException("Unexpected trailing token");
+      }
+      int[] table = buildTable(keys, count);
+      index = new Index(keys, starts, ends, table, count);
+      if (table == null) {
+        // Duplicate keys are rare, like the eager decoding the last value wins
+        map = toMap(index);
+        index = MATERIALIZED;
+      }
+      this.index = index;
+      return index;
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      JacksonCodec.close(parser);
+    }
+  }
+
+  private int openingBrace() {
+    int i = 0;
+    while (i < length && bytes[offset + i] != '{') {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * @return the open addressing table of the {@code keys} or {@code null} when the object has duplicate keys
+   */
+  private static int[] buildTable(String[] keys, int size) {
+    int[] table = new int[Math.max(4, Integer.highestOneBit(Math.max(1, size)) << 2)];
+    int mask = table.length - 1;
+    for (int i = 0;i < size;i++) {
+      int slot = keys[i].hashCode() & mask;
+      while (true) {
+        int idx = table[slot] - 1;
+        if (idx < 0) {
+          table[slot] = i + 1;
+          break;
+        }
+        if (keys[idx].equals(keys[i])) {
+          return null;
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+    return table;
+  }
+
+  private static int find(Index index, Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+    int[] table = index.table;
+    String[] keys = index.keys;
+    int mask = table.length - 1;
+    int slot = key.hashCode() & mask;
+    while (true) {
+      int idx = table[slot] - 1;
+      if (idx < 0) {
+        return -1;
+      }
+      if (keys[idx].equals(key)) {
+        return idx;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private Object value(Index index, int idx) {
+    Object[] values = this.values;
+    if (values == null) {
+      values = new Object[index.size];
+      Arrays.fill(values, NOT_DECODED);
+      this.values = values;
+    }
+    Object value = values[idx];
+    if (value == NOT_DECODED) {
+      value = decode(index.starts[idx], index.ends[idx]);
+      values[idx] = value;
+    }
+    return value;
+  }
+
+  private Object decode(int start, int end) {
+    byte b = bytes[start];
+    if (b == '{') {
+      return new LazyJsonMap(bytes, start, end - start);
+    }
+    if (b != '[') {
+      // The parser expects a root-level scalar to be followed by a separator
+      end = scalarEnd(start, end);
+    }
+    JsonParser parser = parser(start, end - start);
+    try {
+      parser.nextToken();
+      return JacksonCodec.parseAny(parser);
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      JacksonCodec.close(parser);
+    }
+  }
+
+  private int scalarEnd(int start, int end) {
+    int i = start;
+    if (bytes[i] == '"') {
+      for (i++;i < end;i++) {
+        byte b = bytes[i];
+        if (b == '\\') {
+          i++;
+        } else if (b == '"') {
+          return i + 1;
+        }
+      }
+      return end;
+    }
+    while (i < end) {
+      switch (bytes[i]) {
+        case ',':
+        case '}':
+        case ']':
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\r':
+        case '/':
+          return i;
+        default:
+          i++;
+      }
+    }
+    return end;
+  }
+
+  private JsonParser parser(int off, int len) {
+    try {
+      return JacksonCodec.factory.createParser(bytes, off, len);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  private Map<String, Object> materialize() {
+    Index index = index();
+    if (map == null) {
+      map = toMap(index);
+      this.index = MATERIALIZED;
+      values = null;
+      entrySet = null;
+    }
+    return map;
+  }
+
+  private Map<String, Object> toMap(Index index) {
+    Map<String, Object> copy = new CompactMap(index.size);
+    for (int i = 0;i < index.size;i++) {
+      copy.put(index.keys[i], value(index, i));
+    }
+    return copy;
+  }
+
+  @Override
+  public int size() {
+    Index index = index();
+    return map != null ? map.size() : index.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Index index = index();
+    if (map != null) {
+      return map.containsKey(key);
+    }
+    return find(index, key) >= 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    Index index = index();
+    if (map != null) {
+      return map.get(key);
+    }
+    int idx = find(index, key);
+    return idx >= 0 ? value(index, idx) : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    return materialize().put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    return materialize().remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    materialize().putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    materialize().clear();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    index();
+    if (map != null) {
+      return map.entrySet();
+    }
+    EntrySet set = entrySet;
+    if (set == null) {
+      set = new EntrySet();
+      entrySet = set;
+    }
+    return set;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      Index index = index();
+      if (map != null) {
+        return map.entrySet().iterator();
+      }
+      return new Iterator<>() {
+        final String[] keys = index.keys;
+        final int size = index.size;
+        int next;
+        int current = -1;
+        @Override
+        public boolean hasNext() {
+          return next < size;
+        }
+        @Override
+        public Entry<String, Object> next() {
+          if (next >= size) {
+            throw new NoSuchElementException();
+          }
+          current = next++;
+          return new LazyEntry(index, current);
+        }
+        @Override
+        public void remove() {
+          if (current < 0) {
+            throw new IllegalStateException();
+          }
+          LazyJsonMap.this.remove(keys[current]);
+          current = -1;
+        }
+      };
+    }
+    @Override
+    public int size() {
+      return LazyJsonMap.this.size();
+    }
+  }
+
+  private final class LazyEntry implements Entry<String, Object> {
+
+    private final Index index;
+    private final String key;
+    private final int idx;
+
+    LazyEntry(Index index, int idx) {
+      this.index = index;
+      this.key = index.keys[idx];
+      this.idx = idx;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public Object getValue() {
+      return map != null ? map.get(key) : value(index, idx);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      return put(key, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> that = (Entry<?, ?>) o;
+      return key.equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + getValue();
+    }
+  }
+
+  /**
+   * The index of the members of the JSON object, the index is immutable.
+   */
+  private static final class Index {
+
+    private final String[] keys;
+    private final int[] starts;   // The offset of each value
+    private final int[] ends;     // The end offset of each JSON object or array value, otherwise the end of the object
+    private final int[] table;    // Open addressing table of key index + 1
+    private final int size;       // The number of members
+
+    Index(String[] keys, int[] starts, int[] ends, int[] table, int size) {
+      this.keys = keys;
+      this.starts = starts;
+      this.ends = ends;
+      this.table = table;
+      this.size = size;
+    }
+  }
+}
@@ -121,6 +121,26 @@ public interface LoadBalancer {
     };
   }
 
+  /**
+   * Sticky load balancer that uses consistent hashing with bounded loads based on a client provided routing key, defaulting
+   * to the {@code fallback} load balancer when no routing key is provided.
+   * <p>
+   * A server cannot be assigned more than {@code ceil(balanceFactor * (inflight + 1) / servers)} inflight requests, when
+   * the server a key hashes to is above this capacity, the next server on the ring is selected instead. This prevents
+   * hot keys to overload a single server while preserving stickiness for the other keys.
+   *
+   * @param numberOfVirtualServers the number of virtual servers
+   * @param balanceFactor the balance factor, must be greater than or equal to {@code 1}, e.g. {@code 1.25}
+   * @param fallback the fallback load balancer for non-sticky requests
+   * @return the load balancer
+   */
+  static LoadBalancer consistentHashing(int numberOfVirtualServers, double balanceFactor, LoadBalancer fallback) {
+    return servers -> {
+      ServerSelector fallbackSelector = fallback.selector(servers);
+      return new ConsistentHashingSelector(servers, numberOfVirtualServers, balanceFactor, fallbackSelector);
+    };
+  }
+
   /**
    * Create a stateful endpoint selector.
    *
@@ -10,63 +10,119 @@
  */
 package io.vertx.core.net.endpoint.impl;
 
+import io.vertx.core.net.endpoint.DefaultInteractionMetrics;
+import io.vertx.core.net.endpoint.InteractionMetrics;
 import io.vertx.core.net.endpoint.ServerEndpoint;
 import io.vertx.core.net.endpoint.ServerSelector;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 /**
  * Consistent hashing selector.
+ * <p>
+ * The ring is an immutable pair of sorted arrays: the virtual node hashes and the index of the server owning each
+ * virtual node, a lookup is a binary search followed by an array read, it does not allocate and does not lock.
+ * <p>
+ * When a {@code balanceFactor} is set, the selector implements <i>consistent hashing with bounded loads</i>: a server
+ * cannot receive more than {@code ceil(balanceFactor * (inflight + 1) / servers)} inflight requests, the ring is walked
+ * clockwise until a server under capacity is found.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class ConsistentHashingSelector implements ServerSelector {
 
   private final List<? extends ServerEndpoint> endpoints;
-  private final SortedMap<Long, ServerEndpoint> nodes;
+  private final long[] hashes;
+  private final int[] indexes;
+  private final double balanceFactor;
   private final ServerSelector fallbackSelector;
 
   public ConsistentHashingSelector(List<? extends ServerEndpoint> endpoints, int numberOfVirtualNodes, ServerSelector fallbackSelector) {
-    MessageDigest instance;
-    try {
-      instance = MessageDigest.getInstance("MD5");
-    } catch (NoSuchAlgorithmException e) {
-      throw new UnsupportedOperationException(e);
+    this(endpoints, numberOfVirtualNodes, 0D, fallbackSelector);
+  }
+
+  public ConsistentHashingSelector(List<? extends ServerEndpoint> endpoints, int numberOfVirtualNodes, double balanceFactor, ServerSelector fallbackSelector) {
+    if (numberOfVirtualNodes < 1) {
+      throw new IllegalArgumentException("Number of virtual nodes must be > 0");
+    }
+    if (balanceFactor != 0D && balanceFactor < 1D) {
+      throw new IllegalArgumentException("Balance factor must be >= 1");
     }
-    SortedMap<Long, ServerEndpoint> ring = new TreeMap<>();
-    for (ServerEndpoint node : endpoints) {
+    int size = endpoints.size() * numberOfVirtualNodes;
+    long[] entries = new long[size];
+    int pos = 0;
+    for (int i = 0;i < endpoints.size();i++) {
+      String key = endpoints.get(i).key();
       for (int idx = 0;idx < numberOfVirtualNodes;idx++) {
-        String nodeId = node.key() + "-" + idx;
-        long hash = hash(instance, nodeId.getBytes(StandardCharsets.UTF_8));
-        ring.put(hash, node);
+        entries[pos] = hash(key + "-" + idx);
+        pos++;
       }
     }
+    // Sort the virtual nodes by hash while keeping track of their owner
+    Integer[] order = new Integer[size];
+    for (int i = 0;i < size;i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i1, i2) -> {
+      int cmp = Long.compare(entries[i1], entries[i2]);
+      // Same ordering for colliding virtual nodes regardless of the order of the endpoints list
+      return cmp != 0 ? cmp : Integer.compare(i1, i2);
+    });
+    long[] hashes = new long[size];
+    int[] indexes = new int[size];
+    for (int i = 0;i < size;i++) {
+      int entry = order[i];
+      hashes[i] = entries[entry];
+      indexes[i] = entry / numberOfVirtualNodes;
+    }
 
-    this.nodes = ring;
+    this.hashes = hashes;
+    this.indexes = indexes;
     this.endpoints = endpoints;
+    this.balanceFactor = balanceFactor;
     this.fallbackSelector = fallbackSelector;
   }
 
-  // MD5 : 16 bytes
-  private static long hash(MessageDigest md, byte[] data) {
-    md.reset();
-    md.update(data);
-    byte[] digest = md.digest();
-    byte b0 = (byte)(digest[0] ^ digest[8]);
-    byte b1 = (byte)(digest[1] ^ digest[9]);
-    byte b2 = (byte)(digest[2] ^ digest[10]);
-    byte b3 = (byte)(digest[3] ^ digest[11]);
-    byte b4 = (byte)(digest[4] ^ digest[12]);
-    byte b5 = (byte)(digest[5] ^ digest[13]);
-    byte b6 = (byte)(digest[6] ^ digest[14]);
-    byte b7 = (byte)(digest[7] ^ digest[15]);
-    return ((long)b0 << 56) | ((long)b1 << 48) | ((long)b2 << 40) | ((long)b3 << 32)
-      | ((long)b4 << 24) | ((long)b5 << 16) | ((long)b6 << 8) | (long)b7;
+  /**
+   * 64-bit MurmurHash3 of the UTF-16 code units of {@code s}, four chars are mixed per block, this avoids encoding the
+   * string to a byte array.
+   */
+  static long hash(String s) {
+    final long c1 = 0x87c37b91114253d5L;
+    final long c2 = 0x4cf5ad432745937fL;
+    int len = s.length();
+    long h = 0;
+    int i = 0;
+    for (int end = len & ~3;i < end;i += 4) {
+      long k = s.charAt(i)
+        | ((long)s.charAt(i + 1) << 16)
+        | ((long)s.charAt(i + 2) << 32)
+        | ((long)s.charAt(i + 3) << 48);
+      k *= c1;
+      k = Long.rotateLeft(k, 31);
+      k *= c2;
+      h ^= k;
+      h = Long.rotateLeft(h, 27) * 5 + 0x52dce729;
+    }
+    if (i < len) {
+      long k = 0;
+      for (int shift = 0;i < len;i++, shift += 16) {
+        k |= (long)s.charAt(i) << shift;
+      }
+      k *= c1;
+      k = Long.rotateLeft(k, 31);
+      k *= c2;
+      h ^= k;
+    }
+    h ^= len;
+    // fmix64
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
   }
 
   @Override
@@ -79,21 +135,55 @@ public class ConsistentHashingSelector implements ServerSelector {
     if (key == null) {
       throw new NullPointerException("No null routing key accepted");
     }
-    MessageDigest md;
-    try {
-      md = MessageDigest.getInstance("MD5");
-    } catch (NoSuchAlgorithmException e) {
-      throw new UnsupportedOperationException(e);
+    long[] ring = hashes;
+    if (ring.length == 0) {
+      return -1;
     }
-    long hash = hash(md, key.getBytes(StandardCharsets.UTF_8));
-    SortedMap<Long, ServerEndpoint> map = nodes.tailMap(hash);
-    Long val;
-    if (map.isEmpty()) {
-      val = nodes.firstKey();
+    int pos = Arrays.binarySearch(ring, hash(key));
+    if (pos < 0) {
+      pos = -(pos + 1);
     } else {
-      val = map.firstKey();
+      // Select the first virtual node of a collision run
+      while (pos > 0 && ring[pos - 1] == ring[pos]) {
+        pos--;
+      }
+    }
+    if (pos == ring.length) {
+      pos = 0;
+    }
+    if (balanceFactor == 0D) {
+      return indexes[pos];
+    }
+    return selectBounded(pos);
+  }
+
+  private int selectBounded(int pos) {
+    int numberOfEndpoints = endpoints.size();
+    long inflight = 0;
+    for (int i = 0;i < numberOfEndpoints;i++) {
+      inflight += load(i);
+    }
+    // There is always a server under capacity since capacity * numberOfEndpoints > inflight
+    long capacity = (long) Math.ceil(balanceFactor * (inflight + 1) / numberOfEndpoints);
+    int length = indexes.length;
+    for (int i = 0;i < length;i++) {
+      int idx = indexes[pos];
+      if (load(idx) < capacity) {
+        return idx;
+      }
+      if (++pos == length) {
+        pos = 0;
+      }
+    }
+    // Loads changed concurrently
+    return indexes[pos];
+  }
+
+  private int load(int idx) {
+    InteractionMetrics<?> metrics = endpoints.get(idx).metrics();
+    if (metrics instanceof DefaultInteractionMetrics) {
+      return ((DefaultInteractionMetrics) metrics).numberOfInflightRequests();
     }
-    ServerEndpoint endpoint = nodes.get(val);
-    return endpoints.indexOf(endpoint); // TODO IMPROVE THAT
+    return 0;
   }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a {@link LocalMap} created with {@link SharedData#getLocalMap(String, LocalMapOptions)}.
+ * <p>
+ * A map configured with a max size or a max weight evicts entries according to its {@link EvictionPolicy} when
+ * it grows beyond its bound.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class LocalMapOptions {
+
+  /**
+   * The default max size = {@code -1} (unbounded)
+   */
+  public static final long DEFAULT_MAX_SIZE = -1L;
+
+  /**
+   * The default max weight = {@code -1} (unbounded)
+   */
+  public static final long DEFAULT_MAX_WEIGHT = -1L;
+
+  /**
+   * The default eviction policy = {@link EvictionPolicy#LRU}
+   */
+  public static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.LRU;
+
+  /**
+   * The default expire after write = {@code 0} (no expiration)
+   */
+  public static final long DEFAULT_EXPIRE_AFTER_WRITE = 0L;
+
+  /**
+   * The default expire after access = {@code 0} (no expiration)
+   */
+  public static final long DEFAULT_EXPIRE_AFTER_ACCESS = 0L;
+
+  private long maxSize;
+  private long maxWeight;
+  private EvictionPolicy evictionPolicy;
+  private long expireAfterWrite;
+  private long expireAfterAccess;
+
+  /**
+   * Default constructor
+   */
+  public LocalMapOptions() {
+    maxSize = DEFAULT_MAX_SIZE;
+    maxWeight = DEFAULT_MAX_WEIGHT;
+    evictionPolicy = DEFAULT_EVICTION_POLICY;
+    expireAfterWrite = DEFAULT_EXPIRE_AFTER_WRITE;
+    expireAfterAccess = DEFAULT_EXPIRE_AFTER_ACCESS;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other the options to copy
+   */
+  public LocalMapOptions(LocalMapOptions other) {
+    maxSize = other.maxSize;
+    maxWeight = other.maxWeight;
+    evictionPolicy = other.evictionPolicy;
+    expireAfterWrite = other.expireAfterWrite;
+    expireAfterAccess = other.expireAfterAccess;
+  }
+
+  /**
+   * Create options from JSON
+   *
+   * @param json the JSON
+   */
+  public LocalMapOptions(JsonObject json) {
+    this();
+    LocalMapOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of entries of the map, or {@code -1} when the number of entries is not bounded
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of entries of the map.
+   *
+   * @param maxSize the maximum number of entries, or {@code -1} to not bound the number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setMaxSize(long maxSize) {
+    Arguments.require(maxSize > 0 || maxSize == -1, "maxSize must be > 0 or -1");
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum weight of the map, or {@code -1} when the weight is not bounded
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Set the maximum weight of the map, the weight of an entry is the length of a {@link io.vertx.core.buffer.Buffer},
+   * {@code byte[]} or {@code String} value and {@code 1} for other values.
+   *
+   * @param maxWeight the maximum weight, or {@code -1} to not bound the weight
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setMaxWeight(long maxWeight) {
+    Arguments.require(maxWeight > 0 || maxWeight == -1, "maxWeight must be > 0 or -1");
+    this.maxWeight = maxWeight;
+    return this;
+  }
+
+  /**
+   * @return the eviction policy
+   */
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * Set the policy selecting the evicted entries when the map is bounded.
+   *
+   * @param evictionPolicy the eviction policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setEvictionPolicy(EvictionPolicy evictionPolicy) {
+    Arguments.require(evictionPolicy != null, "evictionPolicy must not be null");
+    this.evictionPolicy = evictionPolicy;
+    return this;
+  }
+
+  /**
+   * @return the duration in milliseconds after which an entry expires once written, or {@code 0} when entries do not expire
+   */
+  public long getExpireAfterWrite() {
+    return expireAfterWrite;
+  }
+
+  /**
+   * Set the duration in milliseconds after which an entry expires once it has been written.
+   *
+   * @param expireAfterWrite the duration in milliseconds, or {@code 0} to not expire entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setExpireAfterWrite(long expireAfterWrite) {
+    Arguments.require(expireAfterWrite >= 0, "expireAfterWrite must be >= 0");
+    this.expireAfterWrite = expireAfterWrite;
+    return this;
+  }
+
+  /**
+   * @return the duration in milliseconds after which an entry expires once accessed, or {@code 0} when entries do not expire
+   */
+  public long getExpireAfterAccess() {
+    return expireAfterAccess;
+  }
+
+  /**
+   * Set the duration in milliseconds after which an entry expires once it has been written or read.
+   *
+   * @param expireAfterAccess the duration in milliseconds, or {@code 0} to not expire entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setExpireAfterAccess(long expireAfterAccess) {
+    Arguments.require(expireAfterAccess >= 0, "expireAfterAccess must be >= 0");
+    this.expireAfterAccess = expireAfterAccess;
+    return this;
+  }
+
+  /**
+   * @return the JSON representation of these options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    LocalMapOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
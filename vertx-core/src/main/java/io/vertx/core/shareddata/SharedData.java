@@ -237,4 +237,18 @@ public interface SharedData {
    */
   <K, V> LocalMap<K, V> getLocalMap(String name);
 
+  /**
+   * Return a {@code LocalMap} with the specific {@code name}, the map is created with the provided {@code options}
+   * when it does not exist yet.
+   * <p>
+   * When the {@code options} configure a max size or a max weight, the map evicts entries according to the configured
+   * {@link EvictionPolicy}, this allows to use a local map as a bounded in-process cache.
+   *
+   * @param name  the name of the map
+   * @param options the options used when creating the map
+   * @return the map
+   * @throws IllegalStateException when a map with the same {@code name} exists with different options
+   */
+  <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options);
+
 }
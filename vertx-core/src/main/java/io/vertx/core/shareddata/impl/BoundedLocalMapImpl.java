@@ -0,0 +1,616 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.shareddata.EvictionPolicy;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.LocalMapOptions;
+import io.vertx.core.spi.metrics.MapMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.vertx.core.shareddata.impl.Checker.checkType;
+import static io.vertx.core.shareddata.impl.Checker.copyIfRequired;
+
+/**
+ * A local map bounded by a number of entries or a weight, with optional expiration of entries.
+ * <p>
+ * Reads look up the entry in a concurrent hash map and record the access on the entry without locking: the usage
+ * counter and the access time are racy writes, an access lost to a concurrent update only makes the eviction order
+ * slightly less precise. Writes are serialized by a lock which maintains the eviction order: entries are linked in a
+ * clock, the clock hand evicts the first entry that has not been used since the hand last visited it (LRU) or whose
+ * usage counter has been decayed to zero (LFU).
+ */
+class BoundedLocalMapImpl<K, V> implements LocalMap<K, V> {
+
+  private static final int MAX_FREQUENCY = 15;
+
+  private final ConcurrentMap<String, LocalMap<?, ?>> maps;
+  private final String name;
+  private final ConcurrentMap<K, Node> map = new ConcurrentHashMap<>();
+  private final LocalMapOptions options;
+  private final long maxSize;
+  private final long maxWeight;
+  private final int maxFrequency;
+  private final long expireAfterWrite;
+  private final long expireAfterAccess;
+  private final boolean expires;
+  private final ExpirationWheel expirationWheel;
+  private final MapMetrics metrics;
+  private final Object lock = new Object();
+
+  // Guarded by lock
+  private Node head;
+  private Node tail;
+  private long size;
+  private long weight;
+
+  BoundedLocalMapImpl(VertxInternal vertx, String name, LocalMapOptions options, ConcurrentMap<String, LocalMap<?, ?>> maps) {
+    VertxMetrics vertxMetrics = vertx.metricsSPI();
+    this.name = name;
+    this.maps = maps;
+    this.options = options;
+    this.maxSize = options.getMaxSize();
+    this.maxWeight = options.getMaxWeight();
+    this.maxFrequency = options.getEvictionPolicy() == EvictionPolicy.LFU ? MAX_FREQUENCY : 1;
+    this.expireAfterWrite = TimeUnit.MILLISECONDS.toNanos(options.getExpireAfterWrite());
+    this.expireAfterAccess = TimeUnit.MILLISECONDS.toNanos(options.getExpireAfterAccess());
+    this.expires = expireAfterWrite > 0 || expireAfterAccess > 0;
+    this.expirationWheel = expires ? new ExpirationWheel(vertx) : null;
+    this.metrics = vertxMetrics != null ? vertxMetrics.createMapMetrics("local-map", name) : null;
+  }
+
+  /**
+   * @return whether this map was created with the same {@code options}
+   */
+  boolean hasOptions(LocalMapOptions other) {
+    return options.getMaxSize() == other.getMaxSize()
+      && options.getMaxWeight() == other.getMaxWeight()
+      && options.getEvictionPolicy() == other.getEvictionPolicy()
+      && options.getExpireAfterWrite() == other.getExpireAfterWrite()
+      && options.getExpireAfterAccess() == other.getExpireAfterAccess();
+  }
+
+  private static long weigh(Object value) {
+    if (value instanceof Buffer) {
+      return ((Buffer) value).length();
+    } else if (value instanceof byte[]) {
+      return ((byte[]) value).length;
+    } else if (value instanceof String) {
+      return ((String) value).length();
+    } else {
+      return 1;
+    }
+  }
+
+  private long now() {
+    return expires ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Lookup of a live entry, the access is recorded without the lock.
+   */
+  private Node lookup(Object key) {
+    Node node = map.get(key);
+    if (node != null) {
+      long now = now();
+      if (node.hasExpired(now)) {
+        synchronized (lock) {
+          removeExpired(node, now);
+        }
+        return null;
+      }
+      node.touch(now);
+    }
+    return node;
+  }
+
+  /**
+   * Lookup of a live entry when holding the lock.
+   */
+  private Node live(Object key, long now) {
+    Node node = map.get(key);
+    if (node != null && node.hasExpired(now)) {
+      removeExpired(node, now);
+      return null;
+    }
+    return node;
+  }
+
+  private void removeExpired(Node node, long now) {
+    if (map.get(node.key) == node && node.hasExpired(now)) {
+      map.remove(node.key);
+      unlink(node);
+      node.cancel();
+      if (metrics != null) {
+        metrics.entryExpired();
+      }
+    }
+  }
+
+  private V insert(K key, V value, long now) {
+    Node node = new Node(key, value, now);
+    Node previous = map.put(key, node);
+    link(node);
+    if (previous != null) {
+      unlink(previous);
+      previous.cancel();
+    }
+    if (expires) {
+      expirationWheel.schedule(node);
+    }
+    evict();
+    if (previous == null || previous.hasExpired(now)) {
+      return null;
+    }
+    return previous.value;
+  }
+
+  private V delete(Node node) {
+    map.remove(node.key);
+    unlink(node);
+    node.cancel();
+    return node.value;
+  }
+
+  private void link(Node node) {
+    if (tail == null) {
+      head = node;
+    } else {
+      tail.after = node;
+      node.before = tail;
+    }
+    tail = node;
+    size++;
+    weight += node.weight;
+  }
+
+  private void unlink(Node node) {
+    Node before = node.before;
+    Node after = node.after;
+    if (before == null) {
+      head = after;
+    } else {
+      before.after = after;
+      node.before = null;
+    }
+    if (after == null) {
+      tail = before;
+    } else {
+      after.before = before;
+      node.after = null;
+    }
+    size--;
+    weight -= node.weight;
+  }
+
+  private boolean exceedsBounds() {
+    return (maxSize > 0 && size > maxSize) || (maxWeight > 0 && weight > maxWeight);
+  }
+
+  private void evict() {
+    while (exceedsBounds()) {
+      Node node = head;
+      int frequency = node.frequency;
+      if (frequency > 0) {
+        // Second chance, decay and move behind the hand
+        node.frequency = frequency - 1;
+        if (node != tail) {
+          unlink(node);
+          link(node);
+        }
+      } else {
+        delete(node);
+        if (metrics != null) {
+          metrics.entryEvicted();
+        }
+      }
+    }
+  }
+
+  @Override
+  public V get(Object key) {
+    Node node = lookup(key);
+    if (node == null) {
+      if (metrics != null) {
+        metrics.miss();
+      }
+      return null;
+    }
+    if (metrics != null) {
+      metrics.hit();
+    }
+    return copyIfRequired(node.value);
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    Node node = lookup(key);
+    if (node == null) {
+      if (metrics != null) {
+        metrics.miss();
+      }
+      return copyIfRequired(defaultValue);
+    }
+    if (metrics != null) {
+      metrics.hit();
+    }
+    return copyIfRequired(node.value);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Node node = map.get(key);
+    return node != null && !node.hasExpired(now());
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    long now = now();
+    for (Node node : map.values()) {
+      if (!node.hasExpired(now) && node.value.equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    checkType(key);
+    checkType(value);
+    synchronized (lock) {
+      return copyIfRequired(insert(key, value, now()));
+    }
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    checkType(key);
+    checkType(value);
+    synchronized (lock) {
+      long now = now();
+      Node node = live(key, now);
+      if (node != null) {
+        return copyIfRequired(node.value);
+      }
+      insert(key, value, now);
+      return null;
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    synchronized (lock) {
+      Node node = live(key, now());
+      return node == null ? null : copyIfRequired(delete(node));
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    synchronized (lock) {
+      Node node = live(key, now());
+      if (node != null && node.value.equals(value)) {
+        delete(node);
+        return true;
+      }
+      return false;
+    }
+  }
+
+  @Override
+  public boolean removeIfPresent(K key, V value) {
+    return remove(key, value);
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    synchronized (lock) {
+      long now = now();
+      Node node = live(key, now);
+      if (node != null && node.value.equals(oldValue)) {
+        insert(key, newValue, now);
+        return true;
+      }
+      return false;
+    }
+  }
+
+  @Override
+  public boolean replaceIfPresent(K key, V oldValue, V newValue) {
+    checkType(key);
+    checkType(oldValue);
+    checkType(newValue);
+    return replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    checkType(key);
+    checkType(value);
+    synchronized (lock) {
+      long now = now();
+      Node node = live(key, now);
+      if (node != null) {
+        return copyIfRequired(insert(key, value, now));
+      }
+      return null;
+    }
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    synchronized (lock) {
+      long now = now();
+      for (Node node : new ArrayList<>(map.values())) {
+        if (map.get(node.key) == node && !node.hasExpired(now)) {
+          checkType(node.key);
+          checkType(node.value);
+          V output = function.apply(node.key, node.value);
+          if (output != null) {
+            checkType(output);
+            insert(node.key, output, now);
+          } else {
+            delete(node);
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    checkType(key);
+    synchronized (lock) {
+      long now = now();
+      Node node = live(key, now);
+      V output = remappingFunction.apply(key, node == null ? null : copyIfRequired(node.value));
+      if (output != null) {
+        checkType(output);
+        insert(key, output, now);
+      } else if (node != null) {
+        delete(node);
+      }
+      return copyIfRequired(output);
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    checkType(key);
+    synchronized (lock) {
+      long now = now();
+      Node node = live(key, now);
+      if (node != null) {
+        return copyIfRequired(node.value);
+      }
+      V output = mappingFunction.apply(key);
+      if (output != null) {
+        checkType(output);
+        insert(key, output, now);
+      }
+      return copyIfRequired(output);
+    }
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    checkType(key);
+    synchronized (lock) {
+      long now = now();
+      Node node = live(key, now);
+      if (node == null) {
+        return null;
+      }
+      V output = remappingFunction.apply(key, copyIfRequired(node.value));
+      if (output != null) {
+        checkType(output);
+        insert(key, output, now);
+      } else {
+        delete(node);
+      }
+      return copyIfRequired(output);
+    }
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    checkType(key);
+    checkType(value);
+    synchronized (lock) {
+      long now = now();
+      Node node = live(key, now);
+      V output = node == null ? value : remappingFunction.apply(copyIfRequired(node.value), value);
+      if (output != null) {
+        checkType(output);
+        insert(key, output, now);
+      } else if (node != null) {
+        delete(node);
+      }
+      return copyIfRequired(output);
+    }
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    // Iterate over the set to entry and call `put` on each entry to validate the types
+    for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public void clear() {
+    synchronized (lock) {
+      for (Node node = head;node != null;node = node.after) {
+        node.cancel();
+      }
+      map.clear();
+      head = tail = null;
+      size = 0;
+      weight = 0;
+    }
+  }
+
+  @Override
+  public int size() {
+    synchronized (lock) {
+      return (int) size;
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public void close() {
+    if (maps.remove(name, this) && metrics != null) {
+      metrics.close();
+    }
+  }
+
+  @Override
+  public Set<K> keySet() {
+    long now = now();
+    Set<K> keys = new HashSet<>(map.size());
+    for (Node node : map.values()) {
+      if (!node.hasExpired(now)) {
+        keys.add(copyIfRequired(node.key));
+      }
+    }
+    return keys;
+  }
+
+  @Override
+  public Collection<V> values() {
+    long now = now();
+    List<V> values = new ArrayList<>(map.size());
+    for (Node node : map.values()) {
+      if (!node.hasExpired(now)) {
+        values.add(copyIfRequired(node.value));
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    long now = now();
+    Set<Entry<K, V>> entries = new HashSet<>(map.size());
+    for (Node node : map.values()) {
+      if (!node.hasExpired(now)) {
+        entries.add(new AbstractMap.SimpleImmutableEntry<>(copyIfRequired(node.key), copyIfRequired(node.value)));
+      }
+    }
+    return entries;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    // Cannot delegate, it needs to copy the objects to avoid modifications
+    for (Map.Entry<K, V> entry : entrySet()) {
+      action.accept(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    long now = now();
+    for (Node node : map.values()) {
+      if (!node.hasExpired(now)) {
+        if (sb.length() > 1) {
+          sb.append(", ");
+        }
+        sb.append(node.key).append('=').append(node.value);
+      }
+    }
+    return sb.append('}').toString();
+  }
+
+  private class Node extends ExpirationWheel.Entry {
+
+    final K key;
+    final V value;
+    final long weight;
+    final long writeTime;
+    volatile long accessTime;
+    int frequency;
+    Node before;
+    Node after;
+
+    Node(K key, V value, long now) {
+      this.key = key;
+      this.value = value;
+      this.weight = maxWeight > 0 ? weigh(value) : 1L;
+      this.writeTime = now;
+      this.accessTime = now;
+    }
+
+    /**
+     * Record an access without holding the lock, concurrent accesses or a concurrent decay by the clock hand
+     * may overwrite each other.
+     */
+    void touch(long now) {
+      int f = frequency;
+      if (f < maxFrequency) {
+        frequency = f + 1;
+      }
+      if (expireAfterAccess > 0 && accessTime != now) {
+        accessTime = now;
+      }
+    }
+
+    boolean hasExpired(long now) {
+      return expires && now - deadline() >= 0;
+    }
+
+    @Override
+    long deadline() {
+      long deadline = Long.MAX_VALUE;
+      if (expireAfterWrite > 0) {
+        deadline = writeTime + expireAfterWrite;
+      }
+      if (expireAfterAccess > 0) {
+        deadline = Math.min(deadline, accessTime + expireAfterAccess);
+      }
+      return deadline;
+    }
+
+    @Override
+    void expire() {
+      synchronized (lock) {
+        if (map.get(key) == this) {
+          long now = System.nanoTime();
+          if (hasExpired(now)) {
+            removeExpired(this, now);
+          } else {
+            // The entry has been accessed since it was scheduled
+            expirationWheel.schedule(this);
+          }
+        }
+      }
+    }
+  }
+}
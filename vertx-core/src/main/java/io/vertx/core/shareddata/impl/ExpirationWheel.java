@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A hashed timing wheel expiring map entries.
+ * <p>
+ * Entries are linked in the wheel, scheduling pushes an entry on a lock-free pending stack and cancelling sets a flag,
+ * both are {@code O(1)} and do not allocate. A single periodic timer advances the wheel every tick and expires the
+ * entries of the current bucket, the timer only runs while the wheel holds entries. An entry expires on the first tick
+ * following its deadline, callers needing a precise expiration must check the deadline on access.
+ */
+class ExpirationWheel {
+
+  static final long DEFAULT_TICK_DURATION = 50;
+  static final int DEFAULT_WHEEL_SIZE = 512;
+
+  /**
+   * An entry of the wheel.
+   */
+  abstract static class Entry {
+
+    private Entry next;
+    private long remainingRounds;
+    private volatile boolean cancelled;
+
+    /**
+     * @return the {@link System#nanoTime()} based deadline of this entry
+     */
+    abstract long deadline();
+
+    /**
+     * Called by the wheel once the deadline of the entry has been reached.
+     */
+    abstract void expire();
+
+    /**
+     * Cancel this entry, the entry is lazily removed from the wheel.
+     */
+    final void cancel() {
+      cancelled = true;
+    }
+  }
+
+  private final VertxInternal vertx;
+  private final long tickNanos;
+  private final long tickMillis;
+  private final Entry[] buckets;
+  private final int mask;
+  private final long startTime;
+  private final AtomicReference<Entry> pending = new AtomicReference<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private ContextInternal context;
+  private long timerId = -1;
+  private long tick;
+
+  ExpirationWheel(VertxInternal vertx) {
+    this(vertx, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+  }
+
+  ExpirationWheel(VertxInternal vertx, long tickMillis, int wheelSize) {
+    if (tickMillis < 1) {
+      throw new IllegalArgumentException("Tick duration must be > 0");
+    }
+    if (Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("Wheel size must be a power of two");
+    }
+    this.vertx = vertx;
+    this.tickMillis = tickMillis;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.buckets = new Entry[wheelSize];
+    this.mask = wheelSize - 1;
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * @return the number of entries held by the wheel, including cancelled entries not yet removed
+   */
+  int size() {
+    return size.get();
+  }
+
+  /**
+   * Schedule the expiration of an {@code entry}, this can be called from any thread.
+   */
+  void schedule(Entry entry) {
+    while (true) {
+      Entry head = pending.get();
+      entry.next = head;
+      if (pending.compareAndSet(head, entry)) {
+        break;
+      }
+    }
+    if (size.getAndIncrement() == 0) {
+      start();
+    }
+  }
+
+  private synchronized void start() {
+    if (timerId == -1L) {
+      if (context == null) {
+        context = vertx.createEventLoopContext();
+      }
+      // The wheel is empty, skip the ticks elapsed while the timer was stopped
+      tick = (System.nanoTime() - startTime) / tickNanos;
+      timerId = context.setPeriodic(tickMillis, id -> advance(System.nanoTime()));
+    }
+  }
+
+  private synchronized void stopIfEmpty() {
+    if (size.get() == 0 && timerId != -1L) {
+      vertx.cancelTimer(timerId);
+      timerId = -1L;
+    }
+  }
+
+  /**
+   * Advance the wheel up to {@code now}, this must be called by a single thread at a time.
+   */
+  void advance(long now) {
+    Entry entry = pending.getAndSet(null);
+    while (entry != null) {
+      Entry next = entry.next;
+      if (entry.cancelled) {
+        entry.next = null;
+        size.decrementAndGet();
+      } else {
+        place(entry);
+      }
+      entry = next;
+    }
+    long target = (now - startTime) / tickNanos;
+    while (tick <= target) {
+      expire(tick++);
+    }
+    stopIfEmpty();
+  }
+
+  private void place(Entry entry) {
+    long deadlineTick = (entry.deadline() - startTime + tickNanos - 1) / tickNanos;
+    if (deadlineTick < tick) {
+      deadlineTick = tick;
+    }
+    entry.remainingRounds = (deadlineTick - tick) / buckets.length;
+    int idx = (int) (deadlineTick & mask);
+    entry.next = buckets[idx];
+    buckets[idx] = entry;
+  }
+
+  private void expire(long tick) {
+    int idx = (int) (tick & mask);
+    Entry prev = null;
+    Entry entry = buckets[idx];
+    while (entry != null) {
+      Entry next = entry.next;
+      boolean cancelled = entry.cancelled;
+      if (cancelled || entry.remainingRounds == 0) {
+        if (prev == null) {
+          buckets[idx] = next;
+        } else {
+          prev.next = next;
+        }
+        entry.next = null;
+        size.decrementAndGet();
+        if (!cancelled) {
+          entry.expire();
+        }
+      } else {
+        entry.remainingRounds--;
+        prev = entry;
+      }
+      entry = next;
+    }
+  }
+}
@@ -15,6 +15,8 @@ import io.vertx.core.Future;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.spi.metrics.MapMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,30 +37,41 @@ import static java.util.stream.Collectors.*;
 public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
   private final VertxInternal vertx;
-  private final ConcurrentMap<K, Holder<V>> map;
+  private final ConcurrentMap<K, Holder> map;
+  private final ExpirationWheel expirationWheel;
+  private final MapMetrics metrics;
 
   public LocalAsyncMapImpl(VertxInternal vertx) {
+    this(vertx, null);
+  }
+
+  public LocalAsyncMapImpl(VertxInternal vertx, String name) {
+    VertxMetrics vertxMetrics = vertx.metricsSPI();
     this.vertx = vertx;
-    map = new ConcurrentHashMap<>();
+    this.map = new ConcurrentHashMap<>();
+    this.expirationWheel = new ExpirationWheel(vertx);
+    this.metrics = vertxMetrics != null ? vertxMetrics.createMapMetrics("async-map", name) : null;
   }
 
   @Override
   public Future<V> get(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.get(k);
-    if (h != null && h.hasNotExpired()) {
-      return ctx.succeededFuture(h.value);
-    } else {
-      return ctx.succeededFuture();
+    Holder h = map.get(k);
+    if (h != null) {
+      if (h.hasNotExpired()) {
+        return ctx.succeededFuture(h.value);
+      }
+      removeExpired(h);
     }
+    return ctx.succeededFuture();
   }
 
   @Override
   public Future<Void> put(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.put(k, new Holder<>(v));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
+    Holder previous = map.put(k, new Holder(k, v));
+    if (previous != null) {
+      previous.cancel();
     }
     return ctx.succeededFuture();
   }
@@ -66,36 +79,31 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> putIfAbsent(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.putIfAbsent(k, new Holder<>(v));
+    Holder h = map.putIfAbsent(k, new Holder(k, v));
     return ctx.succeededFuture(h == null ? null : h.value);
   }
 
   @Override
   public Future<Void> put(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.put(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
+    Holder h = new Holder(k, v, ttl, System.nanoTime());
+    Holder previous = map.put(k, h);
+    expirationWheel.schedule(h.expiration);
+    if (previous != null) {
+      previous.cancel();
     }
     return ctx.succeededFuture();
   }
 
-  private void removeIfExpired(K k) {
-    map.computeIfPresent(k, (key, holder) -> holder.hasNotExpired() ? holder : null);
-  }
-
   @Override
   public Future<V> putIfAbsent(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> existing = map.putIfAbsent(k, new Holder<>(v, timerId, ttl, timestamp));
+    Holder h = new Holder(k, v, ttl, System.nanoTime());
+    Holder existing = map.putIfAbsent(k, h);
     if (existing != null) {
-      vertx.cancelTimer(timerId);
       return ctx.succeededFuture(existing.value);
     } else {
+      expirationWheel.schedule(h.expiration);
       return ctx.succeededFuture();
     }
   }
@@ -107,9 +115,7 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     map.computeIfPresent(k, (key, holder) -> {
       if (holder.value.equals(v)) {
         result.compareAndSet(false, true);
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        holder.cancel();
         return null;
       }
       return holder;
@@ -120,11 +126,9 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> replace(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.replace(k, new Holder<>(v));
+    Holder previous = map.replace(k, new Holder(k, v));
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      previous.cancel();
       return ctx.succeededFuture(previous.value);
     } else {
       return ctx.succeededFuture();
@@ -134,13 +138,11 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> replace(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.replace(k, new Holder<>(v, timerId, ttl, timestamp));
+    Holder h = new Holder(k, v, ttl, System.nanoTime());
+    Holder previous = map.replace(k, h);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      expirationWheel.schedule(h.expiration);
+      previous.cancel();
       return ctx.succeededFuture(previous.value);
     } else {
       return ctx.succeededFuture();
@@ -150,12 +152,10 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = new Holder<>(newValue);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
+    Holder h = new Holder(k, newValue);
+    Holder result = map.computeIfPresent(k, (key, holder) -> {
       if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        holder.cancel();
         return h;
       }
       return holder;
@@ -166,22 +166,18 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> h = new Holder<>(newValue, timerId, ttl, timestamp);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
+    Holder h = new Holder(k, newValue, ttl, System.nanoTime());
+    Holder result = map.computeIfPresent(k, (key, holder) -> {
       if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        holder.cancel();
         return h;
       }
       return holder;
     });
     if(h == result) {
+      expirationWheel.schedule(h.expiration);
       return ctx.succeededFuture(true);
     } else {
-      vertx.cancelTimer(timerId);
       return ctx.succeededFuture(false);
     }
   }
@@ -189,6 +185,7 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Void> clear() {
     ContextInternal ctx = vertx.getOrCreateContext();
+    map.values().forEach(Holder::cancel);
     map.clear();
     return ctx.succeededFuture();
   }
@@ -196,13 +193,25 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Integer> size() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(map.size());
+    int size = 0;
+    for (Holder holder : map.values()) {
+      if (holder.hasNotExpired()) {
+        size++;
+      }
+    }
+    return ctx.succeededFuture(size);
   }
 
   @Override
   public Future<Set<K>> keys() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(new HashSet<>(map.keySet()));
+    Set<K> result = new HashSet<>(map.size());
+    map.forEach((key, holder) -> {
+      if (holder.hasNotExpired()) {
+        result.add(key);
+      }
+    });
+    return ctx.succeededFuture(result);
   }
 
   @Override
@@ -230,38 +239,67 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> remove(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.remove(k);
+    Holder previous = map.remove(k);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      previous.cancel();
       return ctx.succeededFuture(previous.value);
     } else {
       return ctx.succeededFuture();
     }
   }
 
-  private static class Holder<V> {
+  /**
+   * Close this map when Vert.x is closed, this clears the map and closes the metrics.
+   */
+  public void close() {
+    map.values().forEach(Holder::cancel);
+    map.clear();
+    if (metrics != null) {
+      metrics.close();
+    }
+  }
+
+  /**
+   * @return the number of entries tracked for expiration
+   */
+  public int expirationSize() {
+    return expirationWheel.size();
+  }
+
+  private void removeExpired(Holder holder) {
+    if (map.remove(holder.key, holder)) {
+      holder.cancel();
+      if (metrics != null) {
+        metrics.entryExpired();
+      }
+    }
+  }
+
+  private class Holder {
+    final K key;
     final V value;
-    final long timerId;
     final long ttl;
     final long timestamp;
+    final Expiration expiration;
 
-    Holder(V value) {
+    Holder(K key, V value) {
       Objects.requireNonNull(value);
+      this.key = key;
       this.value = value;
-      timestamp = ttl = timerId = 0;
+      this.timestamp = ttl = 0;
+      this.expiration = null;
     }
 
-    Holder(V value, long timerId, long ttl, long timestamp) {
+    Holder(K key, V value, long ttl, long timestamp) {
       Objects.requireNonNull(value);
       if (ttl < 1) {
         throw new IllegalArgumentException("ttl must be positive: " + ttl);
       }
+      this.key = key;
       this.value = value;
-      this.timerId = timerId;
       this.ttl = ttl;
       this.timestamp = timestamp;
+      this.expiration = new Expiration(this);
     }
 
     boolean expires() {
@@ -272,9 +310,49 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
       return !expires() || MILLISECONDS.convert(System.nanoTime() - timestamp, NANOSECONDS) < ttl;
     }
 
+    void cancel() {
+      Expiration e = expiration;
+      if (e != null) {
+        e.cancelExpiration();
+      }
+    }
+
     @Override
     public String toString() {
-      return "Holder{" + "value=" + value + ", timerId=" + timerId + ", ttl=" + ttl + ", timestamp=" + timestamp + '}';
+      return "Holder{" + "value=" + value + ", ttl=" + ttl + ", timestamp=" + timestamp + '}';
+    }
+  }
+
+  /**
+   * The wheel entry of a holder, a cancelled entry releases the holder, so the value can be collected before the wheel
+   * removes the entry.
+   */
+  private class Expiration extends ExpirationWheel.Entry {
+
+    private final long deadline;
+    private volatile Holder holder;
+
+    Expiration(Holder holder) {
+      this.holder = holder;
+      this.deadline = holder.timestamp + MILLISECONDS.toNanos(holder.ttl);
+    }
+
+    void cancelExpiration() {
+      holder = null;
+      cancel();
+    }
+
+    @Override
+    long deadline() {
+      return deadline;
+    }
+
+    @Override
+    void expire() {
+      Holder h = holder;
+      if (h != null) {
+        removeExpired(h);
+      }
     }
   }
 }
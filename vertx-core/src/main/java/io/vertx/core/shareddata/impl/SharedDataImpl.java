@@ -122,10 +122,30 @@ public class SharedDataImpl implements SharedData {
     return (LocalMap<K, V>) localMaps.computeIfAbsent(name, n -> new LocalMapImpl<>(n, localMaps));
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options) {
+    Objects.requireNonNull(options, "options");
+    LocalMap<?, ?> map;
+    if (options.getMaxSize() < 0 && options.getMaxWeight() < 0 && options.getExpireAfterWrite() == 0 && options.getExpireAfterAccess() == 0) {
+      map = getLocalMap(name);
+      if (map instanceof BoundedLocalMapImpl) {
+        throw new IllegalStateException("Local map " + name + " already exists with different options");
+      }
+    } else {
+      LocalMapOptions copy = new LocalMapOptions(options);
+      map = localMaps.computeIfAbsent(name, n -> new BoundedLocalMapImpl<>(vertx, n, copy, localMaps));
+      if (!(map instanceof BoundedLocalMapImpl) || !((BoundedLocalMapImpl<?, ?>) map).hasOptions(options)) {
+        throw new IllegalStateException("Local map " + name + " already exists with different options");
+      }
+    }
+    return (LocalMap<K, V>) map;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name) {
-    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx));
+    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx, n));
     ContextInternal context = vertx.getOrCreateContext();
     return context.succeededFuture(new WrappedAsyncMap<>(asyncMap));
   }
@@ -137,6 +157,19 @@ public class SharedDataImpl implements SharedData {
     return context.succeededFuture(counter);
   }
 
+  /**
+   * Close the local maps when Vert.x is closed.
+   */
+  public void close() {
+    localAsyncMaps.values().forEach(LocalAsyncMapImpl::close);
+    localAsyncMaps.clear();
+    for (LocalMap<?, ?> map : localMaps.values()) {
+      if (map instanceof BoundedLocalMapImpl) {
+        map.close();
+      }
+    }
+  }
+
   private static void checkType(Object obj) {
     if (obj == null) {
       throw new IllegalArgumentException("Cannot put null in key or value of async map");
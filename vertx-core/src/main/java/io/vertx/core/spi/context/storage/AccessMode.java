@@ -23,6 +23,14 @@ public interface AccessMode {
    * This access mode provides concurrent access to context local storage with thread safety and atomicity.
    */
   AccessMode CONCURRENT = ConcurrentAccessMode.INSTANCE;
+
+  /**
+   * This access mode provides plain access to context local storage without any memory ordering, it should only be
+   * used when the storage is exclusively accessed from the context thread, e.g. a duplicated context running
+   * on an event-loop.
+   */
+  AccessMode PLAIN = PlainAccessMode.INSTANCE;
+
   /**
    * Return the object at index {@code idx} in the {@code locals} array.
    * @param locals the array
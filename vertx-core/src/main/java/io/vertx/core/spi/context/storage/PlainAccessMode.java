@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.spi.context.storage;
+
+import java.util.function.Supplier;
+
+final class PlainAccessMode implements AccessMode {
+
+  public static final PlainAccessMode INSTANCE = new PlainAccessMode();
+
+  private PlainAccessMode() {
+  }
+
+  @Override
+  public Object get(Object[] locals, int idx) {
+    return locals[idx];
+  }
+
+  @Override
+  public void put(Object[] locals, int idx, Object value) {
+    locals[idx] = value;
+  }
+
+  @Override
+  public Object getOrCreate(Object[] locals, int idx, Supplier<Object> initialValueSupplier) {
+    Object res = locals[idx];
+    if (res == null) {
+      res = initialValueSupplier.get();
+      if (res == null) {
+        throw new IllegalStateException();
+      }
+      locals[idx] = res;
+    }
+    return res;
+  }
+}
@@ -84,4 +84,15 @@ public interface ClientMetrics<M, Req, Resp> extends Metrics {
    */
   default void responseEnd(M requestMetric, long bytesRead) {
   }
+
+  /**
+   * Called when the number of requests sent on a pipe-lined connection and awaiting a response changes, e.g. with
+   * HTTP/1.1 pipe-lining.
+   *
+   * @param connection the connection, the same object identifies the connection for its lifetime
+   * @param depth the number of requests awaiting a response on the connection
+   * @param limit the number of requests the connection can currently pipe-line
+   */
+  default void pipelineDepth(Object connection, int depth, long limit) {
+  }
 }
@@ -110,6 +110,17 @@ public interface EventBusMetrics<H> extends Metrics {
   default void messageWritten(String address, int numberOfBytes) {
   }
 
+  /**
+   * A batch of messages has been flushed to the network.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param numberOfMessages the number of messages of the batch
+   * @param numberOfBytes the number of bytes written
+   */
+  default void batchWritten(int numberOfMessages, int numberOfBytes) {
+  }
+
   /**
    * A message has been received from the network.<p/>
    *
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * The event-loop metrics SPI, the event-loop profiler reports the tasks executed by an event-loop.
+ *
+ * <p> The methods are called from the event-loop thread, implementations should be cheap and should not block.
+ */
+public interface EventLoopMetrics extends Metrics {
+
+  /**
+   * Signals a task has been executed by the event-loop.
+   *
+   * @param handler the class of the handler executed by the task
+   * @param queueDelay the time in nanoseconds between the task submission and the beginning of its execution
+   * @param executionTime the execution time of the task in nanoseconds
+   */
+  default void taskExecuted(Class<?> handler, long queueDelay, long executionTime) {
+  }
+}
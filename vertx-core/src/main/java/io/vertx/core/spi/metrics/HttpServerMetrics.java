@@ -97,6 +97,19 @@ public interface HttpServerMetrics<R, W, S> extends TCPMetrics<S> {
   default void responseEnd(R requestMetric, HttpResponse response, long bytesWritten) {
   }
 
+  /**
+   * Called when the body of an http server response has been compressed by the server before being written to
+   * the connection, this might be called from a worker thread when the compression is offloaded.
+   *
+   * @param requestMetric the request metric
+   * @param encoding the content encoding
+   * @param bytes the size of the body
+   * @param compressedBytes the size of the compressed body
+   * @param durationNanos the time spent compressing the body in nanoseconds
+   */
+  default void responseCompressed(R requestMetric, String encoding, long bytes, long compressedBytes, long durationNanos) {
+  }
+
   /**
    * Called when a server web socket connects.
    *
@@ -124,4 +137,16 @@ public interface HttpServerMetrics<R, W, S> extends TCPMetrics<S> {
    */
   default void requestRouted(R requestMetric, String route) {
   }
+
+  /**
+   * Called when the virtual thread running the request handler parks, when the server runs each request handler on
+   * its own virtual thread. The thread parks when the handler awaits a future or waits for the request handler
+   * concurrency to go below the max.
+   * <p>
+   * This method is invoked with the virtual thread of the request.
+   *
+   * @param requestMetric the request metric
+   */
+  default void requestParked(R requestMetric) {
+  }
 }
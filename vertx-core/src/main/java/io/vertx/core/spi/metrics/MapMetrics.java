@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.spi.metrics;
+
+/**
+ * Shared data map metrics
+ */
+public interface MapMetrics extends Metrics {
+
+  /**
+   * Signals a lookup found an entry.
+   */
+  default void hit() {
+  }
+
+  /**
+   * Signals a lookup did not find an entry.
+   */
+  default void miss() {
+  }
+
+  /**
+   * Signals an entry was removed from the map because its time to live elapsed.
+   */
+  default void entryExpired() {
+  }
+
+  /**
+   * Signals an entry was removed from the map before it expired to honour the map size bound.
+   */
+  default void entryEvicted() {
+  }
+}
@@ -22,12 +22,35 @@ public interface PoolMetrics<Q, T> extends Metrics {
     return null;
   }
 
+  /**
+   * Signals a request is enqueued in a lane of the pool to obtain a resource, the time elapsed until the request is
+   * {@link #dequeue dequeued} is the queue wait time of the lane.
+   *
+   * <p> The default implementation calls {@link #enqueue()}.
+   *
+   * @param lane the name of the lane
+   */
+  default Q enqueue(String lane) {
+    return enqueue();
+  }
+
   /**
    * Signals the request was removed from the queue.
    */
   default void dequeue(Q queueMetric) {
   }
 
+  /**
+   * Signals a resource bound to an event-loop was leased to a requester.
+   *
+   * <p> A resource leased across event-loops forces a thread hop for every operation on the resource, the ratio of
+   * cross event-loop leases to leases should be kept close to zero.
+   *
+   * @param crossEventLoop whether the resource is bound to another event-loop than the event-loop of the requester
+   */
+  default void leased(boolean crossEventLoop) {
+  }
+
   /**
    * Signal the beginning of the utilisation of a pool resource.
    *
@@ -142,6 +142,32 @@ public interface VertxMetrics extends Metrics, Measured {
     return null;
   }
 
+  /**
+   * Provides the event-loop metrics SPI when the event-loop profiling is enabled with
+   * {@link io.vertx.core.VertxOptions#setEventLoopProfilingEnabled(boolean)}.<p/>
+   * <p>
+   * This method is called from the event-loop thread when the event-loop executes its first profiled task.
+   *
+   * @param name the name of the event-loop
+   * @return the event-loop metrics SPI or {@code null} when metrics are disabled
+   */
+  default EventLoopMetrics createEventLoopMetrics(String name) {
+    return null;
+  }
+
+  /**
+   * Provides the shared data map metrics SPI when a local map is created.
+   * <p>
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param type the type of the map e.g. {@code async-map} or {@code local-map}
+   * @param name the name of the map
+   * @return the map metrics SPI or {@code null} when metrics are disabled
+   */
+  default MapMetrics createMapMetrics(String type, String name) {
+    return null;
+  }
+
   /**
    * Callback to signal when the Vertx instance is fully initialized. Other methods can be called before this method
    * when the instance is being constructed.
@@ -91,6 +91,7 @@ module io.vertx.core {
   exports io.vertx.core.internal.tls;
   exports io.vertx.core.internal.threadchecker;
   exports io.vertx.core.internal.concurrent;
+  exports io.vertx.core.internal.profiler;
   exports io.vertx.core.internal.resource;
 
   // Testing
@@ -119,4 +119,14 @@ public class AccessModeBenchmark {
     fakeLocalStorage.put(index, Boolean.TRUE, AccessMode.CONCURRENT);
   }
 
+  @Benchmark
+  public Object getPlain(FakeLocalStorage fakeLocalStorage) {
+    return fakeLocalStorage.get(index, AccessMode.PLAIN);
+  }
+
+  @Benchmark
+  public void putPlain(FakeLocalStorage fakeLocalStorage) {
+    fakeLocalStorage.put(index, Boolean.TRUE, AccessMode.PLAIN);
+  }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures the throughput of messages sent to a remote cluster node with and without write batching.
+ */
+@State(Scope.Thread)
+public class ClusteredEventBusBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "benchmark";
+  private static final int BURST = 256;
+
+  @Param({"0", "16384"})
+  public int clusterWriteBatchSize;
+
+  private Vertx sender;
+  private Vertx receiver;
+  private final AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+
+  private Vertx startNode() throws Exception {
+    VertxOptions options = new VertxOptions();
+    options.getEventBusOptions().setHost("localhost").setPort(0).setClusterWriteBatchSize(clusterWriteBatchSize);
+    return Vertx.builder()
+      .with(options)
+      .withClusterManager(new FakeClusterManager())
+      .buildClustered()
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get(20, TimeUnit.SECONDS);
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    sender = startNode();
+    receiver = startNode();
+    receiver.eventBus().<String>consumer(ADDRESS, msg -> latch.get().countDown())
+      .completion()
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get(20, TimeUnit.SECONDS);
+    // Open the connection to the receiver
+    burst();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    sender.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    receiver.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    FakeClusterManager.reset();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST)
+  public void burst() throws Exception {
+    CountDownLatch l = new CountDownLatch(BURST);
+    latch.set(l);
+    sender.runOnContext(v -> {
+      for (int i = 0;i < BURST;i++) {
+        sender.eventBus().send(ADDRESS, "hello");
+      }
+    });
+    l.await(20, TimeUnit.SECONDS);
+  }
+}
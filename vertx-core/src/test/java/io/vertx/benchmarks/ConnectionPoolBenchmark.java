@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.pool.ConnectResult;
+import io.vertx.core.internal.pool.ConnectionPool;
+import io.vertx.core.internal.pool.Lease;
+import io.vertx.core.internal.pool.PoolConnector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Acquire and recycle a connection concurrently from several event-loops.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 20, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = MILLISECONDS)
+@Threads(4)
+public class ConnectionPoolBenchmark extends BenchmarkBase {
+
+  private static final PoolConnector<Object> CONNECTOR = new PoolConnector<>() {
+    @Override
+    public Future<ConnectResult<Object>> connect(ContextInternal context, Listener listener) {
+      return context.succeededFuture(new ConnectResult<>(new Object(), 1, 0));
+    }
+    @Override
+    public boolean isValid(Object connection) {
+      return true;
+    }
+  };
+
+  @Param({"simple", "sharded"})
+  public String type;
+
+  @Param("8")
+  public int maxSize;
+
+  private Vertx vertx;
+  private ConnectionPool<Object> pool;
+
+  @State(Scope.Thread)
+  public static class EventLoopState {
+
+    ContextInternal context;
+
+    @Setup
+    public void setup(ConnectionPoolBenchmark benchmark) {
+      // Each thread uses a context of a distinct event-loop that executes tasks on the calling thread
+      context = BenchmarkContext.create(benchmark.vertx);
+    }
+  }
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    switch (type) {
+      case "simple":
+        pool = ConnectionPool.pool(CONNECTOR, new int[]{maxSize});
+        break;
+      case "sharded":
+        pool = ConnectionPool.sharded(CONNECTOR, new int[]{maxSize}, -1);
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid pool type " + type);
+    }
+    // Use the context of the requester to emit leases on the calling thread
+    pool.contextProvider(ctx -> ctx);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.close();
+    vertx.close();
+  }
+
+  @Benchmark
+  public void acquireRecycle(EventLoopState state) {
+    pool.acquire(state.context, 0).onSuccess(Lease::recycle);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.endpoint.InteractionMetrics;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.ServerEndpoint;
+import io.vertx.core.net.endpoint.ServerInteraction;
+import io.vertx.core.net.endpoint.ServerSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Thread)
+public class ConsistentHashingBenchmark extends BenchmarkBase {
+
+  @Param({"4", "32"})
+  public int numberOfServers;
+
+  @Param({"4", "64"})
+  public int numberOfVirtualServers;
+
+  private String[] keys;
+  private int idx;
+  private ServerSelector consistentHashing;
+  private ServerSelector boundedLoadConsistentHashing;
+
+  private static ServerEndpoint endpointOf(LoadBalancer loadBalancer, String key) {
+    InteractionMetrics<?> metrics = loadBalancer.newMetrics();
+    return new ServerEndpoint() {
+      @Override
+      public String key() {
+        return key;
+      }
+      @Override
+      public SocketAddress address() {
+        return null;
+      }
+      @Override
+      public ServerInteraction newInteraction() {
+        return null;
+      }
+      @Override
+      public InteractionMetrics<?> metrics() {
+        return metrics;
+      }
+      @Override
+      public Object unwrap() {
+        return null;
+      }
+    };
+  }
+
+  private static ServerSelector selector(LoadBalancer loadBalancer, int numberOfServers) {
+    List<ServerEndpoint> endpoints = new ArrayList<>();
+    for (int i = 0;i < numberOfServers;i++) {
+      endpoints.add(endpointOf(loadBalancer, "192.168.0." + i + ":8080"));
+    }
+    return loadBalancer.selector(endpoints);
+  }
+
+  @Setup
+  public void setup() {
+    keys = new String[1024];
+    for (int i = 0;i < keys.length;i++) {
+      keys[i] = "session-" + Integer.toHexString(i * 0x9E3779B9);
+    }
+    consistentHashing = selector(LoadBalancer.consistentHashing(numberOfVirtualServers, LoadBalancer.RANDOM), numberOfServers);
+    boundedLoadConsistentHashing = selector(LoadBalancer.consistentHashing(numberOfVirtualServers, 1.25, LoadBalancer.RANDOM), numberOfServers);
+  }
+
+  private String nextKey() {
+    return keys[idx++ & (keys.length - 1)];
+  }
+
+  @Benchmark
+  public int consistentHashing() {
+    return consistentHashing.select(nextKey());
+  }
+
+  @Benchmark
+  public int boundedLoadConsistentHashing() {
+    return boundedLoadConsistentHashing.select(nextKey());
+  }
+}
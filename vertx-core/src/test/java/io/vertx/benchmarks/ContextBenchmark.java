@@ -15,6 +15,8 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.spi.context.storage.AccessMode;
+import io.vertx.core.spi.context.storage.ContextLocal;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.CompilerControl;
 import org.openjdk.jmh.annotations.Fork;
@@ -28,6 +30,9 @@ import org.openjdk.jmh.annotations.State;
 @State(Scope.Thread)
 public class ContextBenchmark extends BenchmarkBase {
 
+  private static final ContextLocal<Object> LOCAL = ContextLocal.registerLocal(Object.class);
+  private static final Object LOCAL_KEY = new Object();
+
   @CompilerControl(CompilerControl.Mode.DONT_INLINE)
   public static void consume(final String buf) {
   }
@@ -58,4 +63,24 @@ public class ContextBenchmark extends BenchmarkBase {
     state.context.runOnContext(state.task);
   }
 
+  @Benchmark
+  public Object duplicateWithLocalContextData(BaselineState state) {
+    ContextInternal duplicate = state.context.duplicate();
+    duplicate.localContextData().put(LOCAL_KEY, Boolean.TRUE);
+    return duplicate.localContextData().get(LOCAL_KEY);
+  }
+
+  @Benchmark
+  public Object duplicateWithConcurrentContextLocal(BaselineState state) {
+    ContextInternal duplicate = state.context.duplicate();
+    LOCAL.put(duplicate, AccessMode.CONCURRENT, Boolean.TRUE);
+    return LOCAL.get(duplicate, AccessMode.CONCURRENT);
+  }
+
+  @Benchmark
+  public Object duplicateWithPlainContextLocal(BaselineState state) {
+    ContextInternal duplicate = state.context.duplicate();
+    LOCAL.put(duplicate, AccessMode.PLAIN, Boolean.TRUE);
+    return LOCAL.get(duplicate, AccessMode.PLAIN);
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.concurrent.Deadline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timeout of a request that completes before the timeout fires, with a timer or with a deadline, run with
+ * {@code -prof gc} to compare the allocations per request.
+ */
+@State(Scope.Thread)
+public class DeadlineBenchmark extends BenchmarkBase {
+
+  private static final Handler<Long> TIMER_NOOP = id -> {};
+  private static final Handler<Void> DEADLINE_NOOP = v -> {};
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private Deadline deadline;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    context = ((VertxInternal) vertx).createEventLoopContext();
+    deadline = context.deadline(DEADLINE_NOOP);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public boolean timer() {
+    long id = context.setTimer(30_000, TIMER_NOOP);
+    return vertx.cancelTimer(id);
+  }
+
+  @Benchmark
+  public boolean deadline() {
+    Deadline deadline = context.deadline(DEADLINE_NOOP);
+    deadline.schedule(30_000, TimeUnit.MILLISECONDS);
+    return deadline.cancel();
+  }
+
+  @Benchmark
+  public boolean reusedDeadline() {
+    deadline.schedule(30_000, TimeUnit.MILLISECONDS);
+    return deadline.cancel();
+  }
+}
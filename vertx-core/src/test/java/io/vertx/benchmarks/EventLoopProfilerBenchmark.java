@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.internal.profiler.EventLoopProfiler;
+import io.vertx.core.internal.profiler.LatencyHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of profiling an event-loop task: recording in a histogram, recording a task and running a profiled task.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+public class EventLoopProfilerBenchmark {
+
+  private static final Runnable NOOP = () -> {};
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+  private final EventLoopProfiler profiler = new EventLoopProfiler(null);
+  private long value = 1;
+
+  @Benchmark
+  public void recordHistogram() {
+    value = (value * 31) & 0xFFFFF;
+    histogram.record(value);
+  }
+
+  @Benchmark
+  public void recordTask() {
+    value = (value * 31) & 0xFFFFF;
+    profiler.record(NOOP.getClass(), value, value);
+  }
+
+  @Benchmark
+  public void runTask() {
+    NOOP.run();
+  }
+
+  @Benchmark
+  public void runProfiledTask() {
+    profiler.task(NOOP, NOOP.getClass()).run();
+  }
+}
@@ -21,6 +21,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
+import static io.vertx.benchmarks.HeadersUtils.setLargeHeaders;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -30,6 +31,8 @@ public class HeadersContainsBenchmark extends BenchmarkBase {
 
   private HttpHeaders nettySmallHeaders;
   private HeadersMultiMap vertxSmallHeaders;
+  private HttpHeaders nettyLargeHeaders;
+  private HeadersMultiMap vertxLargeHeaders;
 
   @Setup
   public void setup() {
@@ -37,6 +40,10 @@ public class HeadersContainsBenchmark extends BenchmarkBase {
     vertxSmallHeaders = HeadersMultiMap.httpHeaders();
     setBaseHeaders(nettySmallHeaders, true, true);
     setBaseHeaders(vertxSmallHeaders, true, true);
+    nettyLargeHeaders = new DefaultHttpHeaders();
+    vertxLargeHeaders = HeadersMultiMap.httpHeaders();
+    setLargeHeaders(nettyLargeHeaders, false);
+    setLargeHeaders(vertxLargeHeaders, false);
   }
 
   @Benchmark
@@ -78,4 +85,34 @@ public class HeadersContainsBenchmark extends BenchmarkBase {
   public boolean vertxSmallExactMiss() throws Exception {
     return vertxSmallHeaders.contains(io.vertx.core.http.HttpHeaders.CLOSE);
   }
+
+  @Benchmark
+  public boolean nettyLargeMatch() throws Exception {
+    return nettyLargeHeaders.contains("X-Forwarded-Proto");
+  }
+
+  @Benchmark
+  public boolean nettyLargeMiss() throws Exception {
+    return nettyLargeHeaders.contains(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH.toString());
+  }
+
+  @Benchmark
+  public boolean nettyLargeExactMatch() throws Exception {
+    return nettyLargeHeaders.contains(io.vertx.core.http.HttpHeaders.USER_AGENT);
+  }
+
+  @Benchmark
+  public boolean vertxLargeMatch() throws Exception {
+    return vertxLargeHeaders.contains("X-Forwarded-Proto");
+  }
+
+  @Benchmark
+  public boolean vertxLargeMiss() throws Exception {
+    return vertxLargeHeaders.contains(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH.toString());
+  }
+
+  @Benchmark
+  public boolean vertxLargeExactMatch() throws Exception {
+    return vertxLargeHeaders.contains(io.vertx.core.http.HttpHeaders.USER_AGENT);
+  }
 }
@@ -27,6 +27,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import java.util.concurrent.TimeUnit;
 
 import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
+import static io.vertx.benchmarks.HeadersUtils.setLargeHeaders;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -48,11 +49,15 @@ public class HeadersSetBenchmark extends BenchmarkBase {
 
   private HttpHeaders nettySmallHeaders;
   private HeadersMultiMap vertxSmallHeaders;
+  private HttpHeaders nettyLargeHeaders;
+  private HeadersMultiMap vertxLargeHeaders;
 
   @Setup
   public void setup() {
     nettySmallHeaders = new DefaultHttpHeaders(validate);
     vertxSmallHeaders = new HeadersMultiMap(validate? HttpUtils::validateHeader : null);
+    nettyLargeHeaders = new DefaultHttpHeaders(validate);
+    vertxLargeHeaders = new HeadersMultiMap(validate? HttpUtils::validateHeader : null);
   }
 
   @Benchmark
@@ -68,4 +73,18 @@ public class HeadersSetBenchmark extends BenchmarkBase {
     setBaseHeaders(vertxSmallHeaders, asciiNames, true);
     consume(vertxSmallHeaders);
   }
+
+  @Benchmark
+  public void nettyLarge() {
+    nettyLargeHeaders.clear();
+    setLargeHeaders(nettyLargeHeaders, asciiNames);
+    consume(nettyLargeHeaders);
+  }
+
+  @Benchmark
+  public void vertxLarge() {
+    vertxLargeHeaders.clear();
+    setLargeHeaders(vertxLargeHeaders, asciiNames);
+    consume(vertxLargeHeaders);
+  }
 }
@@ -39,6 +39,24 @@ public abstract class HeadersUtils {
       toString(DATE_HEADER, !asciiValues));
   }
 
+  /**
+   * Headers typically added by proxies and CDNs to a request.
+   */
+  public static final CharSequence[] LARGE_HEADER_NAMES = {
+    "accept", "accept-encoding", "accept-language", "cache-control", "connection", "cookie", "host", "pragma",
+    "referer", "user-agent", "origin", "x-forwarded-for", "x-forwarded-host", "x-forwarded-proto", "x-forwarded-port",
+    "x-real-ip", "x-request-id", "x-correlation-id", "x-amzn-trace-id", "cf-ray", "cf-connecting-ip", "cf-ipcountry",
+    "cf-visitor", "cdn-loop", "via", "forwarded", "traceparent", "tracestate", "baggage", "sec-ch-ua",
+    "sec-ch-ua-mobile", "sec-ch-ua-platform", "sec-fetch-site", "sec-fetch-mode", "sec-fetch-dest", "sec-fetch-user",
+    "upgrade-insecure-requests", "dnt", "x-client-version", "x-session-id"
+  };
+
+  public static void setLargeHeaders(HttpHeaders headers, boolean asciiNames) {
+    for (CharSequence name : LARGE_HEADER_NAMES) {
+      headers.add(asciiNames ? io.vertx.core.http.HttpHeaders.createOptimized(name.toString()) : name.toString(), VERTX_HEADER);
+    }
+  }
+
   private static CharSequence toString(CharSequence chars, boolean toString) {
     if (!toString) {
       return chars;
@@ -38,8 +38,13 @@ public class JsonDecodeBenchmark extends BenchmarkBase {
   private String smallString;
   private String wideString;
   private String deepString;
+  private String smallField;
+  private String wideField;
+  private JsonObject smallObject;
+  private JsonObject wideObject;
   private JsonCodec jacksonCodec;
   private JsonCodec databindCodec;
+  private JsonCodec canonicalCodec;
 
   @Setup
   public void setup() {
@@ -49,8 +54,13 @@ public class JsonDecodeBenchmark extends BenchmarkBase {
     smallString = small.toString();
     wideString = wide.toString();
     deepString = deep.toString();
+    smallField = new JsonObject(small).fieldNames().iterator().next();
+    wideField = new JsonObject(wide).fieldNames().iterator().next();
+    smallObject = new JsonObject(small);
+    wideObject = new JsonObject(wide);
     jacksonCodec = new JacksonCodec();
     databindCodec = new DatabindCodec();
+    canonicalCodec = new JacksonCodec(true);
   }
 
   private Buffer loadJsonAsBuffer(String filename) {
@@ -141,4 +151,65 @@ public class JsonDecodeBenchmark extends BenchmarkBase {
   private void bufferDatabind(Buffer buffer, Blackhole blackhole) throws Exception {
     blackhole.consume(jacksonCodec.fromBuffer(buffer, JsonObject.class));
   }
+
+  @Benchmark
+  public void smallBufferCanonical(Blackhole blackhole) {
+    blackhole.consume(canonicalCodec.fromBuffer(small, Object.class));
+  }
+
+  @Benchmark
+  public void wideBufferCanonical(Blackhole blackhole) {
+    blackhole.consume(canonicalCodec.fromBuffer(wide, Object.class));
+  }
+
+  @Benchmark
+  public void deepBufferCanonical(Blackhole blackhole) {
+    blackhole.consume(canonicalCodec.fromBuffer(deep, Object.class));
+  }
+
+  @Benchmark
+  public void smallCopy(Blackhole blackhole) {
+    blackhole.consume(smallObject.copy());
+  }
+
+  @Benchmark
+  public void wideCopy(Blackhole blackhole) {
+    blackhole.consume(wideObject.copy());
+  }
+
+  @Benchmark
+  public void smallBufferLazy(Blackhole blackhole) {
+    blackhole.consume(JsonObject.lazy(small).getValue(smallField));
+  }
+
+  @Benchmark
+  public void wideBufferLazy(Blackhole blackhole) {
+    blackhole.consume(JsonObject.lazy(wide).getValue(wideField));
+  }
+
+  @Benchmark
+  public void smallBufferRelayJackson(Blackhole blackhole) {
+    relay(new JsonObject(small), smallField, blackhole);
+  }
+
+  @Benchmark
+  public void smallBufferRelayLazy(Blackhole blackhole) {
+    relay(JsonObject.lazy(small), smallField, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferRelayJackson(Blackhole blackhole) {
+    relay(new JsonObject(wide), wideField, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferRelayLazy(Blackhole blackhole) {
+    relay(JsonObject.lazy(wide), wideField, blackhole);
+  }
+
+  private void relay(JsonObject json, String field, Blackhole blackhole) {
+    // Read a field and forward the object untouched
+    blackhole.consume(json.getValue(field));
+    blackhole.consume(json.toBuffer());
+  }
 }
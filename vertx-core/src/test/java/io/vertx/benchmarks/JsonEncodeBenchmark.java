@@ -12,11 +12,15 @@
 package io.vertx.benchmarks;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.core.json.jackson.JacksonCodec;
-import io.vertx.core.spi.json.JsonCodec;
+import io.vertx.core.streams.WriteStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.CompilerControl;
@@ -45,8 +49,9 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
   private JsonObject small;
   private JsonObject wide;
   private JsonObject deep;
-  private JsonCodec jacksonCodec;
-  private JsonCodec databindCodec;
+  private JacksonCodec jacksonCodec;
+  private JacksonCodec databindCodec;
+  private WriteStream<Buffer> discard;
 
   @Setup
   public void setup() {
@@ -57,6 +62,7 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
     deep = loadJson(classLoader.getResource("deep_bench.json"));
     jacksonCodec = new JacksonCodec();
     databindCodec = new DatabindCodec();
+    discard = new DiscardWriteStream();
   }
 
   private JsonObject loadJson(URL url) {
@@ -151,4 +157,69 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
   private Buffer bufferDatabind(JsonObject jsonObject) {
     return databindCodec.toBuffer(jsonObject);
   }
+
+  @Benchmark
+  public int smallByteBufJackson() {
+    return byteBuf(jacksonCodec, small);
+  }
+
+  @Benchmark
+  public int wideByteBufJackson() {
+    return byteBuf(jacksonCodec, wide);
+  }
+
+  @Benchmark
+  public int wideByteBufDatabind() {
+    return byteBuf(databindCodec, wide);
+  }
+
+  @Benchmark
+  public int deepByteBufJackson() {
+    return byteBuf(jacksonCodec, deep);
+  }
+
+  @CompilerControl(INLINE)
+  private int byteBuf(JacksonCodec codec, JsonObject jsonObject) {
+    ByteBuf buf = codec.toByteBuf(jsonObject, false, PooledByteBufAllocator.DEFAULT);
+    int length = buf.readableBytes();
+    buf.release();
+    return length;
+  }
+
+  @Benchmark
+  public Future<Void> wideWriteStreamJackson() {
+    return jacksonCodec.toWriteStream(wide, false, discard, 8192);
+  }
+
+  @Benchmark
+  public Future<Void> deepWriteStreamJackson() {
+    return jacksonCodec.toWriteStream(deep, false, discard, 8192);
+  }
+
+  private static class DiscardWriteStream implements WriteStream<Buffer> {
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+    @Override
+    public Future<Void> write(Buffer data) {
+      return Future.succeededFuture();
+    }
+    @Override
+    public Future<Void> end() {
+      return Future.succeededFuture();
+    }
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      return this;
+    }
+    @Override
+    public boolean writeQueueFull() {
+      return false;
+    }
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      return this;
+    }
+  }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures the fan-out of a JSON object published to local consumers, the codec copies the object for each consumer
+ * unless the object is frozen.
+ */
+@State(Scope.Thread)
+public class LocalEventBusBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "benchmark";
+
+  @Param({"false", "true"})
+  public boolean frozen;
+
+  @Param({"20"})
+  public int consumers;
+
+  private Vertx vertx;
+  private JsonObject payload;
+  private final AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    for (int i = 0;i < consumers;i++) {
+      vertx.eventBus().<JsonObject>consumer(ADDRESS, msg -> {
+        // Read the payload like a consumer would do
+        msg.body().getJsonObject("item-0").getString("name");
+        latch.get().countDown();
+      })
+        .completion()
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get(20, TimeUnit.SECONDS);
+    }
+    // About 5KB
+    JsonObject json = new JsonObject();
+    for (int i = 0;i < 50;i++) {
+      json.put("item-" + i, new JsonObject()
+        .put("id", i)
+        .put("name", "name-" + i)
+        .put("tags", new JsonArray().add("a").add("b")));
+    }
+    payload = frozen ? json.freeze() : json;
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void publish() throws Exception {
+    CountDownLatch l = new CountDownLatch(consumers);
+    latch.set(l);
+    vertx.eventBus().publish(ADDRESS, payload);
+    l.await(20, TimeUnit.SECONDS);
+  }
+}
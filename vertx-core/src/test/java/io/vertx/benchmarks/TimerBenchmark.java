@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Schedule and cancel a timeout, with the event-loop scheduled task queue or with a timer wheel.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class TimerBenchmark extends BenchmarkBase {
+
+  private static final Handler<Long> NOOP = id -> {};
+
+  @Param({"0", "10"})
+  public long timerWheelTickDuration;
+
+  private Vertx vertx;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions()
+      .setDisableTCCL(true)
+      .setTimerWheelTickDuration(timerWheelTickDuration));
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public boolean setCancelTimer() {
+    long id = vertx.setTimer(30_000, NOOP);
+    return vertx.cancelTimer(id);
+  }
+}
@@ -15,9 +15,11 @@ import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.observability.HttpRequest;
 import io.vertx.core.spi.observability.HttpResponse;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -27,6 +29,9 @@ public class EndpointMetric implements ClientMetrics<HttpClientMetric, HttpReque
   public final AtomicInteger connectionCount = new AtomicInteger();
   public final AtomicInteger requestCount = new AtomicInteger();
   public final ConcurrentMap<HttpRequest, HttpClientMetric> requests = new ConcurrentHashMap<>();
+  public final AtomicInteger pipelineDepth = new AtomicInteger();
+  public final AtomicLong pipelineLimit = new AtomicLong();
+  public final Set<Object> pipelinedConnections = ConcurrentHashMap.newKeySet();
 
   public EndpointMetric() {
   }
@@ -79,4 +84,11 @@ public class EndpointMetric implements ClientMetrics<HttpClientMetric, HttpReque
     requestCount.decrementAndGet();
     requests.remove(requestMetric.request);
   }
+
+  @Override
+  public void pipelineDepth(Object connection, int depth, long limit) {
+    pipelinedConnections.add(connection);
+    pipelineDepth.set(depth);
+    pipelineLimit.set(limit);
+  }
 }
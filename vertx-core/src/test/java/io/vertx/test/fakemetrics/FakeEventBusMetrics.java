@@ -36,6 +36,9 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
   private final Map<String, AtomicInteger> decoded = new ConcurrentHashMap<>();
   private final List<String> replyFailureAddresses = Collections.synchronizedList(new ArrayList<>());
   private final List<ReplyFailure> replyFailures = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicInteger batches = new AtomicInteger();
+  private final AtomicInteger batchedMessages = new AtomicInteger();
+  private final AtomicInteger batchedBytes = new AtomicInteger();
 
   public Map<String, AtomicInteger> getEncoded() {
     return encoded;
@@ -65,6 +68,18 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     return replyFailures;
   }
 
+  public int getBatches() {
+    return batches.get();
+  }
+
+  public int getBatchedMessages() {
+    return batchedMessages.get();
+  }
+
+  public int getBatchedBytes() {
+    return batchedBytes.get();
+  }
+
   public int getEncodedBytes(String address) {
     AtomicInteger value = encoded.get(address);
     return value != null ? value.get() : 0;
@@ -134,6 +149,13 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     value.addAndGet(numberOfBytes);
   }
 
+  @Override
+  public void batchWritten(int numberOfMessages, int numberOfBytes) {
+    batches.incrementAndGet();
+    batchedMessages.addAndGet(numberOfMessages);
+    batchedBytes.addAndGet(numberOfBytes);
+  }
+
   @Override
   public void messageRead(String address, int numberOfBytes) {
     AtomicInteger value = new AtomicInteger();
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.fakemetrics;
+
+import io.vertx.core.spi.metrics.EventLoopMetrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakeEventLoopMetrics implements EventLoopMetrics {
+
+  private final static Map<String, FakeEventLoopMetrics> METRICS = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final AtomicLong tasks = new AtomicLong();
+  private final Set<Class<?>> handlers = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  public FakeEventLoopMetrics(String name) {
+    this.name = name;
+    METRICS.put(name, this);
+  }
+
+  /**
+   * @return the event-loop name
+   */
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public void taskExecuted(Class<?> handler, long queueDelay, long executionTime) {
+    handlers.add(handler);
+    tasks.incrementAndGet();
+  }
+
+  /**
+   * @return the number of executed tasks
+   */
+  public long tasks() {
+    return tasks.get();
+  }
+
+  /**
+   * @return the classes of the handlers of the executed tasks
+   */
+  public Set<Class<?>> handlers() {
+    return handlers;
+  }
+
+  /**
+   * @return whether the metrics is closed
+   */
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    METRICS.remove(name);
+  }
+
+  public static Map<String, FakeEventLoopMetrics> getMetrics() {
+    return METRICS;
+  }
+}
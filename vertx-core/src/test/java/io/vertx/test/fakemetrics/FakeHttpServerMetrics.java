@@ -83,6 +83,14 @@ public class FakeHttpServerMetrics extends FakeTCPMetrics implements HttpServerM
     requestMetric.bytesWritten.set(bytesWritten);
   }
 
+  @Override
+  public void responseCompressed(HttpServerMetric requestMetric, String encoding, long bytes, long compressedBytes, long durationNanos) {
+    requestMetric.compressionEncoding.set(encoding);
+    requestMetric.compressedBytes.set(compressedBytes);
+    requestMetric.compressionTime.set(durationNanos);
+    requestMetric.compressionThread.set(Thread.currentThread());
+  }
+
   @Override
   public WebSocketMetric connected(SocketMetric socketMetric, HttpServerMetric requestMetric, ServerWebSocket serverWebSocket) {
     WebSocketMetric metric = new WebSocketMetric(serverWebSocket);
@@ -105,4 +113,9 @@ public class FakeHttpServerMetrics extends FakeTCPMetrics implements HttpServerM
   public void requestRouted(HttpServerMetric requestMetric, String route) {
     requestMetric.route.set(route);
   }
+
+  @Override
+  public void requestParked(HttpServerMetric requestMetric) {
+    requestMetric.parked.incrementAndGet();
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.fakemetrics;
+
+import io.vertx.core.spi.metrics.MapMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FakeMapMetrics implements MapMetrics {
+
+  private final static Map<String, FakeMapMetrics> METRICS = new ConcurrentHashMap<>();
+
+  private final String type;
+  private final String name;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+  private final AtomicInteger expired = new AtomicInteger();
+  private final AtomicInteger evicted = new AtomicInteger();
+
+  public FakeMapMetrics(String type, String name) {
+    this.type = type;
+    this.name = name;
+    if (name != null) {
+      METRICS.put(name, this);
+    }
+  }
+
+  /**
+   * @return the map type
+   */
+  public String type() {
+    return type;
+  }
+
+  /**
+   * @return the map name
+   */
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public void hit() {
+    hits.incrementAndGet();
+  }
+
+  @Override
+  public void miss() {
+    misses.incrementAndGet();
+  }
+
+  @Override
+  public void entryExpired() {
+    expired.incrementAndGet();
+  }
+
+  @Override
+  public void entryEvicted() {
+    evicted.incrementAndGet();
+  }
+
+  /**
+   * @return the number of lookups finding an entry
+   */
+  public int hits() {
+    return hits.get();
+  }
+
+  /**
+   * @return the number of lookups not finding an entry
+   */
+  public int misses() {
+    return misses.get();
+  }
+
+  /**
+   * @return the number of expired entries
+   */
+  public int expired() {
+    return expired.get();
+  }
+
+  /**
+   * @return the number of evicted entries
+   */
+  public int evicted() {
+    return evicted.get();
+  }
+
+  @Override
+  public void close() {
+    if (name != null) {
+      METRICS.remove(name, this);
+    }
+  }
+
+  public static FakeMapMetrics getMetrics(String name) {
+    return METRICS.get(name);
+  }
+}
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class FakePoolMetrics implements PoolMetrics<Object, Object> {
 
@@ -30,7 +31,11 @@ public class FakePoolMetrics implements PoolMetrics<Object, Object> {
   private final AtomicInteger releaseCount = new AtomicInteger();
   private final AtomicInteger enqueueCount = new AtomicInteger();
   private final AtomicInteger inUse = new AtomicInteger();
+  private final AtomicInteger leaseCount = new AtomicInteger();
+  private final AtomicInteger crossEventLoopLeaseCount = new AtomicInteger();
   private final AtomicBoolean closed = new AtomicBoolean();
+  private final Map<String, AtomicInteger> laneDequeues = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> laneWaitTimes = new ConcurrentHashMap<>();
 
   public FakePoolMetrics(String name, int maxSize) {
     this.name = name;
@@ -45,12 +50,32 @@ public class FakePoolMetrics implements PoolMetrics<Object, Object> {
     return TASK_SUBMITTED;
   }
 
+  @Override
+  public Object enqueue(String lane) {
+    enqueue();
+    return new LaneTask(lane, System.nanoTime());
+  }
+
   @Override
   public void dequeue(Object queueMetric) {
-    assert queueMetric == TASK_SUBMITTED;
+    if (queueMetric instanceof LaneTask) {
+      LaneTask task = (LaneTask) queueMetric;
+      laneWaitTimes.computeIfAbsent(task.lane, l -> new AtomicLong()).addAndGet(System.nanoTime() - task.enqueueTime);
+      laneDequeues.computeIfAbsent(task.lane, l -> new AtomicInteger()).incrementAndGet();
+    } else {
+      assert queueMetric == TASK_SUBMITTED;
+    }
     pending.decrementAndGet();
   }
 
+  @Override
+  public void leased(boolean crossEventLoop) {
+    leaseCount.incrementAndGet();
+    if (crossEventLoop) {
+      crossEventLoopLeaseCount.incrementAndGet();
+    }
+  }
+
   @Override
   public Object begin() {
     inUse.incrementAndGet();
@@ -84,6 +109,36 @@ public class FakePoolMetrics implements PoolMetrics<Object, Object> {
     return enqueueCount.get();
   }
 
+  /**
+   * @return the number of requests dequeued from the {@code lane}
+   */
+  public int numberOfDequeues(String lane) {
+    AtomicInteger count = laneDequeues.get(lane);
+    return count != null ? count.get() : 0;
+  }
+
+  /**
+   * @return the total time in nanoseconds the requests dequeued from the {@code lane} waited in the queue
+   */
+  public long queueWaitTime(String lane) {
+    AtomicLong time = laneWaitTimes.get(lane);
+    return time != null ? time.get() : 0L;
+  }
+
+  /**
+   * @return the number of leased resources bound to an event-loop
+   */
+  public int numberOfLeases() {
+    return leaseCount.get();
+  }
+
+  /**
+   * @return the number of leased resources bound to another event-loop than the requester
+   */
+  public int numberOfCrossEventLoopLeases() {
+    return crossEventLoopLeaseCount.get();
+  }
+
   /**
    * @return the number of elements released to the pool
    */
@@ -132,4 +187,13 @@ public class FakePoolMetrics implements PoolMetrics<Object, Object> {
   public static FakePoolMetrics getMetrics(String name) {
     return METRICS.get(name);
   }
+
+  private static class LaneTask {
+    private final String lane;
+    private final long enqueueTime;
+    private LaneTask(String lane, long enqueueTime) {
+      this.lane = lane;
+      this.enqueueTime = enqueueTime;
+    }
+  }
 }
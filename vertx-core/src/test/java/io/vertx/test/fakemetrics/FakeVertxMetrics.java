@@ -79,6 +79,16 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
     return new FakePoolMetrics(name, maxSize);
   }
 
+  @Override
+  public EventLoopMetrics createEventLoopMetrics(String name) {
+    return new FakeEventLoopMetrics(name);
+  }
+
+  @Override
+  public MapMetrics createMapMetrics(String type, String name) {
+    return new FakeMapMetrics(type, name);
+  }
+
   @Override
   public void vertxCreated(Vertx vertx) {
     this.vertx = vertx;
@@ -15,6 +15,7 @@ import io.vertx.core.spi.observability.HttpRequest;
 import io.vertx.core.spi.observability.HttpResponse;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -33,6 +34,11 @@ public class HttpServerMetric {
   public final AtomicReference<HttpResponse> response = new AtomicReference<>();
   public final AtomicBoolean responseEnded = new AtomicBoolean();
   public final AtomicLong bytesWritten = new AtomicLong();
+  public final AtomicReference<String> compressionEncoding = new AtomicReference<>();
+  public final AtomicLong compressedBytes = new AtomicLong();
+  public final AtomicLong compressionTime = new AtomicLong();
+  public final AtomicReference<Thread> compressionThread = new AtomicReference<>();
+  public final AtomicInteger parked = new AtomicInteger();
 
   public HttpServerMetric(String uri, SocketMetric socket) {
     this.uri = uri;
@@ -1124,6 +1124,56 @@ public class ContextTest extends VertxTestBase {
     }
   }
 
+  @Test
+  public void testPlainLocalAccess() {
+    ContextInternal ctx = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    Object value = new Object();
+    assertNull(contextLocal.get(ctx, AccessMode.PLAIN));
+    assertSame(value, contextLocal.get(ctx, AccessMode.PLAIN, () -> value));
+    assertSame(value, contextLocal.get(ctx, AccessMode.PLAIN, Object::new));
+    assertSame(value, contextLocal.get(ctx, AccessMode.CONCURRENT));
+    contextLocal.remove(ctx, AccessMode.PLAIN);
+    assertNull(contextLocal.get(ctx, AccessMode.PLAIN));
+    contextLocal.put(ctx, AccessMode.PLAIN, value);
+    assertSame(value, contextLocal.get(ctx));
+    contextLocal.remove(ctx, AccessMode.PLAIN);
+    try {
+      contextLocal.get(ctx, AccessMode.PLAIN, () -> null);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  @Test
+  public void testContextDataConcurrentCreation() throws Exception {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    int numThreads = 10;
+    Thread[] threads = new Thread[numThreads];
+    Object[] maps = new Object[numThreads];
+    CyclicBarrier barrier = new CyclicBarrier(numThreads);
+    for (int i = 0;i < numThreads;i++) {
+      int idx = i;
+      threads[i] = new Thread(() -> {
+        try {
+          barrier.await();
+        } catch (Exception e) {
+          return;
+        }
+        maps[idx] = ctx.contextData();
+      });
+    }
+    for (int i = 0;i < numThreads;i++) {
+      threads[i].start();
+    }
+    for (int i = 0;i < numThreads;i++) {
+      threads[i].join();
+    }
+    for (int i = 0;i < numThreads;i++) {
+      assertSame(maps[0], maps[i]);
+    }
+    assertSame(maps[0], ctx.duplicate().contextData());
+  }
+
   @Test
   public void testContextShouldNotBeStickyFromUnassociatedEventLoopThread() {
     ContextInternal ctx = ((VertxInternal)vertx).createEventLoopContext();
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.context;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.profiler.EventLoopProfile;
+import io.vertx.core.internal.profiler.LatencyHistogram;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class EventLoopProfilerTest extends VertxTestBase {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setEventLoopProfilingEnabled(true);
+  }
+
+  private static class SlowHandler implements Handler<Void> {
+    private final CountDownLatch latch;
+    SlowHandler(CountDownLatch latch) {
+      this.latch = latch;
+    }
+    @Override
+    public void handle(Void event) {
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      latch.countDown();
+    }
+  }
+
+  private static class FastHandler implements Handler<Void> {
+    private final CountDownLatch latch;
+    FastHandler(CountDownLatch latch) {
+      this.latch = latch;
+    }
+    @Override
+    public void handle(Void event) {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  public void testHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0L, histogram.valueAtPercentile(50));
+    for (int i = 1;i <= 10_000;i++) {
+      histogram.record(i);
+    }
+    assertEquals(10_000L, histogram.count());
+    assertEquals(10_000L, histogram.max());
+    assertEquals(5_000.5D, histogram.mean(), 0.001D);
+    assertRelativeError(5_000L, histogram.valueAtPercentile(50));
+    assertRelativeError(9_900L, histogram.valueAtPercentile(99));
+    assertEquals(10_000L, histogram.valueAtPercentile(100));
+    assertEquals(1L, histogram.valueAtPercentile(0));
+    histogram.record(-1);
+    assertEquals(0L, histogram.valueAtPercentile(0));
+    LatencyHistogram copy = histogram.copy();
+    histogram.record(Long.MAX_VALUE);
+    assertEquals(10_001L, copy.count());
+    assertEquals(Long.MAX_VALUE, histogram.valueAtPercentile(100));
+    try {
+      histogram.valueAtPercentile(101);
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  private void assertRelativeError(long expected, long actual) {
+    assertTrue("Expected " + actual + " to be close to " + expected, Math.abs(actual - expected) <= expected * 0.0625D);
+  }
+
+  @Test
+  public void testProfileTasks() throws Exception {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    int num = 10;
+    CountDownLatch latch = new CountDownLatch(2 * num);
+    CompletableFuture<String> thread = new CompletableFuture<>();
+    ctx.runOnContext(v -> thread.complete(Thread.currentThread().getName()));
+    for (int i = 0;i < num;i++) {
+      ctx.runOnContext(new SlowHandler(latch));
+      ctx.runOnContext(new FastHandler(latch));
+    }
+    awaitLatch(latch);
+    // The task is recorded after the handler returns
+    waitUntil(() -> profileOf(FastHandler.class) != null && profileOf(FastHandler.class).count() == num);
+    List<EventLoopProfile> profiles = ((VertxInternal) vertx).eventLoopProfiles(10);
+    assertEquals(getOptions().getEventLoopPoolSize(), profiles.size());
+    EventLoopProfile profile = profiles
+      .stream()
+      .filter(p -> !p.topHandlers().isEmpty() && p.topHandlers().get(0).handler().equals(SlowHandler.class.getName()))
+      .findFirst()
+      .get();
+    assertEquals(thread.get(10, TimeUnit.SECONDS), profile.name());
+    assertTrue(profile.executionTimes().count() >= 2 * num);
+    assertTrue(profile.queueDelays().count() >= 2 * num);
+    assertTrue(profile.executionTimes().max() >= TimeUnit.MILLISECONDS.toNanos(5));
+    EventLoopProfile.HandlerProfile top = profile.topHandlers().get(0);
+    assertEquals(num, top.count());
+    assertTrue(top.totalTime() >= num * TimeUnit.MILLISECONDS.toNanos(5));
+    for (EventLoopProfile p : ((VertxInternal) vertx).eventLoopProfiles(1)) {
+      assertTrue(p.topHandlers().size() <= 1);
+    }
+  }
+
+  private EventLoopProfile.HandlerProfile profileOf(Class<?> handler) {
+    for (EventLoopProfile profile : ((VertxInternal) vertx).eventLoopProfiles(10)) {
+      for (EventLoopProfile.HandlerProfile handlerProfile : profile.topHandlers()) {
+        if (handlerProfile.handler().equals(handler.getName())) {
+          return handlerProfile;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void testProfilingDisabled() {
+    Vertx vertx = Vertx.vertx();
+    try {
+      assertEquals(0, ((VertxInternal) vertx).eventLoopProfiles(10).size());
+    } finally {
+      vertx.close();
+    }
+  }
+}
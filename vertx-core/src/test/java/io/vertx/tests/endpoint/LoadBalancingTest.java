@@ -21,11 +21,16 @@ import java.util.List;
 
 import static io.vertx.core.net.endpoint.LoadBalancer.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 public class LoadBalancingTest {
 
   ServerEndpoint endpointOf(LoadBalancer loadBalancer) {
+    return endpointOf(loadBalancer, "");
+  }
+
+  ServerEndpoint endpointOf(LoadBalancer loadBalancer, String key) {
     InteractionMetrics<?> metrics = loadBalancer.newMetrics();
     return new ServerEndpoint() {
       @Override
@@ -34,7 +39,7 @@ public class LoadBalancingTest {
       }
       @Override
       public String key() {
-        return "";
+        return key;
       }
       @Override
       public Object unwrap() {
@@ -146,4 +151,58 @@ public class LoadBalancingTest {
       bitset |= 1 << res;
     }
   }
+
+  @Test
+  public void testConsistentHashingDistribution() {
+    List<ServerEndpoint> endpoints = new ArrayList<>();
+    int num = 4;
+    for (int i = 0;i < num;i++) {
+      endpoints.add(endpointOf(CONSISTENT_HASHING, "server-" + i));
+    }
+    ServerSelector selector = LoadBalancer.consistentHashing(64, RANDOM).selector(endpoints);
+    int[] hits = new int[num];
+    for (int i = 0;i < 4000;i++) {
+      hits[selector.select("key-" + i)]++;
+    }
+    for (int i = 0;i < num;i++) {
+      assertTrue(hits[i] > 0);
+    }
+    // Removing a server only remaps the keys it owned
+    ServerSelector reduced = LoadBalancer.consistentHashing(64, RANDOM).selector(endpoints.subList(0, num - 1));
+    for (int i = 0;i < 4000;i++) {
+      String key = "key-" + i;
+      int idx = selector.select(key);
+      if (idx != num - 1) {
+        assertEquals(idx, reduced.select(key));
+      }
+    }
+  }
+
+  @Test
+  public void testConsistentHashingWithBoundedLoads() {
+    LoadBalancer loadBalancer = LoadBalancer.consistentHashing(16, 1.25, RANDOM);
+    List<ServerEndpoint> endpoints = new ArrayList<>();
+    int num = 3;
+    for (int i = 0;i < num;i++) {
+      endpoints.add(endpointOf(loadBalancer, "server-" + i));
+    }
+    ServerSelector selector = loadBalancer.selector(endpoints);
+    String key = TestUtils.randomAlphaString(40);
+    int idx = selector.select(key);
+    assertTrue(idx >= 0 && idx < num);
+    assertEquals(idx, selector.select(key));
+    // Overload the selected server
+    for (int i = 0;i < 10;i++) {
+      endpoints.get(idx).metrics().initiateRequest();
+    }
+    int other = selector.select(key);
+    assertTrue(other >= 0 && other < num);
+    assertNotEquals(idx, other);
+    assertEquals(other, selector.select(key));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConsistentHashingInvalidBalanceFactor() {
+    LoadBalancer.consistentHashing(4, 0.5, RANDOM).selector(Arrays.asList(endpointOf(RANDOM)));
+  }
 }
@@ -12,8 +12,11 @@
 package io.vertx.tests.eventbus;
 
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.cluster.RegistrationListener;
 import io.vertx.tests.shareddata.AsyncMapTest.SomeClusterSerializableObject;
 import io.vertx.tests.shareddata.AsyncMapTest.SomeSerializableObject;
@@ -207,6 +210,103 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendBufferModifiedAfterSend() {
+    startNodes(2);
+    String address = TestUtils.randomAlphaString(10);
+    Buffer buffer = TestUtils.randomBuffer(1024);
+    Buffer expected = buffer.copy();
+    vertices[1].eventBus().<Buffer>consumer(address, msg -> {
+      assertEquals(expected, msg.body());
+      testComplete();
+    }).completion().onComplete(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        vertices[0].eventBus().send(address, buffer);
+        for (int i = 0;i < buffer.length();i++) {
+          buffer.setByte(i, (byte) ~buffer.getByte(i));
+        }
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendLargeFrames() {
+    startNodes(2);
+    String address = TestUtils.randomAlphaString(1000);
+    Buffer buffer = TestUtils.randomBuffer(16 * 1024);
+    JsonObject json = new JsonObject().put("data", TestUtils.randomAlphaString(16 * 1024));
+    List<Object> expected = Arrays.asList(buffer, json, new JsonArray().add(json), "\u00e9t\u00e9-" + TestUtils.randomUnicodeString(1000));
+    List<Object> received = Collections.synchronizedList(new ArrayList<>());
+    vertices[1].eventBus().consumer(address, msg -> {
+      assertEquals("\u00e9t\u00e9", msg.headers().get("h\u00e9ader"));
+      received.add(msg.body());
+      if (received.size() == expected.size()) {
+        assertEquals(expected, received);
+        testComplete();
+      }
+    }).completion().onComplete(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        DeliveryOptions options = new DeliveryOptions().addHeader("h\u00e9ader", "\u00e9t\u00e9");
+        for (Object body : expected) {
+          vertices[0].eventBus().send(address, body, options);
+        }
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendToManyAddresses() throws Exception {
+    startNodes(2);
+    // More addresses than the capacity of the connection dictionary
+    int numAddresses = 1500;
+    int numMessages = 6000;
+    AtomicInteger received = new AtomicInteger();
+    List<Future<Void>> registrations = new ArrayList<>();
+    for (int i = 0;i < numAddresses;i++) {
+      String address = "some-address-" + i;
+      registrations.add(vertices[1].eventBus().<String>consumer(address, msg -> {
+        assertEquals(address, msg.body());
+        assertEquals(address, msg.address());
+        if (received.incrementAndGet() == numMessages) {
+          testComplete();
+        }
+      }).completion());
+    }
+    awaitFuture(Future.all(registrations));
+    vertices[0].runOnContext(v -> {
+      for (int i = 0;i < numMessages;i++) {
+        // Mix references and definitions of addresses evicted from the dictionary
+        String address = "some-address-" + ((i * 7) % numAddresses) / (i % 2 == 0 ? 1 : 10);
+        vertices[0].eventBus().send(address, address);
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testBatchedWritesPreserveOrder() {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterWriteBatchSize(256);
+    startNodes(2, options);
+    int num = 1000;
+    AtomicInteger expected = new AtomicInteger();
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1, msg -> {
+      assertEquals(expected.getAndIncrement(), (int) msg.body());
+      if (expected.get() == num) {
+        testComplete();
+      }
+    }).completion().onComplete(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        for (int i = 0;i < num;i++) {
+          vertices[0].eventBus().send(ADDRESS1, i);
+        }
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testConsumerHandlesCompletionAsynchronously1() {
     startNodes(2);
@@ -113,4 +113,26 @@ public class JsonEventBusTest extends VertxTestBase {
     list.add("uhwqdiuh");
     await();
   }
+
+  @Test
+  public void testFrozenObjectShared() {
+    JsonObject obj = new JsonObject().put("foo", "bar").freeze();
+    eb.<JsonObject>consumer("foo").handler((Message<JsonObject> msg) -> {
+      assertSame(obj, msg.body());
+      testComplete();
+    });
+    eb.send("foo", obj);
+    await();
+  }
+
+  @Test
+  public void testFrozenArrayShared() {
+    JsonArray arr = new JsonArray().add("foo").freeze();
+    eb.<JsonArray>consumer("foo").handler((Message<JsonArray> msg) -> {
+      assertSame(arr, msg.body());
+      testComplete();
+    });
+    eb.send("foo", arr);
+    await();
+  }
 }
@@ -1476,6 +1476,156 @@ public class Http1xTest extends HttpTest {
     testPooling(false, false);
   }
 
+  @Test
+  public void testShardedPooling() throws Exception {
+    int numContexts = 4;
+    int numGets = 100;
+    int maxPoolSize = 3;
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setKeepAlive(true), new PoolOptions()
+      .setHttp1MaxSize(maxPoolSize)
+      .setSharded(true));
+    Set<HttpConnection> connections = ConcurrentHashMap.newKeySet();
+    server.requestHandler(req -> {
+      connections.add(req.connection());
+      req.response().end();
+    });
+    startServer(testAddress);
+    waitFor(numContexts * numGets);
+    for (int i = 0;i < numContexts;i++) {
+      Context ctx = ((VertxInternal) vertx).createEventLoopContext();
+      ctx.runOnContext(v -> {
+        for (int j = 0;j < numGets;j++) {
+          client.request(requestOptions)
+            .compose(req -> req.send().compose(HttpClientResponse::end))
+            .onComplete(onSuccess(v2 -> complete()));
+        }
+      });
+    }
+    await();
+    assertTrue(connections.size() <= maxPoolSize);
+  }
+
+  @Test
+  public void testPoolWarmup() throws Exception {
+    int minIdle = 3;
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    Set<HttpConnection> connections = ConcurrentHashMap.newKeySet();
+    client = vertx.httpClientBuilder()
+      .with(createBaseClientOptions().setKeepAlive(true))
+      .with(new PoolOptions().setHttp1MaxSize(5).setMinIdle(minIdle))
+      .withConnectHandler(connections::add)
+      .build();
+    awaitFuture(client.warmup(requestOptions));
+    assertEquals(minIdle, connections.size());
+    awaitFuture(client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::end)));
+    assertEquals(minIdle, connections.size());
+  }
+
+  @Test
+  public void testPoolMinIdleRefill() throws Exception {
+    int minIdle = 2;
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    List<HttpConnection> connections = Collections.synchronizedList(new ArrayList<>());
+    client = vertx.httpClientBuilder()
+      .with(createBaseClientOptions().setKeepAlive(true))
+      .with(new PoolOptions().setHttp1MaxSize(5).setMinIdle(minIdle))
+      .withConnectHandler(connections::add)
+      .build();
+    awaitFuture(client.warmup(requestOptions));
+    assertEquals(minIdle, connections.size());
+    connections.get(0).close();
+    assertWaitUntil(() -> connections.size() == minIdle + 1);
+  }
+
+  @Test
+  public void testPoolMinIdleReleasedWhenIdle() throws Exception {
+    int minIdle = 2;
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    List<HttpConnection> connections = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger closed = new AtomicInteger();
+    client = vertx.httpClientBuilder()
+      .with(createBaseClientOptions().setKeepAlive(true).setKeepAliveTimeout(1))
+      .with(new PoolOptions().setHttp1MaxSize(5).setMinIdle(minIdle).setCleanerPeriod(100))
+      .withConnectHandler(conn -> {
+        connections.add(conn);
+        conn.closeHandler(v -> closed.incrementAndGet());
+      })
+      .build();
+    awaitFuture(client.warmup(requestOptions));
+    assertEquals(minIdle, connections.size());
+    assertWaitUntil(() -> closed.get() == minIdle);
+    // The floor is not restored while the endpoint is not used
+    Thread.sleep(500);
+    assertEquals(minIdle, connections.size());
+    awaitFuture(client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::end)));
+    assertWaitUntil(() -> connections.size() >= 2 * minIdle);
+  }
+
+  @Test
+  public void testAdaptivePipelining() throws Exception {
+    int numGets = 100;
+    int limit = 4;
+    client.close();
+    List<HttpClientConnectionInternal> connections = Collections.synchronizedList(new ArrayList<>());
+    client = vertx.httpClientBuilder()
+      .with(createBaseClientOptions()
+        .setKeepAlive(true)
+        .setPipelining(true)
+        .setPipeliningLimit(limit)
+        .setAdaptivePipelining(true))
+      .with(new PoolOptions().setHttp1MaxSize(1))
+      .withConnectHandler(conn -> {
+        HttpClientConnectionInternal connection = (HttpClientConnectionInternal) conn;
+        // The depth starts at one request
+        assertEquals(1, connection.concurrency());
+        connections.add(connection);
+      })
+      .build();
+    server.requestHandler(req -> {
+      if (req.path().equals("/slow")) {
+        vertx.setTimer(200, id -> req.response().end(req.path()));
+      } else {
+        req.response().end(req.path());
+      }
+    });
+    startServer(testAddress);
+    // Timely responses grow the depth
+    for (int i = 0;i < 10;i++) {
+      awaitFuture(client.request(new RequestOptions(requestOptions).setURI("/fast"))
+        .compose(req -> req.send().compose(HttpClientResponse::end)));
+    }
+    assertEquals(1, connections.size());
+    HttpClientConnectionInternal connection = connections.get(0);
+    long depth = connection.concurrency();
+    assertTrue(depth > 1);
+    assertTrue(depth <= limit);
+    // A lagging response shrinks the depth
+    awaitFuture(client.request(new RequestOptions(requestOptions).setURI("/slow"))
+      .compose(req -> req.send().compose(HttpClientResponse::end)));
+    assertTrue(connection.concurrency() < depth);
+    waitFor(numGets);
+    for (int i = 0;i < numGets;i++) {
+      String path = "/" + i;
+      client.request(new RequestOptions(requestOptions).setURI(path))
+        .compose(req -> req.send().compose(HttpClientResponse::body))
+        .onComplete(onSuccess(body -> {
+          assertEquals(path, body.toString());
+          complete();
+        }));
+    }
+    await();
+    assertEquals(1, connections.size());
+  }
+
   private void testPooling(boolean keepAlive, boolean pipelining) throws Exception {
     String path = "foo.txt";
     int numGets = 100;
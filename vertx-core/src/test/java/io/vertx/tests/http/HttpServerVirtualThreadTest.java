@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.*;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.http.HttpServerRequestInternal;
+import io.vertx.test.http.HttpTestBase;
+import io.vertx.tests.deployment.VirtualThreadDeploymentTest;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HttpServerVirtualThreadTest extends HttpTestBase {
+
+  @Override
+  protected HttpServerOptions createBaseServerOptions() {
+    return super.createBaseServerOptions().setVirtualThreadPerRequest(true);
+  }
+
+  @Test
+  public void testRequestHandler() throws Exception {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    server.requestHandler(req -> {
+      assertTrue(VirtualThreadDeploymentTest.isVirtual(Thread.currentThread()));
+      ContextInternal ctx = (ContextInternal) Vertx.currentContext();
+      assertTrue(ctx.isDuplicate());
+      assertEquals(ThreadingModel.VIRTUAL_THREAD, ctx.threadingModel());
+      assertSame(ctx, ((HttpServerRequestInternal) req).context());
+      Future<Buffer> body = req.body();
+      Future.<Void>future(p -> vertx.setTimer(10, id -> p.complete())).await();
+      req.response().end(body.await());
+    });
+    startServer(testAddress);
+    client.request(requestOptions)
+      .compose(req -> req
+        .send(Buffer.buffer("hello"))
+        .compose(HttpClientResponse::body))
+      .onComplete(onSuccess(body -> {
+        assertEquals("hello", body.toString());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testRequestHandlersRunConcurrently() throws Exception {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    testRequestHandlersRunConcurrently(HttpVersion.HTTP_1_1, 4);
+  }
+
+  @Test
+  public void testHttp2RequestHandlersRunConcurrently() throws Exception {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    testRequestHandlersRunConcurrently(HttpVersion.HTTP_2, 1);
+  }
+
+  private void testRequestHandlersRunConcurrently(HttpVersion version, int maxConnections) throws Exception {
+    int num = 4;
+    AtomicInteger count = new AtomicInteger();
+    Promise<Void> all = Promise.promise();
+    server.requestHandler(req -> {
+      if (count.incrementAndGet() == num) {
+        all.complete();
+      }
+      // Would not complete if the handlers were not running concurrently
+      all.future().await();
+      req.response().end();
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(
+      new HttpClientOptions().setProtocolVersion(version).setHttp2ClearTextUpgrade(false),
+      new PoolOptions().setHttp1MaxSize(maxConnections).setHttp2MaxSize(maxConnections));
+    waitFor(num);
+    for (int i = 0;i < num;i++) {
+      client.request(requestOptions)
+        .compose(req -> req
+          .send()
+          .compose(HttpClientResponse::end))
+        .onComplete(onSuccess(v -> complete()));
+    }
+    await();
+  }
+
+  @Test
+  public void testMaxConcurrency() throws Exception {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    int num = 6;
+    int maxConcurrency = 2;
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setMaxVirtualThreadConcurrency(maxConcurrency));
+    AtomicInteger concurrency = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+    server.requestHandler(req -> {
+      int current = concurrency.incrementAndGet();
+      maxObserved.accumulateAndGet(current, Math::max);
+      Future.<Void>future(p -> vertx.setTimer(50, id -> p.complete())).await();
+      concurrency.decrementAndGet();
+      req.response().end();
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions(), new PoolOptions().setHttp1MaxSize(num));
+    waitFor(num);
+    for (int i = 0;i < num;i++) {
+      client.request(requestOptions)
+        .compose(req -> req
+          .send()
+          .compose(HttpClientResponse::end))
+        .onComplete(onSuccess(v -> complete()));
+    }
+    await();
+    assertEquals(maxConcurrency, maxObserved.get());
+  }
+
+  @Test
+  public void testMaxConcurrencyUntilResponseEnd() throws Exception {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    int num = 4;
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setMaxVirtualThreadConcurrency(1));
+    AtomicInteger inflight = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+    server.requestHandler(req -> {
+      int current = inflight.incrementAndGet();
+      maxObserved.accumulateAndGet(current, Math::max);
+      // The handler returns before the response is ended
+      vertx.setTimer(50, id -> {
+        inflight.decrementAndGet();
+        req.response().end();
+      });
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions(), new PoolOptions().setHttp1MaxSize(num));
+    waitFor(num);
+    for (int i = 0;i < num;i++) {
+      client.request(requestOptions)
+        .compose(req -> req
+          .send()
+          .compose(HttpClientResponse::end))
+        .onComplete(onSuccess(v -> complete()));
+    }
+    await();
+    assertEquals(1, maxObserved.get());
+  }
+
+  @Test
+  public void testVirtualThreadsNotAvailable() {
+    Assume.assumeFalse(isVirtualThreadAvailable());
+    server.requestHandler(req -> fail());
+    server.listen(testAddress).onComplete(onFailure(err -> {
+      assertTrue(err instanceof IllegalStateException);
+      testComplete();
+    }));
+    await();
+  }
+}
@@ -2145,6 +2145,103 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendCachedFile() throws Exception {
+    String content1 = TestUtils.randomAlphaString(1000);
+    String content2 = TestUtils.randomAlphaString(2000);
+    File file = setupFile("test-send-file.html", content1);
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setFileCacheMaxFileSize(4096)
+      .setFileCacheCheckInterval(0));
+    server.requestHandler(req -> {
+      req.response().sendFile(file.getAbsolutePath(), req.getParam("offset") != null ? 10 : 0);
+    });
+    startServer(testAddress);
+    List<String> etags = new ArrayList<>();
+    Function<String, Future<Buffer>> send = uri -> client.request(new RequestOptions(requestOptions).setURI(uri))
+      .compose(req -> req
+        .send()
+        .expecting(that(resp -> {
+          assertEquals(200, resp.statusCode());
+          assertEquals("text/html", resp.headers().get("content-type"));
+          assertNotNull(resp.headers().get("last-modified"));
+          etags.add(resp.headers().get("etag"));
+        }))
+        .compose(HttpClientResponse::body));
+    send.apply("/")
+      .expecting(that(body -> assertEquals(content1, body.toString())))
+      .compose(v -> send.apply("/?offset"))
+      .expecting(that(body -> assertEquals(content1.substring(10), body.toString())))
+      .compose(v -> {
+        // Modify the file, the cache should serve the new content
+        try (Writer writer = new FileWriter(file)) {
+          writer.write(content2);
+        } catch (IOException e) {
+          return Future.failedFuture(e);
+        }
+        return send.apply("/");
+      })
+      .expecting(that(body -> assertEquals(content2, body.toString())))
+      .onComplete(onSuccess(v -> {
+        assertEquals(3, etags.size());
+        assertNotNull(etags.get(0));
+        assertEquals(etags.get(0), etags.get(1));
+        assertFalse(etags.get(0).equals(etags.get(2)));
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testSendCachedFileEviction() throws Exception {
+    File a = setupFile("a.txt", "a-1");
+    File b = setupFile("b.txt", "b-1");
+    File c = setupFile("c.txt", "c-1");
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setFileCacheMaxFileSize(4096)
+      .setFileCacheMaxSize(6)
+      .setFileCacheCheckInterval(60_000));
+    server.requestHandler(req -> req.response().sendFile(new File(testDir, req.path().substring(1)).getAbsolutePath()));
+    startServer(testAddress);
+    Function<String, Future<String>> send = uri -> client.request(new RequestOptions(requestOptions).setURI(uri))
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .map(Buffer::toString);
+    assertEquals("a-1", awaitFuture(send.apply("/a.txt")));
+    assertEquals("b-1", awaitFuture(send.apply("/b.txt")));
+    // Evicts a.txt
+    assertEquals("c-1", awaitFuture(send.apply("/c.txt")));
+    for (File file : Arrays.asList(a, b, c)) {
+      try (Writer writer = new FileWriter(file)) {
+        writer.write(file.getName().charAt(0) + "-2");
+      }
+    }
+    // Reloaded, evicts b.txt
+    assertEquals("a-2", awaitFuture(send.apply("/a.txt")));
+    assertEquals("c-1", awaitFuture(send.apply("/c.txt")));
+    assertEquals("b-2", awaitFuture(send.apply("/b.txt")));
+  }
+
+  @Test
+  public void testSendFileValidatorsWhenNotCached() throws Exception {
+    File file = setupFile("test-send-file.html", TestUtils.randomAlphaString(1000));
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setFileCacheMaxFileSize(100));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer(testAddress);
+    Buffer body = awaitFuture(client.request(requestOptions).compose(req -> req
+      .send()
+      .expecting(that(resp -> {
+        assertEquals(200, resp.statusCode());
+        assertNotNull(resp.headers().get("etag"));
+        assertNotNull(resp.headers().get("last-modified"));
+      }))
+      .compose(HttpClientResponse::body)));
+    assertEquals(1000, body.length());
+  }
+
   @Test
   public void testSendFileNotFound() throws Exception {
     waitFor(2);
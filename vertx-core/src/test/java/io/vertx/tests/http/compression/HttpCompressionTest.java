@@ -22,6 +22,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.test.http.HttpTestBase;
+import org.junit.Assume;
 import org.junit.Test;
 
 import java.io.File;
@@ -29,9 +30,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Queue;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING;
 import static io.vertx.core.http.HttpMethod.PUT;
+import static io.vertx.test.core.AssertExpectations.that;
 
 public abstract class HttpCompressionTest extends HttpTestBase {
 
@@ -150,6 +153,107 @@ public abstract class HttpCompressionTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testServerCachedCompression() throws Exception {
+    server.close();
+    HttpServerOptions options = createBaseServerOptions();
+    configureServerCompression(options);
+    server = vertx.createHttpServer(options);
+    Buffer body = Buffer.buffer(COMPRESS_TEST_STRING);
+    server.requestHandler(req -> req.response().setCompressionCacheable(true).end(body));
+    startServer();
+    Supplier<Future<Buffer>> send = () -> client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send()
+        .expecting(that(resp -> assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING))))
+        .compose(HttpClientResponse::body))
+      .expecting(that(buff -> assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(buff.getBytes()))));
+    send.get()
+      .compose(v -> send.get())
+      .onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+
+  @Test
+  public void testServerOffloadedCompression() throws Exception {
+    server.close();
+    HttpServerOptions options = createBaseServerOptions();
+    configureServerCompression(options);
+    options.setCompressionOffloadThreshold(16);
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> req.response().end(COMPRESS_TEST_STRING));
+    startServer();
+    client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send()
+        .expecting(that(resp -> assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING))))
+        .compose(HttpClientResponse::body))
+      .onComplete(onSuccess(buff -> {
+        assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(buff.getBytes()));
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testServerPrecompressedSendFile() throws Exception {
+    testServerPrecompressedSendFile(createBaseServerOptions());
+  }
+
+  @Test
+  public void testServerPrecompressedSendCachedFile() throws Exception {
+    testServerPrecompressedSendFile(createBaseServerOptions().setFileCacheMaxFileSize(1024 * 1024));
+  }
+
+  private void testServerPrecompressedSendFile(HttpServerOptions options) throws Exception {
+    String extension;
+    switch (encoding()) {
+      case "gzip":
+        extension = ".gz";
+        break;
+      case "br":
+        extension = ".br";
+        break;
+      case "zstd":
+        extension = ".zst";
+        break;
+      default:
+        extension = null;
+        break;
+    }
+    Assume.assumeNotNull(extension);
+    File f = File.createTempFile("vertx", ".txt");
+    f.deleteOnExit();
+    Files.write(f.toPath(), COMPRESS_TEST_STRING.getBytes(StandardCharsets.UTF_8));
+    File precompressed = new File(f.getPath() + extension);
+    precompressed.deleteOnExit();
+    Files.write(precompressed.toPath(), compressedTestString.getBytes());
+    server.close();
+    options.setPrecompressedFilesEnabled(true);
+    configureServerCompression(options);
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> req.response().sendFile(f.getAbsolutePath()));
+    startServer();
+    client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send()
+        .expecting(that(resp -> {
+          assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+          assertEquals("text/plain", resp.getHeader(HttpHeaders.CONTENT_TYPE));
+        }))
+        .compose(HttpClientResponse::body))
+      .expecting(that(body -> assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(body.getBytes()))))
+      .compose(v -> client.request(new RequestOptions())
+        .compose(req -> req.send()
+          .expecting(that(resp -> assertNull(resp.getHeader(HttpHeaders.CONTENT_ENCODING))))
+          .compose(HttpClientResponse::body)))
+      .onComplete(onSuccess(body -> {
+        assertEquals(COMPRESS_TEST_STRING, body.toString());
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testServerDecompression() throws Exception {
     server.close();
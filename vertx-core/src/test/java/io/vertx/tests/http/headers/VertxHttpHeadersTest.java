@@ -13,12 +13,16 @@ package io.vertx.tests.http.headers;
 
 import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.Set;
@@ -224,6 +228,83 @@ public class VertxHttpHeadersTest extends HeadersTest {
     assertEquals("w", mmap.get(name1));
   }
 
+  @Test
+  public void testKnownHeaderNameIgnoresCase() {
+    MultiMap mmap = newMultiMap();
+    mmap.add("Content-Type", "text/plain");
+    mmap.add("CONTENT-TYPE", "text/html");
+    assertEquals(1, mmap.size());
+    assertEquals(Arrays.asList("text/plain", "text/html"), mmap.getAll(HttpHeaders.CONTENT_TYPE));
+    List<Map.Entry<String, String>> first = new ArrayList<>();
+    mmap.forEach(entry -> first.add(entry));
+    List<Map.Entry<String, String>> second = new ArrayList<>();
+    mmap.forEach(entry -> second.add(entry));
+    assertEquals(Arrays.asList("Content-Type", "CONTENT-TYPE"), Arrays.asList(first.get(0).getKey(), first.get(1).getKey()));
+    for (int i = 0;i < first.size();i++) {
+      assertSame(first.get(i), second.get(i));
+    }
+    assertEquals(Collections.singleton("Content-Type"), mmap.names());
+  }
+
+  @Test
+  public void testSetValueOfEntry() {
+    MultiMap mmap = newMultiMap();
+    mmap.add(HttpHeaders.CONTENT_TYPE, "text/plain");
+    mmap.forEach(entry -> {
+      assertEquals("content-type", entry.getKey());
+      assertEquals("text/plain", entry.setValue("text/html"));
+      assertEquals("text/html", entry.getValue());
+    });
+    assertEquals("text/html", mmap.get("Content-Type"));
+  }
+
+  @Test
+  public void testManyHeaders() {
+    MultiMap mmap = newMultiMap();
+    int num = 200;
+    for (int i = 0;i < num;i++) {
+      mmap.add("header-" + i, "value-" + i);
+      mmap.add("HEADER-" + i, "other-" + i);
+    }
+    assertEquals(num, mmap.size());
+    for (int i = 0;i < num;i++) {
+      assertEquals("value-" + i, mmap.get("Header-" + i));
+      assertEquals(Arrays.asList("value-" + i, "other-" + i), mmap.getAll("header-" + i));
+    }
+    // Remove every other name, the remaining names must still be found
+    for (int i = 0;i < num;i += 2) {
+      mmap.remove("header-" + i);
+    }
+    assertEquals(num / 2, mmap.size());
+    for (int i = 0;i < num;i++) {
+      assertEquals(i % 2 == 0 ? null : "value-" + i, mmap.get("header-" + i));
+    }
+    List<String> expectedNames = new ArrayList<>();
+    for (int i = 1;i < num;i += 2) {
+      expectedNames.add("header-" + i);
+      expectedNames.add("HEADER-" + i);
+    }
+    List<String> names = new ArrayList<>();
+    mmap.forEach(entry -> names.add(entry.getKey()));
+    assertEquals(expectedNames, names);
+    mmap.clear();
+    assertTrue(mmap.isEmpty());
+    assertEquals(0, mmap.size());
+    assertNull(mmap.get("header-1"));
+  }
+
+  @Test
+  public void testWellKnownNames() {
+    HeadersMultiMap mmap = newMultiMap();
+    mmap.add("content-type", "text/plain");
+    mmap.add("Content-Length", "10");
+    assertEquals("text/plain", mmap.get(io.vertx.core.http.HttpHeaders.CONTENT_TYPE));
+    assertEquals("10", mmap.get(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH));
+    List<String> names = new ArrayList<>();
+    mmap.forEach(entry -> names.add(entry.getKey()));
+    assertEquals(Arrays.asList("content-type", "Content-Length"), names);
+  }
+
   @Test
   public void testNonCharSequenceValue() {
     HeadersMultiMap mmap = newMultiMap();
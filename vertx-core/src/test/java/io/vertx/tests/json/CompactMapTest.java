@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.json;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.CompactMap;
+import io.vertx.core.json.jackson.JacksonCodec;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CompactMapTest {
+
+  @Test
+  public void testInsertionOrder() {
+    CompactMap map = new CompactMap();
+    map.put("c", 1);
+    map.put("a", 2);
+    map.put("b", 3);
+    map.put("a", 4);
+    assertEquals(List.of("c", "a", "b"), new ArrayList<>(map.keySet()));
+    assertEquals(List.of(1, 4, 3), new ArrayList<>(map.values()));
+    assertEquals(4, map.remove("a"));
+    assertNull(map.remove("a"));
+    map.put("a", 5);
+    assertEquals(List.of("c", "b", "a"), new ArrayList<>(map.keySet()));
+    assertEquals(3, map.size());
+  }
+
+  @Test
+  public void testNullValue() {
+    CompactMap map = new CompactMap();
+    map.put("a", null);
+    assertTrue(map.containsKey("a"));
+    assertTrue(map.containsValue(null));
+    assertEquals("x", map.getOrDefault("b", "x"));
+    assertNull(map.getOrDefault("a", "x"));
+    assertFalse(map.containsKey(null));
+    try {
+      map.put(null, 1);
+      fail();
+    } catch (NullPointerException ignore) {
+    }
+  }
+
+  @Test
+  public void testRandomOperations() {
+    // Exercise the scan, the index, the removed slots and the compaction against a linked hash map
+    Random random = new Random(0);
+    CompactMap map = new CompactMap();
+    Map<String, Object> expected = new LinkedHashMap<>();
+    for (int i = 0;i < 20_000;i++) {
+      String key = "key-" + random.nextInt(i % 1000 < 500 ? 12 : 100);
+      switch (random.nextInt(4)) {
+        case 0:
+          assertEquals(expected.remove(key), map.remove(key));
+          break;
+        case 1:
+          assertEquals(expected.get(key), map.get(key));
+          break;
+        default:
+          assertEquals(expected.put(key, i), map.put(key, i));
+          break;
+      }
+      assertEquals(expected.size(), map.size());
+      if (i % 100 == 0) {
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+      }
+      if (i % 5000 == 0) {
+        map.clear();
+        expected.clear();
+      }
+    }
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    CompactMap map = new CompactMap();
+    for (int i = 0;i < 20;i++) {
+      map.put("key-" + i, i);
+    }
+    for (Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();it.hasNext();) {
+      Map.Entry<String, Object> entry = it.next();
+      if ((Integer) entry.getValue() % 2 == 0) {
+        it.remove();
+      } else {
+        entry.setValue(-(Integer) entry.getValue());
+      }
+    }
+    assertEquals(10, map.size());
+    int i = 1;
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      assertEquals("key-" + i, entry.getKey());
+      assertEquals(-i, entry.getValue());
+      assertEquals(-i, map.get("key-" + i));
+      i += 2;
+    }
+    for (Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();it.hasNext();) {
+      it.next();
+      it.remove();
+    }
+    assertTrue(map.isEmpty());
+    assertFalse(map.entrySet().iterator().hasNext());
+  }
+
+  @Test
+  public void testConcurrentModification() {
+    CompactMap map = new CompactMap();
+    map.put("a", 1);
+    map.put("b", 2);
+    Iterator<String> it = map.keySet().iterator();
+    it.next();
+    map.put("c", 3);
+    try {
+      it.next();
+      fail();
+    } catch (ConcurrentModificationException ignore) {
+    }
+  }
+
+  @Test
+  public void testCopySharesKeys() {
+    CompactMap map = new CompactMap();
+    for (int i = 0;i < 12;i++) {
+      map.put("key-" + i, i);
+    }
+    CompactMap copy = map.copy();
+    assertEquals(map, copy);
+    copy.put("key-0", "changed");
+    copy.remove("key-1");
+    copy.put("added", true);
+    map.remove("key-2");
+    assertEquals(0, map.get("key-0"));
+    assertEquals(1, map.get("key-1"));
+    assertFalse(map.containsKey("added"));
+    assertEquals("changed", copy.get("key-0"));
+    assertFalse(copy.containsKey("key-1"));
+    assertEquals(2, copy.get("key-2"));
+    assertEquals(11, map.size());
+    assertEquals(12, copy.size());
+    CompactMap copy2 = copy.copy();
+    copy.clear();
+    assertEquals(12, copy2.size());
+    assertEquals("changed", copy2.get("key-0"));
+  }
+
+  @Test
+  public void testJsonObjectCopy() {
+    JsonObject obj = new JsonObject().put("str", "hello").put("obj", new JsonObject().put("num", 1));
+    JsonObject copy = obj.copy();
+    assertTrue(copy.getMap() instanceof CompactMap);
+    copy.getJsonObject("obj").put("num", 2);
+    copy.put("str", "bye").put("added", true);
+    assertEquals(new JsonObject().put("str", "hello").put("obj", new JsonObject().put("num", 1)), obj);
+    assertEquals(List.of("str", "obj", "added"), new ArrayList<>(copy.fieldNames()));
+    JsonObject decoded = (JsonObject) new JacksonCodec().fromString("{\"a\":1,\"b\":{}}", Object.class);
+    assertTrue(decoded.getMap() instanceof CompactMap);
+    assertTrue(decoded.getJsonObject("b").getMap() instanceof CompactMap);
+  }
+}
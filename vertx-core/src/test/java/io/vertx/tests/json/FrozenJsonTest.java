@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.json;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Shareable;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class FrozenJsonTest {
+
+  private static JsonObject object() {
+    return new JsonObject()
+      .put("str", "hello")
+      .put("num", 4)
+      .put("obj", new JsonObject().put("nested", new JsonObject().put("bool", true)))
+      .put("arr", new JsonArray().add(1).add(new JsonObject().put("a", "b")))
+      .put("buf", Buffer.buffer("buffer"))
+      .putNull("nil");
+  }
+
+  private static void assertUnsupported(Runnable mutation) {
+    try {
+      mutation.run();
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+  }
+
+  @Test
+  public void testFreezeObject() {
+    JsonObject obj = object();
+    JsonObject frozen = obj.freeze();
+    assertFalse(obj.isFrozen());
+    assertTrue(frozen.isFrozen());
+    assertSame(frozen, frozen.freeze());
+    assertEquals(obj, frozen);
+    // The binary values are frozen as their Base64 encoded string like in the decoded object
+    assertEquals(new JsonObject(obj.encode()).hashCode(), frozen.hashCode());
+    assertEquals(obj.encode(), frozen.encode());
+    assertTrue(frozen.getJsonObject("obj").isFrozen());
+    assertTrue(frozen.getJsonObject("obj").getJsonObject("nested").isFrozen());
+    assertTrue(frozen.getJsonArray("arr").isFrozen());
+    assertTrue(frozen.getJsonArray("arr").getJsonObject(1).isFrozen());
+    // The frozen object is a copy
+    obj.put("str", "bye");
+    obj.getJsonObject("obj").put("added", 1);
+    assertEquals("hello", frozen.getString("str"));
+    assertFalse(frozen.getJsonObject("obj").containsKey("added"));
+  }
+
+  @Test
+  public void testFrozenObjectMutation() {
+    JsonObject frozen = object().freeze();
+    assertUnsupported(() -> frozen.put("str", "bye"));
+    assertUnsupported(() -> frozen.put("added", "bye"));
+    assertUnsupported(() -> frozen.remove("str"));
+    assertUnsupported(() -> frozen.remove("missing"));
+    assertUnsupported(frozen::clear);
+    assertUnsupported(() -> frozen.mergeIn(new JsonObject().put("a", 1)));
+    assertUnsupported(() -> frozen.getMap().put("str", "bye"));
+    assertUnsupported(() -> frozen.getMap().entrySet().iterator().next().setValue("bye"));
+    assertUnsupported(() -> frozen.getJsonObject("obj").put("added", 1));
+    assertUnsupported(() -> frozen.getJsonArray("arr").add(2));
+    assertUnsupported(() -> {
+      Iterator<Map.Entry<String, Object>> it = frozen.iterator();
+      it.next();
+      it.remove();
+    });
+    assertEquals(object(), frozen);
+  }
+
+  @Test
+  public void testFrozenObjectCopy() {
+    JsonObject frozen = object().freeze();
+    JsonObject copy = frozen.copy();
+    assertFalse(copy.isFrozen());
+    assertEquals(frozen, copy);
+    assertEquals("hello", copy.getString("str"));
+    copy.put("str", "bye");
+    copy.getJsonObject("obj").getJsonObject("nested").put("bool", false);
+    copy.getJsonArray("arr").getJsonObject(1).put("a", "c");
+    copy.getBuffer("buf").setByte(0, (byte) 'B');
+    assertEquals(object(), frozen);
+    assertEquals("bye", copy.getString("str"));
+    assertEquals(Boolean.FALSE, copy.getJsonObject("obj").getJsonObject("nested").getBoolean("bool"));
+    assertEquals("c", copy.getJsonArray("arr").getJsonObject(1).getString("a"));
+    assertEquals(List.of("str", "num", "obj", "arr", "buf", "nil"), new ArrayList<>(copy.fieldNames()));
+    // A copy of a copy
+    JsonObject copy1 = frozen.copy();
+    JsonObject copy2 = copy1.copy();
+    copy1.put("num", 5);
+    assertEquals(Integer.valueOf(4), copy2.getInteger("num"));
+    copy2.remove("num");
+    assertEquals(Integer.valueOf(5), copy1.getInteger("num"));
+    assertEquals(Integer.valueOf(4), frozen.getInteger("num"));
+    copy1.clear();
+    assertTrue(copy1.isEmpty());
+    assertEquals(6, frozen.size());
+  }
+
+  @Test
+  public void testCopyOfCopiedObject() {
+    JsonObject copy = object().freeze().copy();
+    copy.put("added", true);
+    JsonObject copyOfCopy = copy.copy();
+    assertEquals(copy, copyOfCopy);
+    assertEquals(List.of("str", "num", "obj", "arr", "buf", "nil", "added"), new ArrayList<>(copyOfCopy.fieldNames()));
+    copyOfCopy.put("num", 5);
+    assertEquals(Integer.valueOf(4), copy.getInteger("num"));
+  }
+
+  @Test
+  public void testFrozenBinaryValues() {
+    byte[] bytes = { 1, 2, 3 };
+    Buffer buffer = Buffer.buffer(new byte[] { 4, 5, 6 });
+    JsonObject frozen = new JsonObject().put("bytes", bytes).put("buffer", buffer).freeze();
+    JsonArray frozenArray = new JsonArray().add(bytes).add(buffer).freeze();
+    bytes[0] = 0;
+    buffer.setByte(0, (byte) 0);
+    frozen.getBinary("bytes")[1] = 0;
+    frozen.getBuffer("buffer").setByte(1, (byte) 0);
+    frozenArray.getBinary(0)[1] = 0;
+    frozenArray.getBuffer(1).setByte(1, (byte) 0);
+    assertArrayEquals(new byte[] { 1, 2, 3 }, frozen.getBinary("bytes"));
+    assertArrayEquals(new byte[] { 4, 5, 6 }, frozen.getBinary("buffer"));
+    assertArrayEquals(new byte[] { 1, 2, 3 }, frozenArray.getBinary(0));
+    assertEquals(Buffer.buffer(new byte[] { 4, 5, 6 }), frozenArray.getBuffer(1));
+  }
+
+  @Test
+  public void testFreezeShareable() {
+    Shareable shareable = new Shareable() {
+    };
+    try {
+      new JsonObject().put("shareable", shareable).freeze();
+      fail();
+    } catch (IllegalStateException ignore) {
+    }
+    try {
+      new JsonArray().add(shareable).freeze();
+      fail();
+    } catch (IllegalStateException ignore) {
+    }
+  }
+
+  @Test
+  public void testFreezeArray() {
+    JsonArray arr = new JsonArray().add("hello").add(new JsonObject().put("a", "b")).add(new JsonArray().add(1)).addNull();
+    JsonArray frozen = arr.freeze();
+    assertFalse(arr.isFrozen());
+    assertTrue(frozen.isFrozen());
+    assertSame(frozen, frozen.freeze());
+    assertEquals(arr, frozen);
+    assertEquals(arr.encode(), frozen.encode());
+    assertTrue(frozen.getJsonObject(1).isFrozen());
+    assertTrue(frozen.getJsonArray(2).isFrozen());
+    assertUnsupported(() -> frozen.add(1));
+    assertUnsupported(() -> frozen.set(0, "bye"));
+    assertUnsupported(() -> frozen.remove(0));
+    assertUnsupported(frozen::clear);
+    assertUnsupported(() -> frozen.getJsonObject(1).put("a", "c"));
+    JsonArray copy = frozen.copy();
+    assertFalse(copy.isFrozen());
+    assertEquals(frozen, copy);
+    copy.add("added");
+    copy.getJsonObject(1).put("a", "c");
+    copy.getJsonArray(2).add(2);
+    copy.remove(0);
+    assertEquals(arr, frozen);
+    assertEquals(new JsonArray().add(new JsonObject().put("a", "c")).add(new JsonArray().add(1).add(2)).addNull().add("added"), copy);
+  }
+}
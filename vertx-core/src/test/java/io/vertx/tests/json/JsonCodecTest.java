@@ -11,6 +11,11 @@
 package io.vertx.tests.json;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.WebSocketVersion;
@@ -21,6 +26,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,6 +38,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,6 +54,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -65,7 +73,7 @@ public class JsonCodecTest {
   @Parameterized.Parameters
   public static Collection<Object[]> mappers() {
     return Arrays.asList(new Object[][] {
-      { new DatabindCodec() }, { new JacksonCodec() }
+      { new DatabindCodec() }, { new JacksonCodec() }, { new DatabindCodec(true) }, { new JacksonCodec(true) }
     });
   }
 
@@ -562,6 +570,208 @@ public class JsonCodecTest {
     }
   }
 
+  @Test
+  public void testToByteBuf() {
+    JsonObject expected = largeObject();
+    ByteBuf buf = mapper.toByteBuf(expected, false, PooledByteBufAllocator.DEFAULT);
+    try {
+      assertEquals(expected.encode(), buf.toString(StandardCharsets.UTF_8));
+    } finally {
+      buf.release();
+    }
+    buf = mapper.toByteBuf(new JsonArray().add(1).add("two"), true, PooledByteBufAllocator.DEFAULT);
+    try {
+      assertEquals(new JsonArray().add(1).add("two").encodePrettily(), buf.toString(StandardCharsets.UTF_8));
+    } finally {
+      buf.release();
+    }
+  }
+
+  @Test
+  public void testToWriteStream() {
+    JsonObject expected = largeObject();
+    int chunkSize = 512;
+    ChunkCollector collector = new ChunkCollector(4);
+    Future<Void> fut = mapper.toWriteStream(expected, false, collector, chunkSize);
+    int pauses = 0;
+    while (!fut.isComplete()) {
+      // The encoder suspends when the write queue is full
+      assertNotNull(collector.drainHandler);
+      pauses++;
+      collector.drain();
+    }
+    assertTrue(fut.succeeded());
+    assertTrue(pauses > 0);
+    collector.drain();
+    assertTrue(collector.received.size() > 1);
+    Buffer received = Buffer.buffer();
+    for (Buffer chunk : collector.received) {
+      assertTrue(chunk.length() <= chunkSize);
+      received.appendBuffer(chunk);
+    }
+    assertEquals(expected, new JsonObject(received));
+    assertEquals(expected.encode(), received.toString());
+  }
+
+  @Test
+  public void testToWriteStreamFailure() {
+    Future<Void> fut = mapper.toWriteStream(new JsonObject().put("locale", Locale.ENGLISH).put("cs", new JsonArray().add(new Object())), false, new ChunkCollector(4), 16);
+    assertTrue(fut.failed());
+    assertTrue(fut.cause() instanceof EncodeException);
+  }
+
+  @Test
+  public void testToWriteStreamClosedWhilePaused() {
+    ChunkCollector collector = new ChunkCollector(4, true);
+    Future<Void> fut = mapper.toWriteStream(largeObject(), false, collector, 512);
+    assertFalse(fut.isComplete());
+    assertNotNull(collector.drainHandler);
+    collector.close();
+    assertTrue(fut.failed());
+    assertEquals("Closed", fut.cause().getMessage());
+    assertNull(collector.drainHandler);
+  }
+
+  @Test
+  public void testToWriteStreamAcknowledged() {
+    JsonObject expected = largeObject();
+    ChunkCollector collector = new ChunkCollector(4, true);
+    Future<Void> fut = mapper.toWriteStream(expected, false, collector, 512);
+    while (collector.drainHandler != null) {
+      assertFalse(fut.isComplete());
+      collector.drain();
+    }
+    // The last chunks are still pending
+    assertFalse(fut.isComplete());
+    collector.drain();
+    assertTrue(fut.succeeded());
+    Buffer received = Buffer.buffer();
+    collector.received.forEach(received::appendBuffer);
+    assertEquals(expected, new JsonObject(received));
+  }
+
+  @Test
+  public void testCanonicalize() {
+    JacksonCodec codec = mapper instanceof DatabindCodec ? new DatabindCodec(true) : new JacksonCodec(true);
+    String json = "[{\"id\":1,\"name\":\"a\",\"nested\":{\"id\":2}},{\"id\":3,\"name\":\"b\",\"nested\":{\"id\":4}},{\"name\":\"c\",\"id\":5}]";
+    JsonArray array = (JsonArray) codec.fromString(json, Object.class);
+    assertEquals(new JsonArray(json), array);
+    JsonObject first = array.getJsonObject(0);
+    JsonObject second = array.getJsonObject(1);
+    JsonObject third = array.getJsonObject(2);
+    List<String> firstKeys = new ArrayList<>(first.fieldNames());
+    List<String> secondKeys = new ArrayList<>(second.fieldNames());
+    for (int i = 0;i < firstKeys.size();i++) {
+      assertSame(firstKeys.get(i), secondKeys.get(i));
+    }
+    assertSame(firstKeys.get(0), first.getJsonObject("nested").fieldNames().iterator().next());
+    assertEquals(Arrays.asList("name", "id"), new ArrayList<>(third.fieldNames()));
+    // Objects sharing a shape are mutated independently
+    first.put("id", 10).remove("name");
+    first.put("added", true);
+    second.put("other", false);
+    assertEquals(new JsonObject("{\"id\":10,\"nested\":{\"id\":2},\"added\":true}"), first);
+    assertEquals(new JsonObject("{\"id\":3,\"name\":\"b\",\"nested\":{\"id\":4},\"other\":false}"), second);
+    JsonObject decoded = (JsonObject) codec.fromBuffer(Buffer.buffer("{\"id\":6,\"name\":\"d\",\"nested\":{}}"), Object.class);
+    assertEquals(Arrays.asList("id", "name", "nested"), new ArrayList<>(decoded.fieldNames()));
+    // Last value wins
+    assertEquals(2, ((JsonObject) codec.fromString("{\"id\":1,\"id\":2}", Object.class)).getInteger("id").intValue());
+    assertEquals(2, ((Map<?, ?>) codec.fromString("{\"id\":1,\"id\":2}", Map.class)).get("id"));
+  }
+
+  private static JsonObject largeObject() {
+    JsonObject json = new JsonObject();
+    for (int i = 0;i < 1000;i++) {
+      json.put("key-" + i, new JsonObject().put("string", "value-" + i).put("array", new JsonArray().add(i).add(true)));
+    }
+    return json;
+  }
+
+  /**
+   * A write stream collecting the chunks, the chunks are received when the stream is drained.
+   */
+  private static class ChunkCollector implements WriteStream<Buffer> {
+
+    private final int maxSize;
+    private final boolean acknowledgeOnDrain;
+    private final List<Buffer> chunks = new ArrayList<>();
+    private final List<Buffer> received = new ArrayList<>();
+    private final List<Promise<Void>> pending = new ArrayList<>();
+    private Handler<Void> drainHandler;
+
+    ChunkCollector(int maxSize) {
+      this(maxSize, false);
+    }
+
+    /**
+     * @param acknowledgeOnDrain whether the writes complete when the chunks are received, otherwise they complete
+     *                           immediately
+     */
+    ChunkCollector(int maxSize, boolean acknowledgeOnDrain) {
+      this.maxSize = maxSize;
+      this.acknowledgeOnDrain = acknowledgeOnDrain;
+    }
+
+    void drain() {
+      received.addAll(chunks);
+      chunks.clear();
+      List<Promise<Void>> acknowledged = new ArrayList<>(pending);
+      pending.clear();
+      acknowledged.forEach(Promise::complete);
+      Handler<Void> handler = drainHandler;
+      if (handler != null) {
+        handler.handle(null);
+      }
+    }
+
+    /**
+     * Close the stream, the pending writes fail and the drain handler is not called.
+     */
+    void close() {
+      chunks.clear();
+      List<Promise<Void>> failed = new ArrayList<>(pending);
+      pending.clear();
+      failed.forEach(p -> p.fail("Closed"));
+    }
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public Future<Void> write(Buffer data) {
+      chunks.add(data);
+      if (acknowledgeOnDrain) {
+        Promise<Void> promise = Promise.promise();
+        pending.add(promise);
+        return promise.future();
+      }
+      return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> end() {
+      return Future.succeededFuture();
+    }
+
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return chunks.size() >= maxSize;
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      drainHandler = handler;
+      return this;
+    }
+  }
+
   private String checkMap(Object o) {
     Map<String, Object> map = new HashMap<>();
     map.put("key", o);
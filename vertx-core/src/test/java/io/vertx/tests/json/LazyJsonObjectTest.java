@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.json;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Run the JSON object tests with a lazy JSON object.
+ */
+public class LazyJsonObjectTest extends JsonObjectTest {
+
+  private static final String JSON = " {\"str\":\"hello\", \"num\" : 4, \"obj\": { \"nested\": { \"bool\": true } }, " +
+    "\"arr\":[1, {\"a\":\"b\"}], \"dbl\":1.5, \"nil\":null } ";
+
+  @Override
+  public void setUp() throws Exception {
+    jsonObject = JsonObject.lazy(Buffer.buffer("{}"));
+  }
+
+  @Test
+  public void testLazyGet() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(JSON));
+    assertEquals("hello", obj.getString("str"));
+    assertEquals(Integer.valueOf(4), obj.getInteger("num"));
+    assertEquals(Double.valueOf(1.5), obj.getDouble("dbl"));
+    assertTrue(obj.containsKey("nil"));
+    assertNull(obj.getValue("nil"));
+    assertFalse(obj.containsKey("missing"));
+    assertEquals(Boolean.TRUE, obj.getJsonObject("obj").getJsonObject("nested").getBoolean("bool"));
+    assertEquals(new JsonArray().add(1).add(new JsonObject().put("a", "b")), obj.getJsonArray("arr"));
+    assertEquals(6, obj.size());
+    assertEquals(List.of("str", "num", "obj", "arr", "dbl", "nil"), new ArrayList<>(obj.fieldNames()));
+    assertEquals(new JsonObject(JSON), obj);
+    assertEquals(new JsonObject(JSON).hashCode(), obj.hashCode());
+  }
+
+  @Test
+  public void testEncodeUnmodified() {
+    Buffer buf = Buffer.buffer(JSON);
+    JsonObject obj = JsonObject.lazy(buf);
+    assertEquals("hello", obj.getString("str"));
+    assertEquals(Boolean.TRUE, obj.getJsonObject("obj").getJsonObject("nested").getBoolean("bool"));
+    assertEquals(JSON, obj.encode());
+    assertEquals(buf, obj.toBuffer());
+    // The buffer content is copied
+    buf.setByte(buf.length() - 1, (byte) 'x');
+    assertEquals(JSON, obj.encode());
+    obj.toBuffer().setByte(0, (byte) 'x');
+    assertEquals(JSON, obj.encode());
+  }
+
+  @Test
+  public void testEncodeModified() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(JSON));
+    obj.put("num", 5);
+    JsonObject expected = new JsonObject(JSON).put("num", 5);
+    assertEquals(expected.encode(), obj.encode());
+    assertEquals(expected.toBuffer(), obj.toBuffer());
+  }
+
+  @Test
+  public void testEncodeModifiedNestedObject() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(JSON));
+    obj.getJsonObject("obj").getJsonObject("nested").put("bool", false);
+    JsonObject expected = new JsonObject(JSON);
+    expected.getJsonObject("obj").getJsonObject("nested").put("bool", false);
+    assertEquals(expected.encode(), obj.encode());
+  }
+
+  @Test
+  public void testEncodeModifiedNestedArray() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(JSON));
+    obj.getJsonArray("arr").add(2);
+    JsonObject expected = new JsonObject(JSON);
+    expected.getJsonArray("arr").add(2);
+    assertEquals(expected.encode(), obj.encode());
+  }
+
+  @Test
+  public void testLazyCopy() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(JSON));
+    assertEquals("hello", obj.getString("str"));
+    JsonObject copy = obj.copy();
+    assertEquals(JSON, copy.encode());
+    copy.put("str", "bye");
+    copy.getJsonObject("obj").put("added", 1);
+    assertEquals("bye", copy.getString("str"));
+    assertEquals("hello", obj.getString("str"));
+    assertFalse(obj.getJsonObject("obj").containsKey("added"));
+    assertEquals(JSON, obj.encode());
+    // The copy of a modified object is a deep copy
+    JsonObject copy2 = copy.copy();
+    assertEquals(copy, copy2);
+    assertNotSame(copy.getJsonObject("obj").getMap(), copy2.getJsonObject("obj").getMap());
+  }
+
+  @Test
+  public void testLazyIteratorRemove() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(JSON));
+    List<String> keys = new ArrayList<>();
+    for (Iterator<Map.Entry<String, Object>> it = obj.iterator();it.hasNext();) {
+      Map.Entry<String, Object> entry = it.next();
+      keys.add(entry.getKey());
+      if (entry.getKey().equals("num") || entry.getKey().equals("arr")) {
+        it.remove();
+      }
+    }
+    assertEquals(List.of("str", "num", "obj", "arr", "dbl", "nil"), keys);
+    assertEquals(List.of("str", "obj", "dbl", "nil"), new ArrayList<>(obj.fieldNames()));
+    assertEquals(new JsonObject(JSON).put("num", 0).put("arr", 0).copy(), obj.copy().put("num", 0).put("arr", 0));
+  }
+
+  @Test
+  public void testLazyDuplicateKeys() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"a\":1,\"b\":2,\"a\":3}"));
+    assertEquals(new JsonObject("{\"a\":1,\"b\":2,\"a\":3}"), obj);
+    assertEquals(Integer.valueOf(3), obj.getInteger("a"));
+    assertEquals(2, obj.size());
+  }
+
+  @Test
+  public void testLazyLargeObject() {
+    JsonObject expected = new JsonObject();
+    for (int i = 0;i < 100;i++) {
+      expected.put("key-" + i, new JsonObject().put("value", i));
+    }
+    JsonObject obj = JsonObject.lazy(expected.toBuffer());
+    assertEquals(100, obj.size());
+    for (int i = 0;i < 100;i++) {
+      assertEquals(Integer.valueOf(i), obj.getJsonObject("key-" + i).getInteger("value"));
+    }
+    assertEquals(expected, obj);
+  }
+
+  @Test
+  public void testLazyInvalid() {
+    for (String json : new String[] { "[1,2]", "{\"a\":", "{\"a\":1} 2", "" }) {
+      JsonObject obj = JsonObject.lazy(Buffer.buffer(json));
+      try {
+        obj.getValue("a");
+        fail(json);
+      } catch (DecodeException ignore) {
+      }
+    }
+  }
+}
@@ -358,6 +358,39 @@ public abstract class HttpMetricsTestBase extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testOffloadedCompressionMetrics() throws Exception {
+    Buffer body = Buffer.buffer(TestUtils.randomAlphaString(1024).repeat(16));
+    AtomicReference<HttpServerMetric> serverMetric = new AtomicReference<>();
+    AtomicReference<Thread> serverThread = new AtomicReference<>();
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setCompressionSupported(true)
+      .setCompressionOffloadThreshold(1024));
+    server.requestHandler(req -> {
+      FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+      serverMetric.set(metrics.getRequestMetric(req));
+      serverThread.set(Thread.currentThread());
+      req.response().end(body);
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setDecompressionSupported(true));
+    client.request(new RequestOptions(requestOptions).setURI(TestUtils.randomAlphaString(16)))
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .onComplete(onSuccess(buff -> {
+        assertEquals(body, buff);
+        HttpServerMetric metric = serverMetric.get();
+        assertEquals("gzip", metric.compressionEncoding.get());
+        assertTrue(metric.compressedBytes.get() > 0);
+        assertTrue(metric.compressedBytes.get() < body.length());
+        assertTrue(metric.compressionTime.get() > 0);
+        assertSame(serverThread.get(), metric.compressionThread.get());
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testResetImmediately() {
     FakeHttpClientMetrics metrics = FakeMetricsBase.getMetrics(client);
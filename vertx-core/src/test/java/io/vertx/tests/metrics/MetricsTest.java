@@ -21,14 +21,19 @@ import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.http.*;
+import io.vertx.core.impl.WorkerExecutorInternal;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.concurrent.TaskPriority;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.SocketAddress;
+import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.LocalMapOptions;
 import io.vertx.core.spi.VertxMetricsFactory;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
@@ -38,6 +43,7 @@ import io.vertx.test.fakemetrics.*;
 import io.vertx.test.http.HttpTestBase;
 import io.vertx.test.tls.Trust;
 import io.vertx.tests.http.Http2TestBase;
+import org.junit.Assume;
 import org.junit.Test;
 
 import java.util.*;
@@ -497,6 +503,53 @@ public class MetricsTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testBatchedWrites() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterWriteBatchSize(64 * 1024);
+    startNodes(2, options);
+    FakeEventBusMetrics fromMetrics = FakeMetricsBase.getMetrics(vertices[0].eventBus());
+    int num = 100;
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      if (received.incrementAndGet() == num) {
+        testComplete();
+      }
+    }).completion().onComplete(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        for (int i = 0;i < num;i++) {
+          vertices[0].eventBus().send(ADDRESS1, "msg-" + i);
+        }
+      });
+    }));
+    await();
+    assertWaitUntil(() -> fromMetrics.getBatchedMessages() == num);
+    assertTrue(fromMetrics.getBatches() < num);
+    assertEquals(fromMetrics.getEncodedBytes(ADDRESS1), fromMetrics.getBatchedBytes());
+  }
+
+  @Test
+  public void testRepeatedAddressIsNotResent() {
+    startNodes(2);
+    String address = TestUtils.randomAlphaString(1000);
+    FakeEventBusMetrics fromMetrics = FakeMetricsBase.getMetrics(vertices[0].eventBus());
+    AtomicInteger count = new AtomicInteger();
+    AtomicInteger written = new AtomicInteger();
+    vertices[1].eventBus().consumer(address, msg -> {
+      int encoded = fromMetrics.getEncodedBytes(address);
+      int size = encoded - written.getAndSet(encoded);
+      if (size < address.length()) {
+        // The address has been sent as a reference
+        testComplete();
+      } else if (count.incrementAndGet() < 20) {
+        vertices[0].eventBus().send(address, "msg");
+      } else {
+        fail("Address still sent in full");
+      }
+    }).completion().onComplete(onSuccess(v -> vertices[0].eventBus().send(address, "msg")));
+    await();
+  }
+
   @Test
   public void testReplyFailureNoHandlers() throws Exception {
     CountDownLatch latch = new CountDownLatch(1);
@@ -566,6 +619,27 @@ public class MetricsTest extends VertxTestBase {
     assertEquals(Collections.singletonList(ReplyFailure.RECIPIENT_FAILURE), metrics.getReplyFailures());
   }
 
+  @Test
+  public void testHttpServerVirtualThreadParked() throws Exception {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    server = vertx.createHttpServer(new HttpServerOptions().setVirtualThreadPerRequest(true));
+    server.requestHandler(req -> {
+      FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+      HttpServerMetric metric = metrics.getRequestMetric(req);
+      assertEquals(0, metric.parked.get());
+      Future.<Void>future(p -> vertx.setTimer(10, id -> p.complete())).await();
+      Future.<Void>future(p -> vertx.setTimer(10, id -> p.complete())).await();
+      assertEquals(2, metric.parked.get());
+      req.response().end();
+    });
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST));
+    client = vertx.createHttpClient();
+    client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+      .compose(req -> req.send().compose(HttpClientResponse::end))
+      .onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+
   @Test
   public void testServerWebSocket() throws InterruptedException {
     server = vertx.createHttpServer();
@@ -753,6 +827,62 @@ public class MetricsTest extends VertxTestBase {
     assertEquals(0, endpoint.connectionCount.get());
   }
 
+  @Test
+  public void testHttpClientAdaptivePipelining() throws Exception {
+    int limit = 8;
+    server = vertx.createHttpServer().requestHandler(req -> {
+      if (req.path().equals("/slow")) {
+        vertx.setTimer(500, id -> req.response().end());
+      } else {
+        req.response().end();
+      }
+    });
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"));
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setKeepAlive(true)
+      .setPipelining(true)
+      .setPipeliningLimit(limit)
+      .setAdaptivePipelining(true), new PoolOptions().setHttp1MaxSize(1));
+    FakeHttpClientMetrics metrics = FakeHttpClientMetrics.getMetrics(client);
+    // The depth starts at one request and grows with timely responses
+    for (int i = 0;i < 2 * limit;i++) {
+      awaitFuture(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/fast")
+        .compose(req -> req.send().compose(HttpClientResponse::end)));
+    }
+    EndpointMetric endpoint = metrics.endpoint("localhost:" + HttpTestBase.DEFAULT_HTTP_PORT);
+    assertTrue(endpoint.pipelineLimit.get() > limit / 2);
+    awaitFuture(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/slow")
+      .compose(req -> req.send().compose(HttpClientResponse::end)));
+    // The slow response halves the depth
+    assertTrue(endpoint.pipelineLimit.get() <= limit / 2);
+    assertEquals(0, endpoint.pipelineDepth.get());
+    assertEquals(1, endpoint.connectionCount.get());
+    assertEquals(1, endpoint.pipelinedConnections.size());
+  }
+
+  @Test
+  public void testHttpClientCrossEventLoopLeases() throws Exception {
+    server = vertx.createHttpServer().requestHandler(req -> req.response().end());
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"));
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true), new PoolOptions()
+      .setHttp1MaxSize(1)
+      .setEventLoopAffinity(true));
+    ContextInternal ctx1 = ((VertxInternal) vertx).createEventLoopContext();
+    ContextInternal ctx2 = ((VertxInternal) vertx).createEventLoopContext();
+    assertNotSame(ctx1.nettyEventLoop(), ctx2.nettyEventLoop());
+    // The single connection of the pool is established by the first event-loop and then leased by the second event-loop
+    for (ContextInternal ctx : new ContextInternal[] { ctx1, ctx1, ctx2 }) {
+      Promise<Void> promise = Promise.promise();
+      ctx.runOnContext(v -> client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/somepath")
+        .compose(req -> req.send().compose(HttpClientResponse::end))
+        .onComplete(promise));
+      awaitFuture(promise.future());
+    }
+    FakePoolMetrics queueMetrics = FakePoolMetrics.getMetrics("localhost:" + HttpTestBase.DEFAULT_HTTP_PORT);
+    assertEquals(3, queueMetrics.numberOfLeases());
+    assertEquals(1, queueMetrics.numberOfCrossEventLoopLeases());
+  }
+
   @Test
   public void testHttpClientConnectionCloseAfterRequestEnd() throws Exception {
     client = vertx.createHttpClient();
@@ -926,6 +1056,47 @@ public class MetricsTest extends VertxTestBase {
     checker.accept(peer2Metrics.getWrites().get(0));
   }
 
+  @Test
+  public void testAsyncMapExpiration() {
+    int num = 100;
+    AsyncMap<String, String> map = vertx.sharedData().<String, String>getLocalAsyncMap("expiring-map").await();
+    for (int i = 0;i < num;i++) {
+      map.put("key-" + i, "value-" + i, 10).await();
+    }
+    FakeMapMetrics metrics = FakeMapMetrics.getMetrics("expiring-map");
+    assertEquals("async-map", metrics.type());
+    assertWaitUntil(() -> metrics.expired() == num);
+    assertEquals(0, (int) map.size().await());
+    assertEquals(0, metrics.evicted());
+  }
+
+  @Test
+  public void testAsyncMapMetricsClosedOnVertxClose() {
+    AsyncMap<String, String> map = vertx.sharedData().<String, String>getLocalAsyncMap("closing-map").await();
+    map.put("key", "value", 60_000).await();
+    assertNotNull(FakeMapMetrics.getMetrics("closing-map"));
+    vertx.close().await();
+    assertNull(FakeMapMetrics.getMetrics("closing-map"));
+  }
+
+  @Test
+  public void testLocalMapMetrics() {
+    LocalMap<String, String> map = vertx.sharedData().getLocalMap("bounded-map", new LocalMapOptions().setMaxSize(2));
+    FakeMapMetrics metrics = FakeMapMetrics.getMetrics("bounded-map");
+    assertEquals("local-map", metrics.type());
+    map.put("a", "1");
+    map.put("b", "2");
+    assertEquals("1", map.get("a"));
+    assertNull(map.get("c"));
+    map.put("c", "3");
+    assertEquals(1, metrics.hits());
+    assertEquals(1, metrics.misses());
+    assertEquals(1, metrics.evicted());
+    assertEquals(0, metrics.expired());
+    map.close();
+    assertNull(FakeMapMetrics.getMetrics("bounded-map"));
+  }
+
   @Test
   public void testThreadPoolMetricsWithExecuteBlocking() {
     Map<String, FakePoolMetrics> all = FakePoolMetrics.getMetrics();
@@ -1137,6 +1308,70 @@ public class MetricsTest extends VertxTestBase {
     assertEquals(metrics.pending(), 0);
   }
 
+  @Test
+  public void testThreadPoolLaneMetrics() throws Exception {
+    vertx.close(); // Close the instance automatically created
+    vertx = Vertx
+      .builder()
+      .with(new VertxOptions().setWorkerPoolWorkStealing(true).setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(new FakeMetricsFactory())
+      .build();
+    WorkerExecutorInternal workerExec = (WorkerExecutorInternal) vertx.createSharedWorkerExecutor("my-pool", 1);
+    FakePoolMetrics metrics = FakePoolMetrics.getMetrics("my-pool");
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      workerExec.executeBlocking(() -> {
+        blocked.countDown();
+        release.await();
+        return null;
+      }, false, TaskPriority.NORMAL);
+    });
+    awaitLatch(blocked);
+    ctx.runOnContext(v -> {
+      for (TaskPriority priority : TaskPriority.values()) {
+        workerExec.executeBlocking(() -> null, false, priority);
+      }
+    });
+    waitUntil(() -> metrics.pending() == 3);
+    Thread.sleep(50);
+    release.countDown();
+    waitUntil(() -> metrics.numberOfReleases() == 4);
+    assertEquals(1, metrics.numberOfDequeues("high"));
+    assertEquals(2, metrics.numberOfDequeues("normal"));
+    assertEquals(1, metrics.numberOfDequeues("low"));
+    for (TaskPriority priority : TaskPriority.values()) {
+      assertTrue(metrics.queueWaitTime(priority.lane()) >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+  }
+
+  @Test
+  public void testEventLoopMetrics() {
+    vertx.close(); // Close the instance automatically created
+    vertx = Vertx
+      .builder()
+      .with(new VertxOptions().setEventLoopProfilingEnabled(true).setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(new FakeMetricsFactory())
+      .build();
+    Map<String, FakeEventLoopMetrics> all = FakeEventLoopMetrics.getMetrics();
+    // The metrics are created by the event-loop when it executes its first profiled task
+    assertEquals(0, all.size());
+    Handler<Void> handler = v -> {};
+    vertx.runOnContext(handler);
+    waitUntil(() -> all.values().stream().anyMatch(metrics -> metrics.handlers().contains(handler.getClass())));
+    List<FakeEventLoopMetrics> list = new ArrayList<>(all.values());
+    assertEquals(1, list.size());
+    assertTrue(all.containsKey("vert.x-eventloop-thread-0"));
+    vertx.close().onComplete(onSuccess(v -> {
+      for (FakeEventLoopMetrics metrics : list) {
+        assertTrue(metrics.isClosed());
+      }
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testWorkerPoolClose() {
     WorkerExecutor ex1 = vertx.createSharedWorkerExecutor("ex1");
@@ -41,11 +41,19 @@ public class ConnectionPoolTest extends VertxTestBase {
     this.vertx = (VertxInternal) super.vertx;
   }
 
+  protected <C> ConnectionPool<C> createPool(PoolConnector<C> connector, int[] maxSizes) {
+    return ConnectionPool.pool(connector, maxSizes);
+  }
+
+  protected <C> ConnectionPool<C> createPool(PoolConnector<C> connector, int[] maxSizes, int maxWaiters) {
+    return ConnectionPool.pool(connector, maxSizes, maxWaiters);
+  }
+
   @Test
   public void testConnect() {
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 10 }, 10);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
     Connection expected = new Connection();
     pool
       .acquire(context, 0)
@@ -61,11 +69,38 @@ public class ConnectionPoolTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testFill() {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 3 });
+    Future<Void> fut = pool.fill(2, 0, () -> context);
+    ConnectionRequest request1 = mgr.assertRequest();
+    ConnectionRequest request2 = mgr.assertRequest();
+    assertNull(mgr.requests.poll());
+    // The connections being established are counted
+    pool.fill(2, 0, () -> context);
+    assertNull(mgr.requests.poll());
+    Connection expected = new Connection();
+    request1.connect(expected, 0);
+    request2.connect(expected, 0);
+    fut.onComplete(onSuccess(v -> {
+      assertEquals(2, pool.size());
+      // The connections are not leased
+      pool.acquire(context, 0).onComplete(onSuccess(lease -> {
+        assertSame(expected, lease.get());
+        assertNull(mgr.requests.poll());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testAcquireRecycledConnection() throws Exception {
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 10 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 });
     Connection expected = new Connection();
     CountDownLatch latch = new CountDownLatch(1);
     pool
@@ -90,7 +125,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testRecycleRemovedConnection() throws Exception {
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 10 }, 10);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
     Connection expected1 = new Connection();
     Future<Lease<Connection>> fut = pool.acquire(context, 0);
     ConnectionRequest request1 = mgr.assertRequest();
@@ -117,7 +152,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testConcurrency() throws Exception {
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 10 }, 10);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
     Connection expected = new Connection();
     CountDownLatch latch = new CountDownLatch(1);
     pool
@@ -139,7 +174,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testIncreaseConcurrency() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     ContextInternal ctx = vertx.createEventLoopContext();
     Connection conn1 = new Connection();
     CountDownLatch l1 = new CountDownLatch(1);
@@ -166,7 +201,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testSatisfyPendingWaitersWithExtraConcurrency() throws Exception {
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 2);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 2);
     Connection expected = new Connection();
     AtomicInteger seq = new AtomicInteger();
     pool
@@ -191,7 +226,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testEmptyConcurrency() {
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 2);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 2);
     Connection expected = new Connection();
     AtomicInteger seq = new AtomicInteger();
     pool
@@ -217,7 +252,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testDecreaseConcurrency() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     ContextInternal ctx = vertx.createEventLoopContext();
     Connection conn1 = new Connection();
     CountDownLatch l1 = new CountDownLatch(2);
@@ -260,7 +295,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testWaiter() throws Exception {
     ContextInternal ctx1 = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     Connection expected = new Connection();
     CompletableFuture<Lease<Connection>> latch = new CompletableFuture<>();
     pool.acquire(ctx1, 0).onComplete(onSuccess(latch::complete));
@@ -286,7 +321,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testRemoveSingleConnection() throws Exception {
     ContextInternal ctx1 = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 1);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 1);
     Connection conn = new Connection();
     CompletableFuture<Lease<Connection>> latch = new CompletableFuture<>();
     pool.acquire(ctx1, 0).onComplete(onSuccess(latch::complete));
@@ -302,7 +337,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testRemoveFirstConnection() throws Exception {
     ContextInternal ctx = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 }, 2);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 2 }, 2);
     Connection conn1 = new Connection();
     CompletableFuture<Lease<Connection>> latch1 = new CompletableFuture<>();
     pool.acquire(ctx, 0).onComplete(onSuccess(latch1::complete));
@@ -323,7 +358,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testRemoveSingleConnectionWithWaiter() throws Exception {
     ContextInternal ctx1 = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     Connection connection1 = new Connection();
     CompletableFuture<Lease<Connection>> latch = new CompletableFuture<>();
     pool
@@ -355,7 +390,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testConnectFailureWithPendingWaiter() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1, 2 }, 2);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1, 2 }, 2);
     Throwable failure = new Throwable();
     Connection expected = new Connection();
     CountDownLatch latch = new CountDownLatch(1);
@@ -411,7 +446,7 @@ public class ConnectionPoolTest extends VertxTestBase {
 
   private List<Integer> testExpire(int num, int max, int... recycled) throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { max }, max);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { max }, max);
     CountDownLatch latch = new CountDownLatch(num);
     List<Lease<Connection>> leases = new ArrayList<>();
     ContextInternal ctx = vertx.createEventLoopContext();
@@ -450,7 +485,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testRemoveEvicted() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 1);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 1);
     // List<Lease<Connection>> leases = new ArrayList<>();
     ContextInternal ctx = vertx.createEventLoopContext();
     CountDownLatch latch1 = new CountDownLatch(1);
@@ -474,7 +509,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testSynchronousEviction() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 1);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 1);
     ContextInternal ctx = vertx.createEventLoopContext();
     CountDownLatch latch1 = new CountDownLatch(1);
     CountDownLatch latch2 = new CountDownLatch(1);
@@ -512,7 +547,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testConnectionInProgressShouldNotBeEvicted() {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 5);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 5);
     ContextInternal ctx = vertx.createEventLoopContext();
     pool.acquire(ctx, 0);
     mgr.assertRequest();
@@ -527,7 +562,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testRecycleRemoveConnection() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 1);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 1);
     Connection expected = new Connection();
     CompletableFuture<Lease<Connection>> latch = new CompletableFuture<>();
     ContextInternal ctx1 = vertx.createEventLoopContext();
@@ -544,7 +579,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testRecycleMultiple() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 1);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 1);
     Connection expected = new Connection();
     CompletableFuture<Lease<Connection>> latch = new CompletableFuture<>();
     ContextInternal ctx1 = vertx.createEventLoopContext();
@@ -563,7 +598,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testMaxWaiters() {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 5);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 5);
     ContextInternal ctx = vertx.createEventLoopContext();
     for (int i = 0;i < (5);i++) {
       pool
@@ -582,7 +617,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testHeterogeneousSizes() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 5, 2 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 5, 2 });
     ContextInternal ctx = vertx.createEventLoopContext();
     CountDownLatch latch = new CountDownLatch(5);
     for (int i = 0;i < 5;i++) {
@@ -603,7 +638,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testClose() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 }, 2);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 2 }, 2);
     ContextInternal ctx = vertx.createEventLoopContext();
     Connection conn1 = new Connection();
     pool
@@ -629,7 +664,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testCloseTwice() throws Exception {
     AtomicBoolean isReentrant = new AtomicBoolean();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 }, 2);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 2 }, 2);
     CountDownLatch latch = new CountDownLatch(1);
     pool
       .close()
@@ -650,7 +685,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testUseAfterClose() throws Exception {
     waitFor(3);
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     ContextInternal ctx = vertx.createEventLoopContext();
     CompletableFuture<PoolWaiter<Connection>> waiterFut = new CompletableFuture<>();
     pool.acquire(ctx, new PoolWaiter.Listener<>() {
@@ -678,7 +713,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   @Test
   public void testAcquireClosedConnection() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     ContextInternal context = vertx.createEventLoopContext();
     pool.acquire(context, 0).onComplete(onSuccess(Lease::recycle));
     Connection expected = new Connection();
@@ -729,7 +764,7 @@ public class ConnectionPoolTest extends VertxTestBase {
 
   private void testConnectResultAfterClose(boolean success) {
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     ContextInternal ctx = vertx.createEventLoopContext();
     AtomicInteger acquired = new AtomicInteger();
     pool
@@ -765,7 +800,7 @@ public class ConnectionPoolTest extends VertxTestBase {
     waitFor(1);
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
     CompletableFuture<PoolWaiter<Connection>> w = new CompletableFuture<>();
     pool
       .acquire(context, 0)
@@ -817,7 +852,7 @@ public class ConnectionPoolTest extends VertxTestBase {
     waitFor(1);
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 1 + extra);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 1 + extra);
     CompletableFuture<PoolWaiter<Connection>> waiterLatch = new CompletableFuture<>();
     pool.acquire(context, new PoolWaiter.Listener<>() {
         @Override
@@ -884,7 +919,7 @@ public class ConnectionPoolTest extends VertxTestBase {
     waitFor(1);
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 1);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 1);
     CompletableFuture<PoolWaiter<Connection>> w = new CompletableFuture<>();
     CountDownLatch latch = new CountDownLatch(1);
     pool.acquire(context, new PoolWaiter.Listener<>() {
@@ -918,7 +953,7 @@ public class ConnectionPoolTest extends VertxTestBase {
     waitFor(1);
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 });
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 2 });
     CountDownLatch latch1 = new CountDownLatch(1);
     pool
       .acquire(context, 0)
@@ -951,7 +986,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testDefaultSelector() throws Exception {
     ContextInternal context1 = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 10 }, 10);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
     CountDownLatch latch1 = new CountDownLatch(1);
     pool
       .acquire(context1, 0)
@@ -989,7 +1024,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testDefaultContextProviderUnwrap() {
     ContextInternal context = vertx.createEventLoopContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 10 }, 10);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
     pool
       .acquire(context.duplicate(), 0)
       .onComplete(onSuccess(lease -> {
@@ -1003,7 +1038,7 @@ public class ConnectionPoolTest extends VertxTestBase {
   public void testDefaultContextProviderReusesSameEventLoop() {
     ContextInternal context = vertx.createWorkerContext();
     ConnectionManager mgr = new ConnectionManager();
-    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 10 }, 10);
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
     pool
       .acquire(context.duplicate(), 0)
       .onComplete(onSuccess(lease -> {
@@ -1022,7 +1057,7 @@ public class ConnectionPoolTest extends VertxTestBase {
     AtomicInteger seq = new AtomicInteger();
     CountDownLatch latch = new CountDownLatch(1 + numAcquires);
     int[] count = new int[1];
-    ConnectionPool<Connection> pool = ConnectionPool.pool(new PoolConnector<Connection>() {
+    ConnectionPool<Connection> pool = createPool(new PoolConnector<Connection>() {
       int reentrancy = 0;
       @Override
       public Future<ConnectResult<Connection>> connect(ContextInternal context, Listener listener) {
@@ -1076,7 +1111,7 @@ public class ConnectionPoolTest extends VertxTestBase {
     ContextInternal ctx = vertx.createEventLoopContext();
     List<Integer> res = Collections.synchronizedList(new LinkedList<>());
     CountDownLatch latch = new CountDownLatch(4);
-    ConnectionPool<Connection> pool1 = ConnectionPool.pool(new PoolConnector<>() {
+    ConnectionPool<Connection> pool1 = createPool(new PoolConnector<>() {
       int count = 0;
       int reentrancy = 0;
       @Override
@@ -1110,7 +1145,7 @@ public class ConnectionPoolTest extends VertxTestBase {
         return true;
       }
     }, new int[]{1}, 2);
-    ConnectionPool<Connection> pool2 = ConnectionPool.pool(new PoolConnector<>() {
+    ConnectionPool<Connection> pool2 = createPool(new PoolConnector<>() {
       int count = 0;
       int reentrancy = 0;
       @Override
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.pool;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.pool.ConnectResult;
+import io.vertx.core.internal.pool.ConnectionPool;
+import io.vertx.core.internal.pool.Lease;
+import io.vertx.core.internal.pool.PoolConnector;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ShardedConnectionPoolTest extends ConnectionPoolTest {
+
+  @Override
+  protected <C> ConnectionPool<C> createPool(PoolConnector<C> connector, int[] maxSizes) {
+    return ConnectionPool.sharded(connector, maxSizes, -1);
+  }
+
+  @Override
+  protected <C> ConnectionPool<C> createPool(PoolConnector<C> connector, int[] maxSizes, int maxWaiters) {
+    return ConnectionPool.sharded(connector, maxSizes, maxWaiters);
+  }
+
+  @Test
+  @Override
+  public void testAcquireClosedConnection() throws Exception {
+    // Acquisitions are not serialized with evictions, the connection removed during the eviction is not handed
+    // to the waiter that is served by a new connection instead
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 });
+    ContextInternal context = vertx.createEventLoopContext();
+    pool.acquire(context, 0).onComplete(onSuccess(Lease::recycle));
+    ConnectionRequest request = mgr.assertRequest();
+    request.connect(new Connection(), 0);
+    CountDownLatch latch1 = new CountDownLatch(1);
+    CountDownLatch latch2 = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      pool.evict(conn -> {
+        latch1.countDown();
+        try {
+          latch2.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return false;
+      });
+    });
+    awaitLatch(latch1);
+    Connection expected = new Connection();
+    pool
+      .acquire(context, 0)
+      .onComplete(onSuccess(lease -> {
+        assertSame(expected, lease.get());
+        testComplete();
+      }));
+    request.listener.onRemove();
+    latch2.countDown();
+    mgr.assertRequest().connect(expected, 0);
+    await();
+  }
+
+  @Test
+  public void testAcquireConnectionOfSameEventLoop() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
+    Connection[] connections = { new Connection(), new Connection() };
+    ContextInternal[] contexts = { context1, context2 };
+    for (int i = 0;i < 2;i++) {
+      CountDownLatch latch = new CountDownLatch(1);
+      pool
+        .acquire(contexts[i], 0)
+        .onComplete(onSuccess(lease -> {
+          lease.recycle();
+          latch.countDown();
+        }));
+      mgr.assertRequest().connect(connections[i], 0);
+      awaitLatch(latch);
+    }
+    waitFor(2);
+    for (int i = 0;i < 2;i++) {
+      Connection expected = connections[i];
+      pool
+        .acquire(contexts[i], 0)
+        .onComplete(onSuccess(lease -> {
+          assertSame(expected, lease.get());
+          complete();
+        }));
+    }
+    await();
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void testConnectionSelectorOfSameEventLoop() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 10 }, 10);
+    Connection[] connections = { new Connection(), new Connection() };
+    ContextInternal[] contexts = { context1, context2 };
+    for (int i = 0;i < 2;i++) {
+      CountDownLatch latch = new CountDownLatch(1);
+      pool
+        .acquire(contexts[i], 0)
+        .onComplete(onSuccess(lease -> {
+          lease.recycle();
+          latch.countDown();
+        }));
+      mgr.assertRequest().connect(connections[i], 0);
+      awaitLatch(latch);
+    }
+    AtomicInteger selections = new AtomicInteger();
+    pool.connectionSelector((waiter, list) -> {
+      selections.incrementAndGet();
+      assertEquals(1, list.size());
+      assertSame(waiter.context().nettyEventLoop(), list.get(0).context().nettyEventLoop());
+      // Declining the connection does not prevent its reuse
+      return waiter.context() == context1 ? list.get(0) : null;
+    });
+    waitFor(2);
+    for (int i = 0;i < 2;i++) {
+      Connection expected = connections[i];
+      pool
+        .acquire(contexts[i], 0)
+        .onComplete(onSuccess(lease -> {
+          assertSame(expected, lease.get());
+          complete();
+        }));
+    }
+    await();
+    assertEquals(2, selections.get());
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void testConcurrentAcquireRecycle() throws Exception {
+    int numContexts = 4;
+    int numAcquires = 1000;
+    int maxSize = 3;
+    Map<Connection, AtomicInteger> inUse = new ConcurrentHashMap<>();
+    ConnectionPool<Connection> pool = createPool(new PoolConnector<>() {
+      @Override
+      public Future<ConnectResult<Connection>> connect(ContextInternal context, Listener listener) {
+        Connection conn = new Connection();
+        inUse.put(conn, new AtomicInteger());
+        return context.succeededFuture(new ConnectResult<>(conn, 1, 0));
+      }
+      @Override
+      public boolean isValid(Connection connection) {
+        return true;
+      }
+    }, new int[] { maxSize });
+    waitFor(numContexts);
+    for (int i = 0;i < numContexts;i++) {
+      ContextInternal context = vertx.createEventLoopContext();
+      AtomicInteger remaining = new AtomicInteger(numAcquires);
+      context.runOnContext(v -> {
+        Handler<Void> loop = new Handler<>() {
+          @Override
+          public void handle(Void v) {
+            if (remaining.getAndDecrement() == 0) {
+              complete();
+              return;
+            }
+            pool.acquire(context, 0).onComplete(onSuccess(lease -> {
+              AtomicInteger usage = inUse.get(lease.get());
+              assertEquals(1, usage.incrementAndGet());
+              usage.decrementAndGet();
+              lease.recycle();
+              context.runOnContext(this);
+            }));
+          }
+        };
+        loop.handle(null);
+      });
+    }
+    await();
+    assertTrue(pool.size() <= maxSize);
+    assertEquals(0, pool.waiters());
+  }
+
+  @Test
+  public void testStealConnectionOfOtherEventLoop() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = createPool(mgr, new int[] { 1 }, 10);
+    Connection expected = new Connection();
+    CountDownLatch latch = new CountDownLatch(1);
+    pool
+      .acquire(context1, 0)
+      .onComplete(onSuccess(lease -> {
+        lease.recycle();
+        latch.countDown();
+      }));
+    mgr.assertRequest().connect(expected, 0);
+    awaitLatch(latch);
+    pool
+      .acquire(context2, 0)
+      .onComplete(onSuccess(lease -> {
+        assertSame(expected, lease.get());
+        assertEquals(1, pool.size());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testEventLoopAffinity() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    // Each event-loop can create 2 connections
+    ConnectionPool<Connection> pool = ConnectionPool.sharded(mgr, new int[] { 4 }, 10, 2);
+    List<Lease<Connection>> leases = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch1 = new CountDownLatch(2);
+    for (int i = 0;i < 2;i++) {
+      pool
+        .acquire(context1, 0)
+        .onComplete(onSuccess(lease -> {
+          leases.add(lease);
+          latch1.countDown();
+        }));
+      mgr.assertRequest().connect(new Connection(), 0);
+    }
+    awaitLatch(latch1);
+    // The slice of the first event-loop is exhausted
+    CountDownLatch latch2 = new CountDownLatch(1);
+    pool
+      .acquire(context1, 0)
+      .onComplete(onSuccess(lease -> {
+        assertSame(leases.get(0).get(), lease.get());
+        latch2.countDown();
+      }));
+    assertEquals(0, pool.requests());
+    assertEquals(1, pool.waiters());
+    // The second event-loop creates its own connection
+    Connection expected = new Connection();
+    CountDownLatch latch3 = new CountDownLatch(1);
+    pool
+      .acquire(context2, 0)
+      .onComplete(onSuccess(lease -> {
+        assertSame(expected, lease.get());
+        latch3.countDown();
+      }));
+    ConnectionRequest request = mgr.assertRequest();
+    assertSame(context2.nettyEventLoop(), request.context.nettyEventLoop());
+    request.connect(expected, 0);
+    awaitLatch(latch3);
+    assertEquals(3, pool.size());
+    leases.get(0).recycle();
+    awaitLatch(latch2);
+    assertEquals(0, pool.waiters());
+  }
+
+  @Test
+  public void testEventLoopAffinityStealWhenSliceExhausted() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.sharded(mgr, new int[] { 2 }, 10, 2);
+    Connection[] connections = { new Connection(), new Connection() };
+    ContextInternal[] contexts = { context2, context1 };
+    for (int i = 0;i < 2;i++) {
+      CountDownLatch latch = new CountDownLatch(1);
+      pool
+        .acquire(contexts[i], 0)
+        .onComplete(onSuccess(lease -> {
+          lease.recycle();
+          latch.countDown();
+        }));
+      mgr.assertRequest().connect(connections[i], 0);
+      awaitLatch(latch);
+    }
+    waitFor(2);
+    // The first lease uses the connection of the event-loop, the second lease steals the connection of the other event-loop
+    pool.acquire(context1, 0).onComplete(onSuccess(lease -> {
+      assertSame(connections[1], lease.get());
+      complete();
+    }));
+    pool.acquire(context1, 0).onComplete(onSuccess(lease -> {
+      assertSame(connections[0], lease.get());
+      complete();
+    }));
+    await();
+    assertEquals(2, pool.size());
+    assertEquals(0, pool.requests());
+  }
+}
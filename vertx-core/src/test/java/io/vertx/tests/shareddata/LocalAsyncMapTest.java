@@ -12,9 +12,15 @@
 package io.vertx.tests.shareddata;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.shareddata.impl.LocalAsyncMapImpl;
+import io.vertx.core.shareddata.impl.SharedDataImpl;
 import io.vertx.test.core.Repeat;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+
 /**
  * @author Thomas Segismont
  */
@@ -45,4 +51,48 @@ public class LocalAsyncMapTest extends AsyncMapTest {
   public void testMapPutIfAbsentTtl() {
     super.testMapPutIfAbsentTtl();
   }
+
+  @Test
+  public void testExpiredEntriesAreRemoved() {
+    int num = 1000;
+    LocalAsyncMapImpl<String, String> map = localAsyncMap("foo");
+    for (int i = 0;i < num;i++) {
+      map.put("key-" + i, "value-" + i, 10);
+    }
+    map.put("key-0", "overwritten");
+    assertWaitUntil(() -> map.expirationSize() == 0);
+    assertEquals(1, (int) map.size().await());
+    assertEquals(Collections.singleton("key-0"), map.keys().await());
+  }
+
+  @Test
+  public void testExpirationResumesAfterIdle() {
+    LocalAsyncMapImpl<String, String> map = localAsyncMap("foo");
+    map.put("key", "value", 10);
+    assertWaitUntil(() -> map.expirationSize() == 0);
+    map.put("key", "value", 10);
+    assertWaitUntil(() -> map.expirationSize() == 0);
+    assertEquals(0, (int) map.size().await());
+  }
+
+  @Test
+  public void testOverwrittenValueReleased() {
+    LocalAsyncMapImpl<String, String> map = localAsyncMap("foo");
+    String value = new String("value");
+    WeakReference<String> ref = new WeakReference<>(value);
+    map.put("key", value, 60_000).await();
+    map.put("key", "overwritten").await();
+    value = null;
+    // The cancelled entry stays in the wheel until its bucket is visited
+    assertEquals(1, map.expirationSize());
+    assertWaitUntil(() -> {
+      System.gc();
+      return ref.get() == null;
+    });
+  }
+
+  private LocalAsyncMapImpl<String, String> localAsyncMap(String name) {
+    AsyncMap<String, String> map = vertx.sharedData().<String, String>getLocalAsyncMap(name).await();
+    return (LocalAsyncMapImpl<String, String>) ((SharedDataImpl.WrappedAsyncMap<String, String>) map).getDelegate();
+  }
 }
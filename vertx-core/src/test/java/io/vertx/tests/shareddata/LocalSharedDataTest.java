@@ -14,7 +14,9 @@ package io.vertx.tests.shareddata;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.EvictionPolicy;
 import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.LocalMapOptions;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.tests.shareddata.AsyncMapTest.SomeClusterSerializableObject;
@@ -30,6 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+import static io.vertx.test.core.TestUtils.assertIllegalStateException;
 import static io.vertx.test.core.TestUtils.assertNullPointerException;
 
 /**
@@ -386,6 +389,138 @@ public class LocalSharedDataTest extends VertxTestBase {
     assertNotSame(value, result);
   }
 
+  @Test
+  public void testBoundedMapEvictsLeastRecentlyUsed() {
+    LocalMap<String, String> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(3));
+    map.put("a", "1");
+    map.put("b", "2");
+    map.put("c", "3");
+    assertEquals("1", map.get("a"));
+    assertEquals("3", map.get("c"));
+    map.put("d", "4");
+    assertEquals(3, map.size());
+    assertFalse(map.containsKey("b"));
+    assertEquals(new HashSet<>(Arrays.asList("a", "c", "d")), map.keySet());
+    assertSame(map, sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(3)));
+  }
+
+  @Test
+  public void testBoundedMapConflictingOptions() {
+    sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(3));
+    sharedData.getLocalMap("unbounded");
+    assertIllegalStateException(() -> sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(10)));
+    assertIllegalStateException(() -> sharedData.getLocalMap("bounded", new LocalMapOptions()));
+    assertIllegalStateException(() -> sharedData.getLocalMap("unbounded", new LocalMapOptions().setMaxSize(10)));
+  }
+
+  @Test
+  public void testBoundedMapComputeIfAbsentCopiesValue() {
+    LocalMap<String, Buffer> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(3));
+    Buffer value = Buffer.buffer("foo");
+    Buffer computed = map.computeIfAbsent("foo", k -> value);
+    assertEquals(value, computed);
+    assertNotSame(value, computed);
+    Buffer existing = map.computeIfAbsent("foo", k -> Buffer.buffer("bar"));
+    assertEquals(value, existing);
+    existing.appendString("!");
+    assertEquals(value, map.get("foo"));
+  }
+
+  @Test
+  public void testBoundedMapEvictsLeastFrequentlyUsed() {
+    LocalMap<String, String> map = sharedData.getLocalMap("bounded", new LocalMapOptions()
+      .setMaxSize(2)
+      .setEvictionPolicy(EvictionPolicy.LFU));
+    map.put("hot", "1");
+    for (int i = 0;i < 10;i++) {
+      map.get("hot");
+    }
+    for (int i = 0;i < 5;i++) {
+      map.put("cold-" + i, "" + i);
+    }
+    assertEquals(2, map.size());
+    assertEquals("1", map.get("hot"));
+    assertEquals("4", map.get("cold-4"));
+  }
+
+  @Test
+  public void testBoundedMapMaxWeight() {
+    LocalMap<String, Buffer> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxWeight(10));
+    map.put("a", Buffer.buffer("0123"));
+    map.put("b", Buffer.buffer("0123"));
+    assertEquals(2, map.size());
+    map.put("c", Buffer.buffer("0123"));
+    assertEquals(2, map.size());
+    assertNull(map.get("a"));
+    map.put("d", Buffer.buffer("0123456789A"));
+    assertEquals(0, map.size());
+  }
+
+  @Test
+  public void testBoundedMapOperations() {
+    LocalMap<String, String> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(2));
+    assertNull(map.putIfAbsent("foo", "bar"));
+    assertEquals("bar", map.putIfAbsent("foo", "baz"));
+    assertEquals("bar", map.replace("foo", "baz"));
+    assertTrue(map.replaceIfPresent("foo", "baz", "bar"));
+    assertFalse(map.removeIfPresent("foo", "baz"));
+    assertEquals("bar!", map.compute("foo", (k, v) -> v + "!"));
+    assertEquals("bar!", map.computeIfAbsent("foo", k -> "other"));
+    assertEquals("bar!?", map.merge("foo", "?", String::concat));
+    assertNull(map.computeIfPresent("foo", (k, v) -> null));
+    assertFalse(map.containsKey("foo"));
+    assertEquals("miss", map.getOrDefault("foo", "miss"));
+    map.put("a", "1");
+    map.put("b", "2");
+    map.replaceAll((k, v) -> v + v);
+    assertEquals("11", map.get("a"));
+    assertEquals("22", map.get("b"));
+    assertEquals(2, map.entrySet().size());
+    LocalMap raw = map;
+    assertIllegalArgumentException(() -> raw.put("c", new SomeOtherClass()));
+    map.clear();
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testBoundedMapExpireAfterWrite() {
+    LocalMap<String, String> map = sharedData.getLocalMap("expiring", new LocalMapOptions().setExpireAfterWrite(20));
+    map.put("foo", "bar");
+    assertEquals("bar", map.get("foo"));
+    assertWaitUntil(map::isEmpty);
+    assertNull(map.get("foo"));
+  }
+
+  @Test
+  public void testBoundedMapExpireAfterAccess() throws Exception {
+    LocalMap<String, String> map = sharedData.getLocalMap("expiring", new LocalMapOptions().setExpireAfterAccess(200));
+    map.put("foo", "bar");
+    long now = System.currentTimeMillis();
+    while (System.currentTimeMillis() - now < 400) {
+      assertEquals("bar", map.get("foo"));
+      Thread.sleep(20);
+    }
+    assertWaitUntil(map::isEmpty);
+    assertNull(map.get("foo"));
+  }
+
+  @Test
+  public void testLocalMapOptions() {
+    assertIllegalArgumentException(() -> new LocalMapOptions().setMaxSize(0));
+    assertIllegalArgumentException(() -> new LocalMapOptions().setMaxWeight(0));
+    assertIllegalArgumentException(() -> new LocalMapOptions().setExpireAfterWrite(-1));
+    LocalMapOptions options = new LocalMapOptions()
+      .setMaxSize(100)
+      .setEvictionPolicy(EvictionPolicy.LFU)
+      .setExpireAfterAccess(1000);
+    LocalMapOptions copy = new LocalMapOptions(options.toJson());
+    assertEquals(100, copy.getMaxSize());
+    assertEquals(-1, copy.getMaxWeight());
+    assertEquals(EvictionPolicy.LFU, copy.getEvictionPolicy());
+    assertEquals(1000, copy.getExpireAfterAccess());
+    assertEquals(0, copy.getExpireAfterWrite());
+  }
+
   private static class ShareableObject implements Shareable {
     private final String data;
 
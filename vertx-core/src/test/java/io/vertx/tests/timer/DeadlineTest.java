@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.timer;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.concurrent.Deadline;
+import io.vertx.core.internal.concurrent.DeadlineTracker;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DeadlineTest extends VertxTestBase {
+
+  @Test
+  public void testFire() {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    long start = System.nanoTime();
+    Deadline deadline = ctx.deadline(v -> {
+      assertSame(ctx, Vertx.currentContext());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+      testComplete();
+    });
+    deadline.schedule(50, TimeUnit.MILLISECONDS);
+    assertTrue(deadline.isScheduled());
+    await();
+    assertFalse(deadline.isScheduled());
+    assertFalse(deadline.cancel());
+  }
+
+  @Test
+  public void testFireOnWorkerContext() {
+    ContextInternal ctx = ((VertxInternal) vertx).createWorkerContext();
+    Deadline deadline = ctx.deadline(v -> {
+      assertTrue(Context.isOnWorkerThread());
+      assertSame(ctx, Vertx.currentContext());
+      testComplete();
+    });
+    deadline.schedule(10, TimeUnit.MILLISECONDS);
+    await();
+  }
+
+  @Test
+  public void testCancel() throws Exception {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    Deadline deadline = ctx.deadline(v -> fail());
+    deadline.schedule(20, TimeUnit.MILLISECONDS);
+    assertTrue(deadline.cancel());
+    assertFalse(deadline.cancel());
+    assertFalse(deadline.isScheduled());
+    ctx.deadline(v -> testComplete()).schedule(100, TimeUnit.MILLISECONDS);
+    await();
+  }
+
+  @Test
+  public void testReschedule() {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    AtomicInteger fired = new AtomicInteger();
+    long start = System.nanoTime();
+    Deadline deadline = ctx.deadline(v -> {
+      assertEquals(1, fired.incrementAndGet());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+      vertx.setTimer(100, id -> testComplete());
+    });
+    deadline.schedule(20, TimeUnit.MILLISECONDS);
+    deadline.schedule(200, TimeUnit.MILLISECONDS);
+    await();
+  }
+
+  @Test
+  public void testRescheduleEarlier() {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    long start = System.nanoTime();
+    Deadline deadline = ctx.deadline(v -> {
+      long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      assertTrue(elapsed >= 20);
+      assertTrue(elapsed < 10_000);
+      testComplete();
+    });
+    deadline.schedule(20, TimeUnit.SECONDS);
+    deadline.schedule(20, TimeUnit.MILLISECONDS);
+    await();
+  }
+
+  @Test
+  public void testDeadlineAfterWheelRound() {
+    // A wheel of 1ms ticks spans about half a second
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    DeadlineTracker tracker = new DeadlineTracker(ctx.nettyEventLoop(), 1);
+    AtomicInteger fired = new AtomicInteger();
+    long start = System.nanoTime();
+    Deadline deadline = tracker.deadline(ctx, v -> {
+      assertEquals(1, fired.incrementAndGet());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 850);
+      vertx.setTimer(100, id -> testComplete());
+    });
+    deadline.schedule(700, TimeUnit.MILLISECONDS);
+    tracker.deadline(ctx, v -> deadline.schedule(800, TimeUnit.MILLISECONDS)).schedule(50, TimeUnit.MILLISECONDS);
+    await();
+  }
+
+  @Test
+  public void testScheduleAfterCancel() {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    Deadline deadline = ctx.deadline(v -> testComplete());
+    deadline.schedule(20, TimeUnit.MILLISECONDS);
+    assertTrue(deadline.cancel());
+    deadline.schedule(20, TimeUnit.MILLISECONDS);
+    await();
+  }
+
+  @Test
+  public void testScheduleAfterFire() {
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    AtomicInteger fired = new AtomicInteger();
+    Deadline[] deadline = new Deadline[1];
+    deadline[0] = ctx.deadline(v -> {
+      if (fired.incrementAndGet() == 3) {
+        testComplete();
+      } else {
+        deadline[0].schedule(10, TimeUnit.MILLISECONDS);
+      }
+    });
+    deadline[0].schedule(10, TimeUnit.MILLISECONDS);
+    await();
+  }
+
+  @Test
+  public void testManyDeadlines() {
+    int num = 10_000;
+    AtomicInteger fired = new AtomicInteger();
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        Deadline deadline = ctx.deadline(v2 -> {
+          if (fired.incrementAndGet() == num / 2) {
+            testComplete();
+          }
+        });
+        deadline.schedule(1 + (i % 100), TimeUnit.MILLISECONDS);
+        if (i % 2 == 1) {
+          assertTrue(deadline.cancel());
+        }
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testInvalidDelay() {
+    Deadline deadline = ((ContextInternal) vertx.getOrCreateContext()).deadline(v -> {});
+    try {
+      deadline.schedule(0, TimeUnit.MILLISECONDS);
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.timer;
+
+import io.vertx.core.Context;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run the timer tests with the timers kept in event-loop timer wheels.
+ */
+public class TimerWheelTest extends TimerTest {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions()
+      .setTimerWheelTickDuration(10)
+      .setTimerWheelTickDurationUnit(TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void testTimerIdsOfDistinctEventLoops() {
+    Context ctx1 = ((VertxInternal) vertx).createEventLoopContext();
+    Context ctx2 = ((VertxInternal) vertx).createEventLoopContext();
+    assertNotSame(((ContextInternal) ctx1).nettyEventLoop(), ((ContextInternal) ctx2).nettyEventLoop());
+    waitFor(2);
+    long[] ids = new long[2];
+    ctx1.runOnContext(v1 -> {
+      ids[0] = vertx.setTimer(10, id -> {
+        assertEquals(ids[0], (long) id);
+        complete();
+      });
+      ctx2.runOnContext(v2 -> {
+        ids[1] = vertx.setTimer(10, id -> {
+          assertEquals(ids[1], (long) id);
+          complete();
+        });
+        assertTrue(ids[0] >= 0);
+        assertTrue(ids[1] >= 0);
+        assertFalse(ids[0] == ids[1]);
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelFromAnotherThread() throws Exception {
+    Context ctx = vertx.getOrCreateContext();
+    long id = vertx.setTimer(100, v -> fail());
+    assertTrue(vertx.cancelTimer(id));
+    assertFalse(vertx.cancelTimer(id));
+    // Check the wheel keeps firing timers after a cancellation
+    ctx.runOnContext(v -> vertx.setTimer(200, id2 -> testComplete()));
+    await();
+  }
+
+  @Test
+  public void testManyTimers() {
+    int num = 10_000;
+    AtomicInteger fired = new AtomicInteger();
+    vertx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        long delay = 1 + (i % 100);
+        long id = vertx.setTimer(delay, timerID -> {
+          if (fired.incrementAndGet() == num / 2) {
+            testComplete();
+          }
+        });
+        if (i % 2 == 1) {
+          assertTrue(vertx.cancelTimer(id));
+        }
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testTimerLongerThanWheel() {
+    // 512 ticks of 10 ms make one turn of the wheel
+    long delay = 6_000;
+    long start = System.nanoTime();
+    vertx.setTimer(delay, id -> {
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= delay);
+      testComplete();
+    });
+    await();
+  }
+}
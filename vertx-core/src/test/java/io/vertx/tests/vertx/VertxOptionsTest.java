@@ -121,6 +121,16 @@ public class VertxOptionsTest extends VertxTestBase {
     } catch (IllegalArgumentException e) {
       assertEquals(randomLong, options.getEventBusOptions().getClusterPingReplyInterval());
     }
+    assertEquals(0, options.getEventBusOptions().getClusterWriteBatchSize());
+    rand = TestUtils.randomPositiveInt();
+    options.getEventBusOptions().setClusterWriteBatchSize(rand);
+    assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchSize());
+    try {
+      options.getEventBusOptions().setClusterWriteBatchSize(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchSize());
+    }
     assertEquals(1000, options.getBlockedThreadCheckInterval());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setBlockedThreadCheckInterval(rand));
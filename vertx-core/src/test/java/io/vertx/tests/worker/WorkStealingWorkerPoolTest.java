@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.worker;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.WorkStealingExecutorService;
+import io.vertx.core.impl.WorkerExecutorInternal;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.concurrent.TaskPriority;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run the execute blocking tests with work stealing worker pools.
+ */
+public class WorkStealingWorkerPoolTest extends ExecuteBlockingTest {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setWorkerPoolWorkStealing(true);
+  }
+
+  @Test
+  public void testPriorityLanes() throws Exception {
+    WorkerExecutorInternal exec = (WorkerExecutorInternal) vertx.createSharedWorkerExecutor("test-pool", 1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<TaskPriority> order = Collections.synchronizedList(new ArrayList<>());
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      exec.executeBlocking(() -> {
+        blocked.countDown();
+        release.await();
+        return null;
+      }, false, TaskPriority.NORMAL);
+    });
+    awaitLatch(blocked);
+    waitFor(3);
+    ctx.runOnContext(v -> {
+      for (TaskPriority priority : new TaskPriority[] { TaskPriority.LOW, TaskPriority.NORMAL, TaskPriority.HIGH }) {
+        exec.executeBlocking(() -> {
+          order.add(priority);
+          return null;
+        }, false, priority).onComplete(onSuccess(res -> complete()));
+      }
+      release.countDown();
+    });
+    await();
+    assertEquals(List.of(TaskPriority.HIGH, TaskPriority.NORMAL, TaskPriority.LOW), order);
+  }
+
+  @Test
+  public void testOrderedTasksOfDistinctLanes() {
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    int num = 100;
+    AtomicInteger seq = new AtomicInteger();
+    TaskPriority[] priorities = TaskPriority.values();
+    waitFor(num);
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        int expected = i;
+        ctx.executeBlocking(() -> {
+          assertEquals(expected, seq.getAndIncrement());
+          return null;
+        }, true, priorities[i % priorities.length]).onComplete(onSuccess(res -> complete()));
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testStealTasks() throws Exception {
+    WorkStealingExecutorService pool = new WorkStealingExecutorService(Executors.defaultThreadFactory(), 4);
+    try {
+      int num = 16;
+      CountDownLatch latch = new CountDownLatch(num);
+      Set<Thread> threads = ConcurrentHashMap.newKeySet();
+      CountDownLatch release = new CountDownLatch(1);
+      Thread[] owner = new Thread[1];
+      pool.execute(() -> {
+        owner[0] = Thread.currentThread();
+        // Queue all the tasks on this worker
+        for (int i = 0;i < num;i++) {
+          pool.execute(() -> {
+            threads.add(Thread.currentThread());
+            try {
+              Thread.sleep(10);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+          });
+        }
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      awaitLatch(latch);
+      assertFalse(threads.contains(owner[0]));
+      assertTrue(threads.size() > 1);
+      release.countDown();
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testLowerLaneNotStarved() throws Exception {
+    WorkStealingExecutorService pool = new WorkStealingExecutorService(Executors.defaultThreadFactory(), 1);
+    try {
+      int num = 100;
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      pool.execute(() -> {
+        blocked.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      awaitLatch(blocked);
+      AtomicInteger high = new AtomicInteger();
+      AtomicInteger highBeforeLow = new AtomicInteger(-1);
+      CountDownLatch done = new CountDownLatch(num + 1);
+      pool.lane(TaskPriority.LOW).execute(() -> {
+        highBeforeLow.set(high.get());
+        done.countDown();
+      });
+      for (int i = 0;i < num;i++) {
+        pool.lane(TaskPriority.HIGH).execute(() -> {
+          high.incrementAndGet();
+          done.countDown();
+        });
+      }
+      release.countDown();
+      awaitLatch(done);
+      assertTrue(highBeforeLow.get() >= 0);
+      assertTrue(highBeforeLow.get() < num);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testShutdown() throws Exception {
+    WorkStealingExecutorService pool = new WorkStealingExecutorService(Executors.defaultThreadFactory(), 2);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0;i < 2;i++) {
+      pool.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        count.incrementAndGet();
+      });
+    }
+    pool.lane(TaskPriority.LOW).execute(count::incrementAndGet);
+    pool.shutdown();
+    assertTrue(pool.isShutdown());
+    try {
+      pool.execute(() -> {});
+      fail();
+    } catch (RejectedExecutionException ignore) {
+    }
+    assertFalse(pool.isTerminated());
+    release.countDown();
+    assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(3, count.get());
+  }
+
+  @Test
+  public void testShutdownNow() throws Exception {
+    WorkStealingExecutorService pool = new WorkStealingExecutorService(Executors.defaultThreadFactory(), 1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    AtomicInteger interrupted = new AtomicInteger();
+    pool.execute(() -> {
+      blocked.countDown();
+      try {
+        new CountDownLatch(1).await();
+      } catch (InterruptedException e) {
+        interrupted.incrementAndGet();
+      }
+    });
+    awaitLatch(blocked);
+    Runnable pending = () -> {};
+    pool.lane(TaskPriority.HIGH).execute(pending);
+    assertEquals(List.of(pending), pool.shutdownNow());
+    assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(1, interrupted.get());
+  }
+}